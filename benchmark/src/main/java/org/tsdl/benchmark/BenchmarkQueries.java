@@ -0,0 +1,87 @@
+package org.tsdl.benchmark;
+
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.tsdl.implementation.factory.TsdlComponentFactory;
+import org.tsdl.implementation.model.event.TsdlEvent;
+import org.tsdl.testutil.creation.generator.SeriesGenerator;
+
+/**
+ * Queries whose events are detected over {@link SeriesGenerator#workload(long, long, long)}, with a given number of events each.
+ */
+final class BenchmarkQueries {
+  private BenchmarkQueries() {
+  }
+
+  /**
+   * Threshold events, whose thresholds are evenly spread between the plateaus of the series.
+   */
+  static String thresholdEvents(int eventCount) {
+    return query(eventCount, i -> "AND(gt(%s)) AS high%s".formatted(threshold(i, eventCount), i));
+  }
+
+  /**
+   * Events {@code low} and {@code high}, whose periods alternate (i.e., every one of them precedes one of the other event), and
+   * {@code eventCount - 2} further threshold events.
+   */
+  static String alternatingEvents(int eventCount) {
+    var middle = (SeriesGenerator.WORKLOAD_LOW + SeriesGenerator.WORKLOAD_HIGH) / 2;
+    return query(eventCount, i -> switch (i) {
+      case 0 -> "AND(lt(%s)) AS low".formatted(middle);
+      case 1 -> "AND(NOT(lt(%s))) AS high".formatted(middle);
+      default -> "AND(gt(%s)) AS high%s".formatted(threshold(i, eventCount), i);
+    });
+  }
+
+  /**
+   * Constant events with increasing tolerances of slope and deviation.
+   */
+  static String constantEvents(int eventCount) {
+    return query(eventCount, i -> "AND(const(%s, %s)) AS constant%s".formatted(5 + i, 2 + i, i));
+  }
+
+  /**
+   * Increase events with increasing minimum changes.
+   */
+  static String increaseEvents(int eventCount) {
+    return query(eventCount, i -> "AND(increase(%s, -, 0.5)) AS increase%s".formatted(threshold(i, eventCount) - SeriesGenerator.WORKLOAD_LOW, i));
+  }
+
+  /**
+   * A query with samples, a filter, {@code eventCount} events and a choice, i.e., one exercising all clauses of the grammar.
+   */
+  static String fullQuery(int eventCount) {
+    var events = IntStream.range(0, eventCount)
+        .mapToObj(i -> "AND(gt(s%1$s), lt(%2$s)) FOR [%1$s,] minutes AS e%1$s".formatted(i, threshold(i, eventCount)))
+        .collect(Collectors.joining(", "));
+    var samples = IntStream.range(0, eventCount)
+        .mapToObj(i -> "avg(\"%s\", \"\") AS s%s".formatted(SeriesGenerator.DEFAULT_START, i))
+        .collect(Collectors.joining(", "));
+    return """
+        WITH SAMPLES: %s
+        APPLY FILTER: AND(gt(%s), NOT(after("2024-01-01T00:00:00Z")))
+        USING EVENTS: %s
+        SELECT PERIODS: (e0 precedes e%s)
+        YIELD: all periods
+        """.formatted(samples, SeriesGenerator.WORKLOAD_LOW, events, eventCount - 1);
+  }
+
+  /**
+   * The events of {@code query}.
+   */
+  static List<TsdlEvent> events(String query) {
+    return TsdlComponentFactory.INSTANCE.queryParser().parseQuery(query).events();
+  }
+
+  private static String query(int eventCount, IntFunction<String> event) {
+    return "USING EVENTS: %s YIELD: all periods".formatted(IntStream.range(0, eventCount)
+        .mapToObj(event)
+        .collect(Collectors.joining(", ")));
+  }
+
+  private static double threshold(int event, int eventCount) {
+    return SeriesGenerator.WORKLOAD_LOW + (SeriesGenerator.WORKLOAD_HIGH - SeriesGenerator.WORKLOAD_LOW) * (event + 1) / (eventCount + 1);
+  }
+}
@@ -0,0 +1,70 @@
+package org.tsdl.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.tsdl.implementation.evaluation.impl.event.strategy.ConstantEventStrategyImpl;
+import org.tsdl.implementation.evaluation.impl.event.strategy.IncreaseEventStrategyImpl;
+import org.tsdl.implementation.evaluation.impl.event.strategy.SinglePointEventStrategyImpl;
+import org.tsdl.implementation.model.choice.AnnotatedTsdlPeriod;
+import org.tsdl.implementation.model.event.TsdlEvent;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
+import org.tsdl.testutil.creation.generator.SeriesGenerator;
+
+/**
+ * Benchmarks detecting the periods of threshold, constant and increase events over {@link SeriesGenerator#workload(long, long, long)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class EventStrategyBenchmark {
+  @Param({"10000", "1000000"})
+  private int seriesLength;
+
+  @Param({"10", "1000"})
+  private int periodsPerSeries;
+
+  @Param({"1", "4"})
+  private int eventCount;
+
+  private ColumnarTimeSeries series;
+  private List<TsdlEvent> thresholdEvents;
+  private List<TsdlEvent> constantEvents;
+  private List<TsdlEvent> increaseEvents;
+
+  @Setup
+  public void setUp() {
+    series = SeriesGenerator.workload(42, seriesLength, periodsPerSeries).toColumnar();
+    thresholdEvents = BenchmarkQueries.events(BenchmarkQueries.thresholdEvents(eventCount));
+    constantEvents = BenchmarkQueries.events(BenchmarkQueries.constantEvents(eventCount));
+    increaseEvents = BenchmarkQueries.events(BenchmarkQueries.increaseEvents(eventCount));
+  }
+
+  @Benchmark
+  public List<AnnotatedTsdlPeriod> singlePointEvents() {
+    return new SinglePointEventStrategyImpl().detectPeriods(series, thresholdEvents);
+  }
+
+  @Benchmark
+  public List<AnnotatedTsdlPeriod> constantEvents() {
+    return new ConstantEventStrategyImpl().detectPeriods(series, constantEvents);
+  }
+
+  @Benchmark
+  public List<AnnotatedTsdlPeriod> increaseEvents() {
+    return new IncreaseEventStrategyImpl().detectPeriods(series, increaseEvents);
+  }
+}
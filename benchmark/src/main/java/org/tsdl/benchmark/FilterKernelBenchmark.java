@@ -0,0 +1,73 @@
+package org.tsdl.benchmark;
+
+import java.util.BitSet;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.tsdl.implementation.evaluation.impl.connective.CompiledFilterConnective;
+import org.tsdl.implementation.evaluation.impl.sample.aggregation.ParallelAggregation;
+import org.tsdl.implementation.factory.TsdlComponentFactory;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
+import org.tsdl.testutil.creation.generator.SeriesGenerator;
+
+/**
+ * Benchmarks evaluating a compiled filter connective over {@link SeriesGenerator#workload(long, long, long)} block-wise into a selection bitmap
+ * versus data point by data point. The series are not longer than {@link ParallelAggregation#SEQUENTIAL_THRESHOLD}, i.e., both are evaluated within
+ * a single thread.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class FilterKernelBenchmark {
+  @Param({"10000", "65536"})
+  private int seriesLength;
+
+  @Param({
+      "AND(gt(50))",
+      "OR(lt(20), gt(80))",
+      "AND(NOT(before(\"2023-01-03T00:00:00Z\")), around(rel, 50, 20))",
+      "AND(gt(20), lt(80), around(abs, 50, 20), NOT(after(\"2023-01-05T00:00:00Z\")))"
+  })
+  private String filter;
+
+  private ColumnarTimeSeries series;
+  private CompiledFilterConnective connective;
+
+  @Setup
+  public void setUp() {
+    series = SeriesGenerator.workload(42, seriesLength, 10).toColumnar();
+    var query = TsdlComponentFactory.INSTANCE.queryParser().parseQuery("APPLY FILTER: %s YIELD: data points".formatted(filter));
+    connective = CompiledFilterConnective.compile(query.filter().orElseThrow());
+  }
+
+  @Benchmark
+  public BitSet blockWise() {
+    return connective.select(series);
+  }
+
+  /**
+   * Evaluates the connective like {@link CompiledFilterConnective#select(ColumnarTimeSeries)}, but data point by data point.
+   */
+  @Benchmark
+  public BitSet perDataPoint() {
+    var selection = new BitSet(series.size());
+    for (var i = 0; i < series.size(); i++) {
+      if (connective.isSatisfied(series.epochMillis(i), series.value(i))) {
+        selection.set(i);
+      }
+    }
+    return selection;
+  }
+}
@@ -0,0 +1,64 @@
+package org.tsdl.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.tsdl.implementation.factory.TsdlComponentFactory;
+import org.tsdl.implementation.math.Calculus;
+import org.tsdl.implementation.math.SummaryStatistics;
+import org.tsdl.infrastructure.common.TsdlTimeUnit;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
+import org.tsdl.testutil.creation.generator.SeriesGenerator;
+
+/**
+ * Benchmarks integrals, derivatives and summary statistics over {@link SeriesGenerator#workload(long, long, long)}. They do not depend on events,
+ * hence, only the series is varied.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class MathBenchmark {
+  @Param({"10000", "1000000"})
+  private int seriesLength;
+
+  @Param({"10", "1000"})
+  private int periodsPerSeries;
+
+  private Calculus calculus;
+  private ColumnarTimeSeries series;
+
+  @Setup
+  public void setUp() {
+    calculus = TsdlComponentFactory.INSTANCE.calculus();
+    series = SeriesGenerator.workload(42, seriesLength, periodsPerSeries).toColumnar();
+  }
+
+  @Benchmark
+  public double definiteIntegral() {
+    return calculus.definiteIntegral(series);
+  }
+
+  @Benchmark
+  public ColumnarTimeSeries derivative() {
+    return calculus.derivative(series, TsdlTimeUnit.MINUTES);
+  }
+
+  @Benchmark
+  public SummaryStatistics summaryStatistics() {
+    var summaryStatistics = TsdlComponentFactory.INSTANCE.summaryStatistics();
+    summaryStatistics.ingest(series.size(), series::value);
+    return summaryStatistics;
+  }
+}
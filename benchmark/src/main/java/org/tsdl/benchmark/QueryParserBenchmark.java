@@ -0,0 +1,45 @@
+package org.tsdl.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.tsdl.implementation.factory.TsdlComponentFactory;
+import org.tsdl.implementation.model.TsdlQuery;
+import org.tsdl.implementation.parsing.TsdlQueryParser;
+
+/**
+ * Benchmarks parsing queries of increasing size. Parsing does not depend on the series, hence, only the number of events is varied.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class QueryParserBenchmark {
+  @Param({"1", "8", "32"})
+  private int eventCount;
+
+  private TsdlQueryParser parser;
+  private String query;
+
+  @Setup
+  public void setUp() {
+    parser = TsdlComponentFactory.INSTANCE.queryParser();
+    query = BenchmarkQueries.fullQuery(eventCount);
+  }
+
+  @Benchmark
+  public TsdlQuery parseQuery() {
+    return parser.parseQuery(query);
+  }
+}
@@ -0,0 +1,67 @@
+package org.tsdl.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.tsdl.implementation.evaluation.TsdlResultCollector;
+import org.tsdl.implementation.evaluation.impl.event.strategy.SinglePointEventStrategyImpl;
+import org.tsdl.implementation.factory.TsdlComponentFactory;
+import org.tsdl.implementation.model.choice.AnnotatedTsdlPeriod;
+import org.tsdl.implementation.model.result.YieldStatement;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
+import org.tsdl.infrastructure.model.QueryResult;
+import org.tsdl.infrastructure.model.TsdlPeriodSet;
+import org.tsdl.testutil.creation.generator.SeriesGenerator;
+
+/**
+ * Benchmarks collecting the data points within the periods of threshold events (i.e., yielding data points) over
+ * {@link SeriesGenerator#workload(long, long, long)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class ResultCollectorBenchmark {
+  @Param({"10000", "1000000"})
+  private int seriesLength;
+
+  @Param({"10", "1000"})
+  private int periodsPerSeries;
+
+  @Param({"1", "4"})
+  private int eventCount;
+
+  private TsdlResultCollector resultCollector;
+  private YieldStatement yieldStatement;
+  private ColumnarTimeSeries series;
+  private TsdlPeriodSet periodSet;
+
+  /**
+   * Detects the periods whose data points are collected, i.e., event detection is not part of the measurement.
+   */
+  @Setup
+  public void setUp() {
+    resultCollector = TsdlComponentFactory.INSTANCE.resultCollector();
+    yieldStatement = TsdlComponentFactory.INSTANCE.queryParser().parseQuery("YIELD: data points").result();
+    series = SeriesGenerator.workload(42, seriesLength, periodsPerSeries).toColumnar();
+    var periods = new SinglePointEventStrategyImpl().detectPeriods(series, BenchmarkQueries.events(BenchmarkQueries.thresholdEvents(eventCount)));
+    periodSet = QueryResult.of(periods.size(), periods.stream().map(AnnotatedTsdlPeriod::period).toList());
+  }
+
+  @Benchmark
+  public QueryResult collectDataPoints() {
+    return resultCollector.collect(yieldStatement, series, periodSet, false, Map.of());
+  }
+}
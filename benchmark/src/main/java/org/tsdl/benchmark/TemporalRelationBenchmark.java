@@ -0,0 +1,60 @@
+package org.tsdl.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.tsdl.implementation.evaluation.impl.choice.relation.PrecedesOperatorImpl;
+import org.tsdl.implementation.evaluation.impl.event.strategy.SinglePointEventStrategyImpl;
+import org.tsdl.implementation.model.choice.AnnotatedTsdlPeriod;
+import org.tsdl.implementation.model.choice.relation.TemporalOperand;
+import org.tsdl.testutil.creation.generator.SeriesGenerator;
+
+/**
+ * Benchmarks the precedes operator over the periods of threshold events detected over {@link SeriesGenerator#workload(long, long, long)}, see
+ * {@link BenchmarkQueries#alternatingEvents(int)}. Every event yields about one period per period of the series, i.e., the number of examined periods
+ * is about the product of both parameters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class TemporalRelationBenchmark {
+  private static final TemporalOperand LOW = () -> "low";
+  private static final TemporalOperand HIGH = () -> "high";
+
+  @Param({"10000", "1000000"})
+  private int seriesLength;
+
+  @Param({"10", "1000"})
+  private int periodsPerSeries;
+
+  @Param({"2", "8"})
+  private int eventCount;
+
+  private List<AnnotatedTsdlPeriod> periods;
+  private PrecedesOperatorImpl precedes;
+
+  @Setup
+  public void setUp() {
+    var series = SeriesGenerator.workload(42, seriesLength, periodsPerSeries).toColumnar();
+    periods = new SinglePointEventStrategyImpl().detectPeriods(series, BenchmarkQueries.events(BenchmarkQueries.alternatingEvents(eventCount)));
+    precedes = new PrecedesOperatorImpl(LOW, HIGH, null);
+  }
+
+  @Benchmark
+  public List<AnnotatedTsdlPeriod> precedes() {
+    return precedes.evaluate(periods);
+  }
+}
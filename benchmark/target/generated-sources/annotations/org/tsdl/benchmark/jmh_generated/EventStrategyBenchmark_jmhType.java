@@ -0,0 +1,4 @@
+package org.tsdl.benchmark.jmh_generated;
+public class EventStrategyBenchmark_jmhType extends EventStrategyBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.tsdl.benchmark.jmh_generated;
+public class MathBenchmark_jmhType extends MathBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.tsdl.benchmark.jmh_generated;
+public class QueryParserBenchmark_jmhType extends QueryParserBenchmark_jmhType_B3 {
+}
+
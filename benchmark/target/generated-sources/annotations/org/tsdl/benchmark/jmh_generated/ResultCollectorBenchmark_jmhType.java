@@ -0,0 +1,4 @@
+package org.tsdl.benchmark.jmh_generated;
+public class ResultCollectorBenchmark_jmhType extends ResultCollectorBenchmark_jmhType_B3 {
+}
+
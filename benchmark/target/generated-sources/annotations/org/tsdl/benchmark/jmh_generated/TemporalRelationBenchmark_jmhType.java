@@ -0,0 +1,4 @@
+package org.tsdl.benchmark.jmh_generated;
+public class TemporalRelationBenchmark_jmhType extends TemporalRelationBenchmark_jmhType_B3 {
+}
+
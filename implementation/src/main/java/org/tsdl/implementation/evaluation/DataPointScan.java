@@ -0,0 +1,225 @@
+package org.tsdl.implementation.evaluation;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.tsdl.implementation.evaluation.impl.event.strategy.SinglePointEventDetector;
+import org.tsdl.implementation.model.event.TsdlEvent;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
+import org.tsdl.infrastructure.model.DataPoint;
+import org.tsdl.infrastructure.model.DataPointSource;
+
+/**
+ * Passes over the data a query is evaluated on, abstracting from whether the data is in memory or pulled from a {@link DataPointSource}. During a
+ * pass, data points are identified by handles. Handles of in-memory data remain valid after the pass, whereas handles of pulled data are only
+ * valid while the data point is visited.
+ */
+abstract sealed class DataPointScan {
+  static DataPointScan of(ColumnarTimeSeries data) {
+    return new SeriesScan(data);
+  }
+
+  static DataPointScan of(DataPointSource data) {
+    return new SourceScan(data);
+  }
+
+  /**
+   * The data if it is in memory, null otherwise.
+   */
+  abstract ColumnarTimeSeries series();
+
+  /**
+   * Indicates whether the data is in memory, i.e., whether selections (see {@link #newSelection(boolean)}) are cheap views of the data.
+   */
+  boolean isInMemory() {
+    return series() != null;
+  }
+
+  abstract boolean isReplayable();
+
+  /**
+   * Performs a pass over all data points in ascending order of their timestamps.
+   */
+  abstract void forEach(Visitor visitor);
+
+  abstract Instant timestamp(int handle);
+
+  abstract SinglePointEventDetector newDetector(List<TsdlEvent> events);
+
+  /**
+   * Hands the data point identified by {@code handle} to a detector created by {@link #newDetector(List)}.
+   */
+  abstract void detect(SinglePointEventDetector detector, int handle);
+
+  /**
+   * Creates a selection of data points visited during a single pass.
+   *
+   * @param retainDataPoints whether the selection must retain the visited data points exactly, instead of at millisecond resolution
+   */
+  abstract Selection newSelection(boolean retainDataPoints);
+
+  @FunctionalInterface
+  interface Visitor {
+    void visit(int handle, long epochMillis, double value);
+  }
+
+  /**
+   * A subset of the data points, in ascending order of their timestamps.
+   */
+  interface Selection {
+    void add(int handle, long epochMillis, double value);
+
+    ColumnarTimeSeries toSeries();
+  }
+
+  private static final class SeriesScan extends DataPointScan {
+    private final ColumnarTimeSeries series;
+
+    private SeriesScan(ColumnarTimeSeries series) {
+      this.series = series;
+    }
+
+    @Override
+    ColumnarTimeSeries series() {
+      return series;
+    }
+
+    @Override
+    boolean isReplayable() {
+      return true;
+    }
+
+    @Override
+    void forEach(Visitor visitor) {
+      for (var i = 0; i < series.size(); i++) {
+        visitor.visit(i, series.epochMillis(i), series.value(i));
+      }
+    }
+
+    @Override
+    Instant timestamp(int handle) {
+      return series.timestamp(handle);
+    }
+
+    @Override
+    SinglePointEventDetector newDetector(List<TsdlEvent> events) {
+      return new SinglePointEventDetector(events, series);
+    }
+
+    @Override
+    void detect(SinglePointEventDetector detector, int handle) {
+      detector.accept(handle);
+    }
+
+    @Override
+    Selection newSelection(boolean retainDataPoints) {
+      // indices are only materialized once the selection is not a prefix of the series anymore, i.e., as long as no data point is skipped
+      return new Selection() {
+        private int[] indices;
+        private int count;
+
+        @Override
+        public void add(int handle, long epochMillis, double value) {
+          if (indices == null && handle != count) {
+            indices = new int[Math.max(16, count * 2)];
+            Arrays.setAll(indices, i -> i);
+          } else if (indices != null && count == indices.length) {
+            indices = Arrays.copyOf(indices, count * 2);
+          }
+
+          if (indices != null) {
+            indices[count] = handle;
+          }
+          count++;
+        }
+
+        @Override
+        public ColumnarTimeSeries toSeries() {
+          if (indices == null) {
+            return count == series.size() ? series : series.slice(0, count);
+          }
+          return series.select(indices, count);
+        }
+      };
+    }
+  }
+
+  private static final class SourceScan extends DataPointScan {
+    private final DataPointSource source;
+    private DataPoint current;
+
+    private SourceScan(DataPointSource source) {
+      this.source = source;
+    }
+
+    @Override
+    ColumnarTimeSeries series() {
+      return null;
+    }
+
+    @Override
+    boolean isReplayable() {
+      return source.isReplayable();
+    }
+
+    @Override
+    void forEach(Visitor visitor) {
+      try (var stream = source.open()) {
+        var iterator = stream.iterator();
+        while (iterator.hasNext()) {
+          current = iterator.next();
+          visitor.visit(0, current.timestamp().toEpochMilli(), current.value());
+        }
+      } finally {
+        current = null;
+      }
+    }
+
+    @Override
+    Instant timestamp(int handle) {
+      return current.timestamp();
+    }
+
+    @Override
+    SinglePointEventDetector newDetector(List<TsdlEvent> events) {
+      return new SinglePointEventDetector(events);
+    }
+
+    @Override
+    void detect(SinglePointEventDetector detector, int handle) {
+      detector.accept(current);
+    }
+
+    @Override
+    Selection newSelection(boolean retainDataPoints) {
+      if (retainDataPoints) {
+        var dataPoints = new ArrayList<DataPoint>();
+        return new Selection() {
+          @Override
+          public void add(int handle, long epochMillis, double value) {
+            dataPoints.add(current);
+          }
+
+          @Override
+          public ColumnarTimeSeries toSeries() {
+            return ColumnarTimeSeries.of(dataPoints);
+          }
+        };
+      }
+
+      var builder = ColumnarTimeSeries.builder();
+      return new Selection() {
+        @Override
+        public void add(int handle, long epochMillis, double value) {
+          builder.add(epochMillis, value);
+        }
+
+        @Override
+        public ColumnarTimeSeries toSeries() {
+          return builder.build();
+        }
+      };
+    }
+  }
+}
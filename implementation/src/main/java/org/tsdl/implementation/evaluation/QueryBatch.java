@@ -0,0 +1,104 @@
+package org.tsdl.implementation.evaluation;
+
+import java.time.Instant;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.tsdl.implementation.evaluation.impl.connective.CompiledFilterConnective;
+import org.tsdl.implementation.model.TsdlQuery;
+import org.tsdl.implementation.model.common.ParsableTsdlTimeUnit;
+import org.tsdl.implementation.model.common.TsdlIdentifier;
+import org.tsdl.implementation.model.sample.TsdlSample;
+import org.tsdl.implementation.model.sample.aggregation.TsdlAggregator;
+import org.tsdl.implementation.model.sample.aggregation.temporal.TemporalAggregator;
+import org.tsdl.implementation.model.sample.aggregation.temporal.TemporalAggregatorWithUnit;
+import org.tsdl.implementation.model.sample.aggregation.temporal.TimePeriod;
+import org.tsdl.implementation.model.sample.aggregation.value.ValueAggregator;
+import org.tsdl.implementation.parsing.enums.AggregatorType;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
+import org.tsdl.infrastructure.model.TsdlLogEvent;
+
+/**
+ * Work shared by the evaluations of several queries over the same in-memory series, see
+ * {@link TsdlQueryService#query(ColumnarTimeSeries, List)}. Samples with the same aggregator (type and bounds or periods) are computed once for all
+ * queries, within the same pass over the series. Every distinct filter (regardless of its negation) is evaluated into a selection bitmap upon
+ * first use, which is shared by all filter connectives (of filters or single point events) it occurs in. The selection of a connective combines
+ * the bitmaps of its filters and is shared by connectives with the same definition.
+ */
+@Slf4j
+final class QueryBatch {
+  private final ColumnarTimeSeries series;
+  private final TsdlSamplesCalculator samplesCalculator;
+  private final Map<String, TsdlQuery> plans;
+  private final Map<AggregateKey, Double> aggregates = new HashMap<>();
+  private final Map<CompiledFilterConnective, BitSet> selections = new HashMap<>();
+  private final Map<CompiledFilterConnective, BitSet> filterSelections = new HashMap<>();
+
+  QueryBatch(ColumnarTimeSeries series, Map<String, TsdlQuery> plans, TsdlSamplesCalculator samplesCalculator) {
+    this.series = series;
+    this.samplesCalculator = samplesCalculator;
+    this.plans = plans;
+
+    var distinctSamples = new LinkedHashMap<AggregateKey, TsdlSample>();
+    var totalSamples = 0;
+    for (var plan : plans.values()) {
+      for (var sample : plan.samples()) {
+        distinctSamples.putIfAbsent(AggregateKey.of(sample.aggregator()), sample);
+        totalSamples++;
+      }
+    }
+
+    log.info("Computing {} distinct of {} samples of {} distinct queries.", distinctSamples.size(), totalSamples, plans.size());
+    var values = samplesCalculator.computeValues(List.copyOf(distinctSamples.values()), series);
+    var i = 0;
+    for (var key : distinctSamples.keySet()) {
+      aggregates.put(key, values[i++]);
+    }
+  }
+
+  TsdlQuery plan(String query) {
+    return plans.get(query);
+  }
+
+  /**
+   * The values of {@code samples} (which must be samples of a query of this batch), echoed into {@code logEvents} like
+   * {@link TsdlSamplesCalculator#computeSampleValues(List, ColumnarTimeSeries, List)} does.
+   */
+  Map<TsdlIdentifier, Double> sampleValues(List<TsdlSample> samples, List<TsdlLogEvent> logEvents) {
+    var values = new double[samples.size()];
+    for (var i = 0; i < samples.size(); i++) {
+      values[i] = aggregates.get(AggregateKey.of(samples.get(i).aggregator()));
+    }
+    return samplesCalculator.collectSampleValues(samples, values, logEvents);
+  }
+
+  /**
+   * The selection bitmap of {@code connective} over the series, see {@link CompiledFilterConnective#select(ColumnarTimeSeries, Function)}. The
+   * bitmap is shared, i.e., it must not be modified.
+   */
+  BitSet select(CompiledFilterConnective connective) {
+    return selections.computeIfAbsent(connective, key -> key.select(series, this::selectFilter));
+  }
+
+  private BitSet selectFilter(CompiledFilterConnective filter) {
+    return filterSelections.computeIfAbsent(filter, key -> key.select(series));
+  }
+
+  // aggregators of other than the known types are only equal to themselves
+  private record AggregateKey(AggregatorType type, Instant lowerBound, Instant upperBound, List<TimePeriod> periods, ParsableTsdlTimeUnit unit,
+                              TsdlAggregator other) {
+    static AggregateKey of(TsdlAggregator aggregator) {
+      return switch (aggregator) {
+        case ValueAggregator value -> new AggregateKey(value.type(), value.lowerBound().orElse(null), value.upperBound().orElse(null), null, null,
+            null);
+        case TemporalAggregatorWithUnit temporal -> new AggregateKey(temporal.type(), null, null, temporal.periods(), temporal.unit(), null);
+        case TemporalAggregator temporal -> new AggregateKey(temporal.type(), null, null, temporal.periods(), null, null);
+        default -> new AggregateKey(aggregator.type(), null, null, null, null, aggregator);
+      };
+    }
+  }
+}
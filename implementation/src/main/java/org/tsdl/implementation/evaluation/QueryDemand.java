@@ -0,0 +1,100 @@
+package org.tsdl.implementation.evaluation;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.tsdl.implementation.evaluation.impl.TsdlQueryImpl;
+import org.tsdl.implementation.model.TsdlQuery;
+import org.tsdl.implementation.model.choice.relation.BinaryTemporalOperator;
+import org.tsdl.implementation.model.choice.relation.TemporalOperand;
+import org.tsdl.implementation.model.choice.relation.TemporalOperator;
+import org.tsdl.implementation.model.choice.relation.UnaryTemporalOperator;
+import org.tsdl.implementation.model.common.TsdlIdentifier;
+import org.tsdl.implementation.model.event.TsdlEvent;
+import org.tsdl.implementation.model.result.YieldFormat;
+
+/**
+ * Determines the parts of a {@link TsdlQuery} which its result depends on, i.e., which its
+ * {@link org.tsdl.implementation.model.result.YieldStatement} demands:
+ * <ul>
+ *   <li>Yielded samples only depend on their own definition, i.e., filters, events and the choice are irrelevant.</li>
+ *   <li>If periods are chosen, only the events the choice refers to are relevant.</li>
+ *   <li>Samples are relevant if they are yielded, echoed or referenced by a relevant filter or event.</li>
+ * </ul>
+ */
+final class QueryDemand {
+  private QueryDemand() {
+  }
+
+  /**
+   * A copy of {@code query} without the samples, filter, events and choice which its result does not depend on, or {@code query} itself if it
+   * depends on all of them. Evaluating the copy yields the same result (including echoed samples) as evaluating {@code query}.
+   */
+  static TsdlQuery prune(TsdlQuery query, TsdlSamplesCalculator samplesCalculator) {
+    var format = query.result().format();
+    var yieldsSamples = format == YieldFormat.SAMPLE || format == YieldFormat.SAMPLE_SET;
+
+    var filter = yieldsSamples ? null : query.filter().orElse(null);
+    var choice = yieldsSamples ? null : query.choice().orElse(null);
+    var events = yieldsSamples ? List.<TsdlEvent>of() : query.events();
+    if (choice != null) {
+      events = referencedEvents(events, choice);
+    }
+
+    var prunedQuery = TsdlQueryImpl.builder()
+        .identifiers(query.identifiers())
+        .filterValue(filter)
+        .events(events)
+        .choiceValue(choice)
+        .result(query.result())
+        .build();
+
+    var demandedSamples = new HashSet<TsdlIdentifier>();
+    if (yieldsSamples) {
+      demandedSamples.addAll(query.result().samples());
+    }
+    demandedSamples.addAll(samplesCalculator.referencedSamples(prunedQuery));
+    var samples = query.samples().stream()
+        .filter(sample -> sample.formatter().isPresent() || demandedSamples.contains(sample.identifier()))
+        .toList();
+
+    if (samples.size() == query.samples().size() && events.size() == query.events().size() && query.filter().orElse(null) == filter
+        && query.choice().orElse(null) == choice) {
+      return query;
+    }
+
+    return TsdlQueryImpl.builder()
+        .identifiers(prunedQuery.identifiers())
+        .filterValue(filter)
+        .samples(samples)
+        .events(events)
+        .choiceValue(choice)
+        .result(prunedQuery.result())
+        .build();
+  }
+
+  private static List<TsdlEvent> referencedEvents(List<TsdlEvent> events, TemporalOperator choice) {
+    var representations = new HashSet<String>();
+    if (!collectOperands(choice, representations)) {
+      // unknown operators may refer to any event
+      return events;
+    }
+
+    return events.stream()
+        .filter(event -> representations.contains(event.representation()))
+        .toList();
+  }
+
+  private static boolean collectOperands(TemporalOperand operand, Set<String> representations) {
+    return switch (operand) {
+      case BinaryTemporalOperator binary -> collectOperands(binary.operand1(), representations)
+          && collectOperands(binary.operand2(), representations);
+      case UnaryTemporalOperator unary -> collectOperands(unary.operand1(), representations);
+      case TemporalOperator ignored -> false;
+      default -> {
+        representations.add(operand.representation());
+        yield true;
+      }
+    };
+  }
+}
@@ -0,0 +1,149 @@
+package org.tsdl.implementation.evaluation;
+
+import java.time.Instant;
+import org.tsdl.implementation.model.TsdlQuery;
+import org.tsdl.implementation.model.connective.AndFilterConnective;
+import org.tsdl.implementation.model.connective.OrFilterConnective;
+import org.tsdl.implementation.model.connective.SinglePointFilterConnective;
+import org.tsdl.implementation.model.filter.NegatedSinglePointFilter;
+import org.tsdl.implementation.model.filter.SinglePointFilter;
+import org.tsdl.implementation.model.filter.argument.TsdlLiteralScalarArgument;
+import org.tsdl.implementation.model.filter.argument.TsdlScalarArgument;
+import org.tsdl.implementation.model.filter.temporal.AfterFilter;
+import org.tsdl.implementation.model.filter.temporal.BeforeFilter;
+import org.tsdl.implementation.model.filter.threshold.GreaterThanFilter;
+import org.tsdl.implementation.model.filter.threshold.LessThanFilter;
+import org.tsdl.implementation.model.result.YieldFormat;
+import org.tsdl.implementation.model.sample.TsdlSample;
+import org.tsdl.implementation.model.sample.aggregation.temporal.TemporalAggregator;
+import org.tsdl.implementation.model.sample.aggregation.value.ValueAggregator;
+import org.tsdl.infrastructure.common.TsdlUtil;
+import org.tsdl.infrastructure.model.QueryPushdown;
+
+/**
+ * Derives the {@link QueryPushdown} of a {@link TsdlQuery} (which {@link QueryDemand} has pruned already), i.e., a superset of the data points its
+ * result depends on:
+ * <ul>
+ *   <li>Samples are computed over the unfiltered data, each one over the data points within its local bounds (if any). Temporal samples do not
+ *   depend on data points at all.</li>
+ *   <li>Events and the result only depend on the data points satisfying the filter (unless samples are yielded). The time range (and value range)
+ *   of these data points follows from the temporal (and literal threshold) filters: connectives combine the ranges of their filters by intersection
+ *   ({@code AND}) or by their hull ({@code OR}). Other filters admit any data point.</li>
+ *   <li>Value ranges are only pushed down if no sample depends on data points, since samples are computed over data points of any value.</li>
+ * </ul>
+ * Timestamps of data points are evaluated at millisecond resolution, hence, bounds are whole milliseconds.
+ */
+final class QueryPushdownDerivation {
+  private static final Range ANY = new Range(Long.MIN_VALUE, Long.MAX_VALUE, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, false);
+  private static final Range NONE = new Range(Long.MAX_VALUE, Long.MIN_VALUE, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, true);
+
+  private QueryPushdownDerivation() {
+  }
+
+  static QueryPushdown derive(TsdlQuery query) {
+    var sampleRange = NONE;
+    for (var sample : query.samples()) {
+      sampleRange = sampleRange.hull(sampleRange(sample));
+    }
+
+    var format = query.result().format();
+    var dependsOnFilteredData = format != YieldFormat.SAMPLE && format != YieldFormat.SAMPLE_SET;
+    var filteredRange = dependsOnFilteredData ? query.filter().map(QueryPushdownDerivation::connectiveRange).orElse(ANY) : NONE;
+
+    var range = sampleRange.hull(filteredRange.withoutValueRange());
+    var pushesDownValues = sampleRange.isEmpty() && filteredRange.valueRestricted()
+        && (!Double.isInfinite(filteredRange.minValue()) || !Double.isInfinite(filteredRange.maxValue()));
+    if (range.isEmpty() || pushesDownValues && filteredRange.minValue() > filteredRange.maxValue()) {
+      return QueryPushdown.of(Instant.EPOCH, Instant.EPOCH, null, null);
+    }
+
+    return QueryPushdown.of(
+        range.fromMillis() != Long.MIN_VALUE ? Instant.ofEpochMilli(range.fromMillis()) : null,
+        range.untilMillis() != Long.MAX_VALUE ? Instant.ofEpochMilli(range.untilMillis()) : null,
+        pushesDownValues && !Double.isInfinite(filteredRange.minValue()) ? filteredRange.minValue() : null,
+        pushesDownValues && !Double.isInfinite(filteredRange.maxValue()) ? filteredRange.maxValue() : null
+    );
+  }
+
+  private static Range sampleRange(TsdlSample sample) {
+    return switch (sample.aggregator()) {
+      case TemporalAggregator ignored -> NONE;
+      case ValueAggregator aggregator -> timeRange(
+          aggregator.lowerBound().map(TsdlUtil::ceilEpochMilli).orElse(Long.MIN_VALUE),
+          aggregator.upperBound().map(bound -> bound.toEpochMilli() + 1).orElse(Long.MAX_VALUE)
+      );
+      default -> ANY;
+    };
+  }
+
+  private static Range connectiveRange(SinglePointFilterConnective connective) {
+    var filters = connective.filters();
+    if (filters.isEmpty() || !(connective instanceof AndFilterConnective) && !(connective instanceof OrFilterConnective)) {
+      return ANY;
+    }
+
+    var range = filterRange(filters.get(0));
+    for (var i = 1; i < filters.size(); i++) {
+      range = connective instanceof AndFilterConnective ? range.intersection(filterRange(filters.get(i))) : range.hull(filterRange(filters.get(i)));
+    }
+    return range;
+  }
+
+  private static Range filterRange(SinglePointFilter filter) {
+    if (filter instanceof AfterFilter after) {
+      return timeRange(after.argument().toEpochMilli() + 1, Long.MAX_VALUE);
+    } else if (filter instanceof BeforeFilter before) {
+      return timeRange(Long.MIN_VALUE, TsdlUtil.ceilEpochMilli(before.argument()));
+    } else if (filter instanceof GreaterThanFilter greaterThan && isLiteral(greaterThan.threshold())) {
+      return new Range(Long.MIN_VALUE, Long.MAX_VALUE, greaterThan.threshold().value(), Double.POSITIVE_INFINITY, true);
+    } else if (filter instanceof LessThanFilter lessThan && isLiteral(lessThan.threshold())) {
+      return new Range(Long.MIN_VALUE, Long.MAX_VALUE, Double.NEGATIVE_INFINITY, lessThan.threshold().value(), true);
+    } else if (filter instanceof NegatedSinglePointFilter negated) {
+      // negated threshold filters admit NaN values, hence, only negated temporal filters restrict the range
+      if (negated.filter() instanceof AfterFilter after) {
+        return timeRange(Long.MIN_VALUE, after.argument().toEpochMilli() + 1);
+      } else if (negated.filter() instanceof BeforeFilter before) {
+        return timeRange(TsdlUtil.ceilEpochMilli(before.argument()), Long.MAX_VALUE);
+      }
+    }
+    return ANY;
+  }
+
+  private static Range timeRange(long fromMillis, long untilMillis) {
+    return new Range(fromMillis, untilMillis, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, false);
+  }
+
+  private static boolean isLiteral(TsdlScalarArgument threshold) {
+    return threshold instanceof TsdlLiteralScalarArgument && !Double.isNaN(threshold.value());
+  }
+
+  /**
+   * Data points with a timestamp within [fromMillis, untilMillis) and, if {@code valueRestricted}, a value within [minValue, maxValue] (excluding
+   * NaN values).
+   */
+  private record Range(long fromMillis, long untilMillis, double minValue, double maxValue, boolean valueRestricted) {
+    boolean isEmpty() {
+      return fromMillis >= untilMillis;
+    }
+
+    Range withoutValueRange() {
+      return timeRange(fromMillis, untilMillis);
+    }
+
+    Range intersection(Range other) {
+      return new Range(Math.max(fromMillis, other.fromMillis), Math.min(untilMillis, other.untilMillis), Math.max(minValue, other.minValue),
+          Math.min(maxValue, other.maxValue), valueRestricted || other.valueRestricted);
+    }
+
+    Range hull(Range other) {
+      if (other.isEmpty()) {
+        return this;
+      }
+      if (isEmpty()) {
+        return other;
+      }
+      return new Range(Math.min(fromMillis, other.fromMillis), Math.max(untilMillis, other.untilMillis), Math.min(minValue, other.minValue),
+          Math.max(maxValue, other.maxValue), valueRestricted && other.valueRestricted);
+    }
+  }
+}
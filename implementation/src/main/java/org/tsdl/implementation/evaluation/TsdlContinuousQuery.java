@@ -0,0 +1,304 @@
+package org.tsdl.implementation.evaluation;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import lombok.extern.slf4j.Slf4j;
+import org.tsdl.implementation.evaluation.impl.connective.CompiledFilterConnective;
+import org.tsdl.implementation.evaluation.impl.event.strategy.IncrementalSinglePointEventDetector;
+import org.tsdl.implementation.factory.TsdlComponentFactory;
+import org.tsdl.implementation.model.TsdlQuery;
+import org.tsdl.implementation.model.result.YieldFormat;
+import org.tsdl.implementation.model.sample.TsdlSample;
+import org.tsdl.implementation.model.sample.aggregation.TsdlAccumulator;
+import org.tsdl.infrastructure.api.ContinuousQuery;
+import org.tsdl.infrastructure.common.Condition;
+import org.tsdl.infrastructure.common.Conditions;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
+import org.tsdl.infrastructure.model.DataPoint;
+import org.tsdl.infrastructure.model.QueryResult;
+import org.tsdl.infrastructure.model.TsdlLogEvent;
+import org.tsdl.infrastructure.model.impl.ChunkedColumnarTimeSeries;
+
+/**
+ * Default implementation of {@link ContinuousQuery}, see {@link TsdlQueryService#continuousQuery(String)}. Retains the appended data points (as
+ * primitive columns), the accumulators of the samples, the selection bitmap of the filter, the relevant data points (if they are yielded) and the
+ * state of an {@link IncrementalSinglePointEventDetector}.
+ *
+ * <p>Only query shapes whose state can be maintained incrementally are supported: complex events are detected over the derivative of all relevant
+ * data points (whose time unit and prefix sums depend on the first ones), hence, they are rejected, as are yielded data points within the periods of
+ * events. Connectives referring to sample values are evaluated over all retained data points again whenever these values change, since there is
+ * no index of data points by value which would yield the ones whose selection flips.
+ *
+ * <p>Over a sliding window (see {@link TsdlQueryService#slidingWindowQuery(String, Duration)}), indices refer to the retained data points, whose
+ * ones before the window start have been evicted (like the selected data points before them). Once the evicted data points outnumber the ones
+ * within the window, the retained data points and the indices of the state are rebased to the window start, i.e., the retained state is
+ * proportional to the window.
+ */
+@Slf4j
+final class TsdlContinuousQuery implements ContinuousQuery {
+  private final TsdlQueryService queryService;
+  private final String query;
+  private final TsdlQuery plan;
+  private final TsdlSamplesCalculator samplesCalculator;
+  private final TsdlPeriodAssembler periodAssembler = TsdlComponentFactory.INSTANCE.periodAssembler();
+  private final TsdlResultCollector resultCollector = TsdlComponentFactory.INSTANCE.resultCollector();
+  private final List<TsdlAccumulator> accumulators;
+  // samples whose aggregators provide no sliding accumulator (none of the built-in ones), hence, which are accumulated over the window again upon
+  // evicting data points
+  private final BitSet recomputedSamples = new BitSet();
+  private final Duration window;
+  private ChunkedColumnarTimeSeries.Builder history = ColumnarTimeSeries.builder();
+  private final IncrementalSinglePointEventDetector detector = new IncrementalSinglePointEventDetector();
+  private long lastEpochMillis = Long.MIN_VALUE;
+  private int windowStart;
+  private CompiledFilterConnective filter;
+  private BitSet relevant = new BitSet();
+  // relevant data points before index selectedUntil (the first selectedStart ones have been evicted), null unless they are yielded
+  private ChunkedColumnarTimeSeries.Builder selected;
+  private int selectedStart;
+  private int selectedUntil;
+  private boolean failed;
+
+  /**
+   * Initializes a {@link TsdlContinuousQuery} instance, which evaluates the query over all appended data points if {@code window} is null.
+   */
+  TsdlContinuousQuery(TsdlQueryService queryService, String query, TsdlQuery plan, TsdlSamplesCalculator samplesCalculator, Duration window) {
+    this.queryService = queryService;
+    this.query = query;
+    this.plan = plan;
+    this.samplesCalculator = samplesCalculator;
+    this.window = window;
+    requireIncremental(plan);
+    if (plan.result().format() == YieldFormat.DATA_POINTS) {
+      selected = ColumnarTimeSeries.builder();
+    }
+    if (window == null) {
+      this.accumulators = samplesCalculator.createAccumulators(plan.samples());
+    } else {
+      this.accumulators = new ArrayList<>();
+      for (var i = 0; i < plan.samples().size(); i++) {
+        var sample = plan.samples().get(i);
+        var accumulator = sample.aggregator().slidingAccumulator(sample.identifier().name());
+        if (accumulator.isEmpty()) {
+          recomputedSamples.set(i);
+        }
+        accumulators.add(accumulator.orElseGet(() -> createAccumulator(sample)));
+      }
+    }
+  }
+
+  @Override
+  public QueryResult append(List<DataPoint> data) {
+    try {
+      Conditions.checkIsFalse(Condition.STATE, failed, "A previous append to the continuous query failed, hence, it must not be used anymore.");
+      Conditions.checkNotNull(Condition.ARGUMENT, data, "Data must not be null.");
+      requireAscending(data);
+      log.info("Appending {} data points to continuous query '{}'", data.size(), query);
+
+      // the retained state is only consistent if the evaluation succeeds
+      failed = true;
+      var result = evaluate(data);
+      failed = false;
+      return result;
+    } catch (TsdlEvaluationException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new TsdlEvaluationException("Query evaluation failed.", e);
+    }
+  }
+
+  @Override
+  public int size() {
+    return history.size() - windowStart;
+  }
+
+  private static void requireIncremental(TsdlQuery plan) {
+    for (var event : plan.events()) {
+      Conditions.checkIsTrue(Condition.ARGUMENT, TsdlQueryService.SINGLE_POINT_STRATEGIES.contains(event.computationStrategy()),
+          "Continuous queries only support single point events, but event '%s' is a complex event.", event.identifier().name());
+    }
+    Conditions.checkIsTrue(Condition.ARGUMENT, plan.result().format() != YieldFormat.DATA_POINTS || plan.events().isEmpty(),
+        "Continuous queries only yield data points if they do not define events.");
+  }
+
+  private QueryResult evaluate(List<DataPoint> data) {
+    var fromIndex = history.size();
+    for (var dataPoint : data) {
+      var epochMillis = dataPoint.timestamp().toEpochMilli();
+      history.add(epochMillis, dataPoint.value());
+      for (var i = 0; i < accumulators.size(); i++) {
+        accumulators.get(i).accept(epochMillis, dataPoint.value());
+      }
+    }
+    var series = history.snapshot();
+    evict(series);
+
+    var logEvents = new ArrayList<TsdlLogEvent>();
+    var sampleValues = samplesCalculator.collectSampleValues(plan.samples(), accumulators, logEvents);
+    var parsedQuery = samplesCalculator.bindArguments(plan, sampleValues);
+
+    var relevantUnchanged = updateRelevant(series, parsedQuery, Math.max(fromIndex, windowStart));
+    detector.update(series, parsedQuery.events(), relevant, relevantUnchanged, windowStart);
+    if (selected != null) {
+      updateSelected(series, relevantUnchanged);
+    }
+
+    var selectedDataPoints = selected != null ? selected.snapshot().slice(selectedStart, selected.size()) : ColumnarTimeSeries.EMPTY;
+    var detectedPeriods = periodAssembler.assemble(
+        ColumnarTimeSeries.EMPTY,
+        parsedQuery.events(),
+        (dataPoints, events) -> detector.detectedPeriods(events)
+    );
+    var result = queryService.collectResult(resultCollector, parsedQuery, detectedPeriods, selectedDataPoints, sampleValues, logEvents);
+    var size = series.size();
+    if (windowStart > 0 && windowStart >= size - windowStart) {
+      rebase(series);
+    }
+    return result;
+  }
+
+  /**
+   * Evicts the data points which left the window, i.e., the ones which are not after the window's length before the last data point, from the
+   * accumulators, the bitmap of relevant data points and the selected data points. The detector evicts them upon its next update.
+   */
+  private void evict(ColumnarTimeSeries series) {
+    var size = series.size();
+    if (window == null || size == 0) {
+      return;
+    }
+
+    var expiredUntil = Instant.ofEpochMilli(series.epochMillis(size - 1)).minus(window);
+    var newWindowStart = series.firstIndexAfter(windowStart, expiredUntil);
+    if (newWindowStart == windowStart) {
+      return;
+    }
+
+    for (var i = windowStart; i < newWindowStart; i++) {
+      var epochMillis = series.epochMillis(i);
+      var value = series.value(i);
+      for (var j = 0; j < accumulators.size(); j++) {
+        if (!recomputedSamples.get(j)) {
+          accumulators.get(j).remove(epochMillis, value);
+        }
+      }
+    }
+    for (var j = recomputedSamples.nextSetBit(0); j >= 0; j = recomputedSamples.nextSetBit(j + 1)) {
+      var accumulator = createAccumulator(plan.samples().get(j));
+      for (var i = newWindowStart; i < size; i++) {
+        accumulator.accept(series.epochMillis(i), series.value(i));
+      }
+      accumulators.set(j, accumulator);
+    }
+
+    if (selected != null) {
+      selectedStart += relevant.get(windowStart, Math.min(newWindowStart, selectedUntil)).cardinality();
+    }
+    relevant.clear(windowStart, newWindowStart);
+    log.debug("Evicted {} data points from the window of continuous query '{}'.", newWindowStart - windowStart, query);
+    windowStart = newWindowStart;
+  }
+
+  /**
+   * Drops the evicted data points, i.e., shifts the retained data points and the indices of the retained state to the window start.
+   */
+  private void rebase(ColumnarTimeSeries series) {
+    var rebased = ColumnarTimeSeries.builder();
+    for (var i = windowStart; i < series.size(); i++) {
+      rebased.add(series.epochMillis(i), series.value(i));
+    }
+    history = rebased;
+    relevant = relevant.get(windowStart, series.size());
+    if (selected != null) {
+      var rebasedSelection = ColumnarTimeSeries.builder();
+      var selection = selected.snapshot();
+      for (var i = selectedStart; i < selection.size(); i++) {
+        rebasedSelection.add(selection.epochMillis(i), selection.value(i));
+      }
+      selected = rebasedSelection;
+      selectedStart = 0;
+      selectedUntil -= windowStart;
+    }
+    detector.rebase(windowStart);
+    windowStart = 0;
+  }
+
+  private static TsdlAccumulator createAccumulator(TsdlSample sample) {
+    return sample.aggregator().accumulator(sample.identifier().name());
+  }
+
+  /**
+   * Updates the bitmap of relevant data points (i.e., the ones satisfying the filter) to the window of {@code series}. Unless the bound filter
+   * changed, only the data points from {@code fromIndex} on (i.e., the appended ones within the window) are evaluated.
+   *
+   * @return number of leading bits which did not change
+   */
+  private int updateRelevant(ColumnarTimeSeries series, TsdlQuery parsedQuery, int fromIndex) {
+    var boundFilter = parsedQuery.filter().map(CompiledFilterConnective::compile).orElse(null);
+    var size = series.size();
+    if (Objects.equals(boundFilter, filter)) {
+      if (boundFilter == null) {
+        relevant.set(fromIndex, size);
+      } else {
+        var appended = boundFilter.select(series.slice(fromIndex, size));
+        for (var i = appended.nextSetBit(0); i >= 0; i = appended.nextSetBit(i + 1)) {
+          relevant.set(fromIndex + i);
+        }
+      }
+      return fromIndex;
+    }
+
+    filter = boundFilter;
+    var changes = relevant;
+    relevant = new BitSet(size);
+    if (boundFilter == null) {
+      relevant.set(windowStart, size);
+    } else {
+      var windowSelection = boundFilter.select(series.slice(windowStart, size));
+      for (var i = windowSelection.nextSetBit(0); i >= 0; i = windowSelection.nextSetBit(i + 1)) {
+        relevant.set(windowStart + i);
+      }
+    }
+
+    // the previous bitmap is not retained, hence, it holds the changes
+    changes.xor(relevant);
+    var firstChange = changes.nextSetBit(0);
+    log.debug("Bound filter of continuous query changed, relevance of data points changed from index {} on.", firstChange);
+    return firstChange < 0 ? fromIndex : Math.min(firstChange, fromIndex);
+  }
+
+  /**
+   * Appends the relevant data points which have not been selected yet to the selected ones. If the relevance of selected data points changed, the
+   * relevant data points of the window are selected again.
+   *
+   * @param relevantUnchanged number of leading bits of the bitmap of relevant data points which did not change
+   */
+  private void updateSelected(ColumnarTimeSeries series, int relevantUnchanged) {
+    if (relevantUnchanged < selectedUntil) {
+      log.debug("Relevance of selected data points of continuous query '{}' changed, selecting them again.", query);
+      selected = ColumnarTimeSeries.builder();
+      selectedStart = 0;
+      selectedUntil = windowStart;
+    }
+    for (var i = relevant.nextSetBit(selectedUntil); i >= 0; i = relevant.nextSetBit(i + 1)) {
+      selected.add(series.epochMillis(i), series.value(i));
+    }
+    selectedUntil = series.size();
+  }
+
+  private void requireAscending(List<DataPoint> data) {
+    var previousEpochMillis = lastEpochMillis;
+    for (var dataPoint : data) {
+      Conditions.checkNotNull(Condition.ARGUMENT, dataPoint, "Data points must not be null.");
+      var epochMillis = dataPoint.timestamp().toEpochMilli();
+      Conditions.checkIsTrue(Condition.ARGUMENT, epochMillis >= previousEpochMillis,
+          "Data points must be appended in ascending order of their timestamps, but %s follows %s.", dataPoint.timestamp(),
+          previousEpochMillis);
+      previousEpochMillis = epochMillis;
+    }
+    lastEpochMillis = previousEpochMillis;
+  }
+}
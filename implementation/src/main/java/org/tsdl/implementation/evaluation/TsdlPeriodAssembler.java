@@ -3,16 +3,23 @@ package org.tsdl.implementation.evaluation;
 import java.util.List;
 import org.tsdl.implementation.model.choice.AnnotatedTsdlPeriod;
 import org.tsdl.implementation.model.event.TsdlEvent;
-import org.tsdl.infrastructure.model.DataPoint;
+import org.tsdl.implementation.model.event.strategy.SinglePointEventStrategy;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
 
 /**
  * Provides functionality to assemble all periods specified by the events of a query.
  */
 public interface TsdlPeriodAssembler {
   /**
-   * Precondition: SampleFilterArgument values have been set.
+   * Precondition: sample arguments of events have been bound.
    * Postcondition: detected periods are ordered by start time;
    * for equal start times, the period whose declaring event has the lower index has precedence
    */
-  List<AnnotatedTsdlPeriod> assemble(List<DataPoint> dataPoints, List<TsdlEvent> events);
+  List<AnnotatedTsdlPeriod> assemble(ColumnarTimeSeries dataPoints, List<TsdlEvent> events);
+
+  /**
+   * Like {@link #assemble(ColumnarTimeSeries, List)}, but periods of single point events are detected by {@code singlePointStrategy}. This allows
+   * for supplying periods which have already been detected by other means, e.g., incrementally while streaming the data points.
+   */
+  List<AnnotatedTsdlPeriod> assemble(ColumnarTimeSeries dataPoints, List<TsdlEvent> events, SinglePointEventStrategy singlePointStrategy);
 }
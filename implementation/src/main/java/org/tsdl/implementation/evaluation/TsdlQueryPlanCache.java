@@ -0,0 +1,29 @@
+package org.tsdl.implementation.evaluation;
+
+import org.tsdl.implementation.model.TsdlQuery;
+import org.tsdl.implementation.parsing.exception.TsdlParseException;
+
+/**
+ * A bounded cache of parsed queries (plans), keyed by their normalized query text. Cached plans do not carry any per-execution state and may
+ * therefore be evaluated by any number of threads concurrently.
+ */
+public interface TsdlQueryPlanCache {
+  /**
+   * Returns the plan of {@code query}, parsing it only if no plan for its normalized text is cached yet.
+   *
+   * @param query query string to retrieve the plan for
+   * @return parsed query
+   * @throws TsdlParseException if the query has not been cached and cannot be parsed
+   */
+  TsdlQuery getPlan(String query) throws TsdlParseException;
+
+  /**
+   * Returns the number of plans currently cached.
+   */
+  int size();
+
+  /**
+   * Removes all cached plans.
+   */
+  void clear();
+}
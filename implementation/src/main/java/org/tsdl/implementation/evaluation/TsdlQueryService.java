@@ -1,15 +1,40 @@
 package org.tsdl.implementation.evaluation;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
 import lombok.extern.slf4j.Slf4j;
+import org.tsdl.implementation.evaluation.impl.connective.CompiledFilterConnective;
+import org.tsdl.implementation.evaluation.impl.event.strategy.SinglePointEventDetector;
+import org.tsdl.implementation.evaluation.impl.event.strategy.SinglePointEventRunDetector;
+import org.tsdl.implementation.evaluation.impl.result.PeriodCoverage;
 import org.tsdl.implementation.factory.TsdlComponentFactory;
+import org.tsdl.implementation.model.TsdlQuery;
 import org.tsdl.implementation.model.choice.AnnotatedTsdlPeriod;
+import org.tsdl.implementation.model.common.TsdlIdentifier;
+import org.tsdl.implementation.model.event.TsdlEventStrategyType;
+import org.tsdl.implementation.model.event.strategy.SinglePointEventStrategy;
+import org.tsdl.implementation.model.result.YieldFormat;
+import org.tsdl.implementation.model.sample.aggregation.TsdlAccumulator;
+import org.tsdl.infrastructure.api.ContinuousQuery;
 import org.tsdl.infrastructure.api.QueryService;
 import org.tsdl.infrastructure.common.Condition;
 import org.tsdl.infrastructure.common.Conditions;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
 import org.tsdl.infrastructure.model.DataPoint;
+import org.tsdl.infrastructure.model.DataPointSource;
 import org.tsdl.infrastructure.model.MultipleScalarResult;
+import org.tsdl.infrastructure.model.QueryPushdown;
 import org.tsdl.infrastructure.model.QueryResult;
 import org.tsdl.infrastructure.model.SingularScalarResult;
 import org.tsdl.infrastructure.model.TsdlDataPoints;
@@ -18,13 +43,269 @@ import org.tsdl.infrastructure.model.TsdlPeriod;
 import org.tsdl.infrastructure.model.TsdlPeriodSet;
 
 /**
- * Default implementation of {@link QueryService}.
+ * Default implementation of {@link QueryService}. The pool evaluating fleets of series (see {@link TsdlQueryService#query(Map, String)}) is
+ * created upon the first fleet query and shut down by {@link TsdlQueryService#close()}.
  */
 @Slf4j
-public class TsdlQueryService implements QueryService {
+public class TsdlQueryService implements QueryService, AutoCloseable {
+  /**
+   * Default number of query plans retained by the plan cache of a {@link TsdlQueryService} instance.
+   */
+  public static final int DEFAULT_PLAN_CACHE_CAPACITY = 256;
+
+  /**
+   * Default maximum number of series evaluated concurrently by {@link TsdlQueryService#query(Map, String)}, i.e., the number of available
+   * processors.
+   */
+  public static final int DEFAULT_FLEET_PARALLELISM = Runtime.getRuntime().availableProcessors();
+
+  static final Set<TsdlEventStrategyType> SINGLE_POINT_STRATEGIES =
+      EnumSet.of(TsdlEventStrategyType.SINGLE_POINT_EVENT, TsdlEventStrategyType.SINGLE_POINT_EVENT_WITH_DURATION);
+
+  private final TsdlQueryPlanCache planCache;
+  private final int fleetParallelism;
+  private ForkJoinPool fleetPool;
+  private boolean closed;
+
+  /**
+   * Initializes a {@link TsdlQueryService} instance with a plan cache of capacity {@link TsdlQueryService#DEFAULT_PLAN_CACHE_CAPACITY}.
+   */
+  public TsdlQueryService() {
+    this(DEFAULT_PLAN_CACHE_CAPACITY);
+  }
+
+  /**
+   * Initializes a {@link TsdlQueryService} instance which evaluates at most {@link TsdlQueryService#DEFAULT_FLEET_PARALLELISM} series concurrently.
+   *
+   * @param planCacheCapacity maximum number of parsed queries to retain, 0 disables caching
+   */
+  public TsdlQueryService(int planCacheCapacity) {
+    this(planCacheCapacity, DEFAULT_FLEET_PARALLELISM);
+  }
+
+  /**
+   * Initializes a {@link TsdlQueryService} instance.
+   *
+   * @param planCacheCapacity maximum number of parsed queries to retain, 0 disables caching
+   * @param fleetParallelism  maximum number of series evaluated concurrently by {@link TsdlQueryService#query(Map, String)}
+   */
+  public TsdlQueryService(int planCacheCapacity, int fleetParallelism) {
+    Conditions.checkIsGreaterThan(Condition.ARGUMENT, fleetParallelism, 0, "Fleet parallelism must be positive.");
+    this.planCache = TsdlComponentFactory.INSTANCE.queryPlanCache(planCacheCapacity);
+    this.fleetParallelism = fleetParallelism;
+  }
+
+  /**
+   * Shuts down the pool evaluating fleets of series, if any, i.e., subsequent fleet queries are rejected. Other queries are not affected.
+   */
+  @Override
+  public synchronized void close() {
+    closed = true;
+    if (fleetPool != null) {
+      fleetPool.shutdown();
+      fleetPool = null;
+    }
+  }
+
   @Override
   public QueryResult query(List<DataPoint> data, String query) {
-    final var parser = TsdlComponentFactory.INSTANCE.queryParser();
+    // null data is rejected by the columnar overload, i.e., in the same manner as any other invalid argument
+    return query(data != null ? ColumnarTimeSeries.of(data) : null, query);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Samples are computed first, column by column. Filters and single point events are then evaluated block-wise into selection bitmaps,
+   * periods of single point events being the runs within these bitmaps. Filtered data points are not copied, instead, complex events and the
+   * result refer to a view of the data.
+   */
+  @Override
+  public QueryResult query(ColumnarTimeSeries data, String query) {
+    return evaluate(data != null ? DataPointScan.of(data) : null, query, null, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Samples, filters, single point events and the selection of relevant data points are fused into a single pass over the data. Only if filters
+   * or events refer to samples, a preceding pass computes the samples. Filtered data points are only buffered (as primitive columns) if complex
+   * events need to be evaluated. If data points are yielded and events are defined, an additional pass collects the data points within
+   * the chosen periods. Timestamps of data points are evaluated at millisecond resolution.
+   */
+  @Override
+  public QueryResult query(DataPointSource data, String query) {
+    return evaluate(data != null ? DataPointScan.of(data) : null, query, null, null);
+  }
+
+  @Override
+  public List<QueryResult> query(List<DataPoint> data, List<String> queries) {
+    return query(data != null ? ColumnarTimeSeries.of(data) : null, queries);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Each distinct query is evaluated once. Samples with the same aggregator (type and bounds or periods) are computed once for all queries,
+   * within the same pass over the data. Every distinct (bound) filter is evaluated once, its selection bitmap being combined into the selections
+   * of all filters and single point events it occurs in. Hence, the cost of a batch grows with its number of distinct samples and filters rather
+   * than its number of queries.
+   */
+  @Override
+  public List<QueryResult> query(ColumnarTimeSeries data, List<String> queries) {
+    var batch = prepareBatch(data, queries);
+    var scan = DataPointScan.of(data);
+    var results = new HashMap<String, QueryResult>();
+    return queries.stream()
+        .map(query -> results.computeIfAbsent(query, key -> evaluate(scan, key, batch.plan(key), batch)))
+        .toList();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The query is parsed once for all series. Series are evaluated on a work-stealing pool of bounded parallelism (see
+   * {@link TsdlQueryService#TsdlQueryService(int, int)}), each one like {@link TsdlQueryService#query(ColumnarTimeSeries, String)} does. If the
+   * evaluation of several series fails, the failure of the first of them (in iteration order) is thrown.
+   */
+  @Override
+  public Map<String, QueryResult> query(Map<String, ColumnarTimeSeries> data, String query) {
+    var plan = prepareFleet(data, query);
+    var seriesIds = List.copyOf(data.keySet());
+    var results = new QueryResult[seriesIds.size()];
+    var failures = new RuntimeException[seriesIds.size()];
+    fleetPool().invoke(new IndexRangeAction(0, seriesIds.size(), i -> {
+      var series = data.get(seriesIds.get(i));
+      try {
+        results[i] = evaluate(series != null ? DataPointScan.of(series) : null, query, plan, null);
+      } catch (RuntimeException e) {
+        failures[i] = e;
+      }
+    }));
+
+    var resultsBySeries = new LinkedHashMap<String, QueryResult>();
+    for (var i = 0; i < seriesIds.size(); i++) {
+      if (failures[i] != null) {
+        log.warn("Evaluation of query over series '{}' failed.", seriesIds.get(i));
+        throw failures[i];
+      }
+      resultsBySeries.put(seriesIds.get(i), results[i]);
+    }
+    return resultsBySeries;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The query is parsed once. Samples are accumulated incrementally. The filter and single point events are evaluated into selection bitmaps
+   * over the appended data points only, and periods finalized by earlier appends are retained. Yielded data points are selected incrementally as
+   * well, the choice and the result are evaluated over the detected periods on every append. If sample values which the filter or events refer to
+   * change (e.g., for {@code gt(avg)}, on almost every append), the changed connectives are evaluated over all retained data points again, i.e.,
+   * such an append takes time proportional to the series; only the periods depending on data points from the first one whose selection changed on
+   * are detected again, and selected data points are only selected again if the relevance of one of them changed. Timestamps of data points are
+   * evaluated at millisecond resolution. The handle is not thread-safe.
+   *
+   * <p>Queries with complex events, which are detected over all relevant data points, as well as queries yielding the data points within the
+   * periods of events are rejected.
+   */
+  @Override
+  public ContinuousQuery continuousQuery(String query) {
+    try {
+      Conditions.checkNotNull(Condition.ARGUMENT, query, "Query string must not be null.");
+      log.info("Creating continuous query '{}'", query);
+      var samplesCalculator = TsdlComponentFactory.INSTANCE.samplesCalculator();
+      return new TsdlContinuousQuery(this, query, QueryDemand.prune(planCache.getPlan(query), samplesCalculator), samplesCalculator, null);
+    } catch (TsdlEvaluationException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new TsdlEvaluationException("Query evaluation failed.", e);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Evaluated like {@link #continuousQuery(String)}, additionally, data points leaving the window are removed from the state: they are
+   * subtracted from the accumulators of samples (count, sum, second central moment and the trapezoids of integrals are reverted, minimum and
+   * maximum are maintained with monotonic deques), their bits are cleared from the selection bitmaps, they are dropped from the front of the
+   * selected data points and the periods depending on them are evicted. Hence, updating the state upon an append takes time proportional to the
+   * appended and expired data points (the result is collected from it afterwards), unless sample values which the filter or events refer to change
+   * (then, like for {@link #continuousQuery(String)}, selections are re-evaluated over the window). The handle is not thread-safe.
+   */
+  @Override
+  public ContinuousQuery slidingWindowQuery(String query, Duration window) {
+    try {
+      Conditions.checkNotNull(Condition.ARGUMENT, query, "Query string must not be null.");
+      Conditions.checkNotNull(Condition.ARGUMENT, window, "Window must not be null.");
+      Conditions.checkIsTrue(Condition.ARGUMENT, !window.isNegative() && !window.isZero(), "Window must be positive, but is %s.", window);
+      log.info("Creating sliding window query '{}' over a window of {}", query, window);
+      var samplesCalculator = TsdlComponentFactory.INSTANCE.samplesCalculator();
+      return new TsdlContinuousQuery(this, query, QueryDemand.prune(planCache.getPlan(query), samplesCalculator), samplesCalculator, window);
+    } catch (TsdlEvaluationException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new TsdlEvaluationException("Query evaluation failed.", e);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The pushdown is derived from the query after removing the parts its result does not depend on: its time range is the hull of the local
+   * bounds of samples and the time range admitted by {@code AFTER} and {@code BEFORE} filters, value bounds are derived from literal threshold
+   * filters if no sample depends on data points. See {@link QueryPushdownDerivation} for details.
+   */
+  @Override
+  public QueryPushdown pushdown(String query) {
+    try {
+      Conditions.checkNotNull(Condition.ARGUMENT, query, "Query string must not be null.");
+      var pushdown = QueryPushdownDerivation.derive(QueryDemand.prune(planCache.getPlan(query), TsdlComponentFactory.INSTANCE.samplesCalculator()));
+      log.info("Derived pushdown {} of query '{}'", pushdown, query);
+      return pushdown;
+    } catch (TsdlEvaluationException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new TsdlEvaluationException("Query evaluation failed.", e);
+    }
+  }
+
+  private TsdlQuery prepareFleet(Map<String, ColumnarTimeSeries> data, String query) {
+    try {
+      Conditions.checkNotNull(Condition.ARGUMENT, data, "Data must not be null.");
+      Conditions.checkNotNull(Condition.ARGUMENT, query, "Query string must not be null.");
+      log.info("Evaluating query '{}' over {} series.", query, data.size());
+      return QueryDemand.prune(planCache.getPlan(query), TsdlComponentFactory.INSTANCE.samplesCalculator());
+    } catch (TsdlEvaluationException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new TsdlEvaluationException("Query evaluation failed.", e);
+    }
+  }
+
+  private QueryBatch prepareBatch(ColumnarTimeSeries data, List<String> queries) {
+    try {
+      Conditions.checkNotNull(Condition.ARGUMENT, data, "Data must not be null.");
+      Conditions.checkNotNull(Condition.ARGUMENT, queries, "Queries must not be null.");
+      log.info("Evaluating batch of {} queries.", queries.size());
+
+      var samplesCalculator = TsdlComponentFactory.INSTANCE.samplesCalculator();
+      var plans = new HashMap<String, TsdlQuery>();
+      for (var query : queries) {
+        Conditions.checkNotNull(Condition.ARGUMENT, query, "Query string must not be null.");
+        plans.computeIfAbsent(query, key -> QueryDemand.prune(planCache.getPlan(key), samplesCalculator));
+      }
+      return new QueryBatch(data, plans, samplesCalculator);
+    } catch (TsdlEvaluationException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new TsdlEvaluationException("Query evaluation failed.", e);
+    }
+  }
+
+  /**
+   * Evaluates {@code query} over {@code data}, using {@code preparedPlan} (if not null) instead of parsing and pruning {@code query} once more.
+   */
+  private QueryResult evaluate(DataPointScan data, String query, TsdlQuery preparedPlan, QueryBatch batch) {
     final var resultCollector = TsdlComponentFactory.INSTANCE.resultCollector();
     final var periodAssembler = TsdlComponentFactory.INSTANCE.periodAssembler();
     final var samplesCalculator = TsdlComponentFactory.INSTANCE.samplesCalculator();
@@ -34,47 +315,90 @@ public class TsdlQueryService implements QueryService {
       Conditions.checkNotNull(Condition.ARGUMENT, query, "Query string must not be null.");
       log.info("Evaluating query '{}'", query);
 
-      var parsedQuery = parser.parseQuery(query);
+      // the plan is shared between evaluations, everything specific to this evaluation is derived from it without modifying it; only the samples,
+      // filter and events its result depends on are evaluated
+      var plan = preparedPlan != null ? preparedPlan : QueryDemand.prune(planCache.getPlan(query), samplesCalculator);
       var logEvents = new ArrayList<TsdlLogEvent>();
 
-      var sampleValues = samplesCalculator.computeSampleValues(parsedQuery.samples(), data, logEvents);
-      samplesCalculator.setConnectiveArgumentValues(parsedQuery.filter().orElse(null), parsedQuery.events(), sampleValues);
+      var yieldsDataPoints = plan.result().format() == YieldFormat.DATA_POINTS;
+      var samplesFirst = !plan.samples().isEmpty() && samplesCalculator.hasSampleArguments(plan);
+      var collectsAfterChoice = yieldsDataPoints && !plan.events().isEmpty() && !data.isInMemory();
+      var requiredPasses = 1 + (samplesFirst ? 1 : 0) + (collectsAfterChoice ? 1 : 0);
+      if (requiredPasses > 1 && !data.isReplayable()) {
+        throw new TsdlEvaluationException(
+            "The query requires %s passes over the data, but the data point source can only be consumed once.".formatted(requiredPasses));
+      }
 
-      log.info("Applying query filters to {} initial data points.", data.size());
-      var relevantDataPoints = parsedQuery.filter().isPresent()
-          ? parsedQuery.filter().get().evaluateFilters(data)
-          : data;
-      log.info("After filter application, {} relevant data points are remaining.", relevantDataPoints.size());
+      var accumulators = samplesCalculator.createAccumulators(plan.samples());
+      Map<TsdlIdentifier, Double> sampleValues = null;
+      if (!plan.samples().isEmpty() && data.isInMemory()) {
+        // in-memory data is aggregated column by column (in parallel, if large), filters and events are evaluated block-wise afterwards
+        log.info("Computing {} samples before evaluating filters and events.", plan.samples().size());
+        sampleValues = batch != null
+            ? batch.sampleValues(plan.samples(), logEvents)
+            : samplesCalculator.computeSampleValues(plan.samples(), data.series(), logEvents);
+      } else if (samplesFirst) {
+        log.info("Computing {} samples before evaluating filters and events.", plan.samples().size());
+        data.forEach((handle, epochMillis, value) -> accumulate(accumulators, epochMillis, value));
+        sampleValues = samplesCalculator.collectSampleValues(plan.samples(), accumulators, logEvents);
+      }
 
-      log.info("Detecting periods based on the query's event definitions.");
-      var detectedPeriods = periodAssembler.assemble(relevantDataPoints, parsedQuery.events());
-      log.info("Detected {} periods based on the query's event definitions.", detectedPeriods.size());
+      var parsedQuery = samplesCalculator.bindArguments(plan, sampleValues != null ? sampleValues : Map.of());
+      var singlePointEvents = parsedQuery.events().stream()
+          .filter(event -> SINGLE_POINT_STRATEGIES.contains(event.computationStrategy()))
+          .toList();
+      var hasComplexEvents = singlePointEvents.size() < parsedQuery.events().size();
+      var filter = parsedQuery.filter().map(CompiledFilterConnective::compile).orElse(null);
 
-      TsdlPeriodSet periodSet;
-      boolean noPeriodDefinitions;
-      if (parsedQuery.choice().isPresent()) {
-        var chosenPeriods = parsedQuery.choice().get().evaluate(detectedPeriods);
-        periodSet = periodSetFromAnnotatedPeriods(chosenPeriods);
-        noPeriodDefinitions = false;
-      } else if (!detectedPeriods.isEmpty()) {
-        periodSet = QueryResult.of(detectedPeriods.size(), detectedPeriods.stream().map(AnnotatedTsdlPeriod::period).toList());
-        noPeriodDefinitions = false;
+      // complex events and yielded data points refer to the same (filtered) data points, hence, one selection serves both
+      var selectsDataPoints = hasComplexEvents || yieldsDataPoints && !collectsAfterChoice;
+      ColumnarTimeSeries selectedDataPoints;
+      SinglePointEventStrategy singlePointStrategy;
+      if (data.isInMemory()) {
+        log.info("Applying query filters block-wise.");
+        var series = data.series();
+        var selections = selections(series, batch);
+        var relevant = filter != null ? selections.apply(filter) : null;
+        var relevantDataPoints = relevant != null ? relevant.cardinality() : series.size();
+        log.info("After filter application, {} of {} data points are remaining.", relevantDataPoints, series.size());
+        selectedDataPoints = selectsDataPoints ? selectDataPoints(series, relevant, relevantDataPoints) : ColumnarTimeSeries.EMPTY;
+        singlePointStrategy = (dataPoints, events) -> SinglePointEventRunDetector.detectPeriods(series, events, relevant, selections);
       } else {
-        periodSet = TsdlPeriodSet.EMPTY;
-        noPeriodDefinitions = true;
+        var pass = new FusedPass(
+            data,
+            sampleValues != null ? List.of() : accumulators,
+            filter,
+            singlePointEvents.isEmpty() ? null : data.newDetector(singlePointEvents),
+            selectsDataPoints ? data.newSelection(parsedQuery.events().isEmpty()) : null
+        );
+
+        log.info("Applying query filters and detecting single point events.");
+        data.forEach(pass);
+        pass.finish();
+        log.info("After filter application, {} of {} data points are remaining.", pass.relevantDataPoints, pass.dataPoints);
+        selectedDataPoints = pass.selection != null ? pass.selection.toSeries() : ColumnarTimeSeries.EMPTY;
+        singlePointStrategy = (dataPoints, events) -> pass.detector.detectedPeriods(events);
       }
 
-      var result = resultCollector.collect(
-          parsedQuery.result(),
-          relevantDataPoints,
-          periodSet,
-          noPeriodDefinitions,
-          sampleValues
+      if (sampleValues == null) {
+        sampleValues = samplesCalculator.collectSampleValues(plan.samples(), accumulators, logEvents);
+      }
+
+      log.info("Detecting periods based on the query's event definitions.");
+      var detectedPeriods = periodAssembler.assemble(
+          hasComplexEvents ? selectedDataPoints : ColumnarTimeSeries.EMPTY,
+          parsedQuery.events(),
+          singlePointStrategy
       );
+      log.info("Detected {} periods based on the query's event definitions.", detectedPeriods.size());
 
-      var finalResult = result.withLogs(logEvents);
-      log.info("Evaluated query to {}", getResultLogRepresentation(finalResult));
-      return finalResult;
+      if (!collectsAfterChoice) {
+        return collectResult(resultCollector, parsedQuery, detectedPeriods, selectedDataPoints, sampleValues, logEvents);
+      }
+
+      var selectedPeriods = selectPeriods(parsedQuery, choosePeriods(parsedQuery, detectedPeriods));
+      selectedDataPoints = collectDataPointsInPeriods(data, filter, selectedPeriods);
+      return collectResult(resultCollector, parsedQuery, selectedDataPoints, selectedPeriods, sampleValues, logEvents);
     } catch (TsdlEvaluationException e) {
       throw e;
     } catch (Exception e) {
@@ -82,6 +406,106 @@ public class TsdlQueryService implements QueryService {
     }
   }
 
+  private static ColumnarTimeSeries collectDataPointsInPeriods(DataPointScan data, CompiledFilterConnective filter, SelectedPeriods periods) {
+    log.info("Collecting data points within {} periods.", periods.periodSet().totalPeriods());
+    var selection = data.newSelection(true);
+    var coverage = periods.noPeriodDefinitions() ? null : PeriodCoverage.of(periods.periodSet().periods());
+    data.forEach((handle, epochMillis, value) -> {
+      if ((filter == null || filter.isSatisfied(epochMillis, value)) && (coverage == null || coverage.contains(data.timestamp(handle)))) {
+        selection.add(handle, epochMillis, value);
+      }
+    });
+    return selection.toSeries();
+  }
+
+  static ColumnarTimeSeries selectDataPoints(ColumnarTimeSeries series, BitSet relevant, int relevantDataPoints) {
+    if (relevant == null || relevantDataPoints == series.size()) {
+      return series;
+    }
+    if (relevant.nextClearBit(0) == relevantDataPoints) {
+      return series.slice(0, relevantDataPoints);
+    }
+
+    var indices = new int[relevantDataPoints];
+    var count = 0;
+    for (var i = relevant.nextSetBit(0); i >= 0; i = relevant.nextSetBit(i + 1)) {
+      indices[count++] = i;
+    }
+    return series.select(indices, count);
+  }
+
+  private synchronized ForkJoinPool fleetPool() {
+    Conditions.checkIsFalse(Condition.STATE, closed, "Query service has been closed.");
+    if (fleetPool == null) {
+      fleetPool = new ForkJoinPool(fleetParallelism);
+    }
+    return fleetPool;
+  }
+
+  // selections of a batch are shared with the other queries of the batch, others are evaluated upon every use
+  private static Function<CompiledFilterConnective, BitSet> selections(ColumnarTimeSeries series, QueryBatch batch) {
+    if (batch != null) {
+      return batch::select;
+    }
+    return connective -> connective.select(series);
+  }
+
+  private static void accumulate(List<TsdlAccumulator> accumulators, long epochMillis, double value) {
+    for (var i = 0; i < accumulators.size(); i++) {
+      accumulators.get(i).accept(epochMillis, value);
+    }
+  }
+
+  private static List<AnnotatedTsdlPeriod> choosePeriods(TsdlQuery parsedQuery, List<AnnotatedTsdlPeriod> detectedPeriods) {
+    return parsedQuery.choice().isPresent() ? parsedQuery.choice().get().evaluate(detectedPeriods) : detectedPeriods;
+  }
+
+  private SelectedPeriods selectPeriods(TsdlQuery parsedQuery, List<AnnotatedTsdlPeriod> chosenPeriods) {
+    if (parsedQuery.choice().isPresent()) {
+      return new SelectedPeriods(periodSetFromAnnotatedPeriods(chosenPeriods), false);
+    } else if (!chosenPeriods.isEmpty()) {
+      return new SelectedPeriods(QueryResult.of(chosenPeriods.size(), chosenPeriods.stream().map(AnnotatedTsdlPeriod::period).toList()), false);
+    } else {
+      return new SelectedPeriods(TsdlPeriodSet.EMPTY, true);
+    }
+  }
+
+  /**
+   * Chooses periods among {@code detectedPeriods} and collects the result of {@code parsedQuery}, whose sample arguments have been bound.
+   *
+   * @param selectedDataPoints the (filtered) data points which yielded data points are selected from
+   */
+  QueryResult collectResult(TsdlResultCollector resultCollector, TsdlQuery parsedQuery, List<AnnotatedTsdlPeriod> detectedPeriods,
+                            ColumnarTimeSeries selectedDataPoints, Map<TsdlIdentifier, Double> sampleValues, List<TsdlLogEvent> logEvents) {
+    var chosenPeriods = choosePeriods(parsedQuery, detectedPeriods);
+    var format = parsedQuery.result().format();
+    if (format == YieldFormat.LONGEST_PERIOD || format == YieldFormat.SHORTEST_PERIOD) {
+      // only one period is yielded, hence, the periods are not assembled into a period set
+      return finishResult(resultCollector.collectSpecialPeriod(parsedQuery.result(), chosenPeriods), logEvents);
+    }
+
+    return collectResult(resultCollector, parsedQuery, selectedDataPoints, selectPeriods(parsedQuery, chosenPeriods), sampleValues, logEvents);
+  }
+
+  private QueryResult collectResult(TsdlResultCollector resultCollector, TsdlQuery parsedQuery, ColumnarTimeSeries relevantDataPoints,
+                                    SelectedPeriods selectedPeriods, Map<TsdlIdentifier, Double> sampleValues, List<TsdlLogEvent> logEvents) {
+    var result = resultCollector.collect(
+        parsedQuery.result(),
+        relevantDataPoints,
+        selectedPeriods.periodSet(),
+        selectedPeriods.noPeriodDefinitions(),
+        sampleValues
+    );
+
+    return finishResult(result, logEvents);
+  }
+
+  private QueryResult finishResult(QueryResult result, List<TsdlLogEvent> logEvents) {
+    var finalResult = result.withLogs(logEvents);
+    log.info("Evaluated query to {}", getResultLogRepresentation(finalResult));
+    return finalResult;
+  }
+
   private TsdlPeriodSet periodSetFromAnnotatedPeriods(List<AnnotatedTsdlPeriod> annotatedPeriods) {
     if (annotatedPeriods.isEmpty()) {
       return TsdlPeriodSet.EMPTY;
@@ -105,4 +529,81 @@ public class TsdlQueryService implements QueryService {
 
     return "%s with %s and %s log events.".formatted(result.type(), description, result.logs().size());
   }
+
+  /**
+   * The pass over the data which computes samples (unless they have been computed beforehand), applies filters, detects single point events and
+   * selects the filtered data points, if necessary.
+   */
+  private static final class FusedPass implements DataPointScan.Visitor {
+    private final DataPointScan data;
+    private final List<TsdlAccumulator> accumulators;
+    private final CompiledFilterConnective filter;
+    private final SinglePointEventDetector detector;
+    private final DataPointScan.Selection selection;
+    private long dataPoints;
+    private long relevantDataPoints;
+
+    private FusedPass(DataPointScan data, List<TsdlAccumulator> accumulators, CompiledFilterConnective filter,
+                      SinglePointEventDetector detector, DataPointScan.Selection selection) {
+      this.data = data;
+      this.accumulators = accumulators;
+      this.filter = filter;
+      this.detector = detector;
+      this.selection = selection;
+    }
+
+    @Override
+    public void visit(int handle, long epochMillis, double value) {
+      dataPoints++;
+      accumulate(accumulators, epochMillis, value);
+      if (filter != null && !filter.isSatisfied(epochMillis, value)) {
+        return;
+      }
+
+      relevantDataPoints++;
+      if (detector != null) {
+        data.detect(detector, handle);
+      }
+      if (selection != null) {
+        selection.add(handle, epochMillis, value);
+      }
+    }
+
+    private void finish() {
+      if (detector != null) {
+        detector.finish();
+      }
+    }
+  }
+
+  /**
+   * Applies an action to each index of a range, splitting the range in halves until single indices remain, which idle workers may steal.
+   */
+  private static final class IndexRangeAction extends RecursiveAction {
+    private final int fromIndex;
+    private final int toIndex;
+    private final transient IntConsumer action;
+
+    private IndexRangeAction(int fromIndex, int toIndex, IntConsumer action) {
+      this.fromIndex = fromIndex;
+      this.toIndex = toIndex;
+      this.action = action;
+    }
+
+    @Override
+    protected void compute() {
+      if (toIndex - fromIndex <= 1) {
+        if (toIndex > fromIndex) {
+          action.accept(fromIndex);
+        }
+        return;
+      }
+
+      var middle = (fromIndex + toIndex) >>> 1;
+      invokeAll(new IndexRangeAction(fromIndex, middle, action), new IndexRangeAction(middle, toIndex, action));
+    }
+  }
+
+  private record SelectedPeriods(TsdlPeriodSet periodSet, boolean noPeriodDefinitions) {
+  }
 }
@@ -3,11 +3,13 @@ package org.tsdl.implementation.evaluation;
 
 import java.util.List;
 import java.util.Map;
+import org.tsdl.implementation.model.choice.AnnotatedTsdlPeriod;
 import org.tsdl.implementation.model.common.TsdlIdentifier;
 import org.tsdl.implementation.model.result.YieldFormat;
 import org.tsdl.implementation.model.result.YieldStatement;
-import org.tsdl.infrastructure.model.DataPoint;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
 import org.tsdl.infrastructure.model.QueryResult;
+import org.tsdl.infrastructure.model.TsdlPeriod;
 import org.tsdl.infrastructure.model.TsdlPeriodSet;
 
 /**
@@ -21,6 +23,13 @@ public interface TsdlResultCollector {
    *                            detected (periodSet is empty)" and "there are no event/period definitions, hence periodSet is empty". this distinction
    *                            is important for when {@code result} represents {@link YieldFormat#DATA_POINTS}.
    */
-  QueryResult collect(YieldStatement result, List<DataPoint> dataPoints, TsdlPeriodSet periodSet, boolean noPeriodDefinitions,
+  QueryResult collect(YieldStatement result, ColumnarTimeSeries dataPoints, TsdlPeriodSet periodSet, boolean noPeriodDefinitions,
                       Map<TsdlIdentifier, Double> samples);
+
+  /**
+   * Collects the result of {@link YieldFormat#LONGEST_PERIOD} or {@link YieldFormat#SHORTEST_PERIOD} directly from the given periods, i.e., without
+   * assembling a {@link TsdlPeriodSet} first. The result is the same as the one of
+   * {@link #collect(YieldStatement, ColumnarTimeSeries, TsdlPeriodSet, boolean, Map)} for the set of these periods.
+   */
+  TsdlPeriod collectSpecialPeriod(YieldStatement result, List<AnnotatedTsdlPeriod> periods);
 }
@@ -2,21 +2,63 @@ package org.tsdl.implementation.evaluation;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import org.tsdl.implementation.model.TsdlQuery;
 import org.tsdl.implementation.model.common.TsdlIdentifier;
-import org.tsdl.implementation.model.connective.SinglePointFilterConnective;
-import org.tsdl.implementation.model.event.TsdlEvent;
 import org.tsdl.implementation.model.sample.TsdlSample;
-import org.tsdl.infrastructure.model.DataPoint;
+import org.tsdl.implementation.model.sample.aggregation.TsdlAccumulator;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
 import org.tsdl.infrastructure.model.TsdlLogEvent;
 
 /**
  * Provides method to calculate the values of threshold events and threshold filters.
  */
 public interface TsdlSamplesCalculator {
-  Map<TsdlIdentifier, Double> computeSampleValues(List<TsdlSample> samples, List<DataPoint> dataPoints, List<TsdlLogEvent> logEvents);
+  /**
+   * Computes the values of all samples within a single pass over the data points.
+   */
+  Map<TsdlIdentifier, Double> computeSampleValues(List<TsdlSample> samples, ColumnarTimeSeries dataPoints, List<TsdlLogEvent> logEvents);
+
+  /**
+   * Computes the values of all samples like {@link #computeSampleValues(List, ColumnarTimeSeries, List)}, but returns them by position (i.e., the
+   * i-th value is the one of the i-th sample) and does not echo them. Hence, samples with the same identifier may be computed at once.
+   */
+  double[] computeValues(List<TsdlSample> samples, ColumnarTimeSeries dataPoints);
+
+  /**
+   * Creates one accumulator per sample (in the same order) which computes the sample value incrementally, see
+   * {@link org.tsdl.implementation.model.sample.aggregation.TsdlAggregator#accumulator(String)}.
+   */
+  List<TsdlAccumulator> createAccumulators(List<TsdlSample> samples);
+
+  /**
+   * Equivalent of {@link #computeSampleValues(List, ColumnarTimeSeries, List)} for accumulators created by {@link #createAccumulators(List)}, after
+   * all data points have been accepted.
+   */
+  Map<TsdlIdentifier, Double> collectSampleValues(List<TsdlSample> samples, List<TsdlAccumulator> accumulators, List<TsdlLogEvent> logEvents);
+
+  /**
+   * Equivalent of {@link #computeSampleValues(List, ColumnarTimeSeries, List)} for values which have already been computed, e.g., by
+   * {@link #computeValues(List, ColumnarTimeSeries)} (the i-th value being the one of the i-th sample). Samples with a formatter are echoed.
+   */
+  Map<TsdlIdentifier, Double> collectSampleValues(List<TsdlSample> samples, double[] values, List<TsdlLogEvent> logEvents);
+
+  /**
+   * Indicates whether any filter or event of {@code query} refers to a sample, i.e., whether samples must be computed before filters and events can
+   * be evaluated.
+   */
+  boolean hasSampleArguments(TsdlQuery query);
+
+  /**
+   * The samples which filters or events of {@code query} refer to.
+   */
+  Set<TsdlIdentifier> referencedSamples(TsdlQuery query);
 
   /**
-   * Precondition: {@link #computeSampleValues(List, List, List)} has already been executed.
+   * Binds the sample arguments of the filters and events of {@code query} to the given sample values. The query itself is not modified, instead, a
+   * copy whose arguments are bound is returned. Therefore, the same query may be evaluated concurrently with different sample values.
+   *
+   * <p>Precondition: {@link #computeSampleValues(List, ColumnarTimeSeries, List)} has already been executed.
    */
-  void setConnectiveArgumentValues(SinglePointFilterConnective filter, List<TsdlEvent> events, Map<TsdlIdentifier, Double> sampleValues);
+  TsdlQuery bindArguments(TsdlQuery query, Map<TsdlIdentifier, Double> sampleValues);
 }
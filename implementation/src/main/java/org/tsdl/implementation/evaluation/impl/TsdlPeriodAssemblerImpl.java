@@ -16,11 +16,12 @@ import org.tsdl.implementation.model.choice.AnnotatedTsdlPeriod;
 import org.tsdl.implementation.model.event.TsdlEvent;
 import org.tsdl.implementation.model.event.TsdlEventStrategyType;
 import org.tsdl.implementation.model.event.definition.ComplexEventFunction;
+import org.tsdl.implementation.model.event.strategy.SinglePointEventStrategy;
 import org.tsdl.implementation.model.event.strategy.TsdlEventStrategy;
 import org.tsdl.implementation.model.filter.SinglePointFilter;
 import org.tsdl.infrastructure.common.Condition;
 import org.tsdl.infrastructure.common.Conditions;
-import org.tsdl.infrastructure.model.DataPoint;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
 
 /**
  * Default implementation of {@link TsdlPeriodAssembler}.
@@ -28,7 +29,13 @@ import org.tsdl.infrastructure.model.DataPoint;
 @Slf4j
 public class TsdlPeriodAssemblerImpl implements TsdlPeriodAssembler {
   @Override
-  public List<AnnotatedTsdlPeriod> assemble(List<DataPoint> dataPoints, List<TsdlEvent> events) {
+  public List<AnnotatedTsdlPeriod> assemble(ColumnarTimeSeries dataPoints, List<TsdlEvent> events) {
+    return assemble(dataPoints, events, new SinglePointEventStrategyImpl());
+  }
+
+  @Override
+  public List<AnnotatedTsdlPeriod> assemble(ColumnarTimeSeries dataPoints, List<TsdlEvent> events, SinglePointEventStrategy singlePointStrategy) {
+    Conditions.checkNotNull(Condition.ARGUMENT, singlePointStrategy, "Single point event strategy must not be null.");
     requirePureEventConnectives(events);
 
     var detectedPeriods = new ArrayList<AnnotatedTsdlPeriod>();
@@ -39,7 +46,7 @@ public class TsdlPeriodAssemblerImpl implements TsdlPeriodAssembler {
     // for every strategy (event computation algorithm) that is present in the given query, scan all data points once and
     // detect periods that result from the event definitions exhibiting those strategies
     for (var eventsForStrategy : eventsByStrategy.entrySet()) {
-      var strategy = getEventStrategy(eventsForStrategy.getKey());
+      var strategy = getEventStrategy(eventsForStrategy.getKey(), singlePointStrategy);
       var periodsFromStrategy = strategy.detectPeriods(dataPoints, eventsForStrategy.getValue());
       detectedPeriods.addAll(periodsFromStrategy);
     }
@@ -55,10 +62,10 @@ public class TsdlPeriodAssemblerImpl implements TsdlPeriodAssembler {
     return assembledPeriods;
   }
 
-  private TsdlEventStrategy getEventStrategy(TsdlEventStrategyType type) {
+  private TsdlEventStrategy getEventStrategy(TsdlEventStrategyType type, SinglePointEventStrategy singlePointStrategy) {
     return switch (type) {
-      case SINGLE_POINT_EVENT -> new SinglePointEventStrategyImpl();
-      case SINGLE_POINT_EVENT_WITH_DURATION -> new DurationEventStrategyImpl(new SinglePointEventStrategyImpl());
+      case SINGLE_POINT_EVENT -> singlePointStrategy;
+      case SINGLE_POINT_EVENT_WITH_DURATION -> new DurationEventStrategyImpl(singlePointStrategy);
       case CONSTANT_EVENT -> new ConstantEventStrategyImpl();
       case CONSTANT_EVENT_WITH_DURATION -> new DurationEventStrategyImpl(new ConstantEventStrategyImpl());
       case INCREASE_EVENT -> new IncreaseEventStrategyImpl();
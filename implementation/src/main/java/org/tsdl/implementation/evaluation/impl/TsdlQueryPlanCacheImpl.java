@@ -0,0 +1,114 @@
+package org.tsdl.implementation.evaluation.impl;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import lombok.extern.slf4j.Slf4j;
+import org.tsdl.implementation.evaluation.TsdlQueryPlanCache;
+import org.tsdl.implementation.model.TsdlQuery;
+import org.tsdl.implementation.parsing.TsdlQueryParser;
+import org.tsdl.infrastructure.common.Condition;
+import org.tsdl.infrastructure.common.Conditions;
+
+/**
+ * Default implementation of {@link TsdlQueryPlanCache}. Lookups are lock-free; once the capacity is exceeded, plans are evicted in insertion order.
+ */
+@Slf4j
+public class TsdlQueryPlanCacheImpl implements TsdlQueryPlanCache {
+  private final TsdlQueryParser parser;
+  private final int capacity;
+  private final Map<String, TsdlQuery> plans = new ConcurrentHashMap<>();
+  private final Queue<String> insertionOrder = new ConcurrentLinkedQueue<>();
+
+  /**
+   * Initializes a {@link TsdlQueryPlanCacheImpl} instance.
+   *
+   * @param parser   parser used to create plans which are not cached yet
+   * @param capacity maximum number of cached plans, a capacity of 0 disables caching
+   */
+  public TsdlQueryPlanCacheImpl(TsdlQueryParser parser, int capacity) {
+    Conditions.checkNotNull(Condition.ARGUMENT, parser, "Parser must not be null.");
+    Conditions.checkIsGreaterThanOrEqual(Condition.ARGUMENT, capacity, 0, "Capacity of plan cache must not be negative.");
+    this.parser = parser;
+    this.capacity = capacity;
+  }
+
+  @Override
+  public TsdlQuery getPlan(String query) {
+    Conditions.checkNotNull(Condition.ARGUMENT, query, "Query string must not be null.");
+    if (capacity == 0) {
+      return parser.parseQuery(query);
+    }
+
+    var key = normalize(query);
+    var cachedPlan = plans.get(key);
+    if (cachedPlan != null) {
+      log.debug("Using cached plan for query '{}'.", key);
+      return cachedPlan;
+    }
+
+    // parsing happens outside any lock, i.e., concurrent misses of the same query may parse it more than once, but only one plan is retained
+    var plan = parser.parseQuery(query);
+    var previousPlan = plans.putIfAbsent(key, plan);
+    if (previousPlan != null) {
+      return previousPlan;
+    }
+
+    insertionOrder.add(key);
+    while (plans.size() > capacity) {
+      var eldestKey = insertionOrder.poll();
+      if (eldestKey == null) {
+        break;
+      }
+      plans.remove(eldestKey);
+    }
+
+    return plan;
+  }
+
+  @Override
+  public int size() {
+    return plans.size();
+  }
+
+  @Override
+  public void clear() {
+    plans.clear();
+    insertionOrder.clear();
+  }
+
+  /**
+   * Collapses each run of whitespace characters outside of string literals into a single blank and strips leading and trailing whitespace. Since
+   * the grammar treats any run of whitespace like a single blank, queries with equal normalized text yield equal plans.
+   */
+  static String normalize(String query) {
+    var normalized = new StringBuilder(query.length());
+    var inStringLiteral = false;
+    var pendingWhitespace = false;
+
+    for (var i = 0; i < query.length(); i++) {
+      var c = query.charAt(i);
+      if (!inStringLiteral && isWhitespace(c)) {
+        pendingWhitespace = true;
+        continue;
+      }
+
+      if (pendingWhitespace && !normalized.isEmpty()) {
+        normalized.append(' ');
+      }
+      pendingWhitespace = false;
+
+      if (c == '"') {
+        inStringLiteral = !inStringLiteral;
+      }
+      normalized.append(c);
+    }
+
+    return normalized.toString();
+  }
+
+  private static boolean isWhitespace(char c) {
+    return c == ' ' || c == '\t' || c == '\r' || c == '\n';
+  }
+}
@@ -1,62 +1,202 @@
 package org.tsdl.implementation.evaluation.impl;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.tsdl.implementation.evaluation.TsdlEvaluationException;
 import org.tsdl.implementation.evaluation.TsdlSamplesCalculator;
+import org.tsdl.implementation.evaluation.impl.sample.aggregation.ParallelAggregation;
+import org.tsdl.implementation.factory.TsdlComponentFactory;
+import org.tsdl.implementation.factory.TsdlQueryElementFactory;
+import org.tsdl.implementation.model.TsdlQuery;
 import org.tsdl.implementation.model.common.TsdlIdentifier;
+import org.tsdl.implementation.model.connective.AndFilterConnective;
+import org.tsdl.implementation.model.connective.OrFilterConnective;
 import org.tsdl.implementation.model.connective.SinglePointFilterConnective;
 import org.tsdl.implementation.model.event.TsdlEvent;
+import org.tsdl.implementation.model.event.definition.AndEventConnective;
 import org.tsdl.implementation.model.event.definition.ConstantEvent;
+import org.tsdl.implementation.model.event.definition.DecreaseEvent;
 import org.tsdl.implementation.model.event.definition.EventFunction;
+import org.tsdl.implementation.model.event.definition.IncreaseEvent;
 import org.tsdl.implementation.model.event.definition.MonotonicEvent;
 import org.tsdl.implementation.model.event.definition.NegatedEventFunction;
+import org.tsdl.implementation.model.event.definition.OrEventConnective;
 import org.tsdl.implementation.model.filter.NegatedSinglePointFilter;
+import org.tsdl.implementation.model.filter.SinglePointFilter;
 import org.tsdl.implementation.model.filter.argument.TsdlSampleScalarArgument;
 import org.tsdl.implementation.model.filter.argument.TsdlScalarArgument;
+import org.tsdl.implementation.model.filter.deviation.AbsoluteAroundFilter;
 import org.tsdl.implementation.model.filter.deviation.AroundFilter;
+import org.tsdl.implementation.model.filter.deviation.RelativeAroundFilter;
+import org.tsdl.implementation.model.filter.temporal.TemporalFilter;
+import org.tsdl.implementation.model.filter.threshold.GreaterThanFilter;
+import org.tsdl.implementation.model.filter.threshold.LessThanFilter;
 import org.tsdl.implementation.model.filter.threshold.ThresholdFilter;
 import org.tsdl.implementation.model.sample.TsdlSample;
-import org.tsdl.infrastructure.model.DataPoint;
+import org.tsdl.implementation.model.sample.aggregation.TsdlAccumulator;
+import org.tsdl.implementation.model.sample.aggregation.TsdlAggregator;
+import org.tsdl.implementation.model.sample.aggregation.value.ValueAggregator;
+import org.tsdl.implementation.parsing.enums.ConnectiveIdentifier;
+import org.tsdl.implementation.parsing.enums.DeviationFilterType;
+import org.tsdl.implementation.parsing.enums.ThresholdFilterType;
+import org.tsdl.infrastructure.common.Condition;
+import org.tsdl.infrastructure.common.Conditions;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
 import org.tsdl.infrastructure.model.TsdlLogEvent;
 
 /**
  * Default implementation of {@link TsdlSamplesCalculator}.
  */
 public class TsdlSamplesCalculatorImpl implements TsdlSamplesCalculator {
+  private static final TsdlQueryElementFactory ELEMENTS = TsdlComponentFactory.INSTANCE.elementFactory();
+
   @Override
-  public Map<TsdlIdentifier, Double> computeSampleValues(List<TsdlSample> samples, List<DataPoint> dataPoints, List<TsdlLogEvent> logEvents) {
-    return samples.stream().collect(Collectors.toMap(
-            TsdlSample::identifier,
-            sample -> sample.compute(dataPoints, logEvents)
-        )
-    );
+  public Map<TsdlIdentifier, Double> computeSampleValues(List<TsdlSample> samples, ColumnarTimeSeries dataPoints, List<TsdlLogEvent> logEvents) {
+    return collectSampleValues(samples, computeValues(samples, dataPoints), logEvents);
   }
 
   @Override
-  public void setConnectiveArgumentValues(SinglePointFilterConnective filter, List<TsdlEvent> events, Map<TsdlIdentifier, Double> sampleValues) {
-    if (filter != null) {
-      setSampleFilterArgumentValues(
-          createSampleFilterArgumentStream(filter.filters()),
-          sampleValues
-      );
-      validateSinglePointFilters(filter.filters());
+  public double[] computeValues(List<TsdlSample> samples, ColumnarTimeSeries dataPoints) {
+    var values = new double[samples.size()];
+    if (ParallelAggregation.isParallel(dataPoints.size())) {
+      // each sample is aggregated in parallel, which outweighs computing all samples within the same (sequential) pass
+      for (var i = 0; i < samples.size(); i++) {
+        var sample = samples.get(i);
+        values[i] = sample.aggregator().compute(sample.identifier().name(), dataPoints);
+      }
+      return values;
     }
 
-    var singlePointEventFilters = events.stream()
-        .flatMap(event -> event.connective().events().stream())
-        .filter(Objects::nonNull)
-        .map(EventFunction.class::cast)
+    // samples restricted to a time range are aggregated over the slice of their range (located by binary search), all other samples are computed
+    // within the same pass over the data points
+    var accumulatedSamples = new ArrayList<Integer>();
+    var accumulators = new ArrayList<TsdlAccumulator>();
+    for (var i = 0; i < samples.size(); i++) {
+      var sample = samples.get(i);
+      if (isTimeRestricted(sample.aggregator())) {
+        values[i] = sample.aggregator().compute(sample.identifier().name(), dataPoints);
+      } else {
+        accumulatedSamples.add(i);
+        accumulators.add(sample.aggregator().accumulator(sample.identifier().name()));
+      }
+    }
+
+    if (!accumulators.isEmpty()) {
+      for (var i = 0; i < dataPoints.size(); i++) {
+        var epochMillis = dataPoints.epochMillis(i);
+        var value = dataPoints.value(i);
+        for (var accumulator : accumulators) {
+          accumulator.accept(epochMillis, value);
+        }
+      }
+    }
+    for (var i = 0; i < accumulators.size(); i++) {
+      values[accumulatedSamples.get(i)] = accumulators.get(i).result();
+    }
+
+    return values;
+  }
+
+  @Override
+  public List<TsdlAccumulator> createAccumulators(List<TsdlSample> samples) {
+    return samples.stream()
+        .map(sample -> sample.aggregator().accumulator(sample.identifier().name()))
+        .toList();
+  }
+
+  @Override
+  public Map<TsdlIdentifier, Double> collectSampleValues(List<TsdlSample> samples, List<TsdlAccumulator> accumulators,
+                                                         List<TsdlLogEvent> logEvents) {
+    Conditions.checkSizeExactly(Condition.ARGUMENT, accumulators, samples.size(), "There must be exactly one accumulator per sample.");
+
+    var values = new double[samples.size()];
+    for (var i = 0; i < samples.size(); i++) {
+      values[i] = accumulators.get(i).result();
+    }
+
+    return collectSampleValues(samples, values, logEvents);
+  }
+
+  @Override
+  public Map<TsdlIdentifier, Double> collectSampleValues(List<TsdlSample> samples, double[] values, List<TsdlLogEvent> logEvents) {
+    Conditions.checkIsTrue(Condition.ARGUMENT, values.length == samples.size(), "There must be exactly one value per sample.");
+
+    var sampleValues = new HashMap<TsdlIdentifier, Double>();
+    for (var i = 0; i < samples.size(); i++) {
+      var sample = samples.get(i);
+      if (sample.formatter().isPresent()) {
+        sample.withValue(values[i]).echo(logEvents);
+      }
+
+      sampleValues.put(sample.identifier(), values[i]);
+    }
+
+    return sampleValues;
+  }
+
+  @Override
+  public boolean hasSampleArguments(TsdlQuery query) {
+    return !referencedSamples(query).isEmpty();
+  }
+
+  @Override
+  public Set<TsdlIdentifier> referencedSamples(TsdlQuery query) {
+    Conditions.checkNotNull(Condition.ARGUMENT, query, "Query must not be null.");
+    return Stream.concat(filters(query).stream(), eventFunctions(query).stream())
+        .flatMap(filter -> extractFilterArguments(filter).stream())
+        .filter(TsdlSampleScalarArgument.class::isInstance)
+        .map(argument -> ((TsdlSampleScalarArgument) argument).sample().identifier())
+        .collect(Collectors.toSet());
+  }
+
+  @Override
+  public TsdlQuery bindArguments(TsdlQuery query, Map<TsdlIdentifier, Double> sampleValues) {
+    Conditions.checkNotNull(Condition.ARGUMENT, query, "Query must not be null.");
+    Conditions.checkNotNull(Condition.ARGUMENT, sampleValues, "Sample values must not be null.");
+
+    if (!hasSampleArguments(query)) {
+      // nothing to bind, the query may be evaluated as is
+      validateSinglePointFilters(filters(query));
+      validateSinglePointFilters(eventFunctions(query));
+      return query;
+    }
+
+    var boundFilter = query.filter().map(filter -> bindFilterConnective(filter, sampleValues));
+    var boundEvents = query.events().stream()
+        .map(event -> bindEvent(event, sampleValues))
         .toList();
 
-    setSampleFilterArgumentValues(
-        createSampleFilterArgumentStream(singlePointEventFilters),
-        sampleValues
-    );
-    validateSinglePointFilters(singlePointEventFilters);
+    boundFilter.ifPresent(filter -> validateSinglePointFilters(filter.filters()));
+    validateSinglePointFilters(boundEvents.stream().flatMap(event -> event.connective().events().stream()).toList());
+
+    return TsdlQueryImpl.builder()
+        .identifiers(query.identifiers())
+        .filterValue(boundFilter.orElse(null))
+        .samples(query.samples())
+        .events(boundEvents)
+        .choiceValue(query.choice().orElse(null))
+        .result(query.result())
+        .build();
+  }
+
+  private static boolean isTimeRestricted(TsdlAggregator aggregator) {
+    return aggregator instanceof ValueAggregator valueAggregator
+        && (valueAggregator.lowerBound().isPresent() || valueAggregator.upperBound().isPresent());
+  }
+
+  private static List<SinglePointFilter> filters(TsdlQuery query) {
+    return query.filter().map(SinglePointFilterConnective::filters).orElse(List.of());
+  }
+
+  private static List<EventFunction> eventFunctions(TsdlQuery query) {
+    return query.events().stream()
+        .flatMap(event -> event.connective().events().stream())
+        .toList();
   }
 
   private void validateSinglePointFilters(List<? extends EventFunction> filters) {
@@ -71,13 +211,6 @@ public class TsdlSamplesCalculatorImpl implements TsdlSamplesCalculator {
     }
   }
 
-  private Stream<TsdlSampleScalarArgument> createSampleFilterArgumentStream(List<? extends EventFunction> filters) {
-    return filters.stream()
-        .flatMap(filter -> extractFilterArguments(filter).stream())
-        .filter(TsdlSampleScalarArgument.class::isInstance)
-        .map(TsdlSampleScalarArgument.class::cast);
-  }
-
   private List<TsdlScalarArgument> extractFilterArguments(EventFunction filter) {
     return switch (filter) {
       case AroundFilter aroundFilter -> List.of(aroundFilter.referenceValue(), aroundFilter.maximumDeviation());
@@ -90,16 +223,87 @@ public class TsdlSamplesCalculatorImpl implements TsdlSamplesCalculator {
     };
   }
 
-  private void setSampleFilterArgumentValues(Stream<TsdlSampleScalarArgument> arguments, Map<TsdlIdentifier, Double> sampleValues) {
-    arguments.forEach(argument -> {
-      var argumentIdentifier = argument.sample().identifier();
-      if (!sampleValues.containsKey(argumentIdentifier)) {
-        throw new TsdlEvaluationException(
-            "Sample '%s' referenced by filter has not been computed. Is it declared in the 'SAMPLES' directive?".formatted(argumentIdentifier.name())
-        );
-      }
+  private SinglePointFilterConnective bindFilterConnective(SinglePointFilterConnective connective, Map<TsdlIdentifier, Double> sampleValues) {
+    var filters = connective.filters().stream()
+        .map(filter -> bindSinglePointFilter(filter, sampleValues))
+        .toList();
+
+    return switch (connective) {
+      case AndFilterConnective ignored -> ELEMENTS.getFilterConnective(ConnectiveIdentifier.AND, filters);
+      case OrFilterConnective ignored -> ELEMENTS.getFilterConnective(ConnectiveIdentifier.OR, filters);
+      default -> throw Conditions.exception(Condition.STATE, "Unknown filter connective type '%s'.", connective.getClass().getName());
+    };
+  }
+
+  private TsdlEvent bindEvent(TsdlEvent event, Map<TsdlIdentifier, Double> sampleValues) {
+    var eventConnective = event.connective();
+    var functions = eventConnective.events().stream()
+        .map(function -> bindEventFunction(function, sampleValues))
+        .toList();
+
+    var boundConnective = switch (eventConnective) {
+      case AndEventConnective ignored -> ELEMENTS.getEventConnective(ConnectiveIdentifier.AND, functions);
+      case OrEventConnective ignored -> ELEMENTS.getEventConnective(ConnectiveIdentifier.OR, functions);
+      default -> throw Conditions.exception(Condition.STATE, "Unknown event connective type '%s'.", eventConnective.getClass().getName());
+    };
+
+    return ELEMENTS.getEvent(boundConnective, event.identifier(), event.duration().orElse(null));
+  }
+
+  private EventFunction bindEventFunction(EventFunction function, Map<TsdlIdentifier, Double> sampleValues) {
+    return switch (function) {
+      case SinglePointFilter filter -> bindSinglePointFilter(filter, sampleValues);
+      case ConstantEvent constant -> ELEMENTS.getConstantEvent(
+          bindArgument(constant.maximumSlope(), sampleValues),
+          bindArgument(constant.maximumRelativeDeviation(), sampleValues)
+      );
+      case IncreaseEvent increase -> ELEMENTS.getIncreaseEvent(
+          bindArgument(increase.minimumChange(), sampleValues),
+          bindArgument(increase.maximumChange(), sampleValues),
+          bindArgument(increase.tolerance(), sampleValues)
+      );
+      case DecreaseEvent decrease -> ELEMENTS.getDecreaseEvent(
+          bindArgument(decrease.minimumChange(), sampleValues),
+          bindArgument(decrease.maximumChange(), sampleValues),
+          bindArgument(decrease.tolerance(), sampleValues)
+      );
+      case NegatedEventFunction negated -> ELEMENTS.getNegatedEventFunction(bindEventFunction(negated.eventFunction(), sampleValues));
+      default -> throw Conditions.exception(Condition.STATE, "Unknown event function type '%s'.", function.getClass().getName());
+    };
+  }
+
+  private SinglePointFilter bindSinglePointFilter(SinglePointFilter filter, Map<TsdlIdentifier, Double> sampleValues) {
+    return switch (filter) {
+      case NegatedSinglePointFilter negated -> ELEMENTS.getNegatedFilter(bindSinglePointFilter(negated.filter(), sampleValues));
+      case GreaterThanFilter gt -> ELEMENTS.getThresholdFilter(ThresholdFilterType.GT, bindArgument(gt.threshold(), sampleValues));
+      case LessThanFilter lt -> ELEMENTS.getThresholdFilter(ThresholdFilterType.LT, bindArgument(lt.threshold(), sampleValues));
+      case AbsoluteAroundFilter around -> ELEMENTS.getDeviationFilter(
+          DeviationFilterType.AROUND_ABSOLUTE,
+          bindArgument(around.referenceValue(), sampleValues),
+          bindArgument(around.maximumDeviation(), sampleValues)
+      );
+      case RelativeAroundFilter around -> ELEMENTS.getDeviationFilter(
+          DeviationFilterType.AROUND_RELATIVE,
+          bindArgument(around.referenceValue(), sampleValues),
+          bindArgument(around.maximumDeviation(), sampleValues)
+      );
+      case TemporalFilter temporal -> temporal; // no scalar arguments
+      default -> throw Conditions.exception(Condition.STATE, "Unknown filter type '%s'.", filter.getClass().getName());
+    };
+  }
+
+  private TsdlScalarArgument bindArgument(TsdlScalarArgument argument, Map<TsdlIdentifier, Double> sampleValues) {
+    if (!(argument instanceof TsdlSampleScalarArgument sampleArgument)) {
+      return argument;
+    }
+
+    var argumentIdentifier = sampleArgument.sample().identifier();
+    if (!sampleValues.containsKey(argumentIdentifier)) {
+      throw new TsdlEvaluationException(
+          "Sample '%s' referenced by filter has not been computed. Is it declared in the 'SAMPLES' directive?".formatted(argumentIdentifier.name())
+      );
+    }
 
-      argument.setValue(sampleValues.get(argumentIdentifier));
-    });
+    return ELEMENTS.getScalarArgument(sampleArgument.sample().withValue(sampleValues.get(argumentIdentifier)));
   }
 }
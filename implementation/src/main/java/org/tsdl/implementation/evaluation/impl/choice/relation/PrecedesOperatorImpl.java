@@ -1,8 +1,14 @@
 package org.tsdl.implementation.evaluation.impl.choice.relation;
 
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.IntPredicate;
+import java.util.function.IntToDoubleFunction;
+import java.util.stream.IntStream;
 import lombok.extern.slf4j.Slf4j;
 import org.tsdl.implementation.evaluation.impl.choice.AnnotatedTsdlPeriodImpl;
 import org.tsdl.implementation.evaluation.impl.common.TsdlIdentifierImpl;
@@ -11,6 +17,7 @@ import org.tsdl.implementation.model.choice.relation.PrecedesOperator;
 import org.tsdl.implementation.model.choice.relation.TemporalOperand;
 import org.tsdl.implementation.model.choice.relation.TemporalOperator;
 import org.tsdl.implementation.model.common.TsdlDuration;
+import org.tsdl.implementation.model.common.TsdlIdentifier;
 import org.tsdl.infrastructure.common.Condition;
 import org.tsdl.infrastructure.common.Conditions;
 import org.tsdl.infrastructure.common.TsdlUtil;
@@ -50,36 +57,27 @@ public record PrecedesOperatorImpl(TemporalOperand operand1, TemporalOperand ope
       return List.of();
     }
 
-    // TODO possible to solve without quadratic behaviour? e.g. sort periodsToExamine by start date and, like before, iterate pairwise, considering
-    //  periods with same start date at the same time
-    var chosenPeriods = new ArrayList<AnnotatedTsdlPeriod>();
+    // events are compared by interned ids, hence, the representation of each period's event is only determined once
+    var eventIds = new HashMap<String, Integer>();
+    var periodEventIds = new int[periodsToExamine.size()];
     for (var i = 0; i < periodsToExamine.size(); i++) {
-      var currentPeriod = periodsToExamine.get(i);
-      for (var j = 0; j < i; j++) {
-        var otherPeriod = periodsToExamine.get(j);
-        // ensures "previous (period) precedes current (period) [WITHIN ...]"...
-        var precedes = otherPeriod.subsequentDataPoint().isPresent() && satisfiesDurationConstraint(otherPeriod, currentPeriod);
-
-        // ...we must also ensure that the previous and current periods are defined by the events represented by the operands
-        //    (i.e., "operand1 = previous", "operand2 = current")...
-        var operatorConformPrecedes = otherPeriod.event().representation().equals(operand1.representation())
-            && currentPeriod.event().representation().equals(operand2.representation());
-
-        log.debug("Events defining periods do{} conform to '{}' operator arguments.", operatorConformPrecedes ? "" : " not", representation());
-        if (precedes && operatorConformPrecedes) {
-          log.debug("Merging period boundaries '{}' and '{}' to a chosen period.", otherPeriod.period().start(), currentPeriod.period().end());
-          var mergedPeriod = QueryResult.of(chosenPeriods.size(), otherPeriod.period().start(), currentPeriod.period().end());
-          var mergedAnnotatedPeriod = new AnnotatedTsdlPeriodImpl(
-              mergedPeriod,
-              new TsdlIdentifierImpl("%s".formatted(representation())),
-              otherPeriod.priorDataPoint().orElse(null),
-              currentPeriod.subsequentDataPoint().orElse(null)
-          );
-          chosenPeriods.add(mergedAnnotatedPeriod);
-        }
-      }
+      periodEventIds[i] = eventIds.computeIfAbsent(periodsToExamine.get(i).event().representation(), key -> eventIds.size());
+    }
+
+    var previousEventId = eventIds.getOrDefault(operand1.representation(), -1);
+    var currentEventId = eventIds.getOrDefault(operand2.representation(), -1);
+    if (previousEventId == -1 || currentEventId == -1) {
+      log.debug("No periods of the events represented by the operands of '{}', hence the resulting set of periods must be empty.", representation());
+      return List.of();
     }
 
+    // "previous (period) precedes current (period)" holds for a previous period of the first operand's event, which precedes the current period
+    // of the second operand's event in the input, and their boundaries satisfy the duration constraint - chosen periods are ordered like the pairs
+    // (current, previous) of their positions
+    var chosenPeriods = toleranceValue == null
+        ? choosePeriodsBySubsequentDataPoint(periodsToExamine, periodEventIds, previousEventId, currentEventId)
+        : choosePeriodsByTolerance(periodsToExamine, periodEventIds, previousEventId, currentEventId);
+
     log.debug("Evaluation of '{}' resulted in a period set with {} periods.", representation(), chosenPeriods.size());
     return chosenPeriods;
   }
@@ -94,23 +92,126 @@ public record PrecedesOperatorImpl(TemporalOperand operand1, TemporalOperand ope
     return Optional.ofNullable(toleranceValue);
   }
 
-  private boolean satisfiesDurationConstraint(AnnotatedTsdlPeriod previousPeriod, AnnotatedTsdlPeriod currentPeriod) {
-    Conditions.checkIsTrue(Condition.STATE, previousPeriod.subsequentDataPoint().isPresent(),
-        "Previous period's subsequent data point must be present.");
-    if (toleranceValue == null) {
-      return previousPeriod.subsequentDataPoint().get().timestamp().equals(currentPeriod.period().start());
+  /**
+   * Without tolerance, the subsequent data point of the previous period must coincide with the start of the current period. Hence, previous
+   * periods are indexed by the timestamp of their subsequent data point.
+   */
+  private List<AnnotatedTsdlPeriod> choosePeriodsBySubsequentDataPoint(List<AnnotatedTsdlPeriod> periods, int[] periodEventIds, int previousEventId,
+                                                                       int currentEventId) {
+    var previousPeriodsBySubsequentDataPoint = new HashMap<Instant, List<Integer>>();
+    for (var i = 0; i < periods.size(); i++) {
+      var subsequentDataPoint = periods.get(i).subsequentDataPoint();
+      if (periodEventIds[i] == previousEventId && subsequentDataPoint.isPresent()) {
+        previousPeriodsBySubsequentDataPoint.computeIfAbsent(subsequentDataPoint.get().timestamp(), timestamp -> new ArrayList<>()).add(i);
+      }
     }
 
-    var unitAdjustedTimeGap = TsdlUtil.getTimespan(
-        previousPeriod.period().end(),
-        currentPeriod.period().start(),
-        toleranceValue.unit().modelEquivalent()
-    );
+    var chosenPeriods = new ArrayList<AnnotatedTsdlPeriod>();
+    var identifier = new TsdlIdentifierImpl(representation());
+    for (var i = 0; i < periods.size(); i++) {
+      if (periodEventIds[i] != currentEventId) {
+        continue;
+      }
+
+      var previousPeriods = previousPeriodsBySubsequentDataPoint.getOrDefault(periods.get(i).period().start(), List.of());
+      for (var j = 0; j < previousPeriods.size() && previousPeriods.get(j) < i; j++) {
+        chosenPeriods.add(mergePeriods(periods.get(previousPeriods.get(j)), periods.get(i), chosenPeriods.size(), identifier));
+      }
+    }
+
+    return chosenPeriods;
+  }
+
+  /**
+   * With tolerance, the (absolute) time gap between the end of the previous period and the start of the current period must satisfy it. Previous
+   * periods are sorted by their end, such that the time gap does not increase along them. Hence, the previous periods ending before the current
+   * period starts as well as the ones ending afterwards satisfying the tolerance are contiguous, respectively, and found by binary search.
+   */
+  private List<AnnotatedTsdlPeriod> choosePeriodsByTolerance(List<AnnotatedTsdlPeriod> periods, int[] periodEventIds, int previousEventId,
+                                                            int currentEventId) {
+    var previousPeriods = IntStream.range(0, periods.size())
+        .filter(i -> periodEventIds[i] == previousEventId && periods.get(i).subsequentDataPoint().isPresent())
+        .boxed()
+        .sorted(Comparator.comparing(i -> periods.get(i).period().end()))
+        .mapToInt(Integer::intValue)
+        .toArray();
+
+    var chosenPeriods = new ArrayList<AnnotatedTsdlPeriod>();
+    var identifier = new TsdlIdentifierImpl(representation());
+    for (var i = 0; i < periods.size(); i++) {
+      if (periodEventIds[i] != currentEventId) {
+        continue;
+      }
+
+      var currentStart = periods.get(i).period().start();
+      IntToDoubleFunction timeGap = k -> TsdlUtil.getTimespan(periods.get(previousPeriods[k]).period().end(), currentStart,
+          toleranceValue.unit().modelEquivalent());
+      var firstAfterStart = firstIndex(0, previousPeriods.length, k -> timeGap.applyAsDouble(k) < 0);
+
+      // before the start, the time gap decreases towards 0; afterwards, its absolute value increases
+      var fromBefore = firstIndex(0, firstAfterStart, k -> satisfiesUpperBound(timeGap.applyAsDouble(k)));
+      var toBefore = firstIndex(fromBefore, firstAfterStart, k -> !satisfiesLowerBound(timeGap.applyAsDouble(k)));
+      var fromAfter = firstIndex(firstAfterStart, previousPeriods.length, k -> satisfiesLowerBound(timeGap.applyAsDouble(k)));
+      var toAfter = firstIndex(fromAfter, previousPeriods.length, k -> !satisfiesUpperBound(timeGap.applyAsDouble(k)));
+
+      var candidates = new ArrayList<Integer>();
+      addCandidates(candidates, previousPeriods, fromBefore, toBefore, i, timeGap);
+      addCandidates(candidates, previousPeriods, fromAfter, toAfter, i, timeGap);
+      candidates.sort(null);
+      for (var j : candidates) {
+        chosenPeriods.add(mergePeriods(periods.get(j), periods.get(i), chosenPeriods.size(), identifier));
+      }
+    }
+
+    return chosenPeriods;
+  }
 
-    log.debug("Verifying duration constraint '{}' against time gap of {} {}.", toleranceValue, unitAdjustedTimeGap, toleranceValue.unit());
-    var durationSatisfied = toleranceValue.isSatisfiedBy(unitAdjustedTimeGap);
-    log.debug("Duration constraint is{} satisfied", durationSatisfied ? "" : " not");
+  private void addCandidates(List<Integer> candidates, int[] previousPeriods, int from, int to, int currentPosition, IntToDoubleFunction timeGap) {
+    for (var k = from; k < to; k++) {
+      if (previousPeriods[k] < currentPosition && toleranceValue.isSatisfiedBy(timeGap.applyAsDouble(k))) {
+        candidates.add(previousPeriods[k]);
+      }
+    }
+  }
 
-    return durationSatisfied;
+  private boolean satisfiesLowerBound(double unitAdjustedTimeGap) {
+    var lowerBound = toleranceValue.lowerBound();
+    var absoluteTimeGap = Math.abs(unitAdjustedTimeGap);
+    return lowerBound.inclusive() ? absoluteTimeGap >= lowerBound.value() : absoluteTimeGap > lowerBound.value();
+  }
+
+  private boolean satisfiesUpperBound(double unitAdjustedTimeGap) {
+    var upperBound = toleranceValue.upperBound();
+    var absoluteTimeGap = Math.abs(unitAdjustedTimeGap);
+    return upperBound.inclusive() ? absoluteTimeGap <= upperBound.value() : absoluteTimeGap < upperBound.value();
+  }
+
+  /**
+   * First index within [from, to) satisfying {@code predicate}, or {@code to} if there is none. Precondition: the predicate does not hold up to
+   * some index and holds from thereon.
+   */
+  private static int firstIndex(int from, int to, IntPredicate predicate) {
+    var low = from;
+    var high = to;
+    while (low < high) {
+      var middle = (low + high) >>> 1;
+      if (predicate.test(middle)) {
+        high = middle;
+      } else {
+        low = middle + 1;
+      }
+    }
+    return low;
+  }
+
+  private static AnnotatedTsdlPeriod mergePeriods(AnnotatedTsdlPeriod previousPeriod, AnnotatedTsdlPeriod currentPeriod, int index,
+                                                  TsdlIdentifier identifier) {
+    var mergedPeriod = QueryResult.of(index, previousPeriod.period().start(), currentPeriod.period().end());
+    return new AnnotatedTsdlPeriodImpl(
+        mergedPeriod,
+        identifier,
+        previousPeriod.priorDataPoint().orElse(null),
+        currentPeriod.subsequentDataPoint().orElse(null)
+    );
   }
 }
@@ -47,7 +47,7 @@ public class TsdlSampleOutputFormatter implements TsdlOutputFormatter<TsdlSample
 
     var sampleName = obj.identifier().name();
     var aggregatorFunction = obj.aggregator().type().representation();
-    var formattedValue = getDecimalFormat().format(obj.aggregator().value());
+    var formattedValue = getDecimalFormat().format(obj.value());
 
     var descriptor = switch (obj.aggregator()) {
       case ValueAggregator v -> getSampleDescriptor(v, aggregatorFunction);
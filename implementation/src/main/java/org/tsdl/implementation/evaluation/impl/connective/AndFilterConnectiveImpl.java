@@ -1,38 +1,33 @@
 package org.tsdl.implementation.evaluation.impl.connective;
 
 import java.util.List;
-import lombok.extern.slf4j.Slf4j;
 import org.tsdl.implementation.model.connective.AndFilterConnective;
 import org.tsdl.implementation.model.filter.SinglePointFilter;
 import org.tsdl.infrastructure.common.Condition;
 import org.tsdl.infrastructure.common.Conditions;
-import org.tsdl.infrastructure.model.DataPoint;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
 
 /**
  * Default implementation of {@link AndFilterConnective}.
  */
-@Slf4j
 public record AndFilterConnectiveImpl(List<SinglePointFilter> filters) implements AndFilterConnective {
   public AndFilterConnectiveImpl {
     Conditions.checkNotNull(Condition.ARGUMENT, filters, "List of filters of 'and' connective must not be null.");
   }
 
   @Override
-  public boolean isSatisfied(DataPoint dp) {
-    Conditions.checkNotNull(Condition.ARGUMENT, dp, "Data point to evaluate regarding 'and' connective must not be null.");
-    return filters().stream().allMatch(filter -> filter.evaluate(dp));
+  public boolean isSatisfied(long epochMillis, double value) {
+    for (var i = 0; i < filters.size(); i++) {
+      if (!filters.get(i).evaluate(epochMillis, value)) {
+        return false;
+      }
+    }
+    return true;
   }
 
   @Override
-  public List<DataPoint> evaluateFilters(List<DataPoint> data) {
-    Conditions.checkNotNull(Condition.ARGUMENT, data, "List of data points to evaluate 'and' connective over must not be null.");
-    log.debug("Evaluating 'and' connective over {} data points.", data.size());
-
-    var filteredList = data.stream()
-        .filter(this::isSatisfied)
-        .toList();
-
-    log.debug("After evaluating 'and' connective, {} data points are remaining.", filteredList.size());
-    return filteredList;
+  public ColumnarTimeSeries evaluateFilters(ColumnarTimeSeries data) {
+    Conditions.checkNotNull(Condition.ARGUMENT, data, "Data points to evaluate 'and' connective over must not be null.");
+    return CompiledFilterConnective.compile(this).evaluateFilters(data);
   }
 }
@@ -0,0 +1,407 @@
+package org.tsdl.implementation.evaluation.impl.connective;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.tsdl.implementation.evaluation.impl.sample.aggregation.ParallelAggregation;
+import org.tsdl.implementation.model.connective.AndFilterConnective;
+import org.tsdl.implementation.model.connective.OrFilterConnective;
+import org.tsdl.implementation.model.connective.SinglePointFilterConnective;
+import org.tsdl.implementation.model.filter.NegatedSinglePointFilter;
+import org.tsdl.implementation.model.filter.SinglePointFilter;
+import org.tsdl.implementation.model.filter.deviation.AbsoluteAroundFilter;
+import org.tsdl.implementation.model.filter.deviation.RelativeAroundFilter;
+import org.tsdl.implementation.model.filter.temporal.AfterFilter;
+import org.tsdl.implementation.model.filter.temporal.BeforeFilter;
+import org.tsdl.implementation.model.filter.threshold.GreaterThanFilter;
+import org.tsdl.implementation.model.filter.threshold.LessThanFilter;
+import org.tsdl.infrastructure.common.Condition;
+import org.tsdl.infrastructure.common.Conditions;
+import org.tsdl.infrastructure.common.TsdlUtil;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
+
+/**
+ * A {@link SinglePointFilterConnective} whose filters have been compiled into primitive operands. Arguments (including bound samples) are
+ * resolved once upon compilation, such that evaluating a data point neither allocates nor dispatches to the individual filters.
+ *
+ * <p>Filters of types other than the built-in ones are retained and evaluated as is.
+ */
+@Slf4j
+public final class CompiledFilterConnective implements SinglePointFilterConnective {
+  private static final byte GREATER_THAN = 0;
+  private static final byte LESS_THAN = 1;
+  private static final byte ABSOLUTE_AROUND = 2;
+  private static final byte RELATIVE_AROUND = 3;
+  private static final byte BEFORE = 4;
+  private static final byte AFTER = 5;
+  private static final byte OPAQUE = 6;
+
+  // number of data points whose timestamps and values are copied into primitive buffers at once, a multiple of the bits per bitmap word
+  private static final int BLOCK_SIZE = 1024;
+
+  private final List<SinglePointFilter> filters;
+  private final boolean conjunctive;
+  private final byte[] operations;
+  private final boolean[] negations;
+  private final double[] firstOperands;
+  private final double[] secondOperands;
+  private final long[] instantOperands;
+  private final SinglePointFilter[] opaqueFilters;
+  private boolean requiresEpochMillis;
+  private boolean requiresValues;
+  private List<CompiledFilterConnective> filterConnectives;
+
+  private CompiledFilterConnective(List<SinglePointFilter> filters, boolean conjunctive) {
+    this.filters = List.copyOf(filters);
+    this.conjunctive = conjunctive;
+    this.operations = new byte[filters.size()];
+    this.negations = new boolean[filters.size()];
+    this.firstOperands = new double[filters.size()];
+    this.secondOperands = new double[filters.size()];
+    this.instantOperands = new long[filters.size()];
+    this.opaqueFilters = new SinglePointFilter[filters.size()];
+
+    for (var i = 0; i < filters.size(); i++) {
+      compileFilter(i, filters.get(i), false);
+    }
+  }
+
+  /**
+   * Compiles the given connective. Connectives which have already been compiled are returned as is.
+   *
+   * <p>Precondition: sample arguments of the filters have been bound.
+   */
+  public static CompiledFilterConnective compile(SinglePointFilterConnective connective) {
+    Conditions.checkNotNull(Condition.ARGUMENT, connective, "Filter connective to compile must not be null.");
+    return switch (connective) {
+      case CompiledFilterConnective compiled -> compiled;
+      case AndFilterConnective and -> new CompiledFilterConnective(and.filters(), true);
+      case OrFilterConnective or -> new CompiledFilterConnective(or.filters(), false);
+      default -> throw Conditions.exception(Condition.ARGUMENT, "Cannot compile filter connective of type '%s'.", connective.getClass().getName());
+    };
+  }
+
+  /**
+   * Compiles the conjunction ({@code conjunctive}) or disjunction of the given filters.
+   *
+   * <p>Precondition: sample arguments of the filters have been bound.
+   */
+  public static CompiledFilterConnective compile(List<SinglePointFilter> filters, boolean conjunctive) {
+    Conditions.checkNotNull(Condition.ARGUMENT, filters, "List of filters to compile must not be null.");
+    return new CompiledFilterConnective(filters, conjunctive);
+  }
+
+  @Override
+  public List<SinglePointFilter> filters() {
+    return filters;
+  }
+
+  public boolean isConjunctive() {
+    return conjunctive;
+  }
+
+  @Override
+  public boolean isSatisfied(long epochMillis, double value) {
+    // a conjunction is decided by the first unsatisfied filter, a disjunction by the first satisfied one
+    for (var i = 0; i < operations.length; i++) {
+      if (evaluateFilter(i, epochMillis, value) != conjunctive) {
+        return !conjunctive;
+      }
+    }
+    return conjunctive;
+  }
+
+  /**
+   * Evaluates the connective over all items of {@code data}. Bit {@code i} of the result is set if and only if the item at index {@code i}
+   * satisfies the connective.
+   *
+   * <p>Items are processed in blocks: their timestamps and values are copied into primitive buffers, each filter is evaluated over a whole block
+   * by a dedicated branch-free kernel writing one bit per item, and the per-filter bitmaps are combined word by word (negation, conjunction and
+   * disjunction being bitwise complement, and and or, respectively). Large series are split into chunks of whole blocks, which are evaluated in
+   * parallel, each one writing a disjoint range of words of the bitmap.
+   */
+  public BitSet select(ColumnarTimeSeries data) {
+    Conditions.checkNotNull(Condition.ARGUMENT, data, "Data points to evaluate connective over must not be null.");
+    var size = data.size();
+    var words = new long[(size + Long.SIZE - 1) / Long.SIZE];
+    ParallelAggregation.aggregate(size, BLOCK_SIZE, (fromIndex, toIndex) -> {
+      selectRange(data, fromIndex, toIndex, words);
+      return null;
+    }, (left, right) -> null);
+
+    // complements and empty conjunctions set the bits beyond the last item, too
+    if (size % Long.SIZE != 0) {
+      words[words.length - 1] &= (1L << size) - 1;
+    }
+    return BitSet.valueOf(words);
+  }
+
+  /**
+   * Evaluates the connective over all items of {@code data} like {@link #select(ColumnarTimeSeries)}, but takes the selection bitmap of each of its
+   * filters (see {@link #filterConnectives()}) from {@code filterSelections} and combines them, such that the bitmap of a filter can be shared by
+   * all connectives it occurs in. The bitmaps provided by {@code filterSelections} are not modified.
+   */
+  public BitSet select(ColumnarTimeSeries data, Function<CompiledFilterConnective, BitSet> filterSelections) {
+    Conditions.checkNotNull(Condition.ARGUMENT, data, "Data points to evaluate connective over must not be null.");
+    Conditions.checkNotNull(Condition.ARGUMENT, filterSelections, "Filter selections must not be null.");
+    var size = data.size();
+    var selection = new BitSet(size);
+    if (conjunctive) {
+      selection.set(0, size);
+    }
+
+    var filterConnectives = filterConnectives();
+    for (var i = 0; i < filterConnectives.size(); i++) {
+      var filterSelection = filterSelections.apply(filterConnectives.get(i));
+      if (conjunctive && negations[i]) {
+        selection.andNot(filterSelection);
+      } else if (conjunctive) {
+        selection.and(filterSelection);
+      } else if (negations[i]) {
+        var complement = new BitSet(size);
+        complement.set(0, size);
+        complement.andNot(filterSelection);
+        selection.or(complement);
+      } else {
+        selection.or(filterSelection);
+      }
+    }
+    return selection;
+  }
+
+  /**
+   * The filters of this connective, each one compiled into a connective of its own without negations, i.e., negated and non-negated occurrences of
+   * a filter yield equal connectives. See {@link #select(ColumnarTimeSeries, Function)}.
+   */
+  public List<CompiledFilterConnective> filterConnectives() {
+    if (filterConnectives == null) {
+      filterConnectives = filters.stream()
+          .map(CompiledFilterConnective::withoutNegations)
+          .map(filter -> new CompiledFilterConnective(List.of(filter), true))
+          .toList();
+    }
+    return filterConnectives;
+  }
+
+  // evaluates the blocks of [fromIndex, toIndex) into the corresponding words, fromIndex being the start of a block
+  private void selectRange(ColumnarTimeSeries data, int fromIndex, int toIndex, long[] words) {
+    var length = toIndex - fromIndex;
+    var epochMillisBlock = requiresEpochMillis ? new long[Math.min(BLOCK_SIZE, length)] : null;
+    var valueBlock = requiresValues ? new double[Math.min(BLOCK_SIZE, length)] : null;
+    var filterWords = new long[BLOCK_SIZE / Long.SIZE];
+
+    for (var blockStart = fromIndex; blockStart < toIndex; blockStart += BLOCK_SIZE) {
+      var blockLength = Math.min(BLOCK_SIZE, toIndex - blockStart);
+      var blockWords = (blockLength + Long.SIZE - 1) / Long.SIZE;
+      var wordOffset = blockStart / Long.SIZE;
+      if (epochMillisBlock != null) {
+        data.copyEpochMillis(blockStart, blockStart + blockLength, epochMillisBlock, 0);
+      }
+      if (valueBlock != null) {
+        data.copyValues(blockStart, blockStart + blockLength, valueBlock, 0);
+      }
+
+      Arrays.fill(words, wordOffset, wordOffset + blockWords, conjunctive ? -1L : 0L);
+      for (var i = 0; i < operations.length; i++) {
+        evaluateBlock(i, epochMillisBlock, valueBlock, blockLength, filterWords);
+        var complement = negations[i] ? -1L : 0L;
+        for (var w = 0; w < blockWords; w++) {
+          var filterWord = filterWords[w] ^ complement;
+          words[wordOffset + w] = conjunctive ? words[wordOffset + w] & filterWord : words[wordOffset + w] | filterWord;
+        }
+      }
+    }
+  }
+
+  @Override
+  public ColumnarTimeSeries evaluateFilters(ColumnarTimeSeries data) {
+    Conditions.checkNotNull(Condition.ARGUMENT, data, "Data points to evaluate connective over must not be null.");
+    log.debug("Evaluating compiled '{}' connective over {} data points.", conjunctive ? "and" : "or", data.size());
+
+    var selection = select(data);
+    var selectedIndices = new int[selection.cardinality()];
+    var selected = 0;
+    for (var i = selection.nextSetBit(0); i >= 0; i = selection.nextSetBit(i + 1)) {
+      selectedIndices[selected++] = i;
+    }
+
+    log.debug("After evaluating compiled '{}' connective, {} data points are remaining.", conjunctive ? "and" : "or", selected);
+    return selected == data.size() ? data : data.select(selectedIndices, selected);
+  }
+
+  /**
+   * Two compiled connectives are equal if they combine the same operations over the same operands in the same manner, i.e., if they are satisfied
+   * by the same data points by construction, even if their (uncompiled) filters are different instances. Filters of other than the built-in types
+   * are compared by {@link Object#equals(Object)}.
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof CompiledFilterConnective that)) {
+      return false;
+    }
+    return conjunctive == that.conjunctive
+        && Arrays.equals(operations, that.operations)
+        && Arrays.equals(negations, that.negations)
+        && Arrays.equals(firstOperands, that.firstOperands)
+        && Arrays.equals(secondOperands, that.secondOperands)
+        && Arrays.equals(instantOperands, that.instantOperands)
+        && Arrays.equals(opaqueFilters, that.opaqueFilters);
+  }
+
+  @Override
+  public int hashCode() {
+    var result = Boolean.hashCode(conjunctive);
+    result = 31 * result + Arrays.hashCode(operations);
+    result = 31 * result + Arrays.hashCode(negations);
+    result = 31 * result + Arrays.hashCode(firstOperands);
+    result = 31 * result + Arrays.hashCode(secondOperands);
+    result = 31 * result + Arrays.hashCode(instantOperands);
+    result = 31 * result + Arrays.hashCode(opaqueFilters);
+    return result;
+  }
+
+  private boolean evaluateFilter(int index, long epochMillis, double value) {
+    // the expressions mirror the 'evaluate' methods of the default filter implementations to retain their exact floating point semantics
+    var satisfied = switch (operations[index]) {
+      case GREATER_THAN -> value > firstOperands[index];
+      case LESS_THAN -> value < firstOperands[index];
+      case ABSOLUTE_AROUND -> Math.abs(value - firstOperands[index]) <= secondOperands[index];
+      case RELATIVE_AROUND -> (Math.abs(value - firstOperands[index]) / Math.abs(firstOperands[index])) * 100 <= secondOperands[index];
+      case BEFORE -> epochMillis < instantOperands[index];
+      case AFTER -> epochMillis > instantOperands[index];
+      default -> opaqueFilters[index].evaluate(epochMillis, value);
+    };
+    return satisfied != negations[index];
+  }
+
+  // writes bit (i % 64) of word (i / 64) for item i, the kernels below evaluating a filter over the items of one word each
+  private void evaluateBlock(int index, long[] epochMillis, double[] values, int length, long[] target) {
+    for (var wordStart = 0; wordStart < length; wordStart += Long.SIZE) {
+      var wordEnd = Math.min(wordStart + Long.SIZE, length);
+      target[wordStart / Long.SIZE] = switch (operations[index]) {
+        case GREATER_THAN -> greaterThan(values, wordStart, wordEnd, firstOperands[index]);
+        case LESS_THAN -> lessThan(values, wordStart, wordEnd, firstOperands[index]);
+        case ABSOLUTE_AROUND -> absoluteAround(values, wordStart, wordEnd, firstOperands[index], secondOperands[index]);
+        case RELATIVE_AROUND -> relativeAround(values, wordStart, wordEnd, firstOperands[index], secondOperands[index]);
+        case BEFORE -> before(epochMillis, wordStart, wordEnd, instantOperands[index]);
+        case AFTER -> after(epochMillis, wordStart, wordEnd, instantOperands[index]);
+        default -> opaque(opaqueFilters[index], epochMillis, values, wordStart, wordEnd);
+      };
+    }
+  }
+
+  // shifting a long implicitly takes the distance modulo 64, i.e., item i is written to bit (i % 64)
+
+  private static long greaterThan(double[] values, int fromIndex, int toIndex, double threshold) {
+    var word = 0L;
+    for (var i = fromIndex; i < toIndex; i++) {
+      word |= (values[i] > threshold ? 1L : 0L) << i;
+    }
+    return word;
+  }
+
+  private static long lessThan(double[] values, int fromIndex, int toIndex, double threshold) {
+    var word = 0L;
+    for (var i = fromIndex; i < toIndex; i++) {
+      word |= (values[i] < threshold ? 1L : 0L) << i;
+    }
+    return word;
+  }
+
+  private static long absoluteAround(double[] values, int fromIndex, int toIndex, double reference, double maximumDeviation) {
+    var word = 0L;
+    for (var i = fromIndex; i < toIndex; i++) {
+      word |= (Math.abs(values[i] - reference) <= maximumDeviation ? 1L : 0L) << i;
+    }
+    return word;
+  }
+
+  private static long relativeAround(double[] values, int fromIndex, int toIndex, double reference, double maximumDeviation) {
+    var absoluteReference = Math.abs(reference);
+    var word = 0L;
+    for (var i = fromIndex; i < toIndex; i++) {
+      word |= ((Math.abs(values[i] - reference) / absoluteReference) * 100 <= maximumDeviation ? 1L : 0L) << i;
+    }
+    return word;
+  }
+
+  private static long before(long[] epochMillis, int fromIndex, int toIndex, long argument) {
+    var word = 0L;
+    for (var i = fromIndex; i < toIndex; i++) {
+      word |= (epochMillis[i] < argument ? 1L : 0L) << i;
+    }
+    return word;
+  }
+
+  private static long after(long[] epochMillis, int fromIndex, int toIndex, long argument) {
+    var word = 0L;
+    for (var i = fromIndex; i < toIndex; i++) {
+      word |= (epochMillis[i] > argument ? 1L : 0L) << i;
+    }
+    return word;
+  }
+
+  private static long opaque(SinglePointFilter filter, long[] epochMillis, double[] values, int fromIndex, int toIndex) {
+    var word = 0L;
+    for (var i = fromIndex; i < toIndex; i++) {
+      word |= (filter.evaluate(epochMillis[i], values[i]) ? 1L : 0L) << i;
+    }
+    return word;
+  }
+
+  private void compileFilter(int index, SinglePointFilter filter, boolean negated) {
+    Conditions.checkNotNull(Condition.ARGUMENT, filter, "Filter to compile must not be null.");
+    negations[index] = negated;
+    requiresValues |= filter instanceof GreaterThanFilter || filter instanceof LessThanFilter || filter instanceof AbsoluteAroundFilter
+        || filter instanceof RelativeAroundFilter;
+    requiresEpochMillis |= filter instanceof BeforeFilter || filter instanceof AfterFilter;
+    switch (filter) {
+      case NegatedSinglePointFilter negatedFilter -> compileFilter(index, negatedFilter.filter(), !negated);
+      case GreaterThanFilter greaterThan -> {
+        operations[index] = GREATER_THAN;
+        firstOperands[index] = greaterThan.threshold().value();
+      }
+      case LessThanFilter lessThan -> {
+        operations[index] = LESS_THAN;
+        firstOperands[index] = lessThan.threshold().value();
+      }
+      case AbsoluteAroundFilter absoluteAround -> {
+        operations[index] = ABSOLUTE_AROUND;
+        firstOperands[index] = absoluteAround.referenceValue().value();
+        secondOperands[index] = absoluteAround.maximumDeviation().value();
+      }
+      case RelativeAroundFilter relativeAround -> {
+        operations[index] = RELATIVE_AROUND;
+        firstOperands[index] = relativeAround.referenceValue().value();
+        secondOperands[index] = relativeAround.maximumDeviation().value();
+      }
+      case BeforeFilter before -> {
+        operations[index] = BEFORE;
+        instantOperands[index] = TsdlUtil.ceilEpochMilli(before.argument());
+      }
+      case AfterFilter after -> {
+        operations[index] = AFTER;
+        instantOperands[index] = after.argument().toEpochMilli();
+      }
+      default -> {
+        operations[index] = OPAQUE;
+        opaqueFilters[index] = filter;
+        requiresEpochMillis = true;
+        requiresValues = true;
+      }
+    }
+  }
+
+  private static SinglePointFilter withoutNegations(SinglePointFilter filter) {
+    var result = filter;
+    while (result instanceof NegatedSinglePointFilter negated) {
+      result = negated.filter();
+    }
+    return result;
+  }
+}
@@ -2,15 +2,11 @@ package org.tsdl.implementation.evaluation.impl.event.strategy;
 
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Stream;
 import org.tsdl.implementation.evaluation.impl.choice.AnnotatedTsdlPeriodImpl;
 import org.tsdl.implementation.factory.TsdlComponentFactory;
 import org.tsdl.implementation.math.Calculus;
-import org.tsdl.implementation.math.ContinuousRegression;
-import org.tsdl.implementation.math.impl.ContinuousRegressionImpl;
 import org.tsdl.implementation.model.choice.AnnotatedTsdlPeriod;
 import org.tsdl.implementation.model.common.TsdlIdentifier;
 import org.tsdl.implementation.model.event.TsdlEvent;
@@ -20,19 +16,18 @@ import org.tsdl.infrastructure.common.Condition;
 import org.tsdl.infrastructure.common.Conditions;
 import org.tsdl.infrastructure.common.TsdlTimeUnit;
 import org.tsdl.infrastructure.common.TsdlUtil;
-import org.tsdl.infrastructure.model.DataPoint;
-import org.tsdl.infrastructure.model.TsdlPeriod;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
 
 abstract class ComplexEventStrategy implements TsdlEventStrategy {
   protected static final Calculus CALCULUS = TsdlComponentFactory.INSTANCE.calculus();
-  protected static final ContinuousRegression CONTINUOUS_REGRESSION = new ContinuousRegressionImpl();
   protected static final SinglePointEventStrategy EVENT_DETECTION_HELPER = new SinglePointEventStrategyImpl();
 
-  protected List<AnnotatedTsdlPeriod> findPeriodCandidates(List<DataPoint> dataPoints, TsdlEvent event, TsdlIdentifier targetEventIdentifier) {
+  protected List<AnnotatedTsdlPeriod> findPeriodCandidates(ColumnarTimeSeries dataPoints, TsdlEvent event, TsdlIdentifier targetEventIdentifier) {
     return findPeriodCandidates(dataPoints, List.of(event), targetEventIdentifier);
   }
 
-  protected List<AnnotatedTsdlPeriod> findPeriodCandidates(List<DataPoint> dataPoints, List<TsdlEvent> events, TsdlIdentifier targetEventIdentifier) {
+  protected List<AnnotatedTsdlPeriod> findPeriodCandidates(ColumnarTimeSeries dataPoints, List<TsdlEvent> events,
+                                                           TsdlIdentifier targetEventIdentifier) {
     return replaceEventIdentifier(
         EVENT_DETECTION_HELPER
             .detectPeriods(dataPoints, events)
@@ -42,15 +37,28 @@ abstract class ComplexEventStrategy implements TsdlEventStrategy {
     );
   }
 
-  protected Map<TsdlPeriod, List<DataPoint>> groupDataPointsByPeriod(List<DataPoint> dataPoints, List<AnnotatedTsdlPeriod> periods) {
-    var dpsPerPeriod = new HashMap<TsdlPeriod, List<DataPoint>>();
-    for (var dp : dataPoints) {
-      var currentPeriod = periods.stream().filter(p -> p.period().contains(dp.timestamp())).findFirst();
-      currentPeriod.ifPresent(p -> dpsPerPeriod.computeIfAbsent(p.period(), k -> new ArrayList<>()).add(dp));
+  /**
+   * The index range of the data points within each of the given periods (i.e., the i-th element refers to the i-th period).
+   *
+   * <p>Precondition: periods are sorted and disjoint, as period candidates of a single event are. Hence, each period corresponds to an index range
+   * of {@code dataPoints}, which is found by binary search, starting from the end of the previous one.
+   */
+  protected List<IndexRange> indexRangesOfPeriods(ColumnarTimeSeries dataPoints, List<AnnotatedTsdlPeriod> periods) {
+    var rangePerPeriod = new ArrayList<IndexRange>(periods.size());
+    var fromIndex = 0;
+    for (var annotatedPeriod : periods) {
+      var period = annotatedPeriod.period();
+      var startIndex = dataPoints.firstIndexNotBefore(fromIndex, period.start());
+      Conditions.checkIsTrue(Condition.ARGUMENT, fromIndex == 0 || dataPoints.compareTimestamp(fromIndex - 1, period.start()) < 0,
+          "Periods must be sorted and disjoint.");
+      var endIndex = dataPoints.firstIndexAfter(startIndex, period.end());
+      Conditions.checkIsTrue(Condition.ARGUMENT, startIndex < endIndex, "Could not find data points of period %s.", period);
+
+      rangePerPeriod.add(new IndexRange(startIndex, endIndex));
+      fromIndex = endIndex;
     }
 
-    Conditions.checkEquals(Condition.ARGUMENT, dpsPerPeriod.size(), periods.size(), "Could find data points of every data period.");
-    return dpsPerPeriod;
+    return rangePerPeriod;
   }
 
   protected TsdlTimeUnit inferDerivativeUnit(Instant i0, Instant i1) {
@@ -78,4 +86,10 @@ abstract class ComplexEventStrategy implements TsdlEventStrategy {
             p.subsequentDataPoint().orElse(null)))
         .toList();
   }
+
+  /**
+   * The index range [fromIndex, toIndex) of a series.
+   */
+  protected record IndexRange(int fromIndex, int toIndex) {
+  }
 }
@@ -6,7 +6,7 @@ import org.tsdl.implementation.evaluation.impl.common.TsdlIdentifierImpl;
 import org.tsdl.implementation.evaluation.impl.event.TsdlEventImpl;
 import org.tsdl.implementation.evaluation.impl.filter.argument.TsdlLiteralScalarArgumentImpl;
 import org.tsdl.implementation.evaluation.impl.filter.deviation.AbsoluteAroundFilterImpl;
-import org.tsdl.implementation.math.impl.SummaryStatisticsImpl;
+import org.tsdl.implementation.factory.TsdlComponentFactory;
 import org.tsdl.implementation.model.choice.AnnotatedTsdlPeriod;
 import org.tsdl.implementation.model.event.TsdlEvent;
 import org.tsdl.implementation.model.event.TsdlEventStrategyType;
@@ -15,7 +15,7 @@ import org.tsdl.implementation.model.event.definition.ConstantEvent;
 import org.tsdl.implementation.model.event.strategy.ConstantEventStrategy;
 import org.tsdl.infrastructure.common.Condition;
 import org.tsdl.infrastructure.common.Conditions;
-import org.tsdl.infrastructure.model.DataPoint;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
 
 /**
  * Default implementation of {@link ConstantEventStrategy}.
@@ -26,13 +26,13 @@ public class ConstantEventStrategyImpl extends ComplexEventStrategy implements C
   private static final double SLOPE_THRESHOLD = 15; // 0.1; // maximal instantaneous rate of change: 10 %
 
   @Override
-  public List<AnnotatedTsdlPeriod> detectPeriods(List<DataPoint> dataPoints, List<TsdlEvent> events) {
+  public List<AnnotatedTsdlPeriod> detectPeriods(ColumnarTimeSeries dataPoints, List<TsdlEvent> events) {
     var constantEvent = events.get(0);
     Conditions.checkIsTrue(Condition.ARGUMENT, constantEvent.connective().events().get(0) instanceof ConstantEvent,
         "Currently, only positive (non-negated) constant events are supported.");
     var constantEventFunction = (ConstantEvent) constantEvent.connective().events().get(0);
 
-    var timeResolution = inferDerivativeUnit(dataPoints.get(0).timestamp(), dataPoints.get(1).timestamp());
+    var timeResolution = inferDerivativeUnit(dataPoints.timestamp(0), dataPoints.timestamp(1));
     var derivative = CALCULUS.derivative(dataPoints, timeResolution);
 
     var derivativeEvent = new TsdlEventImpl(
@@ -51,14 +51,15 @@ public class ConstantEventStrategyImpl extends ComplexEventStrategy implements C
 
     // heuristic
     var periodCandidates = findPeriodCandidates(derivative, derivativeEvent, constantEvent.identifier());
-    var dpsPerPeriod = groupDataPointsByPeriod(dataPoints, periodCandidates);
+    var rangePerPeriod = indexRangesOfPeriods(dataPoints, periodCandidates);
+    var stats = TsdlComponentFactory.INSTANCE.rangeStatistics(dataPoints, timeResolution);
 
     // now semantics definition to filter out invalid periods
     // regc
-    var satRegc = new ArrayList<AnnotatedTsdlPeriod>();
-    for (var candidate : periodCandidates) {
-      var dps = dpsPerPeriod.get(candidate.period());
-      var regressionLine = CONTINUOUS_REGRESSION.linearLeastSquares(dps, timeResolution);
+    var satRegc = new ArrayList<Integer>();
+    for (var candidate = 0; candidate < periodCandidates.size(); candidate++) {
+      var range = rangePerPeriod.get(candidate);
+      var regressionLine = stats.linearLeastSquares(range.fromIndex(), range.toIndex());
       if (Math.abs(regressionLine.slope()) * 100 <= constantEventFunction.maximumSlope().value()) {
         satRegc.add(candidate);
       }
@@ -66,24 +67,23 @@ public class ConstantEventStrategyImpl extends ComplexEventStrategy implements C
 
     // devc
     var satDevc = new ArrayList<AnnotatedTsdlPeriod>();
-    for (var annotatedTsdlPeriod : satRegc) {
-      var dps = dpsPerPeriod.get(annotatedTsdlPeriod.period());
-      var stats = new SummaryStatisticsImpl();
-      stats.ingest(() -> dps.stream().map(DataPoint::value).toList());
-      var avg = stats.average();
-      // TODO only scan data once - similar to SinglePointEventStrategy, we should not be iterating over all data points (per period) for every period
-      //  but rather iterate once over all values which are contained in one period and then mark (in Map, ...) which periods satisfy aroundRel
-      //  (maybe even possible with a reduction to an EventImpl)
-      var sat = dps.stream().allMatch(x -> {
-        var absoluteDifference = Math.abs(x.value() - avg);
-        var percentageDifference = (absoluteDifference / Math.abs(avg)) * 100;
-        return percentageDifference <= constantEventFunction.maximumRelativeDeviation().value();
-      });
-      if (sat) {
-        satDevc.add(annotatedTsdlPeriod);
+    var maximumRelativeDeviation = constantEventFunction.maximumRelativeDeviation().value();
+    for (var candidate : satRegc) {
+      var range = rangePerPeriod.get(candidate);
+      var avg = stats.average(range.fromIndex(), range.toIndex());
+      // the relative deviation grows with the distance to the average, i.e., it is largest for the minimum or maximum of the period
+      var maximumDeviation = relativeDeviation(stats.maximum(range.fromIndex(), range.toIndex()), avg);
+      var minimumDeviation = relativeDeviation(stats.minimum(range.fromIndex(), range.toIndex()), avg);
+      if (maximumDeviation <= maximumRelativeDeviation && minimumDeviation <= maximumRelativeDeviation) {
+        satDevc.add(periodCandidates.get(candidate));
       }
     }
 
     return satDevc;
   }
+
+  private static double relativeDeviation(double value, double average) {
+    var absoluteDifference = Math.abs(value - average);
+    return (absoluteDifference / Math.abs(average)) * 100;
+  }
 }
@@ -13,7 +13,7 @@ import org.tsdl.implementation.model.event.strategy.DurationEventStrategy;
 import org.tsdl.implementation.model.event.strategy.TsdlEventStrategy;
 import org.tsdl.infrastructure.common.Condition;
 import org.tsdl.infrastructure.common.Conditions;
-import org.tsdl.infrastructure.model.DataPoint;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
 import org.tsdl.infrastructure.model.TsdlPeriod;
 
 /**
@@ -22,7 +22,7 @@ import org.tsdl.infrastructure.model.TsdlPeriod;
 @Slf4j
 public record DurationEventStrategyImpl(TsdlEventStrategy strategy) implements DurationEventStrategy {
   @Override
-  public List<AnnotatedTsdlPeriod> detectPeriods(List<DataPoint> dataPoints, List<TsdlEvent> events) {
+  public List<AnnotatedTsdlPeriod> detectPeriods(ColumnarTimeSeries dataPoints, List<TsdlEvent> events) {
     log.debug("Detecting periods using composite strategy '{}' over {} data points and {} events.", DurationEventStrategyImpl.class.getName(),
         dataPoints.size(),
         events.size());
@@ -5,7 +5,6 @@ import org.tsdl.implementation.evaluation.impl.filter.argument.TsdlLiteralScalar
 import org.tsdl.implementation.evaluation.impl.filter.threshold.LessThanFilterImpl;
 import org.tsdl.implementation.model.event.strategy.IncreaseEventStrategy;
 import org.tsdl.implementation.model.filter.SinglePointFilter;
-import org.tsdl.infrastructure.model.DataPoint;
 
 /**
  * Default implementation of {@link IncreaseEventStrategy}.
@@ -21,8 +20,8 @@ public class IncreaseEventStrategyImpl extends MonotonicEventStrategy implements
   }
 
   @Override
-  boolean relativeChangeConstraint(DataPoint startPoint, DataPoint endPoint, double minimumChange, double maximumChange) {
-    var relativeChange = ((endPoint.value() - startPoint.value()) / Math.abs(startPoint.value())) * 100;
+  boolean relativeChangeConstraint(double startValue, double endValue, double minimumChange, double maximumChange) {
+    var relativeChange = ((endValue - startValue) / Math.abs(startValue)) * 100;
     return relativeChange >= 0 && relativeChange >= minimumChange && relativeChange <= maximumChange;
   }
 }
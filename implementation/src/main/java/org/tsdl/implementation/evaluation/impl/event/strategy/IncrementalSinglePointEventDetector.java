@@ -0,0 +1,296 @@
+package org.tsdl.implementation.evaluation.impl.event.strategy;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.tsdl.implementation.evaluation.impl.connective.CompiledFilterConnective;
+import org.tsdl.implementation.evaluation.impl.event.strategy.SinglePointEventRunDetector.EventBitmaps;
+import org.tsdl.implementation.evaluation.impl.event.strategy.SinglePointEventRunDetector.FinalizedPeriod;
+import org.tsdl.implementation.model.choice.AnnotatedTsdlPeriod;
+import org.tsdl.implementation.model.common.TsdlIdentifier;
+import org.tsdl.implementation.model.event.TsdlEvent;
+import org.tsdl.infrastructure.common.Condition;
+import org.tsdl.infrastructure.common.Conditions;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
+
+/**
+ * Detects the periods of single point events over a series which grows by appending data points, retaining the selection bitmaps and finalized
+ * periods of each event between updates. Periods are detected like {@link SinglePointEventRunDetector} does, i.e., an update returns the same
+ * periods as detecting them over the whole series.
+ *
+ * <p>If the (bound) connective of an event or the relevant data points change between updates (e.g., because they refer to samples whose values
+ * changed due to the appended data points), only the periods which depend on data points at or after the first changed bit of the event's bitmaps
+ * are invalidated and detected again. Otherwise, an update only evaluates the appended data points and the runs which have not been finalized yet.
+ *
+ * <p>Leading data points may be evicted (e.g., the ones leaving a sliding window), i.e., periods are detected over the data points from a window
+ * start on. Their bits are cleared, periods depending on them are dropped and the first period of the window is detected again.
+ */
+@Slf4j
+public final class IncrementalSinglePointEventDetector {
+  private final List<EventRuns> eventRuns = new ArrayList<>();
+  private int size;
+  private int windowStart;
+
+  /**
+   * Updates the detected periods to {@code series}, whose first items are the ones of the series of the previous update.
+   *
+   * <p>Precondition: sample arguments of events have been bound. The events are the same (except for their bound arguments) and in the same order
+   * on every update.
+   *
+   * @param relevant          data points of {@code series} to detect periods over
+   * @param relevantUnchanged number of leading bits of {@code relevant} which equal the ones of the previous update
+   */
+  public void update(ColumnarTimeSeries series, List<TsdlEvent> events, BitSet relevant, int relevantUnchanged) {
+    update(series, events, relevant, relevantUnchanged, windowStart);
+  }
+
+  /**
+   * Updates the detected periods like {@link #update(ColumnarTimeSeries, List, BitSet, int)}, over the data points from index
+   * {@code windowStart} on. Data points before the window start are evicted, i.e., the window start must not decrease between updates.
+   *
+   * @param relevant data points of {@code series} to detect periods over, without bits before {@code windowStart}
+   */
+  public void update(ColumnarTimeSeries series, List<TsdlEvent> events, BitSet relevant, int relevantUnchanged, int windowStart) {
+    Conditions.checkNotNull(Condition.ARGUMENT, series, "Series must not be null.");
+    Conditions.checkNotNull(Condition.ARGUMENT, events, "Events must not be null.");
+    Conditions.checkNotNull(Condition.ARGUMENT, relevant, "Relevant data points must not be null.");
+    Conditions.checkIsGreaterThanOrEqual(Condition.ARGUMENT, series.size(), size, "Series must not shrink between updates.");
+    Conditions.checkIsTrue(Condition.ARGUMENT, eventRuns.isEmpty() || eventRuns.size() == events.size(),
+        "Events must not change between updates.");
+    Conditions.checkIsTrue(Condition.ARGUMENT, windowStart >= this.windowStart && windowStart <= series.size(),
+        "Window start must be in [%s, %s], but is %s.", this.windowStart, series.size(), windowStart);
+
+    var previousSize = size;
+    var previousWindowStart = this.windowStart;
+    size = series.size();
+    this.windowStart = windowStart;
+    var lastSelected = size > 0 ? relevant.previousSetBit(size - 1) : -1;
+    for (var i = 0; i < events.size(); i++) {
+      var event = events.get(i);
+      var connective = SinglePointEventStrategyImpl.requireSinglePointFilters(event.connective());
+      if (i == eventRuns.size()) {
+        eventRuns.add(new EventRuns(event.identifier()));
+      }
+
+      var runs = eventRuns.get(i);
+      if (windowStart > previousWindowStart) {
+        runs.evict(previousWindowStart, windowStart, relevant);
+      }
+      if (connective.equals(runs.connective) && relevantUnchanged >= previousSize) {
+        runs.append(series, connective, relevant, Math.max(previousSize, windowStart));
+      } else {
+        runs.reselect(series, connective, relevant, windowStart);
+      }
+      runs.detect(series, event, relevant, lastSelected, windowStart);
+    }
+  }
+
+  /**
+   * Shifts the indices of the retained state by {@code offset}, i.e., to a series whose items are the ones of the series of the last update from
+   * index {@code offset} on. Allows callers to drop evicted data points.
+   *
+   * <p>Precondition: {@code offset} does not exceed the window start of the last update.
+   */
+  public void rebase(int offset) {
+    Conditions.checkIsTrue(Condition.ARGUMENT, offset >= 0 && offset <= windowStart, "Offset must be in [0, %s], but is %s.", windowStart, offset);
+    size -= offset;
+    windowStart -= offset;
+    for (var runs : eventRuns) {
+      runs.rebase(offset);
+    }
+  }
+
+  /**
+   * The periods detected for the given events (a subset of the events of the last update), in the same order
+   * {@link SinglePointEventRunDetector#detectPeriods(ColumnarTimeSeries, List, BitSet)} returns them if it only receives these events.
+   *
+   * <p>The periods of each event are retained in the order they have been finalized in, hence, they are merged rather than sorted.
+   */
+  public List<AnnotatedTsdlPeriod> detectedPeriods(List<TsdlEvent> events) {
+    Conditions.checkNotNull(Condition.ARGUMENT, events, "Events must not be null.");
+    var periods = new ArrayList<AnnotatedTsdlPeriod>();
+    var pending = new ArrayList<Iterator<FinalizedPeriod>>(events.size());
+    var heads = new FinalizedPeriod[events.size()];
+    for (var i = 0; i < events.size(); i++) {
+      var event = events.get(i);
+      var runs = eventRuns.stream()
+          .filter(candidate -> candidate.identifier.equals(event.identifier()))
+          .findFirst()
+          .orElseThrow(() -> Conditions.exception(Condition.ARGUMENT, "Event '%s' has not been detected.", event.identifier().name()));
+      pending.add(runs.periods());
+      heads[i] = next(pending.get(i));
+    }
+
+    // periods are finalized upon the data point following them (or the last one), for equal ones in order of their events
+    while (true) {
+      var earliest = -1;
+      for (var i = 0; i < heads.length; i++) {
+        if (heads[i] != null && (earliest < 0 || heads[i].finalizedAt() < heads[earliest].finalizedAt())) {
+          earliest = i;
+        }
+      }
+      if (earliest < 0) {
+        return periods;
+      }
+
+      periods.add(heads[earliest].period());
+      heads[earliest] = next(pending.get(earliest));
+    }
+  }
+
+  private static FinalizedPeriod next(Iterator<FinalizedPeriod> periods) {
+    return periods.hasNext() ? periods.next() : null;
+  }
+
+  private static final class EventRuns {
+    private final TsdlIdentifier identifier;
+    private CompiledFilterConnective connective;
+    // bits of data points satisfying the connective (regardless of their relevance), the relevant ones among them and the remaining relevant ones
+    private BitSet selection = new BitSet();
+    private BitSet satisfied = new BitSet();
+    private BitSet unsatisfied = new BitSet();
+    private final Deque<FinalizedPeriod> finalized = new ArrayDeque<>();
+    private FinalizedPeriod open;
+    // index to detect further runs from, i.e., no run starts between the last finalized period and this index
+    private int scanFrom;
+    // whether runs starting between the window start and the first finalized period have been dropped upon evicting data points
+    private boolean headEvicted;
+
+    private EventRuns(TsdlIdentifier identifier) {
+      this.identifier = identifier;
+    }
+
+    // finalized periods (in the order they have been finalized in), followed by the open one
+    private Iterator<FinalizedPeriod> periods() {
+      return open == null ? finalized.iterator() : Stream.concat(finalized.stream(), Stream.of(open)).iterator();
+    }
+
+    private void evict(int fromIndex, int toIndex, BitSet relevant) {
+      selection.clear(fromIndex, toIndex);
+      satisfied.clear(fromIndex, toIndex);
+      unsatisfied.clear(fromIndex, toIndex);
+
+      // a period starting after the first relevant data point of the window retains its prior data point, all other ones (i.e., the ones starting
+      // before the window or with its first relevant data point) are dropped, the one covering the first relevant data point is detected again
+      var firstRelevant = relevant.nextSetBit(toIndex);
+      var dropped = 0;
+      while (!finalized.isEmpty() && (firstRelevant < 0 || finalized.getFirst().startIndex() <= firstRelevant)) {
+        finalized.removeFirst();
+        dropped++;
+      }
+
+      if (dropped > 0) {
+        log.debug("Evicted data points of event '{}' up to index {}, dropping {} finalized periods.", identifier.name(), toIndex, dropped);
+        if (finalized.isEmpty()) {
+          scanFrom = Math.min(scanFrom, toIndex);
+        } else {
+          headEvicted = true;
+        }
+      }
+    }
+
+    private void rebase(int offset) {
+      selection = selection.get(offset, Math.max(offset, selection.length()));
+      satisfied = satisfied.get(offset, Math.max(offset, satisfied.length()));
+      unsatisfied = unsatisfied.get(offset, Math.max(offset, unsatisfied.length()));
+      var rebased = finalized.stream()
+          .map(period -> new FinalizedPeriod(period.startIndex() - offset, period.finalizedAt() - offset, period.period()))
+          .toList();
+      finalized.clear();
+      finalized.addAll(rebased);
+      if (open != null) {
+        open = new FinalizedPeriod(Math.max(open.startIndex() - offset, 0), open.finalizedAt() - offset, open.period());
+      }
+      scanFrom = Math.max(scanFrom - offset, 0);
+    }
+
+    private void append(ColumnarTimeSeries series, CompiledFilterConnective connective, BitSet relevant, int fromIndex) {
+      var appended = connective.select(series.slice(fromIndex, series.size()));
+      for (var i = appended.nextSetBit(0); i >= 0; i = appended.nextSetBit(i + 1)) {
+        selection.set(fromIndex + i);
+      }
+      for (var i = relevant.nextSetBit(fromIndex); i >= 0; i = relevant.nextSetBit(i + 1)) {
+        (selection.get(i) ? satisfied : unsatisfied).set(i);
+      }
+    }
+
+    private void reselect(ColumnarTimeSeries series, CompiledFilterConnective connective, BitSet relevant, int windowStart) {
+      this.connective = connective;
+      selection = new BitSet();
+      var windowSelection = connective.select(series.slice(windowStart, series.size()));
+      for (var i = windowSelection.nextSetBit(0); i >= 0; i = windowSelection.nextSetBit(i + 1)) {
+        selection.set(windowStart + i);
+      }
+      var newSatisfied = (BitSet) selection.clone();
+      newSatisfied.and(relevant);
+      var newUnsatisfied = (BitSet) relevant.clone();
+      newUnsatisfied.andNot(selection);
+
+      var changes = (BitSet) satisfied.clone();
+      changes.xor(newSatisfied);
+      var unsatisfiedChanges = (BitSet) unsatisfied.clone();
+      unsatisfiedChanges.xor(newUnsatisfied);
+      changes.or(unsatisfiedChanges);
+      satisfied = newSatisfied;
+      unsatisfied = newUnsatisfied;
+
+      // a finalized period only depends on the bits from its prior to its subsequent data point, i.e., the one it has been finalized upon
+      var firstChange = changes.nextSetBit(0);
+      if (firstChange < 0) {
+        return;
+      }
+      var invalidated = 0;
+      while (!finalized.isEmpty() && finalized.getLast().finalizedAt() >= firstChange) {
+        finalized.removeLast();
+        invalidated++;
+      }
+      log.debug("Bitmaps of event '{}' changed at index {}, invalidating {} of {} finalized periods.", identifier.name(), firstChange,
+          invalidated, finalized.size() + invalidated);
+      if (invalidated > 0) {
+        scanFrom = finalized.isEmpty() ? 0 : finalized.getLast().finalizedAt() + 1;
+      } else {
+        // whether a run starts at an index only depends on the bits up to that index
+        scanFrom = Math.min(scanFrom, firstChange);
+      }
+    }
+
+    private void detect(ColumnarTimeSeries series, TsdlEvent event, BitSet relevant, int lastSelected, int windowStart) {
+      open = null;
+      var size = series.size();
+      var bitmaps = new EventBitmaps(relevant, satisfied, unsatisfied, lastSelected);
+      if (headEvicted && !finalized.isEmpty()) {
+        // a run preceding a retained period is finalized upon a data point before it
+        var head = SinglePointEventRunDetector.detectRuns(series, event, bitmaps, windowStart, finalized.getFirst().startIndex());
+        for (var i = head.size() - 1; i >= 0; i--) {
+          finalized.addFirst(head.get(i));
+        }
+      }
+      headEvicted = false;
+
+      var runs = SinglePointEventRunDetector.detectRuns(series, event, bitmaps, scanFrom, size);
+      for (var run : runs) {
+        if (run.isOpen()) {
+          open = run;
+        } else {
+          finalized.add(run);
+          scanFrom = run.finalizedAt() + 1;
+        }
+      }
+
+      if (open != null) {
+        scanFrom = open.startIndex();
+      } else if (lastSelected < scanFrom || !satisfied.get(lastSelected)) {
+        // no run is open, i.e., runs of appended data points are detected from the first appended one on
+        scanFrom = Math.max(scanFrom, size);
+      } else {
+        // a run only starting with the last data point is not detected (yet)
+        scanFrom = Math.max(scanFrom, lastSelected);
+      }
+    }
+  }
+}
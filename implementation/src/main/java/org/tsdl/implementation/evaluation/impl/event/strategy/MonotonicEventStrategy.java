@@ -12,21 +12,21 @@ import org.tsdl.implementation.model.event.definition.MonotonicEvent;
 import org.tsdl.implementation.model.filter.SinglePointFilter;
 import org.tsdl.infrastructure.common.Condition;
 import org.tsdl.infrastructure.common.Conditions;
-import org.tsdl.infrastructure.model.DataPoint;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
 
 abstract class MonotonicEventStrategy extends ComplexEventStrategy {
   abstract SinglePointFilter instantaneousRateOfChangeConstraint(double tolerance);
 
-  abstract boolean relativeChangeConstraint(DataPoint startPoint, DataPoint endPoint, double minimumChange, double maximumChange);
+  abstract boolean relativeChangeConstraint(double startValue, double endValue, double minimumChange, double maximumChange);
 
   @Override
-  public List<AnnotatedTsdlPeriod> detectPeriods(List<DataPoint> dataPoints, List<TsdlEvent> events) {
+  public List<AnnotatedTsdlPeriod> detectPeriods(ColumnarTimeSeries dataPoints, List<TsdlEvent> events) {
     var monotonicEvent = events.get(0);
     Conditions.checkIsTrue(Condition.ARGUMENT, monotonicEvent.connective().events().get(0) instanceof MonotonicEvent,
         "Currently, only positive (non-negated) constant events are supported.");
     var monotonicEventFunction = ((MonotonicEvent) monotonicEvent.connective().events().get(0));
 
-    var timeResolution = inferDerivativeUnit(dataPoints.get(0).timestamp(), dataPoints.get(1).timestamp());
+    var timeResolution = inferDerivativeUnit(dataPoints.timestamp(0), dataPoints.timestamp(1));
     var derivative = CALCULUS.derivative(dataPoints, timeResolution);
 
     // ratc
@@ -42,18 +42,18 @@ abstract class MonotonicEventStrategy extends ComplexEventStrategy {
     );
 
     var periodCandidates = findPeriodCandidates(derivative, derivateEvent, monotonicEvent.identifier());
-    var dpsPerPeriod = groupDataPointsByPeriod(dataPoints, periodCandidates);
+    var rangePerPeriod = indexRangesOfPeriods(dataPoints, periodCandidates);
 
     // difc
     var difc = new ArrayList<AnnotatedTsdlPeriod>();
-    for (var candidate : periodCandidates) {
-      var dps = dpsPerPeriod.get(candidate.period());
-      var startPoint = dps.get(0);
-      var endPoint = dps.get(dps.size() - 1);
+    for (var candidate = 0; candidate < periodCandidates.size(); candidate++) {
+      var range = rangePerPeriod.get(candidate);
+      var startValue = dataPoints.value(range.fromIndex());
+      var endValue = dataPoints.value(range.toIndex() - 1);
 
-      if (relativeChangeConstraint(startPoint, endPoint, monotonicEventFunction.minimumChange().value(),
+      if (relativeChangeConstraint(startValue, endValue, monotonicEventFunction.minimumChange().value(),
           monotonicEventFunction.maximumChange().value())) {
-        difc.add(candidate);
+        difc.add(periodCandidates.get(candidate));
       }
     }
 
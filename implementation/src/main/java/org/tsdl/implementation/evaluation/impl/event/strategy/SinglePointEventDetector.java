@@ -0,0 +1,185 @@
+package org.tsdl.implementation.evaluation.impl.event.strategy;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import org.tsdl.implementation.evaluation.impl.choice.AnnotatedTsdlPeriodImpl;
+import org.tsdl.implementation.evaluation.impl.connective.CompiledFilterConnective;
+import org.tsdl.implementation.model.choice.AnnotatedTsdlPeriod;
+import org.tsdl.implementation.model.common.TsdlIdentifier;
+import org.tsdl.implementation.model.event.TsdlEvent;
+import org.tsdl.infrastructure.common.Condition;
+import org.tsdl.infrastructure.common.Conditions;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
+import org.tsdl.infrastructure.model.DataPoint;
+import org.tsdl.infrastructure.model.QueryResult;
+
+/**
+ * Detects the periods of single point events incrementally, i.e., data points are accepted one at a time. Only the currently open periods and the
+ * detected periods are retained, such that periods can be detected within the same pass that computes samples and applies filters, or over data
+ * that does not fit into memory.
+ *
+ * <p>Data points are either accepted as instances (see {@link #SinglePointEventDetector(List)}) or by their index in a series (see
+ * {@link #SinglePointEventDetector(List, ColumnarTimeSeries)}). The latter only creates {@link DataPoint} instances at period boundaries.
+ */
+public final class SinglePointEventDetector {
+  // the two most recently accepted data points must remain accessible while the current one is accepted
+  private static final int WINDOW_SIZE = 3;
+
+  private final List<TsdlEvent> events;
+  private final CompiledFilterConnective[] filterConnectives;
+  private final ColumnarTimeSeries series;
+  private final DataPoint[] window;
+
+  // per event: start of the currently open period (null if there is no open period) and the data point preceding it
+  private final Instant[] periodStarts;
+  private final DataPoint[] priorDataPoints;
+
+  private final List<AnnotatedTsdlPeriod> detectedPeriods = new ArrayList<>();
+
+  // the latest data point is only processed once it is known whether it is the last one, hence the detector lags one data point behind
+  private int pendingHandle = -1;
+  private long pendingEpochMillis;
+  private double pendingValue;
+  private int previousHandle = -1;
+  private int nextWindowSlot;
+  private boolean finished;
+
+  /**
+   * Initializes a {@link SinglePointEventDetector} instance accepting {@link DataPoint} instances.
+   *
+   * <p>Precondition: sample arguments of events have been bound.
+   */
+  public SinglePointEventDetector(List<TsdlEvent> events) {
+    this(events, null, new DataPoint[WINDOW_SIZE]);
+  }
+
+  /**
+   * Initializes a {@link SinglePointEventDetector} instance accepting indices of data points in {@code series}.
+   *
+   * <p>Precondition: sample arguments of events have been bound.
+   */
+  public SinglePointEventDetector(List<TsdlEvent> events, ColumnarTimeSeries series) {
+    this(events, Conditions.checkNotNull(Condition.ARGUMENT, series, "Series must not be null."), null);
+  }
+
+  private SinglePointEventDetector(List<TsdlEvent> events, ColumnarTimeSeries series, DataPoint[] window) {
+    Conditions.checkNotNull(Condition.ARGUMENT, events, "Events must not be null.");
+    this.events = List.copyOf(events);
+    this.filterConnectives = this.events.stream()
+        .map(event -> SinglePointEventStrategyImpl.requireSinglePointFilters(event.connective()))
+        .toArray(CompiledFilterConnective[]::new);
+    this.series = series;
+    this.window = window;
+    this.periodStarts = new Instant[this.events.size()];
+    this.priorDataPoints = new DataPoint[this.events.size()];
+  }
+
+  /**
+   * Processes the next data point.
+   *
+   * <p>Precondition: data points are accepted in ascending order of their timestamps.
+   */
+  public void accept(DataPoint dataPoint) {
+    Conditions.checkNotNull(Condition.STATE, window, "Detector accepts indices of data points, not instances.");
+    Conditions.checkNotNull(Condition.ARGUMENT, dataPoint, "Data point must not be null.");
+    var slot = nextWindowSlot;
+    window[slot] = dataPoint;
+    nextWindowSlot = (slot + 1) % WINDOW_SIZE;
+    acceptHandle(slot, dataPoint.timestamp().toEpochMilli(), dataPoint.value());
+  }
+
+  /**
+   * Processes the data point at the given index of the series this detector has been created for.
+   *
+   * <p>Precondition: indices are accepted in ascending order.
+   */
+  public void accept(int index) {
+    Conditions.checkNotNull(Condition.STATE, series, "Detector accepts instances of data points, not indices.");
+    acceptHandle(index, series.epochMillis(index), series.value(index));
+  }
+
+  /**
+   * Signals that all data points have been accepted, i.e., finalizes the open periods.
+   */
+  public void finish() {
+    Conditions.checkIsFalse(Condition.STATE, finished, "Period detection has already been finished.");
+    if (pendingHandle != -1) {
+      process(true);
+    }
+
+    finished = true;
+  }
+
+  /**
+   * All detected periods, in the same order {@link SinglePointEventStrategyImpl} returns them.
+   */
+  public List<AnnotatedTsdlPeriod> detectedPeriods() {
+    Conditions.checkIsTrue(Condition.STATE, finished, "Period detection has not been finished yet.");
+    return Collections.unmodifiableList(detectedPeriods);
+  }
+
+  /**
+   * The periods detected for the given events (a subset of the events this detector has been created for), in the same order
+   * {@link SinglePointEventStrategyImpl} returns them if it only receives these events.
+   */
+  public List<AnnotatedTsdlPeriod> detectedPeriods(List<TsdlEvent> events) {
+    Conditions.checkIsTrue(Condition.STATE, finished, "Period detection has not been finished yet.");
+    var identifiers = new HashSet<TsdlIdentifier>();
+    events.forEach(event -> identifiers.add(event.identifier()));
+    return detectedPeriods.stream()
+        .filter(period -> identifiers.contains(period.event()))
+        .toList();
+  }
+
+  private void acceptHandle(int handle, long epochMillis, double value) {
+    Conditions.checkIsFalse(Condition.STATE, finished, "Period detection has already been finished.");
+    if (pendingHandle != -1) {
+      process(false);
+    }
+
+    previousHandle = pendingHandle;
+    pendingHandle = handle;
+    pendingEpochMillis = epochMillis;
+    pendingValue = value;
+  }
+
+  private void process(boolean isLastDataPoint) {
+    for (var eventIndex = 0; eventIndex < events.size(); eventIndex++) {
+      if (filterConnectives[eventIndex].isSatisfied(pendingEpochMillis, pendingValue)) {
+        // satisfied - either period is still going on or the period starts
+
+        if (periodStarts[eventIndex] == null) {
+          // new period starts
+          periodStarts[eventIndex] = timestamp(pendingHandle);
+          priorDataPoints[eventIndex] = previousHandle != -1 ? dataPoint(previousHandle) : null;
+        } else if (isLastDataPoint) {
+          // if the end of the data is reached, the period must end, too
+          finalizePeriod(eventIndex, timestamp(pendingHandle), null);
+        }
+      } else if (periodStarts[eventIndex] != null) {
+        // not satisfied and there is an open period - it ended with the previous data point
+        finalizePeriod(eventIndex, timestamp(previousHandle), dataPoint(pendingHandle));
+      }
+    }
+  }
+
+  private void finalizePeriod(int eventIndex, Instant periodEnd, DataPoint subsequentDataPoint) {
+    var finalizedPeriod = QueryResult.of(-1, periodStarts[eventIndex], periodEnd);
+    detectedPeriods.add(new AnnotatedTsdlPeriodImpl(finalizedPeriod, events.get(eventIndex).identifier(), priorDataPoints[eventIndex],
+        subsequentDataPoint));
+
+    periodStarts[eventIndex] = null;
+    priorDataPoints[eventIndex] = null;
+  }
+
+  private Instant timestamp(int handle) {
+    return series != null ? series.timestamp(handle) : window[handle].timestamp();
+  }
+
+  private DataPoint dataPoint(int handle) {
+    return series != null ? series.dataPoint(handle) : window[handle];
+  }
+}
@@ -0,0 +1,141 @@
+package org.tsdl.implementation.evaluation.impl.event.strategy;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import org.tsdl.implementation.evaluation.impl.choice.AnnotatedTsdlPeriodImpl;
+import org.tsdl.implementation.evaluation.impl.connective.CompiledFilterConnective;
+import org.tsdl.implementation.evaluation.impl.sample.aggregation.ParallelAggregation;
+import org.tsdl.implementation.model.choice.AnnotatedTsdlPeriod;
+import org.tsdl.implementation.model.event.TsdlEvent;
+import org.tsdl.infrastructure.common.Condition;
+import org.tsdl.infrastructure.common.Conditions;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
+import org.tsdl.infrastructure.model.QueryResult;
+
+/**
+ * Detects the periods of single point events over an in-memory series at once. The connective of each event is evaluated into a selection bitmap
+ * (see {@link CompiledFilterConnective#select(ColumnarTimeSeries)}), whose runs of set bits are the periods of the event. Only the boundaries of
+ * runs are visited, i.e., {@link org.tsdl.infrastructure.model.DataPoint} instances are only created for period boundaries.
+ *
+ * <p>The detected periods (and their order) are the same as the ones of a {@link SinglePointEventDetector} accepting the relevant data points.
+ * Large series are partitioned into index (i.e., time) ranges, whose runs are detected in parallel. This does not affect the detected periods.
+ */
+public final class SinglePointEventRunDetector {
+  private SinglePointEventRunDetector() {
+  }
+
+  /**
+   * Detects the periods of {@code events} over the data points of {@code series} selected by {@code relevant}, or over all data points if it is
+   * null.
+   *
+   * <p>Precondition: sample arguments of events have been bound.
+   */
+  public static List<AnnotatedTsdlPeriod> detectPeriods(ColumnarTimeSeries series, List<TsdlEvent> events, BitSet relevant) {
+    return detectPeriods(series, events, relevant, connective -> connective.select(series));
+  }
+
+  /**
+   * Detects the periods of {@code events} like {@link #detectPeriods(ColumnarTimeSeries, List, BitSet)}, where the selection bitmap of each event's
+   * connective over {@code series} is provided by {@code selections}, e.g., from selections shared with other evaluations over the same series.
+   * Provided bitmaps are not modified.
+   */
+  public static List<AnnotatedTsdlPeriod> detectPeriods(ColumnarTimeSeries series, List<TsdlEvent> events, BitSet relevant,
+                                                        Function<CompiledFilterConnective, BitSet> selections) {
+    Conditions.checkNotNull(Condition.ARGUMENT, series, "Series must not be null.");
+    Conditions.checkNotNull(Condition.ARGUMENT, events, "Events must not be null.");
+    Conditions.checkNotNull(Condition.ARGUMENT, selections, "Selections must not be null.");
+    var size = series.size();
+    var selected = relevant;
+    if (selected == null) {
+      selected = new BitSet(size);
+      selected.set(0, size);
+    }
+
+    var lastSelected = size > 0 ? selected.previousSetBit(size - 1) : -1;
+    var finalizedPeriods = new ArrayList<FinalizedPeriod>();
+    for (var event : events) {
+      var satisfied = (BitSet) selections.apply(SinglePointEventStrategyImpl.requireSinglePointFilters(event.connective())).clone();
+      satisfied.and(selected);
+      var unsatisfied = (BitSet) selected.clone();
+      unsatisfied.andNot(satisfied);
+
+      // large series are partitioned into chunks (i.e., time ranges) whose runs are detected in parallel and concatenated in chunk order
+      var bitmaps = new EventBitmaps(selected, satisfied, unsatisfied, lastSelected);
+      finalizedPeriods.addAll(ParallelAggregation.aggregate(
+          size,
+          (fromIndex, toIndex) -> detectRuns(series, event, bitmaps, fromIndex, toIndex),
+          (left, right) -> {
+            left.addAll(right);
+            return left;
+          }
+      ));
+    }
+
+    finalizedPeriods.sort(Comparator.comparingInt(FinalizedPeriod::finalizedAt));
+    return finalizedPeriods.stream()
+        .<AnnotatedTsdlPeriod>map(FinalizedPeriod::period)
+        .toList();
+  }
+
+  /**
+   * Detects the runs of {@code event} which start within [fromIndex, toIndex). Runs crossing the end of the range are stitched, i.e., their end as
+   * well as their prior and subsequent data points are looked up in the bitmaps of the whole series. A run which continues one of a preceding
+   * range belongs to that range.
+   */
+  static ArrayList<FinalizedPeriod> detectRuns(ColumnarTimeSeries series, TsdlEvent event, EventBitmaps bitmaps, int fromIndex, int toIndex) {
+    var selected = bitmaps.selected();
+    var satisfied = bitmaps.satisfied();
+    var unsatisfied = bitmaps.unsatisfied();
+    var lastSelected = bitmaps.lastSelected();
+
+    var runs = new ArrayList<FinalizedPeriod>();
+    var start = satisfied.nextSetBit(fromIndex);
+    if (start >= 0 && start < toIndex) {
+      var prior = selected.previousSetBit(start - 1);
+      if (prior >= 0 && satisfied.get(prior)) {
+        var subsequent = unsatisfied.nextSetBit(start);
+        start = subsequent >= 0 ? satisfied.nextSetBit(subsequent + 1) : -1;
+      }
+    }
+
+    while (start >= 0 && start < toIndex) {
+      var subsequent = unsatisfied.nextSetBit(start);
+      if (subsequent < 0 && start == lastSelected) {
+        // like the incremental detection, a period which only starts with the last data point is not finalized
+        break;
+      }
+
+      var end = subsequent >= 0 ? selected.previousSetBit(subsequent - 1) : lastSelected;
+      var prior = selected.previousSetBit(start - 1);
+      var period = new AnnotatedTsdlPeriodImpl(
+          QueryResult.of(-1, series.timestamp(start), series.timestamp(end)),
+          event.identifier(),
+          prior >= 0 ? series.dataPoint(prior) : null,
+          subsequent >= 0 ? series.dataPoint(subsequent) : null
+      );
+
+      // periods are finalized upon the data point following them (or the last one), for equal ones in order of their events
+      runs.add(new FinalizedPeriod(start, subsequent >= 0 ? subsequent : lastSelected, period));
+      start = subsequent >= 0 ? satisfied.nextSetBit(subsequent + 1) : -1;
+    }
+
+    return runs;
+  }
+
+  // the bitmaps are only read while runs are detected, hence, they are shared between concurrently detected ranges
+  record EventBitmaps(BitSet selected, BitSet satisfied, BitSet unsatisfied, int lastSelected) {
+  }
+
+  /**
+   * A detected period, starting at index {@code startIndex} and finalized upon the data point at index {@code finalizedAt}. The latter is its
+   * subsequent data point, unless the period is still open (i.e., it has no subsequent data point).
+   */
+  record FinalizedPeriod(int startIndex, int finalizedAt, AnnotatedTsdlPeriodImpl period) {
+    boolean isOpen() {
+      return period.subsequentDataPoint().isEmpty();
+    }
+  }
+}
@@ -1,18 +1,10 @@
 package org.tsdl.implementation.evaluation.impl.event.strategy;
 
-import java.time.Instant;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
-import org.tsdl.implementation.evaluation.impl.choice.AnnotatedTsdlPeriodImpl;
-import org.tsdl.implementation.evaluation.impl.connective.AndFilterConnectiveImpl;
-import org.tsdl.implementation.evaluation.impl.connective.OrFilterConnectiveImpl;
+import org.tsdl.implementation.evaluation.impl.connective.CompiledFilterConnective;
 import org.tsdl.implementation.model.choice.AnnotatedTsdlPeriod;
-import org.tsdl.implementation.model.common.TsdlIdentifier;
-import org.tsdl.implementation.model.connective.SinglePointFilterConnective;
 import org.tsdl.implementation.model.event.TsdlEvent;
 import org.tsdl.implementation.model.event.definition.AndEventConnective;
 import org.tsdl.implementation.model.event.definition.EventConnective;
@@ -22,8 +14,7 @@ import org.tsdl.implementation.model.event.strategy.SinglePointEventStrategy;
 import org.tsdl.implementation.model.filter.SinglePointFilter;
 import org.tsdl.infrastructure.common.Condition;
 import org.tsdl.infrastructure.common.Conditions;
-import org.tsdl.infrastructure.model.DataPoint;
-import org.tsdl.infrastructure.model.QueryResult;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
 
 // TODO test strategies, e.g.:
 //  WITH SAMPLES: avg() AS myAvg -> echo(2), avg(\"2022-07-05T23:55:00Z\", \"2022-11-12T23:59:00Z\") AS myLocalAvg -> echo(5)
@@ -39,93 +30,32 @@ import org.tsdl.infrastructure.model.QueryResult;
 @Slf4j
 public class SinglePointEventStrategyImpl implements SinglePointEventStrategy {
   @Override
-  public List<AnnotatedTsdlPeriod> detectPeriods(List<DataPoint> dataPoints, List<TsdlEvent> events) {
+  public List<AnnotatedTsdlPeriod> detectPeriods(ColumnarTimeSeries dataPoints, List<TsdlEvent> events) {
     log.debug("Detecting periods using '{}' over {} data points and {} events.", SinglePointEventStrategyImpl.class.getName(), dataPoints.size(),
         events.size());
-    var eventMarkers = new HashMap<TsdlIdentifier, Instant>();
-    var priorDataPoints = new HashMap<TsdlIdentifier, DataPoint>();
-    var detectedPeriods = new ArrayList<AnnotatedTsdlPeriod>();
-
-    for (var i = 0; i < dataPoints.size(); i++) {
-      var currentDataPoint = dataPoints.get(i);
-      var previousDataPoint = i > 0 ? dataPoints.get(i - 1) : null;
-      var nextDataPoint = i < dataPoints.size() - 1 ? dataPoints.get(i + 1) : null;
-
-      markEvents(events, eventMarkers, priorDataPoints, detectedPeriods, currentDataPoint, previousDataPoint, nextDataPoint);
-    }
-
+    var detectedPeriods = SinglePointEventRunDetector.detectPeriods(dataPoints, events, null);
     log.debug("Detected {} periods using '{}'.", detectedPeriods.size(), SinglePointEventStrategyImpl.class.getName());
-    return Collections.unmodifiableList(detectedPeriods);
-  }
-
-  private void markEvents(List<TsdlEvent> events, Map<TsdlIdentifier, Instant> eventMarkers,
-                          Map<TsdlIdentifier, DataPoint> priorDataPoints,
-                          ArrayList<AnnotatedTsdlPeriod> detectedPeriods, DataPoint currentDataPoint, DataPoint previousDataPoint,
-                          DataPoint nextDataPoint) {
-    for (TsdlEvent event : events) {
-      var filterConnective = requireSinglePointFilters(event.connective());
-      var identifier = event.identifier();
-      markEvent(currentDataPoint, previousDataPoint, nextDataPoint, filterConnective, identifier, eventMarkers, priorDataPoints, detectedPeriods);
-    }
-  }
-
-
-  private void markEvent(DataPoint currentDataPoint, DataPoint previousDataPoint, DataPoint nextDataPoint,
-                         SinglePointFilterConnective filterConnective, TsdlIdentifier eventIdentifier,
-                         Map<TsdlIdentifier, Instant> eventMarkers, Map<TsdlIdentifier, DataPoint> priorDataPoints,
-                         List<AnnotatedTsdlPeriod> detectedPeriods) {
-    if (filterConnective.isSatisfied(currentDataPoint)) {
-      // satisfied - either period is still going on or the period starts
-
-      if (eventMarkers.containsKey(eventIdentifier)) {
-        // period is still going on
-
-        if (nextDataPoint == null) {
-          // if the end of the data is reached, the period must end, too
-          finalizePeriod(detectedPeriods, eventMarkers, priorDataPoints, eventIdentifier, currentDataPoint.timestamp(), null);
-        }
-      } else {
-        // new period starts
-        eventMarkers.put(eventIdentifier, currentDataPoint.timestamp());
-        priorDataPoints.put(eventIdentifier, previousDataPoint);
-      }
-
-    } else {
-      // not satisfied - either period ends, or there is still no open period
-
-      //noinspection StatementWithEmptyBody
-      if (eventMarkers.containsKey(eventIdentifier)) {
-        // period ended
-        Conditions.checkNotNull(Condition.STATE, previousDataPoint, "When closing a period, there must be a previous data point.");
-        finalizePeriod(detectedPeriods, eventMarkers, priorDataPoints, eventIdentifier, previousDataPoint.timestamp(), currentDataPoint);
-      } else {
-        // nothing to do - still no open period
-      }
-    }
-  }
-
-  private void finalizePeriod(List<AnnotatedTsdlPeriod> periods, Map<TsdlIdentifier, Instant> eventMarkers,
-                              Map<TsdlIdentifier, DataPoint> priorDataPoints, TsdlIdentifier eventId, Instant periodEnd,
-                              DataPoint subsequentDataPoint) {
-    var finalizedPeriod = QueryResult.of(-1, eventMarkers.get(eventId), periodEnd);
-    periods.add(new AnnotatedTsdlPeriodImpl(finalizedPeriod, eventId, priorDataPoints.get(eventId), subsequentDataPoint));
-    eventMarkers.remove(eventId);
-    priorDataPoints.remove(eventId);
+    return detectedPeriods;
   }
 
-  private SinglePointFilterConnective requireSinglePointFilters(EventConnective connective) {
+  /**
+   * Compiles the filters of the given connective, failing if it contains event functions which do not refer to single data points.
+   *
+   * <p>Precondition: sample arguments of the filters have been bound.
+   */
+  static CompiledFilterConnective requireSinglePointFilters(EventConnective connective) {
     var filters = new ArrayList<SinglePointFilter>();
     for (EventFunction function : connective.events()) {
       if (!(function instanceof SinglePointFilter filter)) {
         throw Conditions.exception(Condition.STATE, "The event strategy '%s' only supports event functions of type '%s'. Received: '%s'",
-            getClass().getName(), SinglePointFilter.class.getName(), function.getClass().getName());
+            SinglePointEventStrategyImpl.class.getName(), SinglePointFilter.class.getName(), function.getClass().getName());
       }
       filters.add(filter);
     }
 
     return switch (connective) {
-      case AndEventConnective ignored -> new AndFilterConnectiveImpl(filters);
-      case OrEventConnective ignored -> new OrFilterConnectiveImpl(filters);
+      case AndEventConnective ignored -> CompiledFilterConnective.compile(filters, true);
+      case OrEventConnective ignored -> CompiledFilterConnective.compile(filters, false);
       default -> throw Conditions.exception(Condition.STATE, "Cannot construct filter connective from type '%s'.", connective.getClass().getName());
     };
   }
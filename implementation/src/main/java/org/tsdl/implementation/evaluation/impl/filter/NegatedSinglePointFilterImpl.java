@@ -4,7 +4,6 @@ import org.tsdl.implementation.model.filter.NegatedSinglePointFilter;
 import org.tsdl.implementation.model.filter.SinglePointFilter;
 import org.tsdl.infrastructure.common.Condition;
 import org.tsdl.infrastructure.common.Conditions;
-import org.tsdl.infrastructure.model.DataPoint;
 
 /**
  * Default implementation of {@link NegatedSinglePointFilter}.
@@ -15,7 +14,7 @@ public record NegatedSinglePointFilterImpl(SinglePointFilter filter) implements
   }
 
   @Override
-  public boolean evaluate(DataPoint dataPoint) {
-    return !filter.evaluate(dataPoint);
+  public boolean evaluate(long epochMillis, double value) {
+    return !filter.evaluate(epochMillis, value);
   }
 }
@@ -4,7 +4,6 @@ import org.tsdl.implementation.model.filter.argument.TsdlScalarArgument;
 import org.tsdl.implementation.model.filter.deviation.AbsoluteAroundFilter;
 import org.tsdl.infrastructure.common.Condition;
 import org.tsdl.infrastructure.common.Conditions;
-import org.tsdl.infrastructure.model.DataPoint;
 
 /**
  * Default implementation of {@link AbsoluteAroundFilter}.
@@ -16,10 +15,8 @@ public record AbsoluteAroundFilterImpl(TsdlScalarArgument referenceValue, TsdlSc
   }
 
   @Override
-  public boolean evaluate(DataPoint dataPoint) {
-    Conditions.checkNotNull(Condition.ARGUMENT, dataPoint, "Data point must not be null.");
-
-    var absoluteDifference = Math.abs(dataPoint.value() - referenceValue.value());
+  public boolean evaluate(long epochMillis, double value) {
+    var absoluteDifference = Math.abs(value - referenceValue.value());
     return absoluteDifference <= maximumDeviation.value();
   }
 }
@@ -4,7 +4,6 @@ import java.time.Instant;
 import org.tsdl.implementation.model.filter.temporal.AfterFilter;
 import org.tsdl.infrastructure.common.Condition;
 import org.tsdl.infrastructure.common.Conditions;
-import org.tsdl.infrastructure.model.DataPoint;
 
 /**
  * Default implementation of {@link AfterFilter}.
@@ -15,8 +14,7 @@ public record AfterFilterImpl(Instant argument) implements AfterFilter {
   }
 
   @Override
-  public boolean evaluate(DataPoint dataPoint) {
-    Conditions.checkNotNull(Condition.ARGUMENT, dataPoint, "Data point must not be null.");
-    return dataPoint.timestamp().isAfter(argument);
+  public boolean evaluate(long epochMillis, double value) {
+    return epochMillis > argument.toEpochMilli();
   }
 }
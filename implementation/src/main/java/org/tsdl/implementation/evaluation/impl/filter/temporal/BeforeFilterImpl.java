@@ -4,7 +4,7 @@ import java.time.Instant;
 import org.tsdl.implementation.model.filter.temporal.BeforeFilter;
 import org.tsdl.infrastructure.common.Condition;
 import org.tsdl.infrastructure.common.Conditions;
-import org.tsdl.infrastructure.model.DataPoint;
+import org.tsdl.infrastructure.common.TsdlUtil;
 
 /**
  * Default implementation of {@link BeforeFilter}.
@@ -15,8 +15,7 @@ public record BeforeFilterImpl(Instant argument) implements BeforeFilter {
   }
 
   @Override
-  public boolean evaluate(DataPoint dataPoint) {
-    Conditions.checkNotNull(Condition.ARGUMENT, dataPoint, "Data point must not be null.");
-    return dataPoint.timestamp().isBefore(argument);
+  public boolean evaluate(long epochMillis, double value) {
+    return epochMillis < TsdlUtil.ceilEpochMilli(argument);
   }
 }
@@ -4,7 +4,6 @@ import org.tsdl.implementation.model.filter.argument.TsdlScalarArgument;
 import org.tsdl.implementation.model.filter.threshold.LessThanFilter;
 import org.tsdl.infrastructure.common.Condition;
 import org.tsdl.infrastructure.common.Conditions;
-import org.tsdl.infrastructure.model.DataPoint;
 
 /**
  * Default implementation of {@link LessThanFilter}.
@@ -15,10 +14,7 @@ public record LessThanFilterImpl(TsdlScalarArgument threshold) implements LessTh
   }
 
   @Override
-  public boolean evaluate(DataPoint dataPoint) {
-    Conditions.checkNotNull(Condition.ARGUMENT, dataPoint, "Data point must not be null.");
-    Conditions.checkNotNull(Condition.ARGUMENT, dataPoint.value(), "Data point value must not be null.");
-
-    return dataPoint.value() < threshold.value();
+  public boolean evaluate(long epochMillis, double value) {
+    return value < threshold.value();
   }
 }
@@ -0,0 +1,68 @@
+package org.tsdl.implementation.evaluation.impl.result;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import org.tsdl.infrastructure.model.TsdlPeriod;
+
+/**
+ * Union of (possibly unordered and overlapping) periods as disjoint, ascending intervals, so that membership of a timestamp can be decided by
+ * binary search instead of a scan over all periods.
+ */
+public final class PeriodCoverage {
+  private final Instant[] starts;
+  private final Instant[] ends;
+  private final int size;
+
+  private PeriodCoverage(Instant[] starts, Instant[] ends, int size) {
+    this.starts = starts;
+    this.ends = ends;
+    this.size = size;
+  }
+
+  /**
+   * The union of the given periods, empty periods do not cover any timestamp.
+   */
+  public static PeriodCoverage of(List<TsdlPeriod> periods) {
+    var sorted = periods.stream()
+        .filter(period -> !period.isEmpty())
+        .sorted(Comparator.comparing(TsdlPeriod::start))
+        .toList();
+
+    var starts = new Instant[sorted.size()];
+    var ends = new Instant[sorted.size()];
+    var size = 0;
+    for (var period : sorted) {
+      if (size > 0 && !period.start().isAfter(ends[size - 1])) {
+        if (period.end().isAfter(ends[size - 1])) {
+          ends[size - 1] = period.end();
+        }
+      } else {
+        starts[size] = period.start();
+        ends[size] = period.end();
+        size++;
+      }
+    }
+    return new PeriodCoverage(starts, ends, size);
+  }
+
+  /**
+   * Whether one of the periods contains {@code timestamp}, i.e., whether it is within [start, end] of one of them.
+   */
+  public boolean contains(Instant timestamp) {
+    // index of the last interval starting at or before 'timestamp'
+    var low = 0;
+    var high = size - 1;
+    var candidate = -1;
+    while (low <= high) {
+      var mid = (low + high) >>> 1;
+      if (starts[mid].isAfter(timestamp)) {
+        high = mid - 1;
+      } else {
+        candidate = mid;
+        low = mid + 1;
+      }
+    }
+    return candidate >= 0 && !timestamp.isAfter(ends[candidate]);
+  }
+}
@@ -1,15 +1,18 @@
 package org.tsdl.implementation.evaluation.impl.result;
 
-import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.function.BiPredicate;
+import java.util.function.IntFunction;
 import org.tsdl.implementation.evaluation.TsdlResultCollector;
+import org.tsdl.implementation.model.choice.AnnotatedTsdlPeriod;
 import org.tsdl.implementation.model.common.TsdlIdentifier;
 import org.tsdl.implementation.model.result.YieldStatement;
 import org.tsdl.infrastructure.common.Condition;
 import org.tsdl.infrastructure.common.Conditions;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
 import org.tsdl.infrastructure.model.DataPoint;
 import org.tsdl.infrastructure.model.QueryResult;
 import org.tsdl.infrastructure.model.TsdlLogEvent;
@@ -25,7 +28,7 @@ public class TsdlResultCollectorImpl implements TsdlResultCollector {
   }
 
   @Override
-  public QueryResult collect(YieldStatement result, List<DataPoint> dataPoints, TsdlPeriodSet periodSet, boolean noPeriodDefinitions,
+  public QueryResult collect(YieldStatement result, ColumnarTimeSeries dataPoints, TsdlPeriodSet periodSet, boolean noPeriodDefinitions,
                              Map<TsdlIdentifier, Double> samples) {
     var indexedPeriodSet = normalizePeriodIndices(periodSet);
     switch (result.format()) {
@@ -33,16 +36,20 @@ public class TsdlResultCollectorImpl implements TsdlResultCollector {
         return indexedPeriodSet;
 
       case LONGEST_PERIOD:
-        return findSpecialPeriod(indexedPeriodSet.periods(), SpecialPeriod.MAXIMUM);
-
       case SHORTEST_PERIOD:
-        return findSpecialPeriod(indexedPeriodSet.periods(), SpecialPeriod.MINIMUM);
+        var periods = indexedPeriodSet.periods();
+        var position = findSpecialPeriod(periods.size(), periods::get, specialPeriodType(result));
+        return position >= 0 ? periods.get(position) : TsdlPeriod.EMPTY;
 
       case DATA_POINTS:
-        var pointsInPeriods = dataPoints.stream()
-            .filter(dp -> noPeriodDefinitions || anyPeriodContains(indexedPeriodSet.periods(), dp.timestamp()))
-            .toList();
-        return QueryResult.of(pointsInPeriods);
+        var pointsInPeriods = new ArrayList<DataPoint>();
+        var coverage = noPeriodDefinitions ? null : PeriodCoverage.of(indexedPeriodSet.periods());
+        for (var i = 0; i < dataPoints.size(); i++) {
+          if (coverage == null || coverage.contains(dataPoints.timestamp(i))) {
+            pointsInPeriods.add(dataPoints.dataPoint(i));
+          }
+        }
+        return QueryResult.of(Collections.unmodifiableList(pointsInPeriods));
 
       case SAMPLE:
         var sampleValue = samples.get(result.samples().get(0));
@@ -72,7 +79,28 @@ public class TsdlResultCollectorImpl implements TsdlResultCollector {
     return QueryResult.of(periodSet.totalPeriods(), indexedPeriods, periodSet.logs().toArray(TsdlLogEvent[]::new));
   }
 
-  private TsdlPeriod findSpecialPeriod(List<TsdlPeriod> periods, SpecialPeriod type) {
+  @Override
+  public TsdlPeriod collectSpecialPeriod(YieldStatement result, List<AnnotatedTsdlPeriod> periods) {
+    var position = findSpecialPeriod(periods.size(), i -> periods.get(i).period(), specialPeriodType(result));
+    if (position < 0) {
+      return TsdlPeriod.EMPTY;
+    }
+
+    // like for period sets, periods are only indexed by their position if none of them has an index yet
+    var specialPeriod = periods.get(position).period();
+    return periods.stream().allMatch(period -> period.period().index() == -1) ? specialPeriod.withIndex(position) : specialPeriod;
+  }
+
+  private SpecialPeriod specialPeriodType(YieldStatement result) {
+    return switch (result.format()) {
+      case LONGEST_PERIOD -> SpecialPeriod.MAXIMUM;
+      case SHORTEST_PERIOD -> SpecialPeriod.MINIMUM;
+      default -> throw Conditions.exception(Condition.ARGUMENT, "Result format '%s' does not yield a single period.", result.format());
+    };
+  }
+
+  // position of the longest or shortest period (the first one in case of ties), -1 if there are no periods
+  private int findSpecialPeriod(int count, IntFunction<TsdlPeriod> periods, SpecialPeriod type) {
     var optimalDistance = type == SpecialPeriod.MAXIMUM ? Long.MIN_VALUE : Long.MAX_VALUE;
     //CHECKSTYLE.OFF: MatchXpath - false positive, 'var' cannot be used here (type 'BiFunction<Long, Long, Boolean>' cannot be inferred)
     BiPredicate<Long, Long> comparer = type == SpecialPeriod.MAXIMUM
@@ -80,19 +108,15 @@ public class TsdlResultCollectorImpl implements TsdlResultCollector {
         : (newValue, currentOptimum) -> newValue < currentOptimum;
     //CHECKSTYLE.ON: MatchXpath
 
-    TsdlPeriod specialPeriod = null;
-    for (var period : periods) {
+    var specialPeriod = -1;
+    for (var i = 0; i < count; i++) {
+      var period = periods.apply(i);
       var distance = period.end().toEpochMilli() - period.start().toEpochMilli();
       if (comparer.test(distance, optimalDistance)) {
         optimalDistance = distance;
-        specialPeriod = period;
+        specialPeriod = i;
       }
     }
-    return specialPeriod != null ? specialPeriod : TsdlPeriod.EMPTY;
-  }
-
-  private boolean anyPeriodContains(List<TsdlPeriod> periods, Instant timestamp) {
-    return periods.stream()
-        .anyMatch(period -> period.contains(timestamp));
+    return specialPeriod;
   }
 }
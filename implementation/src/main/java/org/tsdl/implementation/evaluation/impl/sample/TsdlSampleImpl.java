@@ -15,7 +15,8 @@ import org.tsdl.infrastructure.common.Conditions;
 public record TsdlSampleImpl(
     TsdlAggregator aggregator,
     TsdlIdentifier identifier,
-    TsdlOutputFormatter<TsdlSample> formatterValue
+    TsdlOutputFormatter<TsdlSample> formatterValue,
+    double boundValue
 ) implements TsdlSample, DefaultFormattable<TsdlSample> {
 
   public TsdlSampleImpl {
@@ -23,6 +24,28 @@ public record TsdlSampleImpl(
     Conditions.checkNotNull(Condition.ARGUMENT, identifier, "Identifier must not be null.");
   }
 
+  public TsdlSampleImpl(TsdlAggregator aggregator, TsdlIdentifier identifier, TsdlOutputFormatter<TsdlSample> formatterValue) {
+    this(aggregator, identifier, formatterValue, Double.NaN);
+  }
+
+  @Override
+  public double value() {
+    Conditions.checkIsTrue(Condition.STATE, this::isBound, "Value of sample '%s' must have been computed before trying to access it.",
+        identifier.name());
+    return boundValue;
+  }
+
+  @Override
+  public boolean isBound() {
+    return !Double.isNaN(boundValue);
+  }
+
+  @Override
+  public TsdlSample withValue(double value) {
+    Conditions.checkIsFalse(Condition.ARGUMENT, Double.isNaN(value), "NaN is not a valid sample value.");
+    return new TsdlSampleImpl(aggregator, identifier, formatterValue, value);
+  }
+
   @Override
   public Optional<TsdlOutputFormatter<TsdlSample>> formatter() {
     return Optional.ofNullable(formatterValue);
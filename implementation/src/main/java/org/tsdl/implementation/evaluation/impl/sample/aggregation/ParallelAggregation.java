@@ -0,0 +1,105 @@
+package org.tsdl.implementation.evaluation.impl.sample.aggregation;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+import org.tsdl.infrastructure.common.Condition;
+import org.tsdl.infrastructure.common.Conditions;
+
+/**
+ * Aggregates large inputs in parallel by recursively splitting their index range in halves, which are aggregated on the common
+ * {@link ForkJoinPool} (or the pool of the calling task, if any) and combined afterwards. Since the split points only depend on the size of the
+ * input, the result does not depend on the scheduling of the tasks.
+ */
+public final class ParallelAggregation {
+  /**
+   * Maximum number of items aggregated by a single task. Inputs of at most this size are aggregated sequentially, within the calling thread.
+   */
+  public static final int SEQUENTIAL_THRESHOLD = 1 << 16;
+
+  private ParallelAggregation() {
+  }
+
+  /**
+   * Indicates whether an input of the given size is split into multiple tasks.
+   */
+  public static boolean isParallel(int size) {
+    return size > SEQUENTIAL_THRESHOLD;
+  }
+
+  /**
+   * Aggregates the index range [0, size).
+   *
+   * @param aggregator aggregates a sub-range [fromIndex, toIndex), possibly concurrently with other sub-ranges
+   * @param combiner   combines the aggregates of two adjacent sub-ranges, the left one being passed first
+   */
+  public static <T> T aggregate(int size, RangeAggregator<T> aggregator, BinaryOperator<T> combiner) {
+    if (!isParallel(size)) {
+      return aggregator.aggregate(0, size);
+    }
+
+    return invoke(new RangeTask<>(0, size, SEQUENTIAL_THRESHOLD, aggregator, combiner));
+  }
+
+  /**
+   * Aggregates the index range [0, size) like {@link #aggregate(int, RangeAggregator, BinaryOperator)}, but only splits it at multiples of
+   * {@code granularity}, e.g., such that sub-ranges cover whole words of a bitmap.
+   *
+   * @param granularity positive number of items, sub-ranges (except for the last one) start and end at multiples of it
+   */
+  public static <T> T aggregate(int size, int granularity, RangeAggregator<T> aggregator, BinaryOperator<T> combiner) {
+    Conditions.checkIsGreaterThan(Condition.ARGUMENT, granularity, 0, "Granularity must be positive.");
+    if (!isParallel(size)) {
+      return aggregator.aggregate(0, size);
+    }
+
+    var granules = (int) ((size + (long) granularity - 1) / granularity);
+    RangeAggregator<T> granuleAggregator = (fromGranule, toGranule) ->
+        aggregator.aggregate(fromGranule * granularity, (int) Math.min((long) toGranule * granularity, size));
+    return invoke(new RangeTask<>(0, granules, Math.max(SEQUENTIAL_THRESHOLD / granularity, 1), granuleAggregator, combiner));
+  }
+
+  private static <T> T invoke(RangeTask<T> task) {
+    // within another pool (e.g., one bounding the parallelism of evaluations), sub-tasks are forked into that pool instead of the common one
+    return ForkJoinTask.inForkJoinPool() ? task.invoke() : ForkJoinPool.commonPool().invoke(task);
+  }
+
+  /**
+   * Aggregates the items within an index range.
+   */
+  @FunctionalInterface
+  public interface RangeAggregator<T> {
+    T aggregate(int fromIndex, int toIndex);
+  }
+
+  private static final class RangeTask<T> extends RecursiveTask<T> {
+    private final int fromIndex;
+    private final int toIndex;
+    private final int sequentialThreshold;
+    private final transient RangeAggregator<T> aggregator;
+    private final transient BinaryOperator<T> combiner;
+
+    private RangeTask(int fromIndex, int toIndex, int sequentialThreshold, RangeAggregator<T> aggregator, BinaryOperator<T> combiner) {
+      this.fromIndex = fromIndex;
+      this.toIndex = toIndex;
+      this.sequentialThreshold = sequentialThreshold;
+      this.aggregator = aggregator;
+      this.combiner = combiner;
+    }
+
+    @Override
+    protected T compute() {
+      if (toIndex - fromIndex <= sequentialThreshold) {
+        return aggregator.aggregate(fromIndex, toIndex);
+      }
+
+      var middle = (fromIndex + toIndex) >>> 1;
+      var left = new RangeTask<>(fromIndex, middle, sequentialThreshold, aggregator, combiner);
+      var right = new RangeTask<>(middle, toIndex, sequentialThreshold, aggregator, combiner);
+      left.fork();
+      var rightAggregate = right.compute();
+      return combiner.apply(left.join(), rightAggregate);
+    }
+  }
+}
@@ -1,37 +1,38 @@
 package org.tsdl.implementation.evaluation.impl.sample.aggregation.temporal;
 
 import java.util.List;
+import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
+import org.tsdl.implementation.factory.TsdlComponentFactory;
 import org.tsdl.implementation.math.SummaryStatistics;
+import org.tsdl.implementation.model.sample.aggregation.TsdlAccumulator;
 import org.tsdl.implementation.model.sample.aggregation.temporal.TemporalAggregator;
 import org.tsdl.implementation.model.sample.aggregation.temporal.TimePeriod;
 import org.tsdl.infrastructure.common.Condition;
 import org.tsdl.infrastructure.common.Conditions;
 import org.tsdl.infrastructure.common.TsdlTimeUnit;
-import org.tsdl.infrastructure.model.DataPoint;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
 
 @Slf4j
 abstract class AbstractTemporalAggregator implements TemporalAggregator {
   protected final List<TimePeriod> periods;
-  protected final SummaryStatistics summaryStatistics;
-  private double sampleValue = Double.NaN;
   private final String descriptor;
 
-  protected AbstractTemporalAggregator(List<TimePeriod> periods, SummaryStatistics summaryStatistics) {
+  protected AbstractTemporalAggregator(List<TimePeriod> periods) {
     this.periods = Conditions.checkNotNull(Condition.ARGUMENT, periods, "Periods must not be null.");
-    this.summaryStatistics = Conditions.checkNotNull(Condition.ARGUMENT, summaryStatistics, "Summary statistics calculator must not be null.");
     this.descriptor = "%s over %s periods".formatted(type(), periods.size());
   }
 
-  protected abstract double aggregate(List<DataPoint> input);
+  protected abstract double aggregate(ColumnarTimeSeries input, SummaryStatistics summaryStatistics);
 
   @Override
-  public double compute(String sampleIdentifier, List<DataPoint> dataPoints) {
+  public double compute(String sampleIdentifier, ColumnarTimeSeries dataPoints) {
     Conditions.checkNotNull(Condition.ARGUMENT, dataPoints, "Aggregator input must not be null");
     log.info("Calculating sample '{}' ({}).", sampleIdentifier, descriptor);
 
-    summaryStatistics.ingest(() -> periods.stream().map(period -> period.duration(TsdlTimeUnit.MILLISECONDS)).toList());
-    sampleValue = aggregate(dataPoints);
+    var summaryStatistics = TsdlComponentFactory.INSTANCE.summaryStatistics();
+    summaryStatistics.ingest(periods.size(), i -> periods.get(i).duration(TsdlTimeUnit.MILLISECONDS));
+    var sampleValue = aggregate(dataPoints, summaryStatistics);
     Conditions.checkNotNull(Condition.STATE, sampleValue, "Sample computation failed, aggregate value must not be null.");
 
     log.info("Calculated sample '{}' ({}) to be {}.", sampleIdentifier, descriptor, sampleValue);
@@ -40,18 +41,33 @@ abstract class AbstractTemporalAggregator implements TemporalAggregator {
   }
 
   @Override
-  public List<TimePeriod> periods() {
-    return periods;
+  public TsdlAccumulator accumulator(String sampleIdentifier) {
+    // the value only depends on the periods given as arguments, not on the data points
+    return new TsdlAccumulator() {
+      @Override
+      public void accept(long epochMillis, double value) {
+        // data points are irrelevant
+      }
+
+      @Override
+      public void remove(long epochMillis, double value) {
+        // data points are irrelevant
+      }
+
+      @Override
+      public double result() {
+        return compute(sampleIdentifier, ColumnarTimeSeries.EMPTY);
+      }
+    };
   }
 
   @Override
-  public double value() {
-    Conditions.checkIsTrue(Condition.STATE, this::isComputed, "Value of %s must have been computed before trying to access it.", descriptor);
-    return sampleValue;
+  public Optional<TsdlAccumulator> slidingAccumulator(String sampleIdentifier) {
+    return Optional.of(accumulator(sampleIdentifier));
   }
 
   @Override
-  public boolean isComputed() {
-    return !Double.isNaN(sampleValue);
+  public List<TimePeriod> periods() {
+    return periods;
   }
 }
@@ -10,18 +10,18 @@ import org.tsdl.infrastructure.common.Condition;
 import org.tsdl.infrastructure.common.Conditions;
 import org.tsdl.infrastructure.common.TsdlTimeUnit;
 import org.tsdl.infrastructure.common.TsdlUtil;
-import org.tsdl.infrastructure.model.DataPoint;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
 
 @Slf4j
 abstract class AbstractTemporalAggregatorWithUnit extends AbstractTemporalAggregator implements TemporalAggregatorWithUnit {
   protected final ParsableTsdlTimeUnit unit;
 
-  protected AbstractTemporalAggregatorWithUnit(List<TimePeriod> periods, ParsableTsdlTimeUnit unit, SummaryStatistics summaryStatistics) {
-    super(periods, summaryStatistics);
+  protected AbstractTemporalAggregatorWithUnit(List<TimePeriod> periods, ParsableTsdlTimeUnit unit) {
+    super(periods);
     this.unit = Conditions.checkNotNull(Condition.ARGUMENT, unit, "Unit must not be null.");
   }
 
-  protected abstract double aggregate(List<DataPoint> input);
+  protected abstract double aggregate(ColumnarTimeSeries input, SummaryStatistics summaryStatistics);
 
   protected double convertToTargetUnit(double millis) {
     return TsdlUtil.convertUnit(millis, TsdlTimeUnit.MILLISECONDS, unit.modelEquivalent());
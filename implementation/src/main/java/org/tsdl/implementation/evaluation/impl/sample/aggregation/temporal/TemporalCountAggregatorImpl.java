@@ -4,19 +4,19 @@ import java.util.List;
 import org.tsdl.implementation.math.SummaryStatistics;
 import org.tsdl.implementation.model.sample.aggregation.temporal.TemporalCountAggregator;
 import org.tsdl.implementation.model.sample.aggregation.temporal.TimePeriod;
-import org.tsdl.infrastructure.model.DataPoint;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
 
 /**
  * Default implementation of {@link TemporalCountAggregator}.
  */
 public class TemporalCountAggregatorImpl extends AbstractTemporalAggregator implements TemporalCountAggregator {
 
-  public TemporalCountAggregatorImpl(List<TimePeriod> periods, SummaryStatistics summaryStatistics) {
-    super(periods, summaryStatistics);
+  public TemporalCountAggregatorImpl(List<TimePeriod> periods) {
+    super(periods);
   }
 
   @Override
-  protected double aggregate(List<DataPoint> input) {
+  protected double aggregate(ColumnarTimeSeries input, SummaryStatistics summaryStatistics) {
     return summaryStatistics.count();
   }
 }
@@ -5,19 +5,19 @@ import org.tsdl.implementation.math.SummaryStatistics;
 import org.tsdl.implementation.model.common.ParsableTsdlTimeUnit;
 import org.tsdl.implementation.model.sample.aggregation.temporal.TemporalMaximumAggregator;
 import org.tsdl.implementation.model.sample.aggregation.temporal.TimePeriod;
-import org.tsdl.infrastructure.model.DataPoint;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
 
 /**
  * Default implementation of {@link TemporalMaximumAggregator}.
  */
 public class TemporalMaximumAggregatorImpl extends AbstractTemporalAggregatorWithUnit implements TemporalMaximumAggregator {
 
-  public TemporalMaximumAggregatorImpl(List<TimePeriod> periods, ParsableTsdlTimeUnit unit, SummaryStatistics summaryStatistics) {
-    super(periods, unit, summaryStatistics);
+  public TemporalMaximumAggregatorImpl(List<TimePeriod> periods, ParsableTsdlTimeUnit unit) {
+    super(periods, unit);
   }
 
   @Override
-  protected double aggregate(List<DataPoint> input) {
+  protected double aggregate(ColumnarTimeSeries input, SummaryStatistics summaryStatistics) {
     return convertToTargetUnit(summaryStatistics.maximum());
   }
 }
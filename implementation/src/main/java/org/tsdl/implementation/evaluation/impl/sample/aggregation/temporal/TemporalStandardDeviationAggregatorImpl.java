@@ -5,19 +5,19 @@ import org.tsdl.implementation.math.SummaryStatistics;
 import org.tsdl.implementation.model.common.ParsableTsdlTimeUnit;
 import org.tsdl.implementation.model.sample.aggregation.temporal.TemporalStandardDeviationAggregator;
 import org.tsdl.implementation.model.sample.aggregation.temporal.TimePeriod;
-import org.tsdl.infrastructure.model.DataPoint;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
 
 /**
  * Default implementation of {@link TemporalStandardDeviationAggregator}.
  */
 public class TemporalStandardDeviationAggregatorImpl extends AbstractTemporalAggregatorWithUnit implements TemporalStandardDeviationAggregator {
 
-  public TemporalStandardDeviationAggregatorImpl(List<TimePeriod> periods, ParsableTsdlTimeUnit unit, SummaryStatistics summaryStatistics) {
-    super(periods, unit, summaryStatistics);
+  public TemporalStandardDeviationAggregatorImpl(List<TimePeriod> periods, ParsableTsdlTimeUnit unit) {
+    super(periods, unit);
   }
 
   @Override
-  protected double aggregate(List<DataPoint> input) {
+  protected double aggregate(ColumnarTimeSeries input, SummaryStatistics summaryStatistics) {
     return convertToTargetUnit(summaryStatistics.populationStandardDeviation());
   }
 }
@@ -7,7 +7,7 @@ import org.tsdl.implementation.math.SummaryStatistics;
 import org.tsdl.implementation.model.common.ParsableTsdlTimeUnit;
 import org.tsdl.implementation.model.sample.aggregation.temporal.TemporalSumAggregator;
 import org.tsdl.implementation.model.sample.aggregation.temporal.TimePeriod;
-import org.tsdl.infrastructure.model.DataPoint;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
 
 /**
  * Default implementation of {@link TemporalSumAggregator}.
@@ -16,12 +16,12 @@ import org.tsdl.infrastructure.model.DataPoint;
 @ToString
 public class TemporalSumAggregatorImpl extends AbstractTemporalAggregatorWithUnit implements TemporalSumAggregator {
 
-  public TemporalSumAggregatorImpl(List<TimePeriod> periods, ParsableTsdlTimeUnit unit, SummaryStatistics summaryStatistics) {
-    super(periods, unit, summaryStatistics);
+  public TemporalSumAggregatorImpl(List<TimePeriod> periods, ParsableTsdlTimeUnit unit) {
+    super(periods, unit);
   }
 
   @Override
-  protected double aggregate(List<DataPoint> input) {
+  protected double aggregate(ColumnarTimeSeries input, SummaryStatistics summaryStatistics) {
     return convertToTargetUnit(summaryStatistics.sum());
   }
 }
@@ -1,30 +1,77 @@
 package org.tsdl.implementation.evaluation.impl.sample.aggregation.value;
 
 import java.time.Instant;
-import java.util.List;
+import java.util.Optional;
+import org.tsdl.implementation.evaluation.impl.sample.aggregation.ParallelAggregation;
+import org.tsdl.implementation.factory.TsdlComponentFactory;
 import org.tsdl.implementation.math.SummaryStatistics;
+import org.tsdl.implementation.model.sample.aggregation.TsdlAccumulator;
 import org.tsdl.implementation.model.sample.aggregation.TsdlAggregator;
-import org.tsdl.infrastructure.common.Condition;
-import org.tsdl.infrastructure.common.Conditions;
-import org.tsdl.infrastructure.model.DataPoint;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
 
 abstract class AbstractSummaryAggregator extends AbstractValueAggregator implements TsdlAggregator {
-  protected final SummaryStatistics summaryStatistics;
-
   /**
    * Initializes a {@link AbstractValueAggregator} instance.
    */
-  protected AbstractSummaryAggregator(Instant lowerBound, Instant upperBound, SummaryStatistics summaryStatistics) {
+  protected AbstractSummaryAggregator(Instant lowerBound, Instant upperBound) {
     super(lowerBound, upperBound);
-    Conditions.checkNotNull(Condition.ARGUMENT, summaryStatistics, "Summary statistics calculator must not be null.");
-    this.summaryStatistics = summaryStatistics;
   }
 
-  protected abstract double onAggregate(List<DataPoint> input);
+  protected abstract double onAggregate(SummaryStatistics summaryStatistics);
+
+  @Override
+  protected double aggregate(ColumnarTimeSeries input) {
+    // statistics are scoped to a single computation so that the aggregator itself remains stateless and may be shared between evaluations,
+    // large inputs are summarized in parts which are merged afterwards
+    var summaryStatistics = ParallelAggregation.aggregate(
+        input.size(),
+        (fromIndex, toIndex) -> {
+          var partialStatistics = TsdlComponentFactory.INSTANCE.summaryStatistics();
+          partialStatistics.ingest(toIndex - fromIndex, i -> input.value(fromIndex + i));
+          return partialStatistics;
+        },
+        (left, right) -> {
+          left.merge(right);
+          return left;
+        }
+    );
+    return onAggregate(summaryStatistics);
+  }
+
+  @Override
+  protected TsdlAccumulator createAccumulator() {
+    var summaryStatistics = TsdlComponentFactory.INSTANCE.summaryStatistics();
+    return new TsdlAccumulator() {
+      @Override
+      public void accept(long epochMillis, double value) {
+        summaryStatistics.accept(value);
+      }
+
+      @Override
+      public double result() {
+        return onAggregate(summaryStatistics);
+      }
+    };
+  }
 
   @Override
-  protected double aggregate(List<DataPoint> input) {
-    summaryStatistics.ingest(() -> input.stream().map(DataPoint::value).toList());
-    return onAggregate(input);
+  protected Optional<TsdlAccumulator> createSlidingAccumulator() {
+    var summaryStatistics = TsdlComponentFactory.INSTANCE.slidingSummaryStatistics();
+    return Optional.of(new TsdlAccumulator() {
+      @Override
+      public void accept(long epochMillis, double value) {
+        summaryStatistics.accept(value);
+      }
+
+      @Override
+      public void remove(long epochMillis, double value) {
+        summaryStatistics.remove(value);
+      }
+
+      @Override
+      public double result() {
+        return onAggregate(summaryStatistics);
+      }
+    });
   }
 }
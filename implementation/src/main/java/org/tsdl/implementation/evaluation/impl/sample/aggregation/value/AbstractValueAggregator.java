@@ -1,28 +1,23 @@
 package org.tsdl.implementation.evaluation.impl.sample.aggregation.value;
 
 import java.time.Instant;
-import java.util.List;
 import java.util.Optional;
-import java.util.function.Predicate;
 import lombok.extern.slf4j.Slf4j;
+import org.tsdl.implementation.model.sample.aggregation.TsdlAccumulator;
 import org.tsdl.implementation.model.sample.aggregation.TsdlAggregator;
 import org.tsdl.implementation.model.sample.aggregation.value.ValueAggregator;
 import org.tsdl.infrastructure.common.Condition;
 import org.tsdl.infrastructure.common.Conditions;
-import org.tsdl.infrastructure.model.DataPoint;
+import org.tsdl.infrastructure.common.TsdlUtil;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
 
 /**
- * Abstract base class for {@link TsdlAggregator} implementations that encapsulates common tasks such as logging and preparing a list of
- * {@link DataPoint} actually to be processed by a concrete {@link TsdlAggregator} implementation, based on its {@link ValueAggregator#lowerBound()}
- * and {@link ValueAggregator#upperBound()} values.
+ * Abstract base class for {@link TsdlAggregator} implementations that encapsulates common tasks such as logging and preparing the range of data
+ * points actually to be processed by a concrete {@link TsdlAggregator} implementation, based on its {@link ValueAggregator#lowerBound()} and
+ * {@link ValueAggregator#upperBound()} values.
  */
 @Slf4j
 abstract class AbstractValueAggregator implements ValueAggregator {
-  private final Predicate<DataPoint> lowerBoundChecker = dp -> lowerBound().isEmpty() || !dp.timestamp().isBefore(lowerBound().get());
-  private final Predicate<DataPoint> upperBoundChecker = dp -> upperBound().isEmpty() || !dp.timestamp().isAfter(upperBound().get());
-
-  private double sampleValue = Double.NaN;
-
   private final String descriptor;
 
   protected final Instant lowerBound;
@@ -42,15 +37,28 @@ abstract class AbstractValueAggregator implements ValueAggregator {
     );
   }
 
-  protected abstract double aggregate(List<DataPoint> input);
+  protected abstract double aggregate(ColumnarTimeSeries input);
+
+  /**
+   * Creates an accumulator equivalent to {@link #aggregate(ColumnarTimeSeries)}, which only receives data points within the bounds.
+   */
+  protected abstract TsdlAccumulator createAccumulator();
+
+  /**
+   * Creates an accumulator like {@link #createAccumulator()}, which additionally supports removing data points, see
+   * {@link TsdlAccumulator#remove(long, double)}. Empty if the aggregator value cannot be reverted for single data points.
+   */
+  protected Optional<TsdlAccumulator> createSlidingAccumulator() {
+    return Optional.empty();
+  }
 
   @Override
-  public double compute(String sampleIdentifier, List<DataPoint> dataPoints) {
+  public double compute(String sampleIdentifier, ColumnarTimeSeries dataPoints) {
     Conditions.checkNotNull(Condition.ARGUMENT, dataPoints, "Aggregator input must not be null");
     log.info("Calculating sample '{}' ({}) over {} data points.", sampleIdentifier, descriptor, dataPoints.size());
 
-    var valueStream = getAggregatorInput(dataPoints);
-    sampleValue = aggregate(valueStream);
+    var input = getAggregatorInput(dataPoints);
+    var sampleValue = aggregate(input);
     Conditions.checkNotNull(Condition.STATE, sampleValue, "Sample computation failed, aggregate value must not be null.");
 
     log.info("Calculated sample '{}' ({}) to be {}.", sampleIdentifier, descriptor, sampleValue);
@@ -59,9 +67,16 @@ abstract class AbstractValueAggregator implements ValueAggregator {
   }
 
   @Override
-  public double value() {
-    Conditions.checkIsTrue(Condition.STATE, this::isComputed, "Value of %s must have been computed before trying to access it.", descriptor);
-    return sampleValue;
+  public TsdlAccumulator accumulator(String sampleIdentifier) {
+    log.info("Calculating sample '{}' ({}) incrementally.", sampleIdentifier, descriptor);
+    return withinBounds(sampleIdentifier, createAccumulator());
+  }
+
+  @Override
+  public Optional<TsdlAccumulator> slidingAccumulator(String sampleIdentifier) {
+    var accumulator = createSlidingAccumulator();
+    accumulator.ifPresent(a -> log.info("Calculating sample '{}' ({}) over a sliding window.", sampleIdentifier, descriptor));
+    return accumulator.map(a -> withinBounds(sampleIdentifier, a));
   }
 
   @Override
@@ -74,14 +89,43 @@ abstract class AbstractValueAggregator implements ValueAggregator {
     return Optional.ofNullable(upperBound);
   }
 
-  @Override
-  public boolean isComputed() {
-    return !Double.isNaN(sampleValue);
+  private ColumnarTimeSeries getAggregatorInput(ColumnarTimeSeries dataPoints) {
+    // data points are sorted, hence the ones within the bounds form a contiguous range, whose boundaries are found by binary search
+    var fromIndex = lowerBound != null ? dataPoints.firstIndexNotBefore(0, lowerBound) : 0;
+    var toIndex = upperBound != null ? dataPoints.firstIndexAfter(fromIndex, upperBound) : dataPoints.size();
+    return dataPoints.slice(fromIndex, toIndex);
+  }
+
+  private TsdlAccumulator withinBounds(String sampleIdentifier, TsdlAccumulator accumulator) {
+    // removed data points are bounds-checked like accepted ones, hence, exactly the accepted ones are removed again
+    return new TsdlAccumulator() {
+      @Override
+      public void accept(long epochMillis, double value) {
+        if (isWithinBounds(epochMillis)) {
+          accumulator.accept(epochMillis, value);
+        }
+      }
+
+      @Override
+      public void remove(long epochMillis, double value) {
+        if (isWithinBounds(epochMillis)) {
+          accumulator.remove(epochMillis, value);
+        }
+      }
+
+      @Override
+      public double result() {
+        var sampleValue = accumulator.result();
+        log.info("Calculated sample '{}' ({}) to be {}.", sampleIdentifier, descriptor, sampleValue);
+        return sampleValue;
+      }
+    };
   }
 
-  private List<DataPoint> getAggregatorInput(List<DataPoint> dataPoints) {
-    return dataPoints.stream()
-        .filter(dp -> lowerBoundChecker.test(dp) && upperBoundChecker.test(dp))
-        .toList();
+  private boolean isWithinBounds(long epochMillis) {
+    // a timestamp with millisecond precision is at or after a bound iff it is at or after the bound's millisecond rounded up; it is at or before a
+    // bound iff it is at or before the bound's (truncated) millisecond
+    return (lowerBound == null || epochMillis >= TsdlUtil.ceilEpochMilli(lowerBound))
+        && (upperBound == null || epochMillis <= upperBound.toEpochMilli());
   }
 }
@@ -1,12 +1,10 @@
 package org.tsdl.implementation.evaluation.impl.sample.aggregation.value;
 
 import java.time.Instant;
-import java.util.List;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.tsdl.implementation.math.SummaryStatistics;
 import org.tsdl.implementation.model.sample.aggregation.value.CountAggregator;
-import org.tsdl.infrastructure.model.DataPoint;
 
 /**
  * Default implementation of {@link CountAggregator}.
@@ -14,12 +12,12 @@ import org.tsdl.infrastructure.model.DataPoint;
 @EqualsAndHashCode(callSuper = true)
 @ToString
 public class CountAggregatorImpl extends AbstractSummaryAggregator implements CountAggregator {
-  public CountAggregatorImpl(Instant lowerBound, Instant upperBound, SummaryStatistics summaryStatistics) {
-    super(lowerBound, upperBound, summaryStatistics);
+  public CountAggregatorImpl(Instant lowerBound, Instant upperBound) {
+    super(lowerBound, upperBound);
   }
 
   @Override
-  protected double onAggregate(List<DataPoint> input) {
+  protected double onAggregate(SummaryStatistics summaryStatistics) {
     return summaryStatistics.count();
   }
 }
@@ -1,14 +1,18 @@
 package org.tsdl.implementation.evaluation.impl.sample.aggregation.value;
 
 import java.time.Instant;
-import java.util.List;
+import java.util.Optional;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
+import org.tsdl.implementation.evaluation.impl.sample.aggregation.ParallelAggregation;
 import org.tsdl.implementation.math.Calculus;
+import org.tsdl.implementation.model.sample.aggregation.TsdlAccumulator;
 import org.tsdl.implementation.model.sample.aggregation.value.IntegralAggregator;
 import org.tsdl.infrastructure.common.Condition;
 import org.tsdl.infrastructure.common.Conditions;
-import org.tsdl.infrastructure.model.DataPoint;
+import org.tsdl.infrastructure.common.TsdlTimeUnit;
+import org.tsdl.infrastructure.common.TsdlUtil;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
 
 /**
  * Default implementation of {@link IntegralAggregator}.
@@ -25,7 +29,99 @@ public class IntegralAggregatorImpl extends AbstractValueAggregator implements I
   }
 
   @Override
-  protected double aggregate(List<DataPoint> input) {
-    return calculus.definiteIntegral(input);
+  protected double aggregate(ColumnarTimeSeries input) {
+    // every part also covers the trapezoid between its first data point and the preceding one, i.e., parts are stitched at their boundaries
+    return ParallelAggregation.aggregate(
+        input.size(),
+        (fromIndex, toIndex) -> calculus.definiteIntegral(input.slice(Math.max(fromIndex - 1, 0), toIndex)),
+        Double::sum
+    );
+  }
+
+  @Override
+  protected TsdlAccumulator createAccumulator() {
+    return new TrapezoidAccumulator(false);
+  }
+
+  @Override
+  protected Optional<TsdlAccumulator> createSlidingAccumulator() {
+    return Optional.of(new TrapezoidAccumulator(true));
+  }
+
+  /**
+   * Accumulates the same trapezoid sum as {@link Calculus#definiteIntegral(ColumnarTimeSeries)}, in the same order. If removable, the trapezoids
+   * are retained in the order of their later data points, such that removing the earliest data point subtracts the trapezoid between it and its
+   * successor.
+   */
+  private static final class TrapezoidAccumulator implements TsdlAccumulator {
+    private static final double SECONDS_PER_MILLI = TsdlUtil.getTimespan(1L, TsdlTimeUnit.SECONDS);
+
+    private double[] trapezoids;
+    private int head;
+    private int size;
+    private double doubleCumulativeIntegral;
+    private long previousMillis;
+    private double previousValue;
+    private boolean hasPrevious;
+
+    private TrapezoidAccumulator(boolean removable) {
+      trapezoids = removable ? new double[16] : null;
+    }
+
+    @Override
+    public void accept(long epochMillis, double value) {
+      if (hasPrevious) {
+        var timespanMillis = epochMillis - previousMillis;
+        Conditions.checkIsTrue(Condition.STATE, timespanMillis >= 0,
+            "Trapezoid height for data points at %s and %s is negative. Are the data points not in ascending order (by date)?",
+            Instant.ofEpochMilli(previousMillis), Instant.ofEpochMilli(epochMillis));
+        var trapezoid = (previousValue + value) * (timespanMillis * SECONDS_PER_MILLI);
+        doubleCumulativeIntegral += trapezoid;
+        if (trapezoids != null) {
+          push(trapezoid);
+        }
+      }
+
+      previousMillis = epochMillis;
+      previousValue = value;
+      hasPrevious = true;
+    }
+
+    @Override
+    public void remove(long epochMillis, double value) {
+      Conditions.checkNotNull(Condition.STATE, trapezoids, "Values can only be removed from removable accumulators.");
+      Conditions.checkIsTrue(Condition.STATE, hasPrevious, "There is no data point to remove.");
+      if (size == 0) {
+        // the only data point is removed
+        hasPrevious = false;
+        return;
+      }
+
+      doubleCumulativeIntegral -= trapezoids[head];
+      head = (head + 1) & (trapezoids.length - 1);
+      size--;
+      if (size == 0) {
+        // the integral over a single data point is zero, i.e., it starts over without the rounding errors of the removed trapezoids
+        doubleCumulativeIntegral = 0.0;
+      }
+    }
+
+    @Override
+    public double result() {
+      return doubleCumulativeIntegral * 0.5;
+    }
+
+    private void push(double trapezoid) {
+      if (size == trapezoids.length) {
+        var grown = new double[2 * trapezoids.length];
+        for (var i = 0; i < size; i++) {
+          grown[i] = trapezoids[(head + i) & (trapezoids.length - 1)];
+        }
+        trapezoids = grown;
+        head = 0;
+      }
+      trapezoids[(head + size) & (trapezoids.length - 1)] = trapezoid;
+      size++;
+    }
   }
 }
@@ -1,12 +1,10 @@
 package org.tsdl.implementation.evaluation.impl.sample.aggregation.value;
 
 import java.time.Instant;
-import java.util.List;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.tsdl.implementation.math.SummaryStatistics;
 import org.tsdl.implementation.model.sample.aggregation.value.MaximumAggregator;
-import org.tsdl.infrastructure.model.DataPoint;
 
 /**
  * Default implementation of {@link MaximumAggregator}.
@@ -14,12 +12,12 @@ import org.tsdl.infrastructure.model.DataPoint;
 @EqualsAndHashCode(callSuper = true)
 @ToString
 public class MaximumAggregatorImpl extends AbstractSummaryAggregator implements MaximumAggregator {
-  public MaximumAggregatorImpl(Instant lowerBound, Instant upperBound, SummaryStatistics summaryStatistics) {
-    super(lowerBound, upperBound, summaryStatistics);
+  public MaximumAggregatorImpl(Instant lowerBound, Instant upperBound) {
+    super(lowerBound, upperBound);
   }
 
   @Override
-  protected double onAggregate(List<DataPoint> input) {
+  protected double onAggregate(SummaryStatistics summaryStatistics) {
     return summaryStatistics.maximum();
   }
 }
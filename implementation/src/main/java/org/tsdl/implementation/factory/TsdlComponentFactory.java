@@ -2,13 +2,17 @@ package org.tsdl.implementation.factory;
 
 import org.antlr.v4.runtime.ANTLRErrorListener;
 import org.tsdl.implementation.evaluation.TsdlPeriodAssembler;
+import org.tsdl.implementation.evaluation.TsdlQueryPlanCache;
 import org.tsdl.implementation.evaluation.TsdlResultCollector;
 import org.tsdl.implementation.evaluation.TsdlSamplesCalculator;
 import org.tsdl.implementation.factory.impl.TsdlComponentFactoryImpl;
 import org.tsdl.implementation.math.Calculus;
+import org.tsdl.implementation.math.RangeStatistics;
 import org.tsdl.implementation.math.SummaryStatistics;
 import org.tsdl.implementation.parsing.TsdlElementParser;
 import org.tsdl.implementation.parsing.TsdlQueryParser;
+import org.tsdl.infrastructure.common.TsdlTimeUnit;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
 
 /**
  * A factory for instantiating key elements.
@@ -26,11 +30,24 @@ public interface TsdlComponentFactory {
 
   TsdlPeriodAssembler periodAssembler();
 
+  TsdlQueryPlanCache queryPlanCache(int capacity);
+
   TsdlQueryElementFactory elementFactory();
 
   SummaryStatistics summaryStatistics();
 
+  /**
+   * Creates summary statistics which support removing ingested values (in the order they have been ingested), see
+   * {@link SummaryStatistics#remove(double)}.
+   */
+  SummaryStatistics slidingSummaryStatistics();
+
   Calculus calculus();
 
+  /**
+   * Precomputes statistics of arbitrary index ranges of {@code series}, where time is measured in {@code timeResolution}.
+   */
+  RangeStatistics rangeStatistics(ColumnarTimeSeries series, TsdlTimeUnit timeResolution);
+
   ANTLRErrorListener errorListener();
 }
@@ -3,7 +3,6 @@ package org.tsdl.implementation.factory;
 import java.time.Instant;
 import java.util.List;
 import org.tsdl.implementation.math.Calculus;
-import org.tsdl.implementation.math.SummaryStatistics;
 import org.tsdl.implementation.model.TsdlQuery;
 import org.tsdl.implementation.model.choice.relation.TemporalOperand;
 import org.tsdl.implementation.model.choice.relation.TemporalOperator;
@@ -66,9 +65,9 @@ public interface TsdlQueryElementFactory {
 
   TsdlAggregator getAggregator(AggregatorType type, Instant lowerBound, Instant upperBound, Calculus calculus);
 
-  TsdlAggregator getAggregator(AggregatorType type, List<TimePeriod> periods, ParsableTsdlTimeUnit unit, SummaryStatistics summaryStatistics);
+  TsdlAggregator getAggregator(AggregatorType type, List<TimePeriod> periods, ParsableTsdlTimeUnit unit);
 
-  TsdlAggregator getAggregator(AggregatorType type, Instant lowerBound, Instant upperBound, SummaryStatistics summaryStatistics);
+  TsdlAggregator getAggregator(AggregatorType type, Instant lowerBound, Instant upperBound);
 
   TsdlEvent getEvent(EventConnective connective, TsdlIdentifier identifier, TsdlDuration duration);
 
@@ -2,22 +2,28 @@ package org.tsdl.implementation.factory.impl;
 
 import org.antlr.v4.runtime.ANTLRErrorListener;
 import org.tsdl.implementation.evaluation.TsdlPeriodAssembler;
+import org.tsdl.implementation.evaluation.TsdlQueryPlanCache;
 import org.tsdl.implementation.evaluation.TsdlResultCollector;
 import org.tsdl.implementation.evaluation.TsdlSamplesCalculator;
 import org.tsdl.implementation.evaluation.impl.TsdlPeriodAssemblerImpl;
+import org.tsdl.implementation.evaluation.impl.TsdlQueryPlanCacheImpl;
 import org.tsdl.implementation.evaluation.impl.TsdlSamplesCalculatorImpl;
 import org.tsdl.implementation.evaluation.impl.result.TsdlResultCollectorImpl;
 import org.tsdl.implementation.factory.TsdlComponentFactory;
 import org.tsdl.implementation.factory.TsdlQueryElementFactory;
 import org.tsdl.implementation.math.Calculus;
+import org.tsdl.implementation.math.RangeStatistics;
 import org.tsdl.implementation.math.SummaryStatistics;
 import org.tsdl.implementation.math.impl.CalculusImpl;
+import org.tsdl.implementation.math.impl.RangeStatisticsImpl;
 import org.tsdl.implementation.math.impl.SummaryStatisticsImpl;
 import org.tsdl.implementation.parsing.TsdlElementParser;
 import org.tsdl.implementation.parsing.TsdlErrorListener;
 import org.tsdl.implementation.parsing.TsdlQueryParser;
 import org.tsdl.implementation.parsing.impl.TsdlElementParserImpl;
 import org.tsdl.implementation.parsing.impl.TsdlQueryParserImpl;
+import org.tsdl.infrastructure.common.TsdlTimeUnit;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
 
 /**
  * Default implementation of {@link TsdlComponentFactory}.
@@ -48,6 +54,11 @@ public class TsdlComponentFactoryImpl implements TsdlComponentFactory {
     return new TsdlPeriodAssemblerImpl();
   }
 
+  @Override
+  public TsdlQueryPlanCache queryPlanCache(int capacity) {
+    return new TsdlQueryPlanCacheImpl(queryParser(), capacity);
+  }
+
   @Override
   public TsdlQueryElementFactory elementFactory() {
     return new TsdlQueryElementFactoryImpl();
@@ -58,11 +69,21 @@ public class TsdlComponentFactoryImpl implements TsdlComponentFactory {
     return new SummaryStatisticsImpl();
   }
 
+  @Override
+  public SummaryStatistics slidingSummaryStatistics() {
+    return new SummaryStatisticsImpl(true);
+  }
+
   @Override
   public Calculus calculus() {
     return new CalculusImpl();
   }
 
+  @Override
+  public RangeStatistics rangeStatistics(ColumnarTimeSeries series, TsdlTimeUnit timeResolution) {
+    return new RangeStatisticsImpl(series, timeResolution);
+  }
+
   @Override
   public ANTLRErrorListener errorListener() {
     return new TsdlErrorListener();
@@ -36,7 +36,6 @@ import org.tsdl.implementation.evaluation.impl.sample.aggregation.value.Standard
 import org.tsdl.implementation.evaluation.impl.sample.aggregation.value.SumAggregatorImpl;
 import org.tsdl.implementation.factory.TsdlQueryElementFactory;
 import org.tsdl.implementation.math.Calculus;
-import org.tsdl.implementation.math.SummaryStatistics;
 import org.tsdl.implementation.model.choice.relation.TemporalOperand;
 import org.tsdl.implementation.model.choice.relation.TemporalOperator;
 import org.tsdl.implementation.model.common.ParsableTsdlTimeUnit;
@@ -212,7 +211,7 @@ public class TsdlQueryElementFactoryImpl implements TsdlQueryElementFactory {
   }
 
   @Override
-  public TsdlAggregator getAggregator(AggregatorType type, List<TimePeriod> periods, ParsableTsdlTimeUnit unit, SummaryStatistics summaryStatistics) {
+  public TsdlAggregator getAggregator(AggregatorType type, List<TimePeriod> periods, ParsableTsdlTimeUnit unit) {
     Conditions.checkNotNull(Condition.ARGUMENT, type, AGGREGATOR_TYPE_MUST_NOT_BE_NULL);
     Conditions.checkNotNull(Condition.ARGUMENT, periods, "Time periods must not be null.");
     if (type != AggregatorType.TEMPORAL_COUNT) {
@@ -222,27 +221,27 @@ public class TsdlQueryElementFactoryImpl implements TsdlQueryElementFactory {
     }
 
     return switch (type) {
-      case TEMPORAL_AVERAGE -> new TemporalAverageAggregatorImpl(periods, unit, summaryStatistics);
-      case TEMPORAL_COUNT -> new TemporalCountAggregatorImpl(periods, summaryStatistics);
-      case TEMPORAL_MAXIMUM -> new TemporalMaximumAggregatorImpl(periods, unit, summaryStatistics);
-      case TEMPORAL_MINIMUM -> new TemporalMinimumAggregatorImpl(periods, unit, summaryStatistics);
-      case TEMPORAL_STANDARD_DEVIATION -> new TemporalStandardDeviationAggregatorImpl(periods, unit, summaryStatistics);
-      case TEMPORAL_SUM -> new TemporalSumAggregatorImpl(periods, unit, summaryStatistics);
+      case TEMPORAL_AVERAGE -> new TemporalAverageAggregatorImpl(periods, unit);
+      case TEMPORAL_COUNT -> new TemporalCountAggregatorImpl(periods);
+      case TEMPORAL_MAXIMUM -> new TemporalMaximumAggregatorImpl(periods, unit);
+      case TEMPORAL_MINIMUM -> new TemporalMinimumAggregatorImpl(periods, unit);
+      case TEMPORAL_STANDARD_DEVIATION -> new TemporalStandardDeviationAggregatorImpl(periods, unit);
+      case TEMPORAL_SUM -> new TemporalSumAggregatorImpl(periods, unit);
       default -> throw Conditions.exception(Condition.ARGUMENT, OVERLOAD_DOES_NOT_SUPPORT_AGGREGATOR_TYPE, type);
     };
   }
 
   @Override
-  public TsdlAggregator getAggregator(AggregatorType type, Instant lowerBound, Instant upperBound, SummaryStatistics summaryStatistics) {
+  public TsdlAggregator getAggregator(AggregatorType type, Instant lowerBound, Instant upperBound) {
     Conditions.checkNotNull(Condition.ARGUMENT, type, AGGREGATOR_TYPE_MUST_NOT_BE_NULL);
 
     return switch (type) {
-      case AVERAGE -> new AverageAggregatorImpl(lowerBound, upperBound, summaryStatistics);
-      case MAXIMUM -> new MaximumAggregatorImpl(lowerBound, upperBound, summaryStatistics);
-      case MINIMUM -> new MinimumAggregatorImpl(lowerBound, upperBound, summaryStatistics);
-      case SUM -> new SumAggregatorImpl(lowerBound, upperBound, summaryStatistics);
-      case COUNT -> new CountAggregatorImpl(lowerBound, upperBound, summaryStatistics);
-      case STANDARD_DEVIATION -> new StandardDeviationAggregatorImpl(lowerBound, upperBound, summaryStatistics);
+      case AVERAGE -> new AverageAggregatorImpl(lowerBound, upperBound);
+      case MAXIMUM -> new MaximumAggregatorImpl(lowerBound, upperBound);
+      case MINIMUM -> new MinimumAggregatorImpl(lowerBound, upperBound);
+      case SUM -> new SumAggregatorImpl(lowerBound, upperBound);
+      case COUNT -> new CountAggregatorImpl(lowerBound, upperBound);
+      case STANDARD_DEVIATION -> new StandardDeviationAggregatorImpl(lowerBound, upperBound);
       default -> throw Conditions.exception(Condition.ARGUMENT, OVERLOAD_DOES_NOT_SUPPORT_AGGREGATOR_TYPE, type);
     };
   }
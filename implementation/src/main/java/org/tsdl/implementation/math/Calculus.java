@@ -2,13 +2,25 @@ package org.tsdl.implementation.math;
 
 import java.util.List;
 import org.tsdl.infrastructure.common.TsdlTimeUnit;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
 import org.tsdl.infrastructure.model.DataPoint;
 
 /**
  * Encapsulates methods providing discrete counterparts of concepts known from calculus.
  */
 public interface Calculus {
-  double definiteIntegral(List<DataPoint> dataPoints);
+  double definiteIntegral(ColumnarTimeSeries dataPoints);
 
-  List<DataPoint> derivative(List<DataPoint> dataPoints, TsdlTimeUnit differenceUnit);
+  default double definiteIntegral(List<DataPoint> dataPoints) {
+    return definiteIntegral(ColumnarTimeSeries.of(dataPoints));
+  }
+
+  /**
+   * The derivative shares the timestamps of the given data points, except for the last one.
+   */
+  ColumnarTimeSeries derivative(ColumnarTimeSeries dataPoints, TsdlTimeUnit differenceUnit);
+
+  default List<DataPoint> derivative(List<DataPoint> dataPoints, TsdlTimeUnit differenceUnit) {
+    return derivative(ColumnarTimeSeries.of(dataPoints), differenceUnit).asDataPoints();
+  }
 }
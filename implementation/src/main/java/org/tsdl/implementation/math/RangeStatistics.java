@@ -0,0 +1,26 @@
+package org.tsdl.implementation.math;
+
+import org.tsdl.implementation.math.model.LinearModel;
+
+/**
+ * Statistics of index ranges [fromIndex, toIndex) of a fixed time series. After a (linear) precomputation over the series, each statistic of an
+ * arbitrary range is determined in constant time, instead of scanning the range.
+ */
+public interface RangeStatistics {
+  /**
+   * Number of items of the underlying series.
+   */
+  int size();
+
+  double average(int fromIndex, int toIndex);
+
+  double minimum(int fromIndex, int toIndex);
+
+  double maximum(int fromIndex, int toIndex);
+
+  /**
+   * Counterpart of {@link ContinuousRegression#linearLeastSquares(org.tsdl.infrastructure.model.ColumnarTimeSeries,
+   * org.tsdl.infrastructure.common.TsdlTimeUnit)} for the items of the range, i.e., the abscissa of the first item of the range is 0.
+   */
+  LinearModel linearLeastSquares(int fromIndex, int toIndex);
+}
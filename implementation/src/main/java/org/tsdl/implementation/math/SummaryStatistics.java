@@ -1,16 +1,47 @@
 package org.tsdl.implementation.math;
 
 import java.util.List;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntToDoubleFunction;
 import java.util.function.Supplier;
 
 /**
  * Provides summary information about data with basic descriptive statistics measures.
  */
-public interface SummaryStatistics {
+public interface SummaryStatistics extends DoubleConsumer {
   boolean ingest(Supplier<List<Double>> values);
 
+  /**
+   * Ingests the values {@code values.applyAsDouble(0)} to {@code values.applyAsDouble(count - 1)} without boxing them. Like
+   * {@link #ingest(Supplier)}, values are only ingested once, i.e., if this method returns false, the values have been ignored.
+   */
+  boolean ingest(int count, IntToDoubleFunction values);
+
+  /**
+   * Ingests a single value. In contrast to the bulk methods, values may be ingested one at a time, however, afterwards bulk ingestion is not possible
+   * anymore.
+   */
+  @Override
+  void accept(double value);
+
   boolean hasIngested();
 
+  /**
+   * Combines the state of {@code other} into this instance, such that this instance summarizes the values of both, i.e., as if the values of
+   * {@code other} had been ingested after the values of this instance. {@code other} is not modified. Partial summaries of disjoint parts of the
+   * data may therefore be computed independently (e.g., concurrently) and merged afterwards.
+   */
+  void merge(SummaryStatistics other);
+
+  /**
+   * Removes a value ingested before, such that this instance summarizes the remaining values. Values are removed in the order they have been
+   * ingested, i.e., like the values leaving a sliding window. Only supported by instances created to be removable, see
+   * {@link org.tsdl.implementation.factory.TsdlComponentFactory#slidingSummaryStatistics()}.
+   *
+   * <p>Precondition: {@code value} is the earliest ingested value which has not been removed yet.
+   */
+  void remove(double value);
+
   double populationStandardDeviation();
 
   double sampleStandardDeviation();
@@ -2,27 +2,33 @@ package org.tsdl.implementation.math.impl;
 
 // TODO add unit tests
 
-import java.util.ArrayList;
-import java.util.List;
+import org.tsdl.implementation.evaluation.impl.sample.aggregation.ParallelAggregation;
 import org.tsdl.implementation.math.Calculus;
 import org.tsdl.infrastructure.common.Condition;
 import org.tsdl.infrastructure.common.Conditions;
 import org.tsdl.infrastructure.common.TsdlTimeUnit;
 import org.tsdl.infrastructure.common.TsdlUtil;
-import org.tsdl.infrastructure.model.DataPoint;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
 
 /**
  * Default implementation of {@link Calculus}.
  */
 public class CalculusImpl implements Calculus {
   @Override
-  public double definiteIntegral(List<DataPoint> dataPoints) {
+  public double definiteIntegral(ColumnarTimeSeries dataPoints) {
     var doubleCumulativeIntegral = 0.0;
+    var secondsPerMilli = TsdlUtil.getTimespan(1L, TsdlTimeUnit.SECONDS); // seconds due to definition of SI units
 
     for (var i = 1; i < dataPoints.size(); i++) {
-      var currentDataPoint = dataPoints.get(i);
-      var previousDataPoint = dataPoints.get(i - 1);
-      var doubleArea = doubleTrapezoidalArea(previousDataPoint, currentDataPoint);
+      var timespanMillis = dataPoints.millisBetween(i - 1, i);
+      Conditions.checkIsTrue(
+          Condition.STATE,
+          timespanMillis >= 0,
+          "Trapezoid height for data points at %s and %s is negative. Are the data points not in ascending order (by date)?",
+          dataPoints.timestamp(i - 1),
+          dataPoints.timestamp(i)
+      );
+      var doubleArea = (dataPoints.value(i - 1) + dataPoints.value(i)) * (timespanMillis * secondsPerMilli);
       doubleCumulativeIntegral += doubleArea;
     }
 
@@ -31,32 +37,20 @@ public class CalculusImpl implements Calculus {
   }
 
   @Override
-  public List<DataPoint> derivative(List<DataPoint> dataPoints, TsdlTimeUnit differenceUnit) {
-    var derivative = new ArrayList<DataPoint>(dataPoints.size() - 1);
-
-    for (var i = 0; i < dataPoints.size() - 1; i++) {
-      var current = dataPoints.get(i);
-      var next = dataPoints.get(i + 1);
-      var deltaX = TsdlUtil.getTimespan(current.timestamp(), next.timestamp(), differenceUnit);
-      var x = current.timestamp();
-      var y = (next.value() - current.value()) / deltaX;
-      derivative.add(DataPoint.of(x, y));
-    }
-
-    return derivative;
-  }
-
-  private double doubleTrapezoidalArea(DataPoint dp1, DataPoint dp2) {
-    var a = dp1.value();
-    var c = dp2.value();
-    var h = TsdlUtil.getTimespan(dp1.timestamp(), dp2.timestamp(), TsdlTimeUnit.SECONDS); // seconds due to definition of SI units
-    Conditions.checkIsTrue(
-        Condition.STATE,
-        h >= 0,
-        "Trapezoid height for data points at %s and %s is negative. Are the data points not in ascending order (by date)?",
-        dp1.timestamp(),
-        dp2.timestamp()
-    );
-    return (a + c) * h;
+  public ColumnarTimeSeries derivative(ColumnarTimeSeries dataPoints, TsdlTimeUnit differenceUnit) {
+    var derivativeSize = Math.max(dataPoints.size() - 1, 0);
+    var unitsPerMilli = TsdlUtil.getTimespan(1L, differenceUnit);
+    var derivative = new double[derivativeSize];
+
+    // large series are differentiated in chunks (in parallel), each chunk reading the first data point of the subsequent one
+    ParallelAggregation.aggregate(derivativeSize, (fromIndex, toIndex) -> {
+      for (var i = fromIndex; i < toIndex; i++) {
+        var deltaX = dataPoints.millisBetween(i, i + 1) * unitsPerMilli;
+        derivative[i] = (dataPoints.value(i + 1) - dataPoints.value(i)) / deltaX;
+      }
+      return null;
+    }, (left, right) -> null);
+
+    return dataPoints.slice(0, derivativeSize).withValues(derivative);
   }
 }
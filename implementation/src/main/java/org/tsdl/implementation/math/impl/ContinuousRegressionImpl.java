@@ -1,7 +1,6 @@
 package org.tsdl.implementation.math.impl;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 import org.tsdl.implementation.factory.TsdlComponentFactory;
 import org.tsdl.implementation.math.ContinuousRegression;
 import org.tsdl.implementation.math.model.LinearModel;
@@ -9,46 +8,38 @@ import org.tsdl.infrastructure.common.Condition;
 import org.tsdl.infrastructure.common.Conditions;
 import org.tsdl.infrastructure.common.TsdlTimeUnit;
 import org.tsdl.infrastructure.common.TsdlUtil;
-import org.tsdl.infrastructure.model.DataPoint;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
 
 /**
  * Default implementation of {@link ContinuousRegression}.
  */
 public class ContinuousRegressionImpl implements ContinuousRegression {
   @Override
-  public LinearModel linearLeastSquares(List<DataPoint> dataPoints, TsdlTimeUnit timeResolution) {
+  public LinearModel linearLeastSquares(ColumnarTimeSeries dataPoints, TsdlTimeUnit timeResolution) {
     Conditions.checkIsGreaterThanOrEqual(Condition.ARGUMENT, dataPoints.size(), 2, "The time series must exhibit at least two data points.");
-    var zeroDate = dataPoints.get(0).timestamp();
-
-    var x = new ArrayList<Double>(dataPoints.size());
-    var y = new ArrayList<Double>(dataPoints.size());
-    for (var dataPoint : dataPoints) {
-      x.add(TsdlUtil.getTimespan(zeroDate, dataPoint.timestamp(), timeResolution));
-      y.add(dataPoint.value());
+    var count = dataPoints.size();
+    var unitsPerMilli = TsdlUtil.getTimespan(1L, timeResolution);
+
+    var x = new double[count];
+    var xtimesY = new double[count];
+    var xsquared = new double[count];
+    for (var i = 0; i < count; i++) {
+      x[i] = dataPoints.millisBetween(0, i) * unitsPerMilli;
+      xtimesY[i] = x[i] * dataPoints.value(i);
+      xsquared[i] = x[i] * x[i];
     }
 
     var summaryX = TsdlComponentFactory.INSTANCE.summaryStatistics();
     var summaryY = TsdlComponentFactory.INSTANCE.summaryStatistics();
-    summaryX.ingest(() -> x);
-    summaryY.ingest(() -> y);
-
-    var summaryXtimesY = TsdlComponentFactory.INSTANCE.summaryStatistics();
-    var multiplyXy = new ArrayList<Double>();
-    for (var i = 0; i < x.size(); i++) {
-      multiplyXy.add(x.get(i) * y.get(i));
-    }
-    summaryXtimesY.ingest(() -> multiplyXy);
-
-    var summaryXsquared = TsdlComponentFactory.INSTANCE.summaryStatistics();
-    summaryXsquared.ingest(() -> x.stream().map(v -> v * v).toList());
+    summaryX.ingest(count, i -> x[i]);
+    summaryY.ingest(count, dataPoints::value);
 
-    var count = dataPoints.size();
     var sumX = summaryX.sum();
     var sumY = summaryY.sum();
     var avgX = summaryX.average();
     var avgY = summaryY.average();
-    var sumXtimesY = multiplyXy.stream().mapToDouble(v -> v).sum();
-    var sumXsquared = x.stream().mapToDouble(v -> v * v).sum();
+    var sumXtimesY = Arrays.stream(xtimesY).sum();
+    var sumXsquared = Arrays.stream(xsquared).sum();
 
     var inverseCount = 1.0 / count;
     var beta1 = (sumXtimesY - (inverseCount * sumX * sumY)) / (sumXsquared - (inverseCount * sumX * sumX));
@@ -0,0 +1,226 @@
+package org.tsdl.implementation.math.impl;
+
+import java.util.function.DoubleBinaryOperator;
+import org.tsdl.implementation.math.RangeStatistics;
+import org.tsdl.implementation.math.model.LinearModel;
+import org.tsdl.infrastructure.common.Condition;
+import org.tsdl.infrastructure.common.Conditions;
+import org.tsdl.infrastructure.common.TsdlTimeUnit;
+import org.tsdl.infrastructure.common.TsdlUtil;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
+
+/**
+ * Default implementation of {@link RangeStatistics}.
+ *
+ * <p>Sums over ranges are differences of prefix sums of x (milliseconds since the first item of the series), y (value), xy and x². Prefix sums
+ * are compensated (i.e., kept as unevaluated sums of two doubles), such that the differences of large prefix sums of short ranges deep inside long
+ * series do not lose precision by cancellation. Minima and maxima are looked up in sparse tables over blocks of {@value #BLOCK_SIZE} items,
+ * which answer any range of whole blocks by two overlapping power-of-two ranges, whereas the (at most two) partial blocks at the ends of a range
+ * are scanned. Tables over blocks rather than items keep the memory overhead linear with a small constant.
+ */
+public final class RangeStatisticsImpl implements RangeStatistics {
+  private static final int BLOCK_SHIFT = 6;
+  private static final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+
+  private final ColumnarTimeSeries series;
+  private final double unitsPerMilli;
+  private final CompensatedPrefixSums prefixX;
+  private final CompensatedPrefixSums prefixY;
+  private final CompensatedPrefixSums prefixXy;
+  private final CompensatedPrefixSums prefixXx;
+  private final double[][] blockMinima;
+  private final double[][] blockMaxima;
+
+  /**
+   * Initializes a {@link RangeStatisticsImpl} instance, precomputing the statistics of {@code series}.
+   */
+  public RangeStatisticsImpl(ColumnarTimeSeries series, TsdlTimeUnit timeResolution) {
+    Conditions.checkNotNull(Condition.ARGUMENT, series, "Series must not be null.");
+    Conditions.checkNotNull(Condition.ARGUMENT, timeResolution, "Time resolution must not be null.");
+    this.series = series;
+    unitsPerMilli = TsdlUtil.getTimespan(1L, timeResolution);
+
+    var count = series.size();
+    prefixX = new CompensatedPrefixSums(count);
+    prefixY = new CompensatedPrefixSums(count);
+    prefixXy = new CompensatedPrefixSums(count);
+    prefixXx = new CompensatedPrefixSums(count);
+    for (var i = 0; i < count; i++) {
+      var xi = (double) series.millisBetween(0, i);
+      var yi = series.value(i);
+      prefixX.append(i, xi, 0.0);
+      prefixY.append(i, yi, 0.0);
+      // products are added exactly, i.e., including their rounding error
+      var xy = xi * yi;
+      prefixXy.append(i, xy, Math.fma(xi, yi, -xy));
+      var xx = xi * xi;
+      prefixXx.append(i, xx, Math.fma(xi, xi, -xx));
+    }
+
+    blockMinima = sparseTable(series, Math::min);
+    blockMaxima = sparseTable(series, Math::max);
+  }
+
+  @Override
+  public int size() {
+    return series.size();
+  }
+
+  @Override
+  public double average(int fromIndex, int toIndex) {
+    checkRange(fromIndex, toIndex);
+    return prefixY.sum(fromIndex, toIndex).value() / (toIndex - fromIndex);
+  }
+
+  @Override
+  public double minimum(int fromIndex, int toIndex) {
+    checkRange(fromIndex, toIndex);
+    return extremum(blockMinima, fromIndex, toIndex, Math::min);
+  }
+
+  @Override
+  public double maximum(int fromIndex, int toIndex) {
+    checkRange(fromIndex, toIndex);
+    return extremum(blockMaxima, fromIndex, toIndex, Math::max);
+  }
+
+  @Override
+  public LinearModel linearLeastSquares(int fromIndex, int toIndex) {
+    checkRange(fromIndex, toIndex);
+    Conditions.checkIsGreaterThanOrEqual(Condition.ARGUMENT, toIndex - fromIndex, 2, "The time series must exhibit at least two data points.");
+    var count = toIndex - fromIndex;
+
+    // least squares are invariant under shifting the abscissae, hence, sums are centered around (approximately) the average abscissa of the range
+    var sumX = prefixX.sum(fromIndex, toIndex);
+    var sumY = prefixY.sum(fromIndex, toIndex);
+    var center = sumX.value() / count;
+    var centeredSumX = sumX.add(-count * center, 0.0);
+    var centeredSumXsquared = prefixXx.sum(fromIndex, toIndex)
+        .add(sumX.multiply(-2.0 * center))
+        .add(count * center * center, Math.fma(count * center, center, -(count * center * center)))
+        .value();
+    var centeredSumXtimesY = prefixXy.sum(fromIndex, toIndex).add(sumY.multiply(-center)).value();
+
+    var inverseCount = 1.0 / count;
+    var averageY = sumY.value() * inverseCount;
+    var covariance = centeredSumXtimesY - centeredSumX.value() * averageY;
+    var variance = centeredSumXsquared - inverseCount * centeredSumX.value() * centeredSumX.value();
+    var slopePerMilli = covariance / variance;
+
+    // abscissae are shifted such that the first item of the range is at 0
+    var averageXsinceFirst = centeredSumX.add(count * (center - series.millisBetween(0, fromIndex)), 0.0).value() * inverseCount;
+    var beta1 = slopePerMilli / unitsPerMilli;
+    var beta0 = averageY - averageXsinceFirst * slopePerMilli;
+
+    return LinearModel.of(beta1, beta0);
+  }
+
+  private double extremum(double[][] blockTable, int fromIndex, int toIndex, DoubleBinaryOperator operator) {
+    var firstWholeBlock = (fromIndex + BLOCK_SIZE - 1) >>> BLOCK_SHIFT;
+    var endWholeBlocks = toIndex >>> BLOCK_SHIFT;
+    if (firstWholeBlock >= endWholeBlocks) {
+      return scan(fromIndex, toIndex, operator);
+    }
+
+    var level = 31 - Integer.numberOfLeadingZeros(endWholeBlocks - firstWholeBlock);
+    var result = operator.applyAsDouble(blockTable[level][firstWholeBlock], blockTable[level][endWholeBlocks - (1 << level)]);
+    if (fromIndex < firstWholeBlock << BLOCK_SHIFT) {
+      result = operator.applyAsDouble(result, scan(fromIndex, firstWholeBlock << BLOCK_SHIFT, operator));
+    }
+    if (toIndex > endWholeBlocks << BLOCK_SHIFT) {
+      result = operator.applyAsDouble(result, scan(endWholeBlocks << BLOCK_SHIFT, toIndex, operator));
+    }
+    return result;
+  }
+
+  private double scan(int fromIndex, int toIndex, DoubleBinaryOperator operator) {
+    var result = series.value(fromIndex);
+    for (var i = fromIndex + 1; i < toIndex; i++) {
+      result = operator.applyAsDouble(result, series.value(i));
+    }
+    return result;
+  }
+
+  private void checkRange(int fromIndex, int toIndex) {
+    Conditions.checkIsTrue(Condition.ARGUMENT, 0 <= fromIndex && fromIndex < toIndex && toIndex <= size(),
+        "Range [%s, %s) must be non-empty and within the %s items of the series.", fromIndex, toIndex, size());
+  }
+
+  // level k holds the extremum of the 2^k blocks starting at each block
+  private static double[][] sparseTable(ColumnarTimeSeries series, DoubleBinaryOperator operator) {
+    var blocks = series.size() >>> BLOCK_SHIFT;
+    var levels = blocks > 0 ? 32 - Integer.numberOfLeadingZeros(blocks) : 0;
+    var table = new double[levels][];
+    if (levels == 0) {
+      return table;
+    }
+
+    table[0] = new double[blocks];
+    for (var block = 0; block < blocks; block++) {
+      var result = series.value(block << BLOCK_SHIFT);
+      for (var i = (block << BLOCK_SHIFT) + 1; i < (block + 1) << BLOCK_SHIFT; i++) {
+        result = operator.applyAsDouble(result, series.value(i));
+      }
+      table[0][block] = result;
+    }
+
+    for (var level = 1; level < levels; level++) {
+      var span = 1 << (level - 1);
+      table[level] = new double[blocks - (1 << level) + 1];
+      for (var block = 0; block < table[level].length; block++) {
+        table[level][block] = operator.applyAsDouble(table[level - 1][block], table[level - 1][block + span]);
+      }
+    }
+    return table;
+  }
+
+  // a double-double number, i.e., the unevaluated sum of a high and a low part
+  private record CompensatedSum(double high, double low) {
+    CompensatedSum add(double valueHigh, double valueLow) {
+      var sum = high + valueHigh;
+      var error = twoSumError(high, valueHigh, sum);
+      var tail = error + low + valueLow;
+      var normalized = sum + tail;
+      return new CompensatedSum(normalized, tail - (normalized - sum));
+    }
+
+    CompensatedSum add(CompensatedSum other) {
+      return add(other.high, other.low);
+    }
+
+    CompensatedSum multiply(double factor) {
+      var product = high * factor;
+      return new CompensatedSum(product, 0.0).add(0.0, Math.fma(high, factor, -product) + low * factor);
+    }
+
+    double value() {
+      return high + low;
+    }
+
+    private static double twoSumError(double a, double b, double sum) {
+      var virtualB = sum - a;
+      return (a - (sum - virtualB)) + (b - virtualB);
+    }
+  }
+
+  private static final class CompensatedPrefixSums {
+    private final double[] high;
+    private final double[] low;
+
+    CompensatedPrefixSums(int count) {
+      high = new double[count + 1];
+      low = new double[count + 1];
+    }
+
+    // prefix i + 1 is prefix i plus the given (exact) value
+    void append(int i, double valueHigh, double valueLow) {
+      var sum = new CompensatedSum(high[i], low[i]).add(valueHigh, valueLow);
+      high[i + 1] = sum.high();
+      low[i + 1] = sum.low();
+    }
+
+    CompensatedSum sum(int fromIndex, int toIndex) {
+      return new CompensatedSum(high[toIndex], low[toIndex]).add(-high[fromIndex], -low[fromIndex]);
+    }
+  }
+}
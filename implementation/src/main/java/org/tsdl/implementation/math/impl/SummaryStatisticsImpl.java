@@ -1,12 +1,16 @@
 package org.tsdl.implementation.math.impl;
 
 import java.util.List;
+import java.util.function.IntToDoubleFunction;
 import java.util.function.Supplier;
 import org.tsdl.implementation.math.SummaryStatistics;
+import org.tsdl.infrastructure.common.Condition;
+import org.tsdl.infrastructure.common.Conditions;
 
 /**
  * Default implementation of {@link SummaryStatistics}. Calculates standard deviation using Welford's online algorithm and sum using
- * Neumaier's variant of Kahan summation.
+ * Neumaier's variant of Kahan summation. Both are mergeable, see {@link #merge(SummaryStatistics)}, and can be reverted for single values, see
+ * {@link #remove(double)}. Since minimum and maximum cannot be reverted, removable instances maintain them with monotonic deques.
  */
 public class SummaryStatisticsImpl implements SummaryStatistics {
   private double min = Double.POSITIVE_INFINITY;
@@ -22,6 +26,22 @@ public class SummaryStatisticsImpl implements SummaryStatistics {
 
   private boolean hasIngested = false;
 
+  // candidates for the minimum (maximum) after removing values, only maintained by removable instances
+  private final MonotonicDeque minima;
+  private final MonotonicDeque maxima;
+
+  public SummaryStatisticsImpl() {
+    this(false);
+  }
+
+  /**
+   * Initializes a {@link SummaryStatisticsImpl} instance, which supports {@link #remove(double)} if {@code removable} is true.
+   */
+  public SummaryStatisticsImpl(boolean removable) {
+    minima = removable ? new MonotonicDeque(false) : null;
+    maxima = removable ? new MonotonicDeque(true) : null;
+  }
+
   @Override
   public boolean ingest(Supplier<List<Double>> valueSupplier) {
     if (hasIngested) {
@@ -34,6 +54,20 @@ public class SummaryStatisticsImpl implements SummaryStatistics {
     return true;
   }
 
+  @Override
+  public boolean ingest(int count, IntToDoubleFunction values) {
+    if (hasIngested) {
+      return false;
+    }
+
+    hasIngested = true;
+    for (var i = 0; i < count; i++) {
+      ingest(values.applyAsDouble(i));
+    }
+
+    return true;
+  }
+
   private void ingest(double value) {
     min = Math.min(min, value);
     max = Math.max(max, value);
@@ -46,6 +80,17 @@ public class SummaryStatisticsImpl implements SummaryStatistics {
     average += deltaFromPreviousAvg / count;
     var deltaFromCurrentAvg = value - average;
     m2 += deltaFromPreviousAvg * deltaFromCurrentAvg;
+
+    if (minima != null) {
+      minima.push(value);
+      maxima.push(value);
+    }
+  }
+
+  @Override
+  public void accept(double value) {
+    hasIngested = true;
+    ingest(value);
   }
 
   private void ingestNeumaierSum(double value) {
@@ -55,6 +100,63 @@ public class SummaryStatisticsImpl implements SummaryStatistics {
   }
 
 
+  @Override
+  public void merge(SummaryStatistics other) {
+    Conditions.checkNotNull(Condition.ARGUMENT, other, "Summary statistics to merge must not be null.");
+    Conditions.checkIsTrue(Condition.ARGUMENT, other instanceof SummaryStatisticsImpl, "Only instances of '%s' can be merged, received '%s'.",
+        SummaryStatisticsImpl.class.getName(), other.getClass().getName());
+    Conditions.checkIsTrue(Condition.STATE, minima == null, "Removable summary statistics cannot be merged.");
+    var otherStatistics = (SummaryStatisticsImpl) other;
+    if (otherStatistics.count == 0) {
+      hasIngested |= otherStatistics.hasIngested;
+      return;
+    }
+
+    min = Math.min(min, otherStatistics.min);
+    max = Math.max(max, otherStatistics.max);
+
+    ingestNeumaierSum(otherStatistics.neumaierSum);
+    compensation += otherStatistics.compensation;
+    naiveSum += otherStatistics.naiveSum;
+
+    // Chan et al.'s parallel variant of Welford's algorithm
+    var mergedCount = count + otherStatistics.count;
+    var deltaOfAverages = otherStatistics.average - average;
+    average += deltaOfAverages * ((double) otherStatistics.count / mergedCount);
+    m2 += otherStatistics.m2 + deltaOfAverages * deltaOfAverages * ((double) count * otherStatistics.count / mergedCount);
+    count = mergedCount;
+
+    hasIngested = true;
+  }
+
+  @Override
+  public void remove(double value) {
+    Conditions.checkIsTrue(Condition.STATE, minima != null, "Values can only be removed from removable summary statistics.");
+    Conditions.checkIsTrue(Condition.STATE, count > 0, "There is no value to remove.");
+    minima.removeFirst(value);
+    maxima.removeFirst(value);
+
+    count--;
+    if (count == 0) {
+      // starts over without the rounding errors of the reverted values
+      naiveSum = 0.0;
+      neumaierSum = 0.0;
+      compensation = 0.0;
+      average = 0.0;
+      m2 = 0.0;
+      return;
+    }
+
+    ingestNeumaierSum(-value);
+    naiveSum -= value;
+
+    // Welford's update in reverse, i.e., avg_(n-1) = avg_n - (x_n-avg_n)/(n-1) and M_(2,n-1) = M_(2,n) - (x_n-avg_(n-1))*(x_n-avg_n)
+    var deltaFromPreviousAvg = value - average;
+    average -= deltaFromPreviousAvg / count;
+    var deltaFromCurrentAvg = value - average;
+    m2 = Math.max(0.0, m2 - deltaFromPreviousAvg * deltaFromCurrentAvg);
+  }
+
   @Override
   public boolean hasIngested() {
     return hasIngested;
@@ -96,20 +198,74 @@ public class SummaryStatisticsImpl implements SummaryStatistics {
 
   @Override
   public double minimum() {
-    return min;
+    return minima != null ? minima.first(Double.POSITIVE_INFINITY) : min;
   }
 
   @Override
   public double maximum() {
-    return max;
+    return maxima != null ? maxima.first(Double.NEGATIVE_INFINITY) : max;
   }
 
   @Override
   public double sum() {
-    neumaierSum += compensation;
-    if (Double.isNaN(neumaierSum) && Double.isInfinite(naiveSum)) {
-      neumaierSum = naiveSum;
+    // the compensation is only applied to the returned value, the state remains unchanged such that further values may be ingested or merged
+    var sum = neumaierSum + compensation;
+    if (Double.isNaN(sum) && Double.isInfinite(naiveSum)) {
+      return naiveSum;
+    }
+    return sum;
+  }
+
+  /**
+   * Deque of the values which may become the minimum (maximum) once the values ingested before them are removed, i.e., the values which are smaller
+   * (greater) than all values ingested after them. The values are ascending (descending), hence, the first one is the current minimum (maximum).
+   * Every value is pushed and polled at most once, i.e., both operations take amortized constant time.
+   */
+  private static final class MonotonicDeque {
+    private final boolean maximum;
+    private double[] values = new double[16];
+    private int head;
+    private int size;
+
+    private MonotonicDeque(boolean maximum) {
+      this.maximum = maximum;
+    }
+
+    private void push(double value) {
+      while (size > 0 && dominates(value, values[index(size - 1)])) {
+        size--;
+      }
+
+      if (size == values.length) {
+        var grown = new double[2 * values.length];
+        for (var i = 0; i < size; i++) {
+          grown[i] = values[index(i)];
+        }
+        values = grown;
+        head = 0;
+      }
+      values[index(size)] = value;
+      size++;
+    }
+
+    private void removeFirst(double value) {
+      // unless the removed value is still a candidate, it has been superseded by a later value upon pushing it
+      if (size > 0 && Double.compare(values[head], value) == 0) {
+        head = index(1);
+        size--;
+      }
+    }
+
+    private double first(double emptyValue) {
+      return size > 0 ? values[head] : emptyValue;
+    }
+
+    private boolean dominates(double value, double candidate) {
+      return maximum ? value > candidate : value < candidate;
+    }
+
+    private int index(int offset) {
+      return (head + offset) & (values.length - 1);
     }
-    return neumaierSum;
   }
 }
@@ -2,6 +2,9 @@ package org.tsdl.implementation.model.connective;
 
 import java.util.List;
 import org.tsdl.implementation.model.filter.SinglePointFilter;
+import org.tsdl.infrastructure.common.Condition;
+import org.tsdl.infrastructure.common.Conditions;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
 import org.tsdl.infrastructure.model.DataPoint;
 
 /**
@@ -14,7 +17,23 @@ public interface SinglePointFilterConnective {
   /**
    * Postcondition: order of input data has been preserved; merely non-matching items have been filtered out.
    */
-  List<DataPoint> evaluateFilters(List<DataPoint> data);
+  ColumnarTimeSeries evaluateFilters(ColumnarTimeSeries data);
 
-  boolean isSatisfied(DataPoint dp);
+  /**
+   * Postcondition: order of input data has been preserved; merely non-matching items have been filtered out.
+   */
+  default List<DataPoint> evaluateFilters(List<DataPoint> data) {
+    Conditions.checkNotNull(Condition.ARGUMENT, data, "List of data points to evaluate connective over must not be null.");
+    return evaluateFilters(ColumnarTimeSeries.of(data)).asDataPoints();
+  }
+
+  /**
+   * Evaluates the connective for a data point given by its timestamp (milliseconds since the epoch) and value.
+   */
+  boolean isSatisfied(long epochMillis, double value);
+
+  default boolean isSatisfied(DataPoint dp) {
+    Conditions.checkNotNull(Condition.ARGUMENT, dp, "Data point to evaluate regarding connective must not be null.");
+    return isSatisfied(dp.timestamp().toEpochMilli(), dp.value());
+  }
 }
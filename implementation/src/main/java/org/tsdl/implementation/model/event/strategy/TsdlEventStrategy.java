@@ -3,7 +3,7 @@ package org.tsdl.implementation.model.event.strategy;
 import java.util.List;
 import org.tsdl.implementation.model.choice.AnnotatedTsdlPeriod;
 import org.tsdl.implementation.model.event.TsdlEvent;
-import org.tsdl.infrastructure.model.DataPoint;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
 
 /**
  * Captures an algorithm for detecting intervals (periods) characterized by event definitions, typically through types derived from
@@ -12,9 +12,9 @@ import org.tsdl.infrastructure.model.DataPoint;
  */
 public interface TsdlEventStrategy {
   /**
-   * Precondition: SampleFilterArgument values have been set.
+   * Precondition: sample arguments of events have been bound.
    * Postcondition: detected periods are ordered by start time;
    * for equal start times, the period whose declaring event has the lower index has precedence
    */
-  List<AnnotatedTsdlPeriod> detectPeriods(List<DataPoint> dataPoints, List<TsdlEvent> events);
+  List<AnnotatedTsdlPeriod> detectPeriods(ColumnarTimeSeries dataPoints, List<TsdlEvent> events);
 }
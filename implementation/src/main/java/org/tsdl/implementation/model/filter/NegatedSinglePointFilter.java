@@ -1,9 +1,8 @@
 package org.tsdl.implementation.model.filter;
 
-import org.tsdl.infrastructure.model.DataPoint;
 
 /**
- * A special {@link SinglePointFilter} that returns the inverted result of a given {@link SinglePointFilter#evaluate(DataPoint)}} implementation.
+ * A special {@link SinglePointFilter} that returns the inverted result of a given {@link SinglePointFilter#evaluate(long, double)} implementation.
  */
 public interface NegatedSinglePointFilter extends SinglePointFilter {
   SinglePointFilter filter();
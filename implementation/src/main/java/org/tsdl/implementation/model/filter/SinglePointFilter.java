@@ -1,6 +1,8 @@
 package org.tsdl.implementation.model.filter;
 
 import org.tsdl.implementation.model.event.definition.EventFunction;
+import org.tsdl.infrastructure.common.Condition;
+import org.tsdl.infrastructure.common.Conditions;
 import org.tsdl.infrastructure.model.DataPoint;
 
 /**
@@ -8,5 +10,13 @@ import org.tsdl.infrastructure.model.DataPoint;
  * value.
  */
 public interface SinglePointFilter extends EventFunction {
-  boolean evaluate(DataPoint dataPoint);
+  /**
+   * Evaluates the filter for a data point given by its timestamp (milliseconds since the epoch) and value.
+   */
+  boolean evaluate(long epochMillis, double value);
+
+  default boolean evaluate(DataPoint dataPoint) {
+    Conditions.checkNotNull(Condition.ARGUMENT, dataPoint, "Data point must not be null.");
+    return evaluate(dataPoint.timestamp().toEpochMilli(), dataPoint.value());
+  }
 }
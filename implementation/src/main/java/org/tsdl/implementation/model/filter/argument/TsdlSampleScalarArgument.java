@@ -3,10 +3,9 @@ package org.tsdl.implementation.model.filter.argument;
 import org.tsdl.implementation.model.sample.TsdlSample;
 
 /**
- * A scalar argument which is a {@link TsdlSample}.
+ * A scalar argument which is a {@link TsdlSample}. Its value is the value the referenced sample has been bound to (see
+ * {@link TsdlSample#withValue(double)}).
  */
 public interface TsdlSampleScalarArgument extends TsdlScalarArgument {
   TsdlSample sample();
-
-  void setValue(double value);
 }
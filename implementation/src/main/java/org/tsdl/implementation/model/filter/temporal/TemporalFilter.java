@@ -7,5 +7,8 @@ import org.tsdl.implementation.model.filter.SinglePointFilter;
  * A temporal single point filter, i.e., the eligibility of a data point for the result set depends on the time component.
  */
 public interface TemporalFilter extends SinglePointFilter {
+  /**
+   * Point in time the timestamps of data points are compared to, at millisecond resolution.
+   */
   Instant argument();
 }
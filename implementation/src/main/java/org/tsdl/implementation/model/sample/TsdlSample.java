@@ -4,7 +4,7 @@ import java.util.List;
 import org.tsdl.implementation.model.common.TsdlFormattable;
 import org.tsdl.implementation.model.common.TsdlIdentifier;
 import org.tsdl.implementation.model.sample.aggregation.TsdlAggregator;
-import org.tsdl.infrastructure.model.DataPoint;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
 import org.tsdl.infrastructure.model.TsdlLogEvent;
 
 /**
@@ -15,18 +15,38 @@ public interface TsdlSample extends TsdlFormattable<TsdlSample> {
 
   TsdlIdentifier identifier();
 
+  /**
+   * Returns the value this sample has been bound to by {@link TsdlSample#withValue(double)}. If the sample has not been bound to a value yet, an
+   * {@link IllegalStateException} is thrown.
+   */
+  double value();
+
+  /**
+   * Indicates whether this sample has been bound to a value.
+   */
+  boolean isBound();
+
+  /**
+   * Returns a copy of this sample which is bound to the given value, i.e., the result of computing this sample during a particular evaluation of a
+   * query. This instance is not modified.
+   *
+   * @param value the computed sample value
+   * @return bound copy of this sample
+   */
+  TsdlSample withValue(double value);
+
   /**
    * Default implementation of shorthand method for delegating the sample computing to the actual {@link TsdlAggregator} represented by
-   * {@link TsdlSample#aggregator()}. It also takes care of echoing this instance if {@link TsdlSample#formatter()} is present.
+   * {@link TsdlSample#aggregator()}. It also takes care of echoing the computed sample if {@link TsdlSample#formatter()} is present.
    *
    * @param dataPoints data points as aggregator input
    * @return computed sample value
    */
-  default double compute(List<DataPoint> dataPoints, List<TsdlLogEvent> logs) {
+  default double compute(ColumnarTimeSeries dataPoints, List<TsdlLogEvent> logs) {
     var sample = aggregator().compute(identifier().name(), dataPoints);
 
     if (formatter().isPresent()) {
-      echo(logs);
+      withValue(sample).echo(logs);
     }
 
     return sample;
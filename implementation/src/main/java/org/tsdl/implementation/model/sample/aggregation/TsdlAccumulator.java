@@ -0,0 +1,32 @@
+package org.tsdl.implementation.model.sample.aggregation;
+
+import org.tsdl.infrastructure.common.Condition;
+import org.tsdl.infrastructure.common.Conditions;
+
+/**
+ * Incrementally computes the value of a {@link TsdlAggregator}, i.e., without requiring all data points to be in memory at once. An accumulator is
+ * scoped to a single computation.
+ */
+public interface TsdlAccumulator {
+  /**
+   * Accumulates a data point.
+   *
+   * <p>Precondition: data points are accepted in ascending order of their timestamps.
+   */
+  void accept(long epochMillis, double value);
+
+  /**
+   * Removes a data point accepted before, such that the result is computed over the remaining data points. Only supported by accumulators created
+   * by {@link TsdlAggregator#slidingAccumulator(String)}.
+   *
+   * <p>Precondition: the data point is the earliest accepted one which has not been removed yet.
+   */
+  default void remove(long epochMillis, double value) {
+    throw Conditions.exception(Condition.STATE, "Accumulator of type '%s' does not support removing data points.", getClass().getName());
+  }
+
+  /**
+   * Computes the aggregator value over all data points accepted so far.
+   */
+  double result();
+}
@@ -1,8 +1,12 @@
 package org.tsdl.implementation.model.sample.aggregation;
 
 import java.util.List;
+import java.util.Optional;
 import org.tsdl.implementation.model.sample.TsdlSample;
 import org.tsdl.implementation.parsing.enums.AggregatorType;
+import org.tsdl.infrastructure.common.Condition;
+import org.tsdl.infrastructure.common.Conditions;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
 import org.tsdl.infrastructure.model.DataPoint;
 
 /**
@@ -10,20 +14,32 @@ import org.tsdl.infrastructure.model.DataPoint;
  */
 public interface TsdlAggregator {
   /**
-   * Computes the aggregator value if it has not been yet. If the value has already been computed, it is not computed again, but the previously
-   * computed value is returned.
+   * Computes the aggregator value over the given data points. Computing a value does not alter the state of the aggregator, i.e., the same
+   * instance may be used for any number of (possibly concurrent) computations.
    */
-  double compute(String sampleIdentifier, List<DataPoint> dataPoints);
+  double compute(String sampleIdentifier, ColumnarTimeSeries dataPoints);
 
   /**
-   * Returns the computed aggregator value. If it has not been computed yet, a {@link IllegalStateException} is thrown.
+   * Computes the aggregator value over the given data points, see {@link TsdlAggregator#compute(String, ColumnarTimeSeries)}.
    */
-  double value();
+  default double compute(String sampleIdentifier, List<DataPoint> dataPoints) {
+    Conditions.checkNotNull(Condition.ARGUMENT, dataPoints, "Aggregator input must not be null");
+    return compute(sampleIdentifier, ColumnarTimeSeries.of(dataPoints));
+  }
 
   /**
-   * Indicates whether the aggregator value has already been computed.
+   * Creates an accumulator which computes the same value as {@link TsdlAggregator#compute(String, ColumnarTimeSeries)} one data point at a time.
+   * Timestamps are compared to the bounds of the aggregator at millisecond resolution.
    */
-  boolean isComputed();
+  TsdlAccumulator accumulator(String sampleIdentifier);
+
+  /**
+   * Creates an accumulator like {@link TsdlAggregator#accumulator(String)}, which additionally supports removing data points (in the order they
+   * have been accepted), see {@link TsdlAccumulator#remove(long, double)}. Empty if the aggregator value cannot be reverted for single data points.
+   */
+  default Optional<TsdlAccumulator> slidingAccumulator(String sampleIdentifier) {
+    return Optional.empty();
+  }
 
   AggregatorType type();
 }
@@ -9,7 +9,6 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.function.Supplier;
 import org.antlr.v4.runtime.Token;
 import org.antlr.v4.runtime.tree.TerminalNode;
 import org.tsdl.grammar.DtsqlParser;
@@ -19,7 +18,6 @@ import org.tsdl.implementation.evaluation.impl.TsdlQueryImpl;
 import org.tsdl.implementation.factory.TsdlComponentFactory;
 import org.tsdl.implementation.factory.TsdlQueryElementFactory;
 import org.tsdl.implementation.math.Calculus;
-import org.tsdl.implementation.math.SummaryStatistics;
 import org.tsdl.implementation.model.TsdlQuery;
 import org.tsdl.implementation.model.choice.relation.TemporalOperand;
 import org.tsdl.implementation.model.choice.relation.TemporalOperator;
@@ -56,20 +54,6 @@ public class TsdlListenerImpl extends DtsqlParserBaseListener {
     EVENT, SAMPLE
   }
 
-  /**
-   * <p>
-   * Different samples may have different lower and upper bounds. Therefore, we may reuse {@link SummaryStatistics} instances only if both lower and
-   * upper bound are equal. For instance, all global samples may share the same instance as well as local samples with the same bounds, but local
-   * samples with differing bounds may not.
-   * </p>
-   * <p>
-   * This record encapsulates the lower and upper bound of a {@link TsdlAggregator}, enabling support for memorizing {@link SummaryStatistics}
-   * instances that may be reused.
-   * </p>
-   */
-  private record AggregatorBounds(Instant lowerBound, Instant upperBound) {
-  }
-
   class TemporalRelationVisitor extends DtsqlParserBaseVisitor<TemporalOperator> {
     @Override
     public TemporalOperator visitEventEvent(DtsqlParser.EventEventContext ctx) {
@@ -125,10 +109,6 @@ public class TsdlListenerImpl extends DtsqlParserBaseListener {
   private final Map<TsdlIdentifier, TsdlSample> declaredSamples = new HashMap<>();
   private final TsdlQueryImpl.TsdlQueryImplBuilder queryBuilder = TsdlQueryImpl.builder();
 
-  private final Map<AggregatorBounds, SummaryStatistics> summaryStatisticsByBounds = new HashMap<>();
-
-  private final Map<List<TimePeriod>, SummaryStatistics> summaryStatisticsByPeriods = new HashMap<>();
-
   @Override
   public void enterIdentifierDeclaration(DtsqlParser.IdentifierDeclarationContext ctx) {
     var identifier = parseIdentifier(ctx.IDENTIFIER());
@@ -267,13 +247,7 @@ public class TsdlListenerImpl extends DtsqlParserBaseListener {
 
     return switch (aggregatorType) {
       case INTEGRAL -> elementFactory.getAggregator(aggregatorType, lowerBound, upperBound, calculus);
-      case AVERAGE, COUNT, MAXIMUM, MINIMUM, STANDARD_DEVIATION, SUM -> {
-        var statistics = summaryStatisticsByBounds.computeIfAbsent(
-            new AggregatorBounds(lowerBound, upperBound),
-            k -> TsdlComponentFactory.INSTANCE.summaryStatistics()
-        );
-        yield elementFactory.getAggregator(aggregatorType, lowerBound, upperBound, statistics);
-      }
+      case AVERAGE, COUNT, MAXIMUM, MINIMUM, STANDARD_DEVIATION, SUM -> elementFactory.getAggregator(aggregatorType, lowerBound, upperBound);
       default -> throw Conditions.exception(Condition.ARGUMENT, "This overload does not support aggregator type '%s'", aggregatorType);
     };
   }
@@ -289,13 +263,11 @@ public class TsdlListenerImpl extends DtsqlParserBaseListener {
     var timePeriods = parseIntervalList(ctx.intervalList());
 
     var unit = aggregatorWithUnit ? elementParser.parseDurationUnit(ctx.TIME_UNIT().getText()) : null;
-    Supplier<SummaryStatistics> statisticsSupplier =
-        () -> summaryStatisticsByPeriods.computeIfAbsent(timePeriods, k -> TsdlComponentFactory.INSTANCE.summaryStatistics());
 
     return switch (aggregatorType) {
       case TEMPORAL_AVERAGE, TEMPORAL_MAXIMUM, TEMPORAL_MINIMUM, TEMPORAL_STANDARD_DEVIATION, TEMPORAL_SUM ->
-          elementFactory.getAggregator(aggregatorType, timePeriods, unit, statisticsSupplier.get());
-      case TEMPORAL_COUNT -> elementFactory.getAggregator(aggregatorType, timePeriods, null, statisticsSupplier.get());
+          elementFactory.getAggregator(aggregatorType, timePeriods, unit);
+      case TEMPORAL_COUNT -> elementFactory.getAggregator(aggregatorType, timePeriods, null);
       default -> throw Conditions.exception(Condition.ARGUMENT, "This overload does not support aggregator type '%s'", aggregatorType);
     };
   }
@@ -0,0 +1,149 @@
+package org.tsdl.implementation.evaluation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.tsdl.implementation.evaluation.impl.connective.AndFilterConnectiveImpl;
+import org.tsdl.implementation.evaluation.impl.connective.CompiledFilterConnective;
+import org.tsdl.implementation.evaluation.impl.connective.OrFilterConnectiveImpl;
+import org.tsdl.implementation.evaluation.impl.filter.NegatedSinglePointFilterImpl;
+import org.tsdl.implementation.evaluation.impl.filter.argument.TsdlLiteralScalarArgumentImpl;
+import org.tsdl.implementation.evaluation.impl.filter.deviation.AbsoluteAroundFilterImpl;
+import org.tsdl.implementation.evaluation.impl.filter.deviation.RelativeAroundFilterImpl;
+import org.tsdl.implementation.evaluation.impl.filter.temporal.AfterFilterImpl;
+import org.tsdl.implementation.evaluation.impl.filter.temporal.BeforeFilterImpl;
+import org.tsdl.implementation.evaluation.impl.filter.threshold.GreaterThanFilterImpl;
+import org.tsdl.implementation.evaluation.impl.filter.threshold.LessThanFilterImpl;
+import org.tsdl.implementation.model.connective.SinglePointFilterConnective;
+import org.tsdl.implementation.model.filter.SinglePointFilter;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
+
+class CompiledFilterConnectiveTest {
+  private static final long[] TIMESTAMPS = {0L, 999L, 1000L, 1001L, 5000L, 9999L, 10_000L, 10_001L};
+  private static final double[] VALUES = {-10.0, -0.0, 0.0, 0.5, 1.0, 4.999, 5.0, 5.001, 10.0, Double.NaN, Double.POSITIVE_INFINITY};
+
+  @ParameterizedTest
+  @MethodSource("connectives")
+  void compile_anyDataPoint_sameResultAsInterpretedConnective(SinglePointFilterConnective connective) {
+    var compiled = CompiledFilterConnective.compile(connective);
+
+    for (var epochMillis : TIMESTAMPS) {
+      for (var value : VALUES) {
+        assertThat(compiled.isSatisfied(epochMillis, value))
+            .as("%s at (%s, %s)", connective, epochMillis, value)
+            .isEqualTo(connective.isSatisfied(epochMillis, value));
+      }
+    }
+    assertThat(compiled.filters()).isEqualTo(connective.filters());
+    assertThat(CompiledFilterConnective.compile(compiled)).isSameAs(compiled);
+  }
+
+  @ParameterizedTest
+  @MethodSource("connectives")
+  void select_seriesSpanningSeveralBlocks_setsBitsOfSatisfyingDataPoints(SinglePointFilterConnective connective) {
+    var size = 3 * 1024 + 37;
+    var builder = ColumnarTimeSeries.builder();
+    for (var i = 0; i < size; i++) {
+      builder.add(TIMESTAMPS[0] + 5L * i, VALUES[i % VALUES.length]);
+    }
+    var series = builder.build();
+
+    var selection = CompiledFilterConnective.compile(connective).select(series);
+
+    assertThat(selection.length()).isLessThanOrEqualTo(size);
+    for (var i = 0; i < size; i++) {
+      assertThat(selection.get(i))
+          .as("%s at index %s", connective, i)
+          .isEqualTo(connective.isSatisfied(series.epochMillis(i), series.value(i)));
+    }
+    assertThat(CompiledFilterConnective.compile(connective).evaluateFilters(series).asDataPoints())
+        .isEqualTo(connective.evaluateFilters(series.asDataPoints()));
+  }
+
+  @ParameterizedTest
+  @MethodSource("connectives")
+  void select_sharedFilterSelections_sameResultAsFusedEvaluation(SinglePointFilterConnective connective) {
+    var size = 2 * 1024 + 13;
+    var builder = ColumnarTimeSeries.builder();
+    for (var i = 0; i < size; i++) {
+      builder.add(TIMESTAMPS[0] + 5L * i, VALUES[i % VALUES.length]);
+    }
+    var series = builder.build();
+    var compiled = CompiledFilterConnective.compile(connective);
+    var filterSelections = new HashMap<CompiledFilterConnective, BitSet>();
+
+    var selection = compiled.select(series, filter -> filterSelections.computeIfAbsent(filter, key -> key.select(series)));
+
+    assertThat(selection).isEqualTo(compiled.select(series));
+    assertThat(filterSelections).hasSizeLessThanOrEqualTo(connective.filters().size());
+  }
+
+  @Test
+  void filterConnectives_filtersSharedByDifferentConnectives_areEqual() {
+    var connective = CompiledFilterConnective.compile(new AndFilterConnectiveImpl(List.of(
+        new GreaterThanFilterImpl(literal(0.5)), new LessThanFilterImpl(literal(5.0)))));
+    var other = CompiledFilterConnective.compile(new OrFilterConnectiveImpl(List.of(
+        new NegatedSinglePointFilterImpl(new GreaterThanFilterImpl(literal(0.5))), new BeforeFilterImpl(Instant.ofEpochMilli(1000)))));
+
+    assertThat(connective.filterConnectives()).hasSize(2);
+    assertThat(other.filterConnectives()).hasSize(2);
+    assertThat(connective.filterConnectives().get(0))
+        .isEqualTo(other.filterConnectives().get(0))
+        .hasSameHashCodeAs(other.filterConnectives().get(0));
+    assertThat(connective.filterConnectives().get(1)).isNotEqualTo(other.filterConnectives().get(1));
+  }
+
+  @Test
+  void equals_sameDefinitionOfDifferentInstances_isEqual() {
+    var connective = CompiledFilterConnective.compile(new AndFilterConnectiveImpl(List.of(
+        new GreaterThanFilterImpl(literal(0.5)), new NegatedSinglePointFilterImpl(new BeforeFilterImpl(Instant.ofEpochMilli(1000))))));
+    var same = CompiledFilterConnective.compile(new AndFilterConnectiveImpl(List.of(
+        new GreaterThanFilterImpl(literal(0.5)), new NegatedSinglePointFilterImpl(new BeforeFilterImpl(Instant.ofEpochMilli(1000))))));
+    var disjunction = CompiledFilterConnective.compile(new OrFilterConnectiveImpl(connective.filters()));
+    var otherThreshold = CompiledFilterConnective.compile(new AndFilterConnectiveImpl(List.of(
+        new GreaterThanFilterImpl(literal(0.6)), new NegatedSinglePointFilterImpl(new BeforeFilterImpl(Instant.ofEpochMilli(1000))))));
+
+    assertThat(connective).isEqualTo(same).hasSameHashCodeAs(same);
+    assertThat(connective).isNotEqualTo(disjunction).isNotEqualTo(otherThreshold);
+  }
+
+  private static Stream<Arguments> connectives() {
+    var filters = List.<SinglePointFilter>of(
+        new GreaterThanFilterImpl(literal(0.5)),
+        new LessThanFilterImpl(literal(5.0)),
+        new AbsoluteAroundFilterImpl(literal(5.0), literal(0.001)),
+        new RelativeAroundFilterImpl(literal(5.0), literal(10.0)),
+        new RelativeAroundFilterImpl(literal(0.0), literal(10.0)),
+        new BeforeFilterImpl(Instant.ofEpochMilli(1000)),
+        new AfterFilterImpl(Instant.ofEpochMilli(10_000))
+    );
+
+    return Stream.of(
+        Arguments.of(new AndFilterConnectiveImpl(List.of())),
+        Arguments.of(new OrFilterConnectiveImpl(List.of())),
+        Arguments.of(new AndFilterConnectiveImpl(filters.subList(0, 2))),
+        Arguments.of(new OrFilterConnectiveImpl(filters.subList(5, 7))),
+        Arguments.of(new OrFilterConnectiveImpl(filters.subList(2, 5))),
+        Arguments.of(new AndFilterConnectiveImpl(negated(filters))),
+        Arguments.of(new OrFilterConnectiveImpl(negated(filters))),
+        Arguments.of(new AndFilterConnectiveImpl(List.of(new NegatedSinglePointFilterImpl(new NegatedSinglePointFilterImpl(filters.get(0))),
+            (epochMillis, value) -> epochMillis % 2 == 0)))
+    );
+  }
+
+  private static TsdlLiteralScalarArgumentImpl literal(double value) {
+    return new TsdlLiteralScalarArgumentImpl(value);
+  }
+
+  private static List<SinglePointFilter> negated(List<? extends SinglePointFilter> filters) {
+    return filters.stream().<SinglePointFilter>map(NegatedSinglePointFilterImpl::new).toList();
+  }
+}
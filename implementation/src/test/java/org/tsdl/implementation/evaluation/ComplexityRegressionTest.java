@@ -0,0 +1,206 @@
+package org.tsdl.implementation.evaluation;
+
+import static org.assertj.core.api.Assertions.fail;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.tsdl.implementation.evaluation.impl.choice.AnnotatedTsdlPeriodImpl;
+import org.tsdl.implementation.evaluation.impl.choice.relation.PrecedesOperatorImpl;
+import org.tsdl.implementation.evaluation.impl.common.TsdlIdentifierImpl;
+import org.tsdl.implementation.evaluation.impl.result.YieldStatementImpl;
+import org.tsdl.implementation.factory.TsdlComponentFactory;
+import org.tsdl.implementation.model.choice.AnnotatedTsdlPeriod;
+import org.tsdl.implementation.model.choice.relation.TemporalOperand;
+import org.tsdl.implementation.model.result.YieldFormat;
+import org.tsdl.infrastructure.api.QueryService;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
+import org.tsdl.infrastructure.model.DataPoint;
+import org.tsdl.infrastructure.model.DataPointSource;
+import org.tsdl.infrastructure.model.QueryResult;
+import org.tsdl.infrastructure.model.TsdlPeriod;
+import org.tsdl.testutil.creation.generator.SeriesGenerator;
+
+/**
+ * Runs query evaluation stages at geometrically growing input sizes (the number of periods growing proportionally) and fits the exponent
+ * {@code k} of their running time {@code t ~ n^k} by least squares on a log-log scale. A stage fails if {@code k} exceeds the bound given by the
+ * system property {@value #MAX_EXPONENT_PROPERTY}. Sizes stop growing once the time budget of a stage (system property
+ * {@value #BUDGET_PROPERTY}, in milliseconds) is spent, but at least {@value #MIN_SIZES} sizes are measured. Each stage is measured up to
+ * {@value #ATTEMPTS} times before it fails.
+ */
+class ComplexityRegressionTest {
+  private static final String MAX_EXPONENT_PROPERTY = "tsdl.complexity.maxExponent";
+  private static final String BUDGET_PROPERTY = "tsdl.complexity.budgetMillis";
+  private static final double MAX_EXPONENT = Double.parseDouble(System.getProperty(MAX_EXPONENT_PROPERTY, "1.5"));
+  private static final long BUDGET_MILLIS = Long.getLong(BUDGET_PROPERTY, 10_000L);
+
+  private static final int MIN_SIZE = 1 << 13;
+  private static final int MIN_SIZES = 3;
+  private static final int MAX_SIZES = 6;
+  private static final long FIRST_WARMUP_NANOS = 1_000_000_000L;
+  private static final long WARMUP_NANOS = 100_000_000L;
+  private static final long MEASUREMENT_NANOS = 150_000_000L;
+  private static final int MIN_RUNS = 3;
+  private static final int ATTEMPTS = 2;
+
+  private static final QueryService QUERY_SERVICE = new TsdlQueryService();
+  private static final TemporalOperand LOW = () -> "low";
+  private static final TemporalOperand HIGH = () -> "high";
+
+  // keeps results reachable, such that the measured work cannot be eliminated
+  private static volatile Object sink;
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("stages")
+  void stage_geometricallyGrowingInput_scalesNearLinearly(String stage, IntFunction<Supplier<?>> preparation) {
+    // timings are subject to noise (e.g., garbage collection, other processes), hence, a stage only fails if all attempts exceed the bound
+    var failures = new ArrayList<String>();
+    for (var attempt = 0; attempt < ATTEMPTS; attempt++) {
+      var sizes = new ArrayList<Integer>();
+      var nanos = new ArrayList<Double>();
+      var budgetEnd = System.nanoTime() + BUDGET_MILLIS * 1_000_000L;
+      for (var size = MIN_SIZE; sizes.size() < MAX_SIZES; size *= 2) {
+        if (sizes.size() >= MIN_SIZES && System.nanoTime() > budgetEnd) {
+          break;
+        }
+        // the first (i.e., smallest) size additionally warms up the JIT compiler for the whole stage
+        nanos.add(measure(preparation.apply(size), sizes.isEmpty() ? FIRST_WARMUP_NANOS : WARMUP_NANOS));
+        sizes.add(size);
+      }
+
+      var exponent = growthExponent(sizes, nanos);
+      if (exponent <= MAX_EXPONENT) {
+        return;
+      }
+      failures.add("exponent %.2f (sizes %s, nanoseconds %s)".formatted(exponent, sizes, nanos));
+    }
+
+    fail("Growth exponent of stage '%s' exceeds %s in all attempts: %s", stage, MAX_EXPONENT, failures);
+  }
+
+  private static Stream<Arguments> stages() {
+    return Stream.of(
+        stage("single point events", size -> query(size, """
+            USING EVENTS: AND(lt(40)) AS low, AND(gt(60)) AS high
+            YIELD: all periods""")),
+        stage("constant events", size -> query(size, """
+            USING EVENTS: AND(const(5, 2)) AS flat
+            YIELD: all periods""")),
+        stage("increase events", size -> query(size, """
+            USING EVENTS: AND(increase(10, -, 0.5)) AS rise
+            YIELD: all periods""")),
+        stage("full query", size -> query(size, """
+            WITH SAMPLES: avg() AS s1
+            USING EVENTS: AND(lt(40)) AS low, AND(gt(s1)) AS high
+            SELECT PERIODS: (low precedes high)
+            YIELD: data points""")),
+        stage("streamed data points yield", size -> streamedQuery(size, """
+            USING EVENTS: AND(lt(40)) AS low, AND(gt(60)) AS high
+            YIELD: data points""")),
+        stage("precedes operator", ComplexityRegressionTest::precedes),
+        stage("data points yield", ComplexityRegressionTest::dataPointsYield)
+    );
+  }
+
+  private static Arguments stage(String name, IntFunction<Supplier<?>> preparation) {
+    return Arguments.of(name, preparation);
+  }
+
+  private static Supplier<?> query(int size, String query) {
+    var series = series(size);
+    return () -> QUERY_SERVICE.query(series, query);
+  }
+
+  // a source which is not in memory is scanned once more to collect the data points within the chosen periods
+  private static Supplier<?> streamedQuery(int size, String query) {
+    var source = DataPointSource.of(series(size).asDataPoints());
+    return () -> QUERY_SERVICE.query(source, query);
+  }
+
+  private static Supplier<?> precedes(int size) {
+    var random = new Random(size);
+    var periods = new ArrayList<AnnotatedTsdlPeriod>(size);
+    var start = Instant.EPOCH;
+    for (var i = 0; i < size; i++) {
+      // about half of the periods are adjacent to their successor, i.e., its subsequent data point is the start of the successor
+      var end = start.plusSeconds(1 + random.nextInt(30));
+      var next = end.plusSeconds(1 + random.nextInt(2) * random.nextInt(10));
+      periods.add(new AnnotatedTsdlPeriodImpl(
+          QueryResult.of(-1, start, end),
+          new TsdlIdentifierImpl(random.nextBoolean() ? "low" : "high"),
+          DataPoint.of(start.minusSeconds(1), 0.0),
+          DataPoint.of(end.plusSeconds(1), 0.0)
+      ));
+      start = next;
+    }
+    var operator = new PrecedesOperatorImpl(LOW, HIGH, null);
+    return () -> operator.evaluate(periods);
+  }
+
+  private static Supplier<?> dataPointsYield(int size) {
+    var series = series(size);
+    // one period per eight data points, in reverse order and overlapping their predecessors
+    var periods = new ArrayList<TsdlPeriod>(size / 8);
+    for (var i = size / 8 - 1; i >= 0; i--) {
+      periods.add(QueryResult.of(periods.size(), series.timestamp(8 * i), series.timestamp(Math.min(8 * i + 10, size - 1))));
+    }
+    var periodSet = QueryResult.of(periods.size(), periods);
+    var yield = new YieldStatementImpl(YieldFormat.DATA_POINTS, null);
+    var collector = TsdlComponentFactory.INSTANCE.resultCollector();
+    return () -> collector.collect(yield, series, periodSet, false, Map.of());
+  }
+
+  private static ColumnarTimeSeries series(int size) {
+    // one seasonal period per six hours, i.e., the number of periods grows proportionally
+    return SeriesGenerator.workload(size, size, size / 360).toColumnar();
+  }
+
+  /**
+   * The minimum running time of {@code work} in nanoseconds, measured after warm-up over at least {@value #MIN_RUNS} runs.
+   */
+  private static double measure(Supplier<?> work, long warmupNanos) {
+    var warmupEnd = System.nanoTime() + warmupNanos;
+    for (var runs = 0; runs < MIN_RUNS || System.nanoTime() < warmupEnd; runs++) {
+      sink = work.get();
+    }
+
+    var minimum = Long.MAX_VALUE;
+    var measurementEnd = System.nanoTime() + MEASUREMENT_NANOS;
+    for (var runs = 0; runs < MIN_RUNS || System.nanoTime() < measurementEnd; runs++) {
+      var start = System.nanoTime();
+      sink = work.get();
+      minimum = Math.min(minimum, System.nanoTime() - start);
+    }
+    return minimum;
+  }
+
+  /**
+   * Slope of the least squares line through the points {@code (log n, log t)}.
+   */
+  private static double growthExponent(List<Integer> sizes, List<Double> nanos) {
+    var count = sizes.size();
+    var meanX = 0.0;
+    var meanY = 0.0;
+    for (var i = 0; i < count; i++) {
+      meanX += Math.log(sizes.get(i)) / count;
+      meanY += Math.log(nanos.get(i)) / count;
+    }
+
+    var covariance = 0.0;
+    var variance = 0.0;
+    for (var i = 0; i < count; i++) {
+      var dx = Math.log(sizes.get(i)) - meanX;
+      covariance += dx * (Math.log(nanos.get(i)) - meanY);
+      variance += dx * dx;
+    }
+    return covariance / variance;
+  }
+}
@@ -0,0 +1,117 @@
+package org.tsdl.implementation.evaluation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.tsdl.implementation.evaluation.impl.choice.AnnotatedTsdlPeriodImpl;
+import org.tsdl.implementation.evaluation.impl.choice.relation.FollowsOperatorImpl;
+import org.tsdl.implementation.evaluation.impl.choice.relation.PrecedesOperatorImpl;
+import org.tsdl.implementation.evaluation.impl.common.TsdlDurationImpl;
+import org.tsdl.implementation.evaluation.impl.common.TsdlIdentifierImpl;
+import org.tsdl.implementation.model.choice.AnnotatedTsdlPeriod;
+import org.tsdl.implementation.model.choice.relation.TemporalOperand;
+import org.tsdl.implementation.model.choice.relation.TemporalOperator;
+import org.tsdl.implementation.model.common.ParsableTsdlTimeUnit;
+import org.tsdl.implementation.model.common.TsdlDuration;
+import org.tsdl.implementation.model.common.TsdlDurationBound;
+import org.tsdl.infrastructure.common.TsdlUtil;
+import org.tsdl.infrastructure.model.DataPoint;
+import org.tsdl.infrastructure.model.QueryResult;
+
+class PrecedesOperatorTest {
+  private static final TemporalOperand LOW = () -> "low";
+  private static final TemporalOperand HIGH = () -> "high";
+
+  @ParameterizedTest
+  @MethodSource("tolerances")
+  void evaluate_manyPeriods_equalsPairwiseComparison(TsdlDuration tolerance) {
+    var periods = randomPeriods(new Random(42), 600);
+    var operators = new ArrayList<TemporalOperator>(List.of(
+        new PrecedesOperatorImpl(LOW, HIGH, tolerance),
+        new PrecedesOperatorImpl(HIGH, HIGH, tolerance),
+        new FollowsOperatorImpl(LOW, HIGH, tolerance)
+    ));
+    if (tolerance == null) {
+      // periods of nested operands are examined after the input periods, i.e., they may only be the current (later) ones
+      operators.add(new PrecedesOperatorImpl(LOW, new PrecedesOperatorImpl(LOW, HIGH, null), null));
+    }
+
+    for (var operator : operators) {
+      var expected = pairwiseComparison(operator.representation(), periodsToExamine(operator, periods), tolerance);
+
+      assertThat(operator.evaluate(periods)).as(operator.representation()).isNotEmpty().isEqualTo(expected);
+    }
+  }
+
+  private static Stream<Arguments> tolerances() {
+    return Stream.of(
+        Arguments.of((TsdlDuration) null),
+        Arguments.of(new TsdlDurationImpl(TsdlDurationBound.of(0, true), TsdlDurationBound.of(1, true), ParsableTsdlTimeUnit.MINUTES)),
+        Arguments.of(new TsdlDurationImpl(TsdlDurationBound.of(3, false), TsdlDurationBound.of(20, true), ParsableTsdlTimeUnit.SECONDS)),
+        Arguments.of(new TsdlDurationImpl(TsdlDurationBound.of(1000, true), TsdlDurationBound.of(30_000, false), ParsableTsdlTimeUnit.MILLISECONDS))
+    );
+  }
+
+  private static List<AnnotatedTsdlPeriod> randomPeriods(Random random, int count) {
+    var periods = new ArrayList<AnnotatedTsdlPeriod>();
+    for (var i = 0; i < count; i++) {
+      var start = Instant.ofEpochSecond(random.nextInt(2000));
+      var end = start.plusSeconds(random.nextInt(30));
+      var subsequent = random.nextInt(5) == 0 ? null : DataPoint.of(end.plusSeconds(1 + random.nextInt(3)), 1.0);
+      periods.add(new AnnotatedTsdlPeriodImpl(
+          QueryResult.of(-1, start, end),
+          new TsdlIdentifierImpl(random.nextBoolean() ? "low" : "high"),
+          DataPoint.of(start.minusSeconds(1), 0.0),
+          subsequent
+      ));
+    }
+    // like detected periods, the earlier of two periods never starts later, hence, merged periods never start after their end
+    periods.sort(Comparator.comparing(period -> period.period().start()));
+    return periods;
+  }
+
+  private static List<AnnotatedTsdlPeriod> periodsToExamine(TemporalOperator operator, List<AnnotatedTsdlPeriod> periods) {
+    var periodsToExamine = new ArrayList<>(periods);
+    if (operator instanceof PrecedesOperatorImpl precedes && precedes.operand2() instanceof TemporalOperator nested) {
+      periodsToExamine.addAll(nested.evaluate(periods));
+    }
+    return periodsToExamine;
+  }
+
+  // reference: compares every pair of periods
+  private static List<AnnotatedTsdlPeriod> pairwiseComparison(String representation, List<AnnotatedTsdlPeriod> periods, TsdlDuration tolerance) {
+    var operands = representation.substring(1, representation.length() - 1).split("-precedes-(?![^(]*\\))");
+    var chosenPeriods = new ArrayList<AnnotatedTsdlPeriod>();
+    for (var i = 0; i < periods.size(); i++) {
+      var current = periods.get(i);
+      for (var j = 0; j < i; j++) {
+        var previous = periods.get(j);
+        if (previous.subsequentDataPoint().isEmpty() || !previous.event().representation().equals(operands[0])
+            || !current.event().representation().equals(operands[1])) {
+          continue;
+        }
+
+        var satisfied = tolerance == null
+            ? previous.subsequentDataPoint().get().timestamp().equals(current.period().start())
+            : tolerance.isSatisfiedBy(TsdlUtil.getTimespan(previous.period().end(), current.period().start(), tolerance.unit().modelEquivalent()));
+        if (satisfied) {
+          chosenPeriods.add(new AnnotatedTsdlPeriodImpl(
+              QueryResult.of(chosenPeriods.size(), previous.period().start(), current.period().end()),
+              new TsdlIdentifierImpl(representation),
+              previous.priorDataPoint().orElse(null),
+              current.subsequentDataPoint().orElse(null)
+          ));
+        }
+      }
+    }
+    return chosenPeriods;
+  }
+}
@@ -0,0 +1,101 @@
+package org.tsdl.implementation.evaluation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.tsdl.infrastructure.model.DataPoint;
+import org.tsdl.infrastructure.model.QueryPushdown;
+
+class QueryPushdownDerivationTest {
+  private static final Instant T10 = Instant.parse("2022-01-01T00:00:10Z");
+  private static final Instant T20 = Instant.parse("2022-01-01T00:00:20Z");
+  private static final Instant T40 = Instant.parse("2022-01-01T00:00:40Z");
+  private static final Instant T60 = Instant.parse("2022-01-01T00:01:00Z");
+
+  private final TsdlQueryService queryService = new TsdlQueryService();
+
+  @ParameterizedTest
+  @MethodSource("pushdowns")
+  void pushdown_query_derivesDataPointsResultDependsOn(String query, QueryPushdown expected) {
+    assertThat(queryService.pushdown(query)).isEqualTo(expected);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "APPLY FILTER: AND(after(\"2022-01-01T00:00:10Z\"), before(\"2022-01-01T00:01:00Z\")) YIELD: data points",
+      "APPLY FILTER: AND(gt(2.5), lt(7.5)) YIELD: data points",
+      "APPLY FILTER: OR(NOT(after(\"2022-01-01T00:00:10Z\")), before(\"2022-01-01T00:00:20Z\")) YIELD: data points",
+      "WITH SAMPLES: avg(\"2022-01-01T00:00:20Z\", \"2022-01-01T00:00:40Z\") AS s1 "
+          + "APPLY FILTER: AND(after(\"2022-01-01T00:00:50Z\"), gt(s1)) YIELD: data points",
+      "WITH SAMPLES: max(\"2022-01-01T00:00:20Z\", \"2022-01-01T00:00:40Z\") AS s1 "
+          + "APPLY FILTER: AND(after(\"2022-01-01T00:00:50Z\")) YIELD: sample s1",
+      "WITH SAMPLES: count() AS s1 APPLY FILTER: AND(NOT(before(\"2022-01-01T00:00:30Z\")), lt(4)) YIELD: all periods",
+      "APPLY FILTER: OR(before(\"2022-01-01T00:00:10Z\"), before(\"2022-01-01T00:01:30Z\")) USING EVENTS: AND(gt(5)) AS high YIELD: all periods",
+      "APPLY FILTER: AND(gt(3), NOT(before(\"2022-01-01T00:00:30Z\"))) USING EVENTS: AND(lt(6)) AS low YIELD: longest period"
+  })
+  void pushdown_query_resultOverMatchingDataPointsIsEqual(String query) {
+    var data = IntStream.range(0, 100)
+        .mapToObj(i -> DataPoint.of(Instant.parse("2022-01-01T00:00:00Z").plusSeconds(i), i == 55 ? Double.NaN : i % 10))
+        .toList();
+    var pushdown = queryService.pushdown(query);
+    var matching = data.stream().filter(pushdown::matches).toList();
+
+    assertThat(matching).hasSizeLessThan(data.size());
+    assertThat(queryService.query(matching, query))
+        .usingRecursiveComparison()
+        .ignoringFieldsMatchingRegexes(".*logs")
+        .isEqualTo(queryService.query(data, query));
+  }
+
+  private static Stream<Arguments> pushdowns() {
+    return Stream.of(
+        Arguments.of("YIELD: data points", QueryPushdown.UNRESTRICTED),
+        Arguments.of("APPLY FILTER: AND(after(\"2022-01-01T00:00:10Z\")) YIELD: data points",
+            QueryPushdown.of(T10.plusMillis(1), null, null, null)),
+        Arguments.of("APPLY FILTER: AND(before(\"2022-01-01T00:00:10Z\")) YIELD: data points",
+            QueryPushdown.of(null, T10, null, null)),
+        Arguments.of("APPLY FILTER: AND(after(\"2022-01-01T00:00:10Z\"), before(\"2022-01-01T00:01:00Z\")) YIELD: data points",
+            QueryPushdown.of(T10.plusMillis(1), T60, null, null)),
+        Arguments.of("APPLY FILTER: AND(after(\"2022-01-01T00:01:00Z\"), before(\"2022-01-01T00:00:10Z\")) YIELD: data points",
+            QueryPushdown.of(Instant.EPOCH, Instant.EPOCH, null, null)),
+        Arguments.of("APPLY FILTER: OR(before(\"2022-01-01T00:00:10Z\"), before(\"2022-01-01T00:01:00Z\")) YIELD: data points",
+            QueryPushdown.of(null, T60, null, null)),
+        Arguments.of("APPLY FILTER: OR(before(\"2022-01-01T00:00:10Z\"), after(\"2022-01-01T00:01:00Z\")) YIELD: data points",
+            QueryPushdown.UNRESTRICTED),
+        Arguments.of("APPLY FILTER: AND(NOT(after(\"2022-01-01T00:00:10Z\")), NOT(before(\"2022-01-01T00:00:10Z\"))) YIELD: data points",
+            QueryPushdown.of(T10, T10.plusMillis(1), null, null)),
+        Arguments.of("APPLY FILTER: AND(after(\"2022-01-01T00:00:10.0005Z\"), before(\"2022-01-01T00:01:00.0005Z\")) YIELD: data points",
+            QueryPushdown.of(T10.plusMillis(1), T60.plusMillis(1), null, null)),
+        Arguments.of("APPLY FILTER: AND(NOT(before(\"2022-01-01T00:00:10.0005Z\"))) YIELD: data points",
+            QueryPushdown.of(T10.plusMillis(1), null, null, null)),
+        Arguments.of("APPLY FILTER: AND(gt(2.5), lt(7.5)) YIELD: data points",
+            QueryPushdown.of(null, null, 2.5, 7.5)),
+        Arguments.of("APPLY FILTER: AND(gt(2.5), after(\"2022-01-01T00:00:10Z\")) USING EVENTS: AND(lt(5)) AS low YIELD: all periods",
+            QueryPushdown.of(T10.plusMillis(1), null, 2.5, null)),
+        Arguments.of("APPLY FILTER: OR(gt(2.5), after(\"2022-01-01T00:00:10Z\")) YIELD: data points",
+            QueryPushdown.UNRESTRICTED),
+        Arguments.of("APPLY FILTER: AND(NOT(gt(2.5))) YIELD: data points",
+            QueryPushdown.UNRESTRICTED),
+        Arguments.of("WITH SAMPLES: avg() AS s1 APPLY FILTER: AND(gt(2.5)) YIELD: data points",
+            QueryPushdown.of(null, null, 2.5, null)),
+        Arguments.of("WITH SAMPLES: avg() AS s1 APPLY FILTER: AND(gt(2.5)) USING EVENTS: AND(gt(s1)) AS high YIELD: all periods",
+            QueryPushdown.UNRESTRICTED),
+        Arguments.of("WITH SAMPLES: avg() AS s1 APPLY FILTER: AND(gt(s1)) YIELD: data points",
+            QueryPushdown.UNRESTRICTED),
+        Arguments.of("WITH SAMPLES: avg(\"2022-01-01T00:00:20Z\", \"2022-01-01T00:00:40Z\") AS s1 "
+                + "APPLY FILTER: AND(after(\"2022-01-01T00:01:00Z\"), gt(s1)) YIELD: data points",
+            QueryPushdown.of(T20, null, null, null)),
+        Arguments.of("WITH SAMPLES: avg(\"2022-01-01T00:00:20Z\", \"2022-01-01T00:00:40Z\") AS s1 "
+                + "APPLY FILTER: AND(after(\"2022-01-01T00:01:00Z\")) YIELD: sample s1",
+            QueryPushdown.of(T20, T40.plusMillis(1), null, null)),
+        Arguments.of("WITH SAMPLES: avg_t(minutes, \"2022-01-01T00:00:20Z/2022-01-01T00:00:40Z\") AS s1 YIELD: sample s1",
+            QueryPushdown.of(Instant.EPOCH, Instant.EPOCH, null, null))
+    );
+  }
+}
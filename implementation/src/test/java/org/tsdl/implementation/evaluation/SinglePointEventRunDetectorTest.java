@@ -0,0 +1,65 @@
+package org.tsdl.implementation.evaluation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.tsdl.implementation.evaluation.impl.common.TsdlIdentifierImpl;
+import org.tsdl.implementation.evaluation.impl.event.TsdlEventImpl;
+import org.tsdl.implementation.evaluation.impl.event.strategy.SinglePointEventDetector;
+import org.tsdl.implementation.evaluation.impl.event.strategy.SinglePointEventRunDetector;
+import org.tsdl.implementation.evaluation.impl.filter.argument.TsdlLiteralScalarArgumentImpl;
+import org.tsdl.implementation.evaluation.impl.filter.threshold.GreaterThanFilterImpl;
+import org.tsdl.implementation.evaluation.impl.filter.threshold.LessThanFilterImpl;
+import org.tsdl.implementation.evaluation.impl.sample.aggregation.ParallelAggregation;
+import org.tsdl.implementation.model.event.TsdlEvent;
+import org.tsdl.implementation.model.event.TsdlEventStrategyType;
+import org.tsdl.implementation.model.event.definition.AndEventConnectiveImpl;
+import org.tsdl.implementation.model.filter.SinglePointFilter;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
+
+class SinglePointEventRunDetectorTest {
+  private static final List<TsdlEvent> EVENTS = List.of(
+      event("high", new GreaterThanFilterImpl(new TsdlLiteralScalarArgumentImpl(0.0))),
+      event("low", new LessThanFilterImpl(new TsdlLiteralScalarArgumentImpl(-0.5)))
+  );
+
+  @ParameterizedTest
+  @ValueSource(ints = {5000, 4 * ParallelAggregation.SEQUENTIAL_THRESHOLD + 123})
+  void detectPeriods_runsAcrossChunkBoundaries_equalIncrementalDetection(int size) {
+    var random = new Random(size);
+    var builder = ColumnarTimeSeries.builder();
+    var value = 0.0;
+    for (var i = 0; i < size; i++) {
+      // long runs, such that many of them cross the boundaries of the chunks detected in parallel
+      value = random.nextInt(5000) == 0 ? -value : value + random.nextGaussian() * 0.01 + (value > 0 ? 0.001 : -0.001);
+      builder.add(1000L * i, value);
+    }
+    var series = builder.build();
+    var relevant = new BitSet(size);
+    for (var i = 0; i < size; i++) {
+      if (random.nextInt(10) != 0) {
+        relevant.set(i);
+      }
+    }
+
+    var expectedDetector = new SinglePointEventDetector(EVENTS, series);
+    for (var i = relevant.nextSetBit(0); i >= 0; i = relevant.nextSetBit(i + 1)) {
+      expectedDetector.accept(i);
+    }
+    expectedDetector.finish();
+
+    assertThat(SinglePointEventRunDetector.detectPeriods(series, EVENTS, relevant))
+        .isNotEmpty()
+        .usingRecursiveFieldByFieldElementComparator()
+        .containsExactlyElementsOf(expectedDetector.detectedPeriods());
+  }
+
+  private static TsdlEvent event(String identifier, SinglePointFilter filter) {
+    return new TsdlEventImpl(new AndEventConnectiveImpl(List.of(filter)), new TsdlIdentifierImpl(identifier), null,
+        TsdlEventStrategyType.SINGLE_POINT_EVENT);
+  }
+}
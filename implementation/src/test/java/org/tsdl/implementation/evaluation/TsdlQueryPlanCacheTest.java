@@ -0,0 +1,68 @@
+package org.tsdl.implementation.evaluation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.tsdl.implementation.factory.TsdlComponentFactory;
+import org.tsdl.implementation.parsing.exception.TsdlParseException;
+
+class TsdlQueryPlanCacheTest {
+  private static final String QUERY = """
+      WITH SAMPLES: avg() AS s1
+      USING EVENTS: AND(gt(s1)) AS high
+      YIELD: all periods""";
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "WITH SAMPLES: avg() AS s1 USING EVENTS: AND(gt(s1)) AS high YIELD: all periods",
+      "  WITH SAMPLES: avg() AS s1\tUSING EVENTS: AND(gt(s1)) AS high\r\n YIELD: all periods  ",
+      "WITH SAMPLES:\n\n  avg() AS s1\n  USING EVENTS:   AND(gt(s1)) AS high\n  YIELD:   all periods"
+  })
+  void queryPlanCache_whitespaceVariants_shareSinglePlan(String variant) {
+    var cache = TsdlComponentFactory.INSTANCE.queryPlanCache(4);
+
+    var plan = cache.getPlan(QUERY);
+
+    assertThat(cache.getPlan(variant)).isSameAs(plan);
+    assertThat(cache.size()).isEqualTo(1);
+  }
+
+  @Test
+  void queryPlanCache_whitespaceInStringLiterals_isSignificant() {
+    var cache = TsdlComponentFactory.INSTANCE.queryPlanCache(4);
+    var query = "WITH SAMPLES: avg(\"2022-07-03T12:45:03.123Z\", \"\") AS s1 YIELD: sample s1";
+    var queryWithBlankLiteral = "WITH SAMPLES: avg(\"2022-07-03T12:45:03.123Z\", \" \") AS s1 YIELD: sample s1";
+
+    var plan = cache.getPlan(query);
+
+    assertThatThrownBy(() -> cache.getPlan(queryWithBlankLiteral)).isInstanceOf(TsdlParseException.class);
+    assertThat(cache.getPlan(query)).isSameAs(plan);
+    assertThat(cache.size()).isEqualTo(1);
+  }
+
+  @Test
+  void queryPlanCache_capacityExceeded_evictsEldestPlan() {
+    var cache = TsdlComponentFactory.INSTANCE.queryPlanCache(2);
+
+    final var plan1 = cache.getPlan("WITH SAMPLES: avg() AS s1 YIELD: sample s1");
+    var plan2 = cache.getPlan("WITH SAMPLES: max() AS s1 YIELD: sample s1");
+    cache.getPlan("WITH SAMPLES: min() AS s1 YIELD: sample s1");
+
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.getPlan("WITH SAMPLES: max() AS s1 YIELD: sample s1")).isSameAs(plan2);
+    assertThat(cache.getPlan("WITH SAMPLES: avg() AS s1 YIELD: sample s1")).isNotSameAs(plan1);
+  }
+
+  @Test
+  void queryPlanCache_zeroCapacity_parsesEveryTime() {
+    var cache = TsdlComponentFactory.INSTANCE.queryPlanCache(0);
+
+    var plan = cache.getPlan(QUERY);
+
+    assertThat(cache.getPlan(QUERY)).isNotSameAs(plan);
+    assertThat(cache.size()).isZero();
+  }
+}
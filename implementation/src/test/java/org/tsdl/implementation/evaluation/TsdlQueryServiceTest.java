@@ -1,21 +1,35 @@
 package org.tsdl.implementation.evaluation;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.withPrecision;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.tsdl.implementation.evaluation.impl.sample.aggregation.ParallelAggregation;
+import org.tsdl.implementation.factory.TsdlComponentFactory;
 import org.tsdl.infrastructure.api.QueryService;
 import org.tsdl.infrastructure.common.TsdlTimeUnit;
 import org.tsdl.infrastructure.common.TsdlUtil;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
 import org.tsdl.infrastructure.model.DataPoint;
+import org.tsdl.infrastructure.model.DataPointSource;
 import org.tsdl.infrastructure.model.MultipleScalarResult;
 import org.tsdl.infrastructure.model.QueryResult;
 import org.tsdl.infrastructure.model.QueryResultType;
@@ -25,6 +39,8 @@ import org.tsdl.infrastructure.model.TsdlLogEvent;
 import org.tsdl.infrastructure.model.TsdlPeriod;
 import org.tsdl.infrastructure.model.TsdlPeriodSet;
 import org.tsdl.infrastructure.model.impl.SingularScalarResultImpl;
+import org.tsdl.testutil.creation.provider.TsdlGeneratedSource;
+import org.tsdl.testutil.creation.provider.TsdlGeneratedSources;
 import org.tsdl.testutil.creation.provider.TsdlTestSource;
 import org.tsdl.testutil.creation.provider.TsdlTestSources;
 import org.tsdl.testutil.visualization.api.TsdlTestVisualization;
@@ -95,6 +111,22 @@ class TsdlQueryServiceTest {
           .isEqualTo(expectedResult, withPrecision(0.001d));
     }
 
+    @ParameterizedTest
+    @MethodSource("org.tsdl.implementation.evaluation.stub.QueryServiceDataFactory#localAggregateBounds")
+    void querySample_localSampleBounds_sameDataPointsInMemoryAndStreamed(List<DataPoint> dps, String lowerBound, String upperBound,
+                                                                         double expectedSum, double expectedCount) {
+      // in-memory series are sliced by binary search, streamed data points are compared to the bounds one by one
+      var query = "WITH SAMPLES: sum(\"%1$s\", \"%2$s\") AS s1, count(\"%1$s\", \"%2$s\") AS s2 YIELD: samples s1, s2"
+          .formatted(lowerBound, upperBound);
+
+      for (var result : List.of(queryService.query(dps, query), queryService.query(DataPointSource.of(dps), query))) {
+        assertThat(result)
+            .asInstanceOf(InstanceOfAssertFactories.type(MultipleScalarResult.class))
+            .extracting(r -> r.values().stream().mapToDouble(Double::doubleValue).toArray(), InstanceOfAssertFactories.DOUBLE_ARRAY)
+            .containsExactly(new double[] {expectedSum, expectedCount}, withPrecision(0.001d));
+      }
+    }
+
     @ParameterizedTest
     @MethodSource("org.tsdl.implementation.evaluation.stub.QueryServiceDataFactory#localAggregatesSet")
     void querySample_yieldLocalSampleSet(List<DataPoint> dps, String sampleDefinition, String yieldComponent, Double[] expectedResults) {
@@ -1221,6 +1253,26 @@ class TsdlQueryServiceTest {
       filterTest("APPLY FILTER: AND(before(\"2021-05-24T20:36:44.234Z\")) YIELD: data points", dataPoints, List.of());
     }
 
+    @ParameterizedTest
+    @MethodSource("org.tsdl.implementation.evaluation.stub.QueryServiceDataFactory#dataPoints_0")
+    void queryFilter_beforeSubMillisecond(List<DataPoint> dataPoints) {
+      filterTest("APPLY FILTER: AND(before(\"2022-05-24T20:33:45.2345Z\")) YIELD: data points", dataPoints,
+          List.of(dataPoints.get(0), dataPoints.get(1)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("org.tsdl.implementation.evaluation.stub.QueryServiceDataFactory#dataPoints_0")
+    void queryFilter_notBeforeSubMillisecond(List<DataPoint> dataPoints) {
+      filterTest("APPLY FILTER: AND(NOT(before(\"2022-05-24T20:33:45.2345Z\"))) YIELD: data points", dataPoints, List.of(dataPoints.get(2)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("org.tsdl.implementation.evaluation.stub.QueryServiceDataFactory#dataPoints_0")
+    void queryFilter_afterSubMillisecond(List<DataPoint> dataPoints) {
+      filterTest("APPLY FILTER: AND(after(\"2022-05-24T20:33:45.2335Z\")) YIELD: data points", dataPoints,
+          List.of(dataPoints.get(1), dataPoints.get(2)));
+    }
+
     @ParameterizedTest
     @MethodSource("org.tsdl.implementation.evaluation.stub.QueryServiceDataFactory#dataPoints_0")
     void queryFilter_after(List<DataPoint> dataPoints) {
@@ -1476,4 +1528,507 @@ class TsdlQueryServiceTest {
           .isEqualTo(expectedResult);
     }
   }
+
+  @Nested
+  @DisplayName("columnar input tests")
+  class QueryColumnar {
+    private static final List<String> QUERIES = List.of(
+        "WITH SAMPLES: avg() AS s1, integral() AS s2, stddev(\"2022-09-07T00:00:00Z\", \"2022-09-08T00:00:00Z\") AS s3 YIELD: samples s1, s2, s3",
+        "WITH SAMPLES: avg() AS s1 APPLY FILTER: OR(gt(s1), before(\"2022-09-07T06:00:00Z\")) YIELD: data points",
+        "WITH SAMPLES: avg() AS s1 USING EVENTS: AND(lt(s1)) FOR [30,] minutes AS low, AND(gt(s1)) AS high YIELD: all periods",
+        "USING EVENTS: AND(const(20,13.5)) FOR [3,] hours AS myConstEvent YIELD: all periods",
+        "APPLY FILTER: AND(gt(50), lt(75)) YIELD: data points",
+        "APPLY FILTER: OR(NOT(gt(50)), after(\"2022-09-07T06:00:00Z\")) USING EVENTS: AND(NOT(lt(75))) AS high YIELD: all periods",
+        "USING EVENTS: AND(increase(50,-,0.5)) AS myIncreaseEvent YIELD: longest period",
+        "USING EVENTS: AND(decrease(50,-,0.5)) AS myDecreaseEvent YIELD: all periods"
+    );
+
+    @ParameterizedTest
+    @TsdlTestSources(
+        @TsdlTestSource(value = DATA_ROOT + "series12.csv", skipHeaders = 5)
+    )
+    void queryColumnar_sameQueryAsList_yieldsSameResult(List<DataPoint> dps) {
+      var builder = ColumnarTimeSeries.builder();
+      dps.forEach(builder::add);
+      var columns = builder.build();
+
+      for (var query : QUERIES) {
+        var expected = queryService.query(dps, query);
+
+        assertThat(queryService.query(columns, query))
+            .usingRecursiveComparison()
+            .ignoringFields("logs")
+            .isEqualTo(expected);
+        assertThat(queryService.query(ColumnarTimeSeries.of(dps), query))
+            .usingRecursiveComparison()
+            .ignoringFields("logs")
+            .isEqualTo(expected);
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("streaming input tests")
+  class QueryStreaming {
+    private static final List<String> QUERIES = List.of(
+        "WITH SAMPLES: avg() AS s1, integral() AS s2, stddev(\"2022-09-07T00:00:00Z\", \"2022-09-08T00:00:00Z\") AS s3 YIELD: samples s1, s2, s3",
+        "WITH SAMPLES: avg() AS s1 APPLY FILTER: OR(gt(s1), before(\"2022-09-07T06:00:00Z\")) YIELD: data points",
+        "APPLY FILTER: AND(gt(50)) USING EVENTS: AND(lt(75)) AS low, AND(gt(75)) FOR [30,] minutes AS high YIELD: data points",
+        "WITH SAMPLES: avg() AS s1 USING EVENTS: AND(lt(s1)) FOR [30,] minutes AS low, AND(gt(s1)) AS high "
+            + "SELECT PERIODS: (low precedes high) YIELD: all periods",
+        "APPLY FILTER: AND(NOT(lt(20))) USING EVENTS: AND(const(20,13.5)) FOR [3,] hours AS c, AND(gt(60)) AS high YIELD: all periods",
+        "APPLY FILTER: AND(gt(50), lt(75)) YIELD: data points",
+        "APPLY FILTER: OR(NOT(gt(50)), after(\"2022-09-07T06:00:00Z\")) USING EVENTS: AND(NOT(lt(75))) AS high YIELD: all periods",
+        "USING EVENTS: AND(increase(50,-,0.5)) AS myIncreaseEvent YIELD: longest period",
+        "USING EVENTS: AND(gt(1000)) AS never YIELD: data points",
+        "APPLY FILTER: OR(lt(40), gt(60)) USING EVENTS: AND(gt(65)) AS high, OR(lt(20), NOT(before(\"2022-09-07T06:00:00Z\"))) AS mixed "
+            + "YIELD: all periods"
+    );
+
+    @ParameterizedTest
+    @TsdlTestSources(
+        @TsdlTestSource(value = DATA_ROOT + "series12.csv", skipHeaders = 5)
+    )
+    void queryStreaming_sameQueryAsList_yieldsSameResult(List<DataPoint> dps) {
+      for (var query : QUERIES) {
+        var expected = queryService.query(dps, query);
+
+        assertThat(queryService.query(DataPointSource.of(dps), query))
+            .usingRecursiveComparison()
+            .ignoringFields("logs")
+            .isEqualTo(expected);
+      }
+    }
+
+    @ParameterizedTest
+    @TsdlGeneratedSources({
+        @TsdlGeneratedSource(seed = 7, length = 20_000, baseline = 50, seasonalAmplitude = 25, noise = 2, plateauProbability = 0.01,
+            rampProbability = 0.01, maxRampChange = 40, spikeProbability = 0.001, spikeMagnitude = 100, gapProbability = 0.01, jitter = 0.5),
+        @TsdlGeneratedSource(seed = 7, length = 20_000, baseline = 50, seasonalAmplitude = 25, noise = 2, plateauProbability = 0.01,
+            rampProbability = 0.01, maxRampChange = 40, spikeProbability = 0.001, spikeMagnitude = 100, gapProbability = 0.01, jitter = 0.5)
+    })
+    void queryStreaming_generatedSource_yieldsSameResultAsColumnarSeries(DataPointSource source, ColumnarTimeSeries series) {
+      for (var query : QUERIES) {
+        var expected = queryService.query(series, query);
+
+        assertThat(queryService.query(source, query))
+            .usingRecursiveComparison()
+            .ignoringFields("logs")
+            .isEqualTo(expected);
+      }
+    }
+
+    @ParameterizedTest
+    @TsdlTestSources(
+        @TsdlTestSource(value = DATA_ROOT + "series12.csv", skipHeaders = 5)
+    )
+    void queryStreaming_singleUseSourceAndSinglePassQuery_yieldsSameResult(List<DataPoint> dps) {
+      var query = "WITH SAMPLES: avg() AS s1 -> echo(2) USING EVENTS: AND(gt(60)) AS high YIELD: all periods";
+
+      var expected = queryService.query(dps, query);
+
+      var result = queryService.query(DataPointSource.of(dps.iterator()), query);
+
+      assertThat(result)
+          .usingRecursiveComparison()
+          .ignoringFields("logs")
+          .isEqualTo(expected);
+      assertThat(result.logs()).extracting(TsdlLogEvent::message).isEqualTo(expected.logs().stream().map(TsdlLogEvent::message).toList());
+    }
+
+    @ParameterizedTest
+    @TsdlTestSources(
+        @TsdlTestSource(value = DATA_ROOT + "series12.csv", skipHeaders = 5)
+    )
+    void queryStreaming_singleUseSourceAndMultiPassQuery_throws(List<DataPoint> dps) {
+      var source = DataPointSource.of(dps.iterator());
+
+      assertThatThrownBy(() -> queryService.query(source, "WITH SAMPLES: avg() AS s1 APPLY FILTER: AND(gt(s1)) YIELD: data points"))
+          .isInstanceOf(TsdlEvaluationException.class)
+          .hasMessageContaining("2 passes");
+    }
+  }
+
+  @Nested
+  @DisplayName("fused evaluation tests")
+  class QueryFused {
+    @ParameterizedTest
+    @TsdlTestSources(
+        @TsdlTestSource(value = DATA_ROOT + "series12.csv", skipHeaders = 5)
+    )
+    void queryFused_dataDependencies_scanOnlyAsOftenAsRequired(List<DataPoint> dps) {
+      var passes = new AtomicInteger();
+      var source = (DataPointSource) () -> {
+        passes.incrementAndGet();
+        return dps.stream();
+      };
+      var expectedPasses = Map.of(
+          "WITH SAMPLES: avg() AS s1, max() AS s2, integral() AS s3 APPLY FILTER: AND(gt(50)) USING EVENTS: AND(lt(75)) AS low, "
+              + "AND(const(20,13.5)) AS c YIELD: all periods", 1,
+          "WITH SAMPLES: avg() AS s1, max() AS s2 APPLY FILTER: AND(gt(s1)) USING EVENTS: AND(lt(s2)) AS low YIELD: all periods", 2,
+          "WITH SAMPLES: avg() AS s1 APPLY FILTER: AND(gt(s1)) USING EVENTS: AND(lt(75)) AS low YIELD: data points", 3,
+          // the yield does not depend on filters, events or the choice, and not on every event, respectively
+          "WITH SAMPLES: avg() AS s1, max() AS s2 APPLY FILTER: AND(gt(s1)) USING EVENTS: AND(lt(s2)) AS low YIELD: sample s2", 1,
+          "WITH SAMPLES: avg() AS s1 USING EVENTS: AND(lt(s1)) AS low, AND(gt(75)) AS high, AND(lt(20)) AS veryLow "
+              + "SELECT PERIODS: (veryLow precedes high) YIELD: longest period", 1
+      );
+
+      for (var entry : expectedPasses.entrySet()) {
+        passes.set(0);
+
+        var result = queryService.query(source, entry.getKey());
+
+        assertThat(passes).as(entry.getKey()).hasValue(entry.getValue());
+        assertThat(result)
+            .usingRecursiveComparison()
+            .ignoringFields("logs")
+            .isEqualTo(queryService.query(dps, entry.getKey()));
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("batch evaluation tests")
+  class QueryBatched {
+    private static final List<String> QUERIES = List.of(
+        "WITH SAMPLES: avg() AS s1, integral() AS s2, stddev(\"2022-09-07T00:00:00Z\", \"2022-09-08T00:00:00Z\") AS s3 YIELD: samples s1, s2, s3",
+        "WITH SAMPLES: avg() AS s1 -> echo(2), max() AS s2 APPLY FILTER: OR(gt(s1), before(\"2022-09-07T06:00:00Z\")) YIELD: data points",
+        "WITH SAMPLES: avg() AS mean USING EVENTS: AND(lt(mean)) FOR [30,] minutes AS low, AND(gt(mean)) AS high YIELD: all periods",
+        "WITH SAMPLES: avg() AS s1 USING EVENTS: AND(lt(s1)) FOR [30,] minutes AS low, AND(gt(s1)) AS high "
+            + "SELECT PERIODS: (low precedes high) YIELD: all periods",
+        "APPLY FILTER: AND(gt(50)) USING EVENTS: AND(lt(75)) AS low, AND(gt(75)) FOR [30,] minutes AS high YIELD: data points",
+        "USING EVENTS: AND(gt(50)) AS high, AND(const(20,13.5)) FOR [3,] hours AS c YIELD: all periods",
+        "APPLY FILTER: AND(gt(50), lt(75)) YIELD: data points",
+        "APPLY FILTER: OR(NOT(gt(50)), after(\"2022-09-07T06:00:00Z\")) USING EVENTS: AND(NOT(lt(75))) AS high YIELD: all periods",
+        "USING EVENTS: AND(increase(50,-,0.5)) AS myIncreaseEvent YIELD: longest period",
+        "WITH SAMPLES: max(\"2022-09-07T00:00:00Z\", \"\") AS s1 -> echo(1), avg() AS s2 YIELD: sample s1",
+        "WITH SAMPLES: avg() AS s1, integral() AS s2, stddev(\"2022-09-07T00:00:00Z\", \"2022-09-08T00:00:00Z\") AS s3 YIELD: samples s1, s2, s3"
+    );
+
+    @ParameterizedTest
+    @TsdlTestSources(
+        @TsdlTestSource(value = DATA_ROOT + "series12.csv", skipHeaders = 5)
+    )
+    void queryBatch_severalQueries_yieldsSameResultsAsSingleQueries(List<DataPoint> dps) {
+      var results = queryService.query(dps, QUERIES);
+
+      assertThat(results).hasSameSizeAs(QUERIES);
+      for (var i = 0; i < QUERIES.size(); i++) {
+        var expected = queryService.query(dps, QUERIES.get(i));
+
+        assertThat(results.get(i))
+            .as(QUERIES.get(i))
+            .usingRecursiveComparison()
+            .ignoringFields("logs")
+            .isEqualTo(expected);
+        assertThat(results.get(i).logs()).extracting(TsdlLogEvent::message)
+            .isEqualTo(expected.logs().stream().map(TsdlLogEvent::message).toList());
+      }
+    }
+
+    @Test
+    void queryBatch_invalidQuery_throws() {
+      var data = List.of(DataPoint.of(Instant.parse("2022-09-07T00:00:00Z"), 1.0));
+      var queries = List.of("YIELD: data points", "YIELD: nonsense");
+
+      assertThatThrownBy(() -> queryService.query(data, queries)).isInstanceOf(TsdlEvaluationException.class);
+    }
+  }
+
+  @Nested
+  @DisplayName("fleet tests")
+  class QueryFleet {
+    private static final String QUERY = "WITH SAMPLES: avg() AS s1 USING EVENTS: AND(lt(s1)) FOR [30,] minutes AS low, AND(gt(s1)) AS high "
+        + "SELECT PERIODS: (low precedes high) YIELD: all periods";
+
+    @ParameterizedTest
+    @TsdlTestSources(
+        @TsdlTestSource(value = DATA_ROOT + "series12.csv", skipHeaders = 5)
+    )
+    void queryFleet_manySeries_yieldsSameResultsAsSingleQueries(List<DataPoint> dps) {
+      var fleet = new LinkedHashMap<String, ColumnarTimeSeries>();
+      for (var i = 0; i < 40; i++) {
+        // series of different lengths and value ranges, i.e., of different results and evaluation costs
+        var factor = 1 + i % 5;
+        fleet.put("sensor-" + i, ColumnarTimeSeries.of(dps.subList(0, dps.size() * (i % 4 + 1) / 4).stream()
+            .map(dp -> DataPoint.of(dp.timestamp(), dp.value() * factor))
+            .toList()));
+      }
+
+      try (var fleetService = new TsdlQueryService(TsdlQueryService.DEFAULT_PLAN_CACHE_CAPACITY, 3)) {
+        var results = fleetService.query(fleet, QUERY);
+
+        assertThat(results.keySet()).containsExactlyElementsOf(fleet.keySet());
+        fleet.forEach((seriesId, series) -> assertThat(results.get(seriesId))
+            .as(seriesId)
+            .usingRecursiveComparison()
+            .isEqualTo(queryService.query(series, QUERY)));
+      }
+    }
+
+    @Test
+    void queryFleet_closedService_throws() {
+      var fleet = Map.of("valid", ColumnarTimeSeries.of(List.of(DataPoint.of(Instant.parse("2022-09-07T00:00:00Z"), 1.0))));
+      var closedService = new TsdlQueryService();
+      closedService.query(fleet, "YIELD: data points");
+      closedService.close();
+
+      assertThatThrownBy(() -> closedService.query(fleet, "YIELD: data points")).isInstanceOf(IllegalStateException.class);
+      assertThat(closedService.query(fleet.get("valid"), "YIELD: data points").type()).isEqualTo(QueryResultType.DATA_POINTS);
+    }
+
+    @Test
+    void queryFleet_invalidSeries_throwsFailureOfFirstInvalidSeries() {
+      var fleet = new LinkedHashMap<String, ColumnarTimeSeries>();
+      fleet.put("valid", ColumnarTimeSeries.of(List.of(DataPoint.of(Instant.parse("2022-09-07T00:00:00Z"), 1.0))));
+      fleet.put("missing", null);
+
+      assertThatThrownBy(() -> queryService.query(fleet, "YIELD: data points"))
+          .isInstanceOf(TsdlEvaluationException.class)
+          .hasRootCauseMessage("Data must not be null.");
+      assertThatThrownBy(() -> queryService.query(Map.of("valid", ColumnarTimeSeries.EMPTY), "YIELD: nonsense"))
+          .isInstanceOf(TsdlEvaluationException.class);
+    }
+  }
+
+  @Nested
+  @DisplayName("continuous query tests")
+  class QueryContinuous {
+    private static final List<String> QUERIES = List.of(
+        "WITH SAMPLES: avg() AS s1 -> echo(2), max(\"2022-09-07T00:00:00Z\", \"\") AS s2 YIELD: samples s1, s2",
+        "WITH SAMPLES: avg() AS s1 APPLY FILTER: OR(gt(s1), before(\"2022-09-07T06:00:00Z\")) YIELD: data points",
+        "WITH SAMPLES: avg() AS mean USING EVENTS: AND(lt(mean)) FOR [30,] minutes AS low, AND(gt(mean)) AS high YIELD: all periods",
+        "WITH SAMPLES: avg() AS s1 USING EVENTS: AND(lt(s1)) FOR [30,] minutes AS low, AND(gt(s1)) AS high "
+            + "SELECT PERIODS: (low precedes high) YIELD: all periods",
+        "WITH SAMPLES: max() AS s1 APPLY FILTER: AND(NOT(gt(s1))) USING EVENTS: AND(lt(100)) AS low, AND(gt(100)) AS high YIELD: all periods",
+        "APPLY FILTER: AND(gt(50)) USING EVENTS: AND(lt(75)) AS low, AND(gt(75)) FOR [30,] minutes AS high YIELD: shortest period",
+        "USING EVENTS: AND(gt(200)) AS high YIELD: longest period"
+    );
+
+    @ParameterizedTest
+    @TsdlTestSources(
+        @TsdlTestSource(value = DATA_ROOT + "series12.csv", skipHeaders = 5)
+    )
+    void queryContinuous_appendedChunks_yieldsSameResultsAsQueryOverAllDataPoints(List<DataPoint> dps) {
+      for (var query : QUERIES) {
+        var continuousQuery = queryService.continuousQuery(query);
+        var random = new Random(42);
+        var appended = 0;
+        while (appended < dps.size()) {
+          var chunk = dps.subList(appended, Math.min(dps.size(), appended + 1 + random.nextInt(25)));
+          appended += chunk.size();
+
+          var result = continuousQuery.append(chunk);
+
+          var expected = queryService.query(dps.subList(0, appended), query);
+          assertThat(continuousQuery.size()).isEqualTo(appended);
+          assertThat(result)
+              .as("%s after %s data points", query, appended)
+              .usingRecursiveComparison()
+              .ignoringFields("logs")
+              .isEqualTo(expected);
+          assertThat(result.logs()).extracting(TsdlLogEvent::message)
+              .isEqualTo(expected.logs().stream().map(TsdlLogEvent::message).toList());
+        }
+      }
+    }
+
+    @Test
+    void queryContinuous_dataPointsPrecedingAppendedOnes_throwsAndRetainsState() {
+      var continuousQuery = queryService.continuousQuery("WITH SAMPLES: sum() AS s YIELD: sample s");
+      continuousQuery.append(List.of(DataPoint.of(Instant.parse("2022-09-07T00:00:00Z"), 1.0)));
+
+      assertThatThrownBy(() -> continuousQuery.append(List.of(DataPoint.of(Instant.parse("2022-09-06T00:00:00Z"), 1.0))))
+          .isInstanceOf(TsdlEvaluationException.class)
+          .hasRootCauseInstanceOf(IllegalArgumentException.class);
+      assertThat(continuousQuery.append(List.of(DataPoint.of(Instant.parse("2022-09-08T00:00:00Z"), 1.0))))
+          .asInstanceOf(InstanceOfAssertFactories.type(SingularScalarResult.class))
+          .extracting(SingularScalarResult::value)
+          .isEqualTo(2.0);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "USING EVENTS: AND(gt(50)) AS high, AND(const(20,13.5)) FOR [3,] hours AS c YIELD: all periods",
+        "USING EVENTS: AND(increase(50,-,0.5)) AS rise YIELD: longest period",
+        "APPLY FILTER: AND(gt(50)) USING EVENTS: AND(lt(75)) AS low YIELD: data points"
+    })
+    void queryContinuous_queryNotMaintainedIncrementally_throws(String query) {
+      assertThatThrownBy(() -> queryService.continuousQuery(query))
+          .isInstanceOf(TsdlEvaluationException.class)
+          .hasRootCauseInstanceOf(IllegalArgumentException.class);
+    }
+  }
+
+  @Nested
+  @DisplayName("sliding window query tests")
+  class QuerySlidingWindow {
+    private static final List<String> QUERIES = List.of(
+        "WITH SAMPLES: avg() AS s1, min() AS s2, max() AS s3, stddev() AS s4, count() AS s5, sum(\"2022-09-07T00:00:00Z\", \"\") AS s6, "
+            + "integral() AS s7 YIELD: samples s1, s2, s3, s4, s5, s6, s7",
+        "WITH SAMPLES: avg() AS s1 APPLY FILTER: OR(gt(s1), before(\"2022-09-07T06:00:00Z\")) YIELD: data points",
+        "APPLY FILTER: AND(gt(50)) YIELD: data points",
+        "WITH SAMPLES: avg() AS mean USING EVENTS: AND(lt(mean)) FOR [30,] minutes AS low, AND(gt(mean)) AS high YIELD: all periods",
+        "WITH SAMPLES: max() AS s1 APPLY FILTER: AND(NOT(gt(s1))) USING EVENTS: AND(lt(100)) AS low, AND(gt(100)) AS high YIELD: all periods",
+        "APPLY FILTER: AND(gt(50)) USING EVENTS: AND(lt(75)) AS low, AND(gt(75)) FOR [30,] minutes AS high YIELD: all periods",
+        "USING EVENTS: AND(lt(150)) AS low, AND(gt(150)) AS high SELECT PERIODS: (low precedes high) YIELD: all periods",
+        "USING EVENTS: AND(gt(200)) AS high YIELD: longest period"
+    );
+
+    @ParameterizedTest
+    @TsdlTestSources(
+        @TsdlTestSource(value = DATA_ROOT + "series12.csv", skipHeaders = 5)
+    )
+    void querySlidingWindow_appendedChunks_yieldsSameResultsAsQueryOverWindow(List<DataPoint> dps) {
+      for (var window : List.of(Duration.ofHours(6), Duration.ofDays(1))) {
+        for (var query : QUERIES) {
+          var slidingWindowQuery = queryService.slidingWindowQuery(query, window);
+          var random = new Random(42);
+          var appended = 0;
+          while (appended < dps.size()) {
+            var chunk = dps.subList(appended, Math.min(dps.size(), appended + 1 + random.nextInt(25)));
+            appended += chunk.size();
+
+            var result = slidingWindowQuery.append(chunk);
+
+            var expiredUntil = dps.get(appended - 1).timestamp().minus(window);
+            var windowStart = 0;
+            while (!dps.get(windowStart).timestamp().isAfter(expiredUntil)) {
+              windowStart++;
+            }
+            var expected = queryService.query(dps.subList(windowStart, appended), query);
+            assertThat(slidingWindowQuery.size()).isEqualTo(appended - windowStart);
+            // samples are reverted rather than aggregated over the window again, i.e., they are subject to different rounding errors
+            assertThat(result)
+                .as("%s over %s after %s data points", query, window, appended)
+                .usingRecursiveComparison()
+                .withComparatorForType((a, b) -> Math.abs(a - b) <= 1e-9 * Math.max(1.0, Math.abs(b)) ? 0 : Double.compare(a, b), Double.class)
+                .ignoringFields("logs")
+                .isEqualTo(expected);
+          }
+        }
+      }
+    }
+
+    @Test
+    void querySlidingWindow_dataPointsLeavingWindow_areSubtracted() {
+      var slidingWindowQuery = queryService.slidingWindowQuery(
+          "WITH SAMPLES: sum() AS s1, max() AS s2, integral() AS s3 YIELD: samples s1, s2, s3", Duration.ofHours(2));
+      slidingWindowQuery.append(List.of(
+          DataPoint.of(Instant.parse("2022-09-07T00:00:00Z"), 5.0),
+          DataPoint.of(Instant.parse("2022-09-07T01:00:00Z"), 3.0)
+      ));
+
+      var result = slidingWindowQuery.append(List.of(DataPoint.of(Instant.parse("2022-09-07T02:00:00Z"), 1.0)));
+
+      assertThat(slidingWindowQuery.size()).isEqualTo(2);
+      assertThat(result)
+          .asInstanceOf(InstanceOfAssertFactories.type(MultipleScalarResult.class))
+          .extracting(MultipleScalarResult::values, InstanceOfAssertFactories.list(Double.class))
+          .containsExactly(4.0, 3.0, 7200.0);
+    }
+
+    @Test
+    void querySlidingWindow_nonPositiveWindow_throws() {
+      assertThatThrownBy(() -> queryService.slidingWindowQuery("YIELD: all periods", Duration.ZERO))
+          .isInstanceOf(TsdlEvaluationException.class)
+          .hasRootCauseInstanceOf(IllegalArgumentException.class);
+    }
+  }
+
+  @Nested
+  @DisplayName("parallel aggregation tests")
+  class QueryParallelAggregation {
+    @Test
+    void queryParallelAggregation_largeSeries_equalsSequentialAggregation() {
+      var size = 4 * ParallelAggregation.SEQUENTIAL_THRESHOLD + 17;
+      var builder = ColumnarTimeSeries.builder();
+      for (var i = 0; i < size; i++) {
+        builder.add(1_000L * i, 100 * Math.sin(i / 1_000.0) + (i % 7));
+      }
+      var series = builder.build();
+      var expectedStatistics = TsdlComponentFactory.INSTANCE.summaryStatistics();
+      expectedStatistics.ingest(size, series::value);
+      var expectedIntegral = TsdlComponentFactory.INSTANCE.calculus().definiteIntegral(series);
+
+      var result = queryService.query(series,
+          "WITH SAMPLES: avg() AS s1, sum() AS s2, stddev() AS s3, integral() AS s4 YIELD: samples s1, s2, s3, s4");
+
+      assertThat(result)
+          .asInstanceOf(InstanceOfAssertFactories.type(MultipleScalarResult.class))
+          .extracting(MultipleScalarResult::values, InstanceOfAssertFactories.list(Double.class))
+          .satisfiesExactly(
+              avg -> assertThat(avg).isCloseTo(expectedStatistics.average(), withPrecision(1e-9)),
+              sum -> assertThat(sum).isCloseTo(expectedStatistics.sum(), withPrecision(1e-6)),
+              stddev -> assertThat(stddev).isCloseTo(expectedStatistics.populationStandardDeviation(), withPrecision(1e-9)),
+              integral -> assertThat(integral).isCloseTo(expectedIntegral, withPrecision(1e-3))
+          );
+    }
+  }
+
+  @Nested
+  @DisplayName("plan cache tests")
+  class QueryPlanCache {
+    private static final String SAMPLE_DEPENDENT_QUERY = """
+        WITH SAMPLES: avg() AS s1 -> echo(2), max() AS s2
+          APPLY FILTER: AND(NOT(gt(s2)))
+          USING EVENTS: AND(lt(s1)) AS low, AND(gt(s1)) AS high
+          SELECT PERIODS: (low precedes high)
+          YIELD: all periods""";
+
+    @ParameterizedTest
+    @TsdlTestSources({
+        @TsdlTestSource(value = DATA_ROOT + "series0.csv"),
+        @TsdlTestSource(value = DATA_ROOT + "series1.csv")
+    })
+    void queryPlanCache_reusedPlanWithSampleArguments_equalsUncachedEvaluation(List<DataPoint> dps1, List<DataPoint> dps2) {
+      var cachedService = new TsdlQueryService();
+      var uncachedService = new TsdlQueryService(0);
+      var reformattedQuery = SAMPLE_DEPENDENT_QUERY.replace("\n", "\n\t   ");
+
+      for (var dps : List.of(dps1, dps2, dps1, dps2)) {
+        var expected = uncachedService.query(dps, SAMPLE_DEPENDENT_QUERY);
+
+        assertEqualResults(cachedService.query(dps, SAMPLE_DEPENDENT_QUERY), expected);
+        assertEqualResults(cachedService.query(dps, reformattedQuery), expected);
+      }
+    }
+
+    @ParameterizedTest
+    @TsdlTestSources({
+        @TsdlTestSource(value = DATA_ROOT + "series0.csv"),
+        @TsdlTestSource(value = DATA_ROOT + "series1.csv")
+    })
+    void queryPlanCache_concurrentEvaluationsOfSamePlan_equalUncachedEvaluation(List<DataPoint> dps1, List<DataPoint> dps2) throws Exception {
+      var cachedService = new TsdlQueryService();
+      var uncachedService = new TsdlQueryService(0);
+      var inputs = List.of(dps1, dps2);
+      var expectedResults = inputs.stream().map(dps -> uncachedService.query(dps, SAMPLE_DEPENDENT_QUERY)).toList();
+
+      var executor = Executors.newFixedThreadPool(8);
+      try {
+        var tasks = IntStream.range(0, 64)
+            .mapToObj(i -> (Callable<QueryResult>) () -> cachedService.query(inputs.get(i % 2), SAMPLE_DEPENDENT_QUERY))
+            .toList();
+        var futures = executor.invokeAll(tasks);
+
+        for (var i = 0; i < futures.size(); i++) {
+          assertEqualResults(futures.get(i).get(), expectedResults.get(i % 2));
+        }
+      } finally {
+        executor.shutdownNow();
+      }
+    }
+
+    private void assertEqualResults(QueryResult actual, QueryResult expected) {
+      // log events carry the instant they have been created at, therefore, only their messages are compared
+      assertThat(actual)
+          .usingRecursiveComparison()
+          .ignoringFields("logs")
+          .isEqualTo(expected);
+      assertThat(actual.logs())
+          .extracting(TsdlLogEvent::message)
+          .isEqualTo(expected.logs().stream().map(TsdlLogEvent::message).toList());
+    }
+  }
 }
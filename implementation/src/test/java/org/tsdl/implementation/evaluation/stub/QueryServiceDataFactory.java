@@ -103,6 +103,39 @@ public final class QueryServiceDataFactory {
     );
   }
 
+  public static Stream<Arguments> localAggregateBounds() {
+    final var input = List.of(
+        dp("2022-05-24 20:33:45.000", 25.75),
+        dp("2022-05-24 20:33:45.234", 27.25),
+        dp("2022-05-24 20:36:46.234", 75.52),
+        dp("2022-05-24 20:37:47.234", 53.25),
+        dp("2022-05-24 20:38:44.234", 57.55)
+    );
+
+    return Stream.of(
+        // bounds on data points
+        Arguments.of(input, "2022-05-24T20:33:45.234Z", "2022-05-24T20:37:47.234Z", 156.02, 3.0),
+        // bounds between data points
+        Arguments.of(input, "2022-05-24T20:34:00.000Z", "2022-05-24T20:38:00.000Z", 128.77, 2.0),
+        // bounds before and on the first data point
+        Arguments.of(input, "2022-05-23T00:00:00.000Z", "2022-05-24T20:33:45.000Z", 25.75, 1.0),
+        // bounds on and after the last data point
+        Arguments.of(input, "2022-05-24T20:38:44.234Z", "2022-05-25T00:00:00.000Z", 57.55, 1.0),
+        // bounds between the same two data points
+        Arguments.of(input, "2022-05-24T20:35:00.000Z", "2022-05-24T20:36:00.000Z", 0.0, 0.0),
+        // bounds before the first data point
+        Arguments.of(input, "2022-05-23T00:00:00.000Z", "2022-05-24T00:00:00.000Z", 0.0, 0.0),
+        // bounds after the last data point
+        Arguments.of(input, "2022-05-24T20:38:44.235Z", "2022-05-25T00:00:00.000Z", 0.0, 0.0),
+        // sub-millisecond bounds just before and after data points, i.e., including them
+        Arguments.of(input, "2022-05-24T20:33:45.2335Z", "2022-05-24T20:36:46.2345Z", 102.77, 2.0),
+        // sub-millisecond bounds just after and before data points, i.e., excluding them
+        Arguments.of(input, "2022-05-24T20:33:45.2345Z", "2022-05-24T20:36:46.2335Z", 0.0, 0.0),
+        // unbounded lower bound
+        Arguments.of(input, "", "2022-05-24T20:33:45.234Z", 53.0, 2.0)
+    );
+  }
+
   public static Stream<Arguments> localAggregatesSet() {
     final var input = List.of(
         dp("2022-05-24 20:33:45.000", 25.75),
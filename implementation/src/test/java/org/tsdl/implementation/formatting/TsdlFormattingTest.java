@@ -35,8 +35,8 @@ class TsdlFormattingTest {
                                                         String expectedResult) throws IOException {
       var sample = ELEMENTS.getSample(aggregator, ELEMENTS.getIdentifier(identifier), true, args);
 
-      sample.aggregator().compute(identifier, dps);
-      formattingTestStream(sample, result -> assertThat(result).isEqualTo(expectedResult + "\n"));
+      var value = sample.aggregator().compute(identifier, dps);
+      formattingTestStream(sample.withValue(value), result -> assertThat(result).isEqualTo(expectedResult + "\n"));
     }
 
     @ParameterizedTest
@@ -45,8 +45,8 @@ class TsdlFormattingTest {
                                                             String expectedResult) {
       var sample = ELEMENTS.getSample(aggregator, ELEMENTS.getIdentifier(identifier), true, args);
 
-      sample.aggregator().compute(identifier, dps);
-      formattingTestCollection(sample, result -> assertThat(result)
+      var value = sample.aggregator().compute(identifier, dps);
+      formattingTestCollection(sample.withValue(value), result -> assertThat(result)
           .asInstanceOf(InstanceOfAssertFactories.list(TsdlLogEvent.class))
           .hasSize(1)
           .satisfies(e -> assertThat(e.get(0).message()).isEqualTo(expectedResult))
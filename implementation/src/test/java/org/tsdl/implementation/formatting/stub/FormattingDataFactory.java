@@ -16,7 +16,6 @@ import org.tsdl.infrastructure.model.DataPoint;
 @SuppressWarnings("unused") // only referenced by string literals, therefore usage unrecognized
 public final class FormattingDataFactory {
   private static final TsdlQueryElementFactory ELEMENTS = TsdlComponentFactory.INSTANCE.elementFactory();
-  private static final TsdlComponentFactory COMPONENTS = TsdlComponentFactory.INSTANCE;
 
   private static final DateTimeFormatter INSTANT_FORMATTER = DateTimeFormatter
       .ofPattern("yyyy-MM-dd HH:mm:ss.SSS")
@@ -35,36 +34,35 @@ public final class FormattingDataFactory {
     return Stream.of(
         Arguments.of(
             dps,
-            ELEMENTS.getAggregator(AggregatorType.COUNT, null, (Instant) null, COMPONENTS.summaryStatistics()),
+            ELEMENTS.getAggregator(AggregatorType.COUNT, null, (Instant) null),
             "myCount",
             new String[] {"0"},
             "sample 'myCount' count() := 3"
         ),
         Arguments.of(
             dps,
-            ELEMENTS.getAggregator(AggregatorType.SUM, (Instant) null, null, COMPONENTS.summaryStatistics()),
+            ELEMENTS.getAggregator(AggregatorType.SUM, (Instant) null, null),
             "mySum",
             new String[] {"2.0"},
             "sample 'mySum' sum() := 128.52"
         ),
         Arguments.of(
             dps,
-            ELEMENTS.getAggregator(AggregatorType.MINIMUM, Instant.parse("2022-05-24T20:33:45.000Z"), null, COMPONENTS.summaryStatistics()),
+            ELEMENTS.getAggregator(AggregatorType.MINIMUM, Instant.parse("2022-05-24T20:33:45.000Z"), null),
             "myMin",
             new String[] {"1"},
             "sample 'myMin' min(\"2022-05-24T20:33:45Z\", \"\") := 25.8"
         ),
         Arguments.of(
             dps,
-            ELEMENTS.getAggregator(AggregatorType.MAXIMUM, null, Instant.parse("2022-05-24T20:36:44.234Z"), COMPONENTS.summaryStatistics()),
+            ELEMENTS.getAggregator(AggregatorType.MAXIMUM, null, Instant.parse("2022-05-24T20:36:44.234Z")),
             "myMax",
             new String[] {"3"},
             "sample 'myMax' max(\"\", \"2022-05-24T20:36:44.234Z\") := 75.520"
         ),
         Arguments.of(
             dps,
-            ELEMENTS.getAggregator(AggregatorType.AVERAGE, Instant.parse("2022-05-24T20:33:45.000Z"), Instant.parse("2022-05-24T20:37:44.234Z"),
-                COMPONENTS.summaryStatistics()),
+            ELEMENTS.getAggregator(AggregatorType.AVERAGE, Instant.parse("2022-05-24T20:33:45.000Z"), Instant.parse("2022-05-24T20:37:44.234Z")),
             "myAvg",
             new String[] {"1"},
             "sample 'myAvg' avg(\"2022-05-24T20:33:45Z\", \"2022-05-24T20:37:44.234Z\") := 42.8"
@@ -75,8 +73,7 @@ public final class FormattingDataFactory {
             ELEMENTS.getAggregator(
                 AggregatorType.TEMPORAL_AVERAGE,
                 List.of(new TimePeriodImpl(Instant.parse("2022-05-24T20:33:45.000Z"), Instant.parse("2022-05-24T20:37:44.234Z"))),
-                ParsableTsdlTimeUnit.MINUTES,
-                COMPONENTS.summaryStatistics()
+                ParsableTsdlTimeUnit.MINUTES
             ),
             "myTemporalAvg",
             new String[] {"0"},
@@ -88,8 +85,7 @@ public final class FormattingDataFactory {
                 AggregatorType.TEMPORAL_MAXIMUM,
                 List.of(new TimePeriodImpl(Instant.parse("2022-05-24T20:33:45.000Z"), Instant.parse("2022-05-24T20:37:44.234Z")),
                     new TimePeriodImpl(Instant.parse("2022-05-24T20:33:45.000Z"), Instant.parse("2022-05-24T20:33:45.234Z"))),
-                ParsableTsdlTimeUnit.SECONDS,
-                COMPONENTS.summaryStatistics()
+                ParsableTsdlTimeUnit.SECONDS
             ),
             "myTemporalMax",
             new String[] {"3"},
@@ -102,8 +98,7 @@ public final class FormattingDataFactory {
                 AggregatorType.TEMPORAL_MINIMUM,
                 List.of(new TimePeriodImpl(Instant.parse("2022-05-24T20:33:45.000Z"), Instant.parse("2022-05-24T20:37:44.234Z")),
                     new TimePeriodImpl(Instant.parse("2022-05-24T20:33:45.000Z"), Instant.parse("2022-05-24T20:33:45.234Z"))),
-                ParsableTsdlTimeUnit.MILLISECONDS,
-                COMPONENTS.summaryStatistics()
+                ParsableTsdlTimeUnit.MILLISECONDS
             ),
             "myTemporalMin",
             new String[] {"5"},
@@ -116,8 +111,7 @@ public final class FormattingDataFactory {
                 AggregatorType.TEMPORAL_COUNT,
                 List.of(new TimePeriodImpl(Instant.parse("2022-05-24T20:33:45.000Z"), Instant.parse("2022-05-24T20:37:44.234Z")),
                     new TimePeriodImpl(Instant.parse("2022-05-24T20:33:45.000Z"), Instant.parse("2022-05-24T20:33:45.234Z"))),
-                null,
-                COMPONENTS.summaryStatistics()
+                null
             ),
             "myTemporalCount",
             new String[] {"2"},
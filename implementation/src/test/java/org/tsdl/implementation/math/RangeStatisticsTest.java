@@ -0,0 +1,84 @@
+package org.tsdl.implementation.math;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.tsdl.implementation.math.impl.ContinuousRegressionImpl;
+import org.tsdl.implementation.math.impl.RangeStatisticsImpl;
+import org.tsdl.infrastructure.common.TsdlTimeUnit;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
+
+class RangeStatisticsTest {
+  private static final ContinuousRegression CONTINUOUS_REGRESSION = new ContinuousRegressionImpl();
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 2, 63, 64, 65, 300})
+  void statistics_randomRanges_equalScanOfRange(int size) {
+    var random = new Random(size);
+    var builder = ColumnarTimeSeries.builder();
+    var epochMillis = 1_000_000L;
+    for (var i = 0; i < size; i++) {
+      epochMillis += 1 + random.nextInt(5000);
+      builder.add(epochMillis, random.nextGaussian() * 100);
+    }
+    var series = builder.build();
+    var stats = new RangeStatisticsImpl(series, TsdlTimeUnit.SECONDS);
+
+    assertThat(stats.size()).isEqualTo(size);
+    for (var run = 0; run < 200; run++) {
+      var fromIndex = random.nextInt(size);
+      var toIndex = fromIndex + 1 + random.nextInt(size - fromIndex);
+
+      var sum = 0.0;
+      var min = Double.POSITIVE_INFINITY;
+      var max = Double.NEGATIVE_INFINITY;
+      for (var i = fromIndex; i < toIndex; i++) {
+        sum += series.value(i);
+        min = Math.min(min, series.value(i));
+        max = Math.max(max, series.value(i));
+      }
+
+      assertThat(stats.average(fromIndex, toIndex)).isCloseTo(sum / (toIndex - fromIndex), within(1e-9));
+      assertThat(stats.minimum(fromIndex, toIndex)).isEqualTo(min);
+      assertThat(stats.maximum(fromIndex, toIndex)).isEqualTo(max);
+      if (toIndex - fromIndex >= 2) {
+        var expected = CONTINUOUS_REGRESSION.linearLeastSquares(series.slice(fromIndex, toIndex), TsdlTimeUnit.SECONDS);
+        var actual = stats.linearLeastSquares(fromIndex, toIndex);
+        assertThat(actual.slope()).isCloseTo(expected.slope(), within(1e-9 * Math.max(1.0, Math.abs(expected.slope()))));
+        assertThat(actual.ordinateIntercept())
+            .isCloseTo(expected.ordinateIntercept(), within(1e-9 * Math.max(1.0, Math.abs(expected.ordinateIntercept()))));
+      }
+    }
+  }
+
+  @Test
+  void linearLeastSquares_shortRangeOfLongSeries_doesNotLosePrecision() {
+    var builder = ColumnarTimeSeries.builder();
+    for (var i = 0; i < 200_000; i++) {
+      builder.add(1_600_000_000_000L + 1000L * i, 3.0 + 0.001 * (i % 10));
+    }
+    var series = builder.build();
+    var stats = new RangeStatisticsImpl(series, TsdlTimeUnit.SECONDS);
+
+    var expected = CONTINUOUS_REGRESSION.linearLeastSquares(series.slice(199_980, 199_990), TsdlTimeUnit.SECONDS);
+    var actual = stats.linearLeastSquares(199_980, 199_990);
+
+    assertThat(actual.slope()).isCloseTo(expected.slope(), within(1e-12));
+    assertThat(actual.ordinateIntercept()).isCloseTo(expected.ordinateIntercept(), within(1e-12));
+  }
+
+  @Test
+  void statistics_invalidRange_throws() {
+    var stats = new RangeStatisticsImpl(ColumnarTimeSeries.builder().add(0L, 1.0).add(1L, 2.0).build(), TsdlTimeUnit.MILLISECONDS);
+
+    assertThatThrownBy(() -> stats.average(1, 1)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> stats.maximum(0, 3)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> stats.minimum(-1, 1)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> stats.linearLeastSquares(1, 2)).isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -1,6 +1,7 @@
 package org.tsdl.implementation.math;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.AssertionsForClassTypes.within;
 
 import java.util.List;
@@ -62,6 +63,81 @@ class SummaryStatisticsTest {
     assertThat(calculator.average()).isEqualTo(average);
   }
 
+  @ParameterizedTest
+  @MethodSource("inputData")
+  void summaryStatistics_mergedPartialSummaries_equalSummaryOfWholeData(List<Double> data, SummaryCalculationResults results, Double tolerance,
+                                                                         Double toleranceVariance) {
+    var whole = new SummaryStatisticsImpl();
+    whole.ingest(() -> data);
+
+    for (var split = 0; split <= data.size(); split++) {
+      var leftValues = data.subList(0, split);
+      var rightValues = data.subList(split, data.size());
+      var left = new SummaryStatisticsImpl();
+      var right = new SummaryStatisticsImpl();
+      left.ingest(() -> leftValues);
+      right.ingest(() -> rightValues);
+
+      left.merge(right);
+
+      assertThat(left.count()).isEqualTo(whole.count());
+      assertThat(left.minimum()).isEqualTo(whole.minimum());
+      assertThat(left.maximum()).isEqualTo(whole.maximum());
+      assertThat(left.sum()).isEqualTo(whole.sum(), within(tolerance));
+      assertThat(left.average()).isEqualTo(whole.average(), within(tolerance));
+      assertThat(left.sampleVariance()).isEqualTo(whole.sampleVariance(), within(toleranceVariance));
+    }
+  }
+
+  @ParameterizedTest
+  @MethodSource("sumInput")
+  void summaryStatistics_mergedSums_areCompensated(List<Double> data, double expectedSum) {
+    var calculator = new SummaryStatisticsImpl();
+    for (var value : data) {
+      var single = new SummaryStatisticsImpl();
+      single.accept(value);
+      calculator.merge(single);
+    }
+
+    assertThat(calculator.sum()).isEqualTo(expectedSum);
+    assertThat(calculator.sum()).isEqualTo(expectedSum);
+  }
+
+  @ParameterizedTest
+  @MethodSource("inputData")
+  void summaryStatistics_removedLeadingValues_equalSummaryOfRemainingData(List<Double> data, SummaryCalculationResults results, Double tolerance,
+                                                                           Double toleranceVariance) {
+    var sliding = new SummaryStatisticsImpl(true);
+    data.forEach(sliding::accept);
+
+    for (var removed = 0; removed < data.size(); removed++) {
+      var remainingValues = data.subList(removed, data.size());
+      var remaining = new SummaryStatisticsImpl();
+      remaining.ingest(() -> remainingValues);
+
+      assertThat(sliding.count()).isEqualTo(remaining.count());
+      assertThat(sliding.minimum()).isEqualTo(remaining.minimum());
+      assertThat(sliding.maximum()).isEqualTo(remaining.maximum());
+      assertThat(sliding.sum()).isEqualTo(remaining.sum(), within(tolerance));
+      assertThat(sliding.average()).isEqualTo(remaining.average(), within(tolerance));
+      assertThat(sliding.sampleVariance()).isEqualTo(remaining.sampleVariance(), within(toleranceVariance));
+
+      sliding.remove(data.get(removed));
+    }
+
+    assertThat(sliding.count()).isZero();
+    assertThat(sliding.sum()).isZero();
+    assertThat(sliding.minimum()).isEqualTo(Double.POSITIVE_INFINITY);
+  }
+
+  @Test
+  void summaryStatistics_removeFromNonRemovableInstance_throws() {
+    var calculator = new SummaryStatisticsImpl();
+    calculator.accept(1.0);
+
+    assertThatThrownBy(() -> calculator.remove(1.0)).isInstanceOf(IllegalStateException.class);
+  }
+
   private static Stream<Arguments> varianceInput() {
     return Stream.of(
         Arguments.of(List.of(4.0, 7.0, 13.0, 16.0), 30),
@@ -237,8 +237,7 @@ class TsdlQueryParserTest {
               ELEMENTS.getAggregator(
                   AggregatorType.TEMPORAL_AVERAGE,
                   List.of(new TimePeriodImpl(Instant.parse("2022-07-03T12:45:03.123Z"), Instant.parse("2022-07-03T12:46:03.123Z"))),
-                  ParsableTsdlTimeUnit.MILLISECONDS,
-                  TsdlComponentFactory.INSTANCE.summaryStatistics()
+                  ParsableTsdlTimeUnit.MILLISECONDS
               )
           ),
           Arguments.of(
@@ -253,8 +252,7 @@ class TsdlQueryParserTest {
                       new TimePeriodImpl(Instant.parse("2022-07-03T12:45:03.123Z"), Instant.parse("2022-07-03T12:46:03.123Z")),
                       new TimePeriodImpl(Instant.parse("2022-07-03T12:47:03.123Z"), Instant.parse("2022-07-03T12:48:03.123Z"))
                   ),
-                  ParsableTsdlTimeUnit.SECONDS,
-                  TsdlComponentFactory.INSTANCE.summaryStatistics()
+                  ParsableTsdlTimeUnit.SECONDS
               )
           ),
           Arguments.of(
@@ -271,8 +269,7 @@ class TsdlQueryParserTest {
                       new TimePeriodImpl(Instant.parse("2022-07-03T12:51:03.123Z"), Instant.parse("2022-07-03T12:52:03.123Z")),
                       new TimePeriodImpl(Instant.parse("2022-07-03T12:53:03.123Z"), Instant.parse("2022-07-03T12:54:03.123Z"))
                   ),
-                  ParsableTsdlTimeUnit.WEEKS,
-                  TsdlComponentFactory.INSTANCE.summaryStatistics()
+                  ParsableTsdlTimeUnit.WEEKS
               )
           ),
           Arguments.of(
@@ -288,8 +285,7 @@ class TsdlQueryParserTest {
                       new TimePeriodImpl(Instant.parse("2022-07-03T12:51:03.123Z"), Instant.parse("2022-07-03T12:52:03.123Z")),
                       new TimePeriodImpl(Instant.parse("2022-07-03T12:53:03.123Z"), Instant.parse("2022-07-03T12:54:03.123Z"))
                   ),
-                  null,
-                  TsdlComponentFactory.INSTANCE.summaryStatistics()
+                  null
               )
           )
       );
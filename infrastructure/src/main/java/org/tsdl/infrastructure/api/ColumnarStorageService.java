@@ -0,0 +1,18 @@
+package org.tsdl.infrastructure.api;
+
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
+
+/**
+ * Optional capability of a {@link StorageService} to load data points straight into the primitive columns of a {@link ColumnarTimeSeries}, i.e.,
+ * without materializing the loaded data and data points as objects first.
+ *
+ * @param <U> configuration compatible with this {@link StorageService} implementation
+ */
+public interface ColumnarStorageService<U extends StorageServiceConfiguration> {
+  /**
+   * Loads the data points specified by {@code lookupConfiguration} and {@code transformationConfiguration}, i.e., the data points
+   * {@link StorageService#transform(java.util.List, StorageServiceConfiguration)} would return for the data
+   * {@link StorageService#load(StorageServiceConfiguration)} loads, with their timestamps in milliseconds since the epoch.
+   */
+  ColumnarTimeSeries loadColumnar(U lookupConfiguration, U transformationConfiguration);
+}
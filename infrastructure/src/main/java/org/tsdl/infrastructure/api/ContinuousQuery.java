@@ -0,0 +1,26 @@
+package org.tsdl.infrastructure.api;
+
+import java.util.List;
+import org.tsdl.infrastructure.model.DataPoint;
+import org.tsdl.infrastructure.model.QueryResult;
+
+/**
+ * Stateful evaluation of a TSDL query over a series which only grows by appending data points, e.g., the data points of a sensor which is polled
+ * periodically. See {@link QueryService#continuousQuery(String)} and, for queries over a sliding window of the series,
+ * {@link QueryService#slidingWindowQuery(String, java.time.Duration)}.
+ */
+public interface ContinuousQuery {
+  /**
+   * Appends data points to the series and evaluates the query over all data points appended so far (or the ones within the sliding window). The
+   * result equals the one of {@link QueryService#query(List, String)} over these data points.
+   *
+   * <p>Precondition: data is sorted by date-time in ascending order and does not precede any data point appended before.
+   */
+  QueryResult append(List<DataPoint> data);
+
+  /**
+   * The number of data points the query has been evaluated over by the last append, i.e., the number of data points appended so far (or the ones
+   * within the sliding window).
+   */
+  int size();
+}
@@ -0,0 +1,21 @@
+package org.tsdl.infrastructure.api;
+
+import java.util.List;
+import java.util.Map;
+import org.tsdl.infrastructure.model.DataPoint;
+
+/**
+ * Optional capability of a {@link StorageService} whose loaded data may comprise several time series, e.g., one per combination of tag values.
+ *
+ * @param <T> type of data retrieved by the {@link StorageService#load(StorageServiceConfiguration)} method
+ * @param <U> configuration compatible with this {@link StorageService} implementation
+ */
+public interface MultiSeriesStorageService<T, U extends StorageServiceConfiguration> {
+  /**
+   * Transforms {@code loadedData} into data points like {@link StorageService#transform(List, StorageServiceConfiguration)} does, but keeps the
+   * data points of different series apart. The data points of each series are sorted by date-time in ascending order.
+   *
+   * @return data points by series identifier, in the order the series occur in {@code loadedData}
+   */
+  Map<String, List<DataPoint>> transformSeries(List<T> loadedData, U transformationConfiguration);
+}
@@ -0,0 +1,20 @@
+package org.tsdl.infrastructure.api;
+
+import org.tsdl.infrastructure.model.QueryPushdown;
+
+/**
+ * Optional capability of a {@link StorageService} to load only the data points a query depends on, see {@link QueryPushdown}, e.g., by narrowing
+ * the time range requested from a database or by skipping the parts of a file outside the time range.
+ *
+ * @param <U> configuration compatible with this {@link StorageService} implementation
+ */
+public interface PushdownStorageService<U extends StorageServiceConfiguration> {
+  /**
+   * Restricts the data points provided for {@code lookupConfiguration} and {@code transformationConfiguration} (by
+   * {@link StorageService#load(StorageServiceConfiguration)} and {@link StorageService#transform(java.util.List, StorageServiceConfiguration)},
+   * as well as by other capabilities of the storage) to the ones matching {@code pushdown}, by setting the corresponding properties of the
+   * configurations. Restrictions the configurations specify already are retained, i.e., the provided data points match both. Depending on the
+   * storage, data points which do not match {@code pushdown} may still be provided, e.g., if only the time range of loaded data can be restricted.
+   */
+  void pushDown(QueryPushdown pushdown, U lookupConfiguration, U transformationConfiguration);
+}
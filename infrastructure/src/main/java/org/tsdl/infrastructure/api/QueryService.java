@@ -1,7 +1,12 @@
 package org.tsdl.infrastructure.api;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
 import org.tsdl.infrastructure.model.DataPoint;
+import org.tsdl.infrastructure.model.DataPointSource;
+import org.tsdl.infrastructure.model.QueryPushdown;
 import org.tsdl.infrastructure.model.QueryResult;
 
 /**
@@ -12,4 +17,63 @@ public interface QueryService {
    * Precondition: data is sorted by date-time in ascending order.
    */
   QueryResult query(List<DataPoint> data, String query);
+
+  /**
+   * Precondition: data is sorted by date-time in ascending order.
+   */
+  QueryResult query(ColumnarTimeSeries data, String query);
+
+  /**
+   * Evaluates the query over a pull-based source, holding only aggregate state and detected periods in memory. Depending on the query, more than
+   * one pass over the data may be necessary, e.g., if filters or events refer to samples. In that case, the source must be replayable.
+   *
+   * <p>Precondition: data is sorted by date-time in ascending order.
+   */
+  QueryResult query(DataPointSource data, String query);
+
+  /**
+   * Evaluates several queries over the same data, the i-th result being the one of the i-th query. In contrast to evaluating each query on its own,
+   * implementations may share work between the queries, e.g., compute samples which several queries declare only once.
+   *
+   * <p>Precondition: data is sorted by date-time in ascending order.
+   */
+  List<QueryResult> query(List<DataPoint> data, List<String> queries);
+
+  /**
+   * Evaluates several queries over the same data, see {@link #query(List, List)}.
+   *
+   * <p>Precondition: data is sorted by date-time in ascending order.
+   */
+  List<QueryResult> query(ColumnarTimeSeries data, List<String> queries);
+
+  /**
+   * Evaluates the same query over each of several series, e.g., the series of a fleet of sensors. Implementations may evaluate the series
+   * concurrently.
+   *
+   * <p>Precondition: each series is sorted by date-time in ascending order.
+   *
+   * @return results by series identifier, in the iteration order of {@code data}
+   */
+  Map<String, QueryResult> query(Map<String, ColumnarTimeSeries> data, String query);
+
+  /**
+   * Creates a handle which evaluates the query over a series that grows by appending data points. In contrast to evaluating the query over the
+   * whole series after each append, implementations may retain state between appends (e.g., aggregates and detected periods), such that an append
+   * only takes time proportional to the appended data points.
+   */
+  ContinuousQuery continuousQuery(String query);
+
+  /**
+   * Creates a handle which evaluates the query over the most recent data points of a series that grows by appending data points, i.e., over the
+   * data points within {@code window} before the latest one (excluding data points exactly {@code window} before it). Like
+   * {@link #continuousQuery(String)}, implementations may retain state between appends, such that data points leaving the window are subtracted
+   * from that state instead of evaluating the query over the whole window after each append.
+   */
+  ContinuousQuery slidingWindowQuery(String query, Duration window);
+
+  /**
+   * Determines the data points the result of the query depends on, e.g., the time range its temporal filters admit, such that storages can skip
+   * loading the remaining data points, see {@link PushdownStorageService}.
+   */
+  QueryPushdown pushdown(String query);
 }
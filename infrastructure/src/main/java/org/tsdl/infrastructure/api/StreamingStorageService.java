@@ -0,0 +1,17 @@
+package org.tsdl.infrastructure.api;
+
+import org.tsdl.infrastructure.model.DataPointSource;
+
+/**
+ * Optional capability of a {@link StorageService} to provide data points without loading all of them into memory first.
+ *
+ * @param <U> configuration compatible with this {@link StorageService} implementation
+ */
+public interface StreamingStorageService<U extends StorageServiceConfiguration> {
+  /**
+   * Provides the data points specified by {@code lookupConfiguration} and {@code transformationConfiguration}, i.e., the data points
+   * {@link StorageService#transform(java.util.List, StorageServiceConfiguration)} would return for the data
+   * {@link StorageService#load(StorageServiceConfiguration)} loads. They are only read from the storage while the source is consumed.
+   */
+  DataPointSource stream(U lookupConfiguration, U transformationConfiguration);
+}
@@ -75,8 +75,17 @@ public final class TsdlUtil {
    *     on the other hand, {@code t2} is earlier than {@code t1}, then the return value is negative.
    */
   public static double getTimespan(Instant t1, Instant t2, TsdlTimeUnit unit) {
-    var timespanMillis = ChronoUnit.MILLIS.between(t1, t2);
+    return getTimespan(ChronoUnit.MILLIS.between(t1, t2), unit);
+  }
 
+  /**
+   * Converts the length of a timespan given in milliseconds into the time unit {@code unit}.
+   *
+   * @param timespanMillis length of the timespan in milliseconds
+   * @param unit           time unit the length of the timespan should be returned in
+   * @return the length of the timespan in {@code unit}
+   */
+  public static double getTimespan(long timespanMillis, TsdlTimeUnit unit) {
     Conditions.checkIsTrue(
         Condition.STATE,
         MILLIS_TO_UNIT_CONVERSION_FACTOR.containsKey(unit),
@@ -87,6 +96,16 @@ public final class TsdlUtil {
     return timespanMillis * MILLIS_TO_UNIT_CONVERSION_FACTOR.get(unit);
   }
 
+  /**
+   * Rounds {@code instant} up to the next millisecond unless it has no sub-millisecond fraction. A timestamp with millisecond precision is before
+   * {@code instant} iff it is before the returned millisecond (whereas {@link Instant#toEpochMilli()} truncates, i.e., a timestamp is after
+   * {@code instant} iff it is after the truncated millisecond).
+   */
+  public static long ceilEpochMilli(Instant instant) {
+    var millis = instant.toEpochMilli();
+    return instant.getNano() % 1_000_000 == 0 ? millis : millis + 1;
+  }
+
   /**
    * Converts a decimal value from one into another unit.
    *
@@ -0,0 +1,22 @@
+package org.tsdl.infrastructure.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FleetQueryDto {
+  @NotEmpty
+  private Map<String, @NotNull @Valid StorageDto> storages;
+
+  @NotNull
+  private String tsdlQuery;
+}
@@ -0,0 +1,172 @@
+package org.tsdl.infrastructure.model;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import org.tsdl.infrastructure.common.Condition;
+import org.tsdl.infrastructure.common.Conditions;
+import org.tsdl.infrastructure.model.impl.ChunkedColumnarTimeSeries;
+import org.tsdl.infrastructure.model.impl.DataPointListColumnarTimeSeries;
+import org.tsdl.infrastructure.model.impl.DataPointListView;
+import org.tsdl.infrastructure.model.impl.SelectedColumnarTimeSeries;
+import org.tsdl.infrastructure.model.impl.SlicedColumnarTimeSeries;
+import org.tsdl.infrastructure.model.impl.ValueReplacingColumnarTimeSeries;
+
+/**
+ * A time series whose timestamps (epoch milliseconds) and values are stored in parallel primitive columns. Items are addressed by index, which
+ * allows for scanning a series without boxing its values or allocating an object per data point.
+ *
+ * <p>Precondition of all consumers: items are sorted by timestamp in ascending order.
+ */
+public interface ColumnarTimeSeries {
+  /**
+   * Series without any items.
+   */
+  ColumnarTimeSeries EMPTY = of(new long[0], new double[0]);
+
+  int size();
+
+  /**
+   * Timestamp of the item at the given index as milliseconds since the epoch.
+   */
+  long epochMillis(int index);
+
+  double value(int index);
+
+  default boolean isEmpty() {
+    return size() == 0;
+  }
+
+  /**
+   * Timestamp of the item at the given index. Implementations backed by {@link DataPoint} instances return their exact timestamps.
+   */
+  default Instant timestamp(int index) {
+    return Instant.ofEpochMilli(epochMillis(index));
+  }
+
+  /**
+   * Number of whole milliseconds between the timestamps of the items at the given indices, consistent with {@link #timestamp(int)}.
+   */
+  default long millisBetween(int fromIndex, int toIndex) {
+    return epochMillis(toIndex) - epochMillis(fromIndex);
+  }
+
+  /**
+   * Compares the timestamp of the item at the given index to the given instant, consistent with {@link #timestamp(int)}.
+   */
+  default int compareTimestamp(int index, Instant instant) {
+    var millis = epochMillis(index);
+    var instantMillis = instant.toEpochMilli();
+    return millis != instantMillis ? Long.compare(millis, instantMillis) : timestamp(index).compareTo(instant);
+  }
+
+  /**
+   * Copies the timestamps (epoch milliseconds) of the items in the index range [fromIndex, toIndex) into {@code target}, starting at
+   * {@code targetOffset}. Implementations backed by primitive arrays copy them in bulk.
+   */
+  default void copyEpochMillis(int fromIndex, int toIndex, long[] target, int targetOffset) {
+    Objects.checkFromToIndex(fromIndex, toIndex, size());
+    Objects.checkFromIndexSize(targetOffset, toIndex - fromIndex, target.length);
+    for (var i = fromIndex; i < toIndex; i++) {
+      target[targetOffset++] = epochMillis(i);
+    }
+  }
+
+  /**
+   * Copies the values of the items in the index range [fromIndex, toIndex) into {@code target}, starting at {@code targetOffset}.
+   * Implementations backed by primitive arrays copy them in bulk.
+   */
+  default void copyValues(int fromIndex, int toIndex, double[] target, int targetOffset) {
+    Objects.checkFromToIndex(fromIndex, toIndex, size());
+    Objects.checkFromIndexSize(targetOffset, toIndex - fromIndex, target.length);
+    for (var i = fromIndex; i < toIndex; i++) {
+      target[targetOffset++] = value(i);
+    }
+  }
+
+  /**
+   * Index of the first item at or after {@code fromIndex} whose timestamp is not before {@code instant}, or {@link #size()} if there is none.
+   * Found by binary search, consistent with {@link #compareTimestamp(int, Instant)}.
+   */
+  default int firstIndexNotBefore(int fromIndex, Instant instant) {
+    return firstIndex(fromIndex, instant, false);
+  }
+
+  /**
+   * Index of the first item at or after {@code fromIndex} whose timestamp is after {@code instant}, or {@link #size()} if there is none. Found by
+   * binary search, consistent with {@link #compareTimestamp(int, Instant)}.
+   */
+  default int firstIndexAfter(int fromIndex, Instant instant) {
+    return firstIndex(fromIndex, instant, true);
+  }
+
+  private int firstIndex(int fromIndex, Instant instant, boolean after) {
+    Objects.checkFromToIndex(fromIndex, size(), size());
+    Conditions.checkNotNull(Condition.ARGUMENT, instant, "Instant to search for must not be null.");
+    var low = fromIndex;
+    var high = size();
+    while (low < high) {
+      var middle = (low + high) >>> 1;
+      var comparison = compareTimestamp(middle, instant);
+      if (comparison > 0 || comparison == 0 && !after) {
+        high = middle;
+      } else {
+        low = middle + 1;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * The item at the given index. Implementations backed by {@link DataPoint} instances return the original instance.
+   */
+  default DataPoint dataPoint(int index) {
+    return DataPoint.of(timestamp(index), value(index));
+  }
+
+  /**
+   * Read-only view of this series as data points. Items are created on access, unless the series is backed by {@link DataPoint} instances.
+   */
+  default List<DataPoint> asDataPoints() {
+    return new DataPointListView(this);
+  }
+
+  /**
+   * View of the items in the index range [fromIndex, toIndex).
+   */
+  default ColumnarTimeSeries slice(int fromIndex, int toIndex) {
+    return SlicedColumnarTimeSeries.of(this, fromIndex, toIndex);
+  }
+
+  /**
+   * View of the items at the first {@code count} of the given (ascending) indices.
+   */
+  default ColumnarTimeSeries select(int[] indices, int count) {
+    return new SelectedColumnarTimeSeries(this, indices, count);
+  }
+
+  /**
+   * View of this series with the same timestamps, but the given values.
+   */
+  default ColumnarTimeSeries withValues(double[] values) {
+    return new ValueReplacingColumnarTimeSeries(this, values);
+  }
+
+  /**
+   * Adapts a list of data points. The primitive columns are extracted once, the original data points are retained.
+   */
+  static ColumnarTimeSeries of(List<DataPoint> dataPoints) {
+    return new DataPointListColumnarTimeSeries(dataPoints);
+  }
+
+  /**
+   * Wraps the given columns without copying them.
+   */
+  static ColumnarTimeSeries of(long[] epochMillis, double[] values) {
+    return ChunkedColumnarTimeSeries.of(epochMillis, values);
+  }
+
+  static ChunkedColumnarTimeSeries.Builder builder() {
+    return ChunkedColumnarTimeSeries.builder();
+  }
+}
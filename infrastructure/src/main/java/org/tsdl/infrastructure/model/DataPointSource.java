@@ -0,0 +1,53 @@
+package org.tsdl.infrastructure.model;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.tsdl.infrastructure.common.Condition;
+import org.tsdl.infrastructure.common.Conditions;
+import org.tsdl.infrastructure.model.impl.SingleUseDataPointSource;
+
+/**
+ * A pull-based source of data points sorted by timestamp in ascending order. Consumers request data points one at a time, therefore, the data does
+ * not have to fit into memory.
+ */
+@FunctionalInterface
+public interface DataPointSource {
+  /**
+   * Starts a new pass over the data points. Every pass yields the same data points in the same order. The caller is responsible for closing the
+   * returned stream, which releases resources (e.g., file handles) held by the pass.
+   */
+  Stream<DataPoint> open();
+
+  /**
+   * Indicates whether {@link #open()} may be invoked more than once.
+   */
+  default boolean isReplayable() {
+    return true;
+  }
+
+  /**
+   * Creates a replayable source, every pass iterates over {@code dataPoints} anew.
+   */
+  static DataPointSource of(Iterable<DataPoint> dataPoints) {
+    Conditions.checkNotNull(Condition.ARGUMENT, dataPoints, "Data points must not be null.");
+    return () -> StreamSupport.stream(dataPoints.spliterator(), false);
+  }
+
+  /**
+   * Creates a source which can only be consumed once, i.e., which supports a single pass.
+   */
+  static DataPointSource of(Iterator<DataPoint> dataPoints) {
+    Conditions.checkNotNull(Condition.ARGUMENT, dataPoints, "Data points must not be null.");
+    return of(Spliterators.spliteratorUnknownSize(dataPoints, Spliterator.ORDERED | Spliterator.NONNULL));
+  }
+
+  /**
+   * Creates a source which can only be consumed once, i.e., which supports a single pass.
+   */
+  static DataPointSource of(Spliterator<DataPoint> dataPoints) {
+    return new SingleUseDataPointSource(dataPoints);
+  }
+}
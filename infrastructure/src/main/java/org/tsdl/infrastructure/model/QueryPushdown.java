@@ -0,0 +1,80 @@
+package org.tsdl.infrastructure.model;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import org.tsdl.infrastructure.model.impl.QueryPushdownImpl;
+
+/**
+ * Describes the data points the result of a query depends on, such that storages may omit all other data points when loading data for the query,
+ * see {@link org.tsdl.infrastructure.api.PushdownStorageService}. The query yields the same result for any data comprising (at least) the data
+ * points matching the descriptor, i.e., storages may also provide data points which do not match it.
+ *
+ * <p>A data point matches if its timestamp is within [{@link #from()}, {@link #until()}) and its value is within [{@link #minValue()},
+ * {@link #maxValue()}], absent bounds being unbounded. If any value bound is present, data points whose value is NaN do not match either.
+ */
+public interface QueryPushdown {
+  QueryPushdown UNRESTRICTED = of(null, null, null, null);
+
+  /**
+   * Earliest timestamp of matching data points.
+   */
+  Optional<Instant> from();
+
+  /**
+   * Timestamp matching data points precede, i.e., the exclusive end of their time range.
+   */
+  Optional<Instant> until();
+
+  /**
+   * Lowest value of matching data points.
+   */
+  OptionalDouble minValue();
+
+  /**
+   * Highest value of matching data points.
+   */
+  OptionalDouble maxValue();
+
+  /**
+   * Indicates whether no data point matches, i.e., the result of the query does not depend on any data.
+   */
+  default boolean isEmpty() {
+    var emptyTimeRange = from().isPresent() && until().isPresent() && !from().get().isBefore(until().get());
+    var emptyValueRange = minValue().isPresent() && maxValue().isPresent() && minValue().getAsDouble() > maxValue().getAsDouble();
+    return emptyTimeRange || emptyValueRange;
+  }
+
+  /**
+   * Indicates whether all data points match.
+   */
+  default boolean isUnrestricted() {
+    return from().isEmpty() && until().isEmpty() && minValue().isEmpty() && maxValue().isEmpty();
+  }
+
+  /**
+   * Indicates whether the data point matches the descriptor.
+   */
+  default boolean matches(DataPoint dataPoint) {
+    var timestamp = dataPoint.timestamp();
+    var value = dataPoint.value();
+    var withinTimeRange = from().map(bound -> !timestamp.isBefore(bound)).orElse(true) && until().map(timestamp::isBefore).orElse(true);
+    var valueBounded = minValue().isPresent() || maxValue().isPresent();
+    var withinValueRange = !valueBounded || !Double.isNaN(value)
+        && (minValue().isEmpty() || value >= minValue().getAsDouble())
+        && (maxValue().isEmpty() || value <= maxValue().getAsDouble());
+    return withinTimeRange && withinValueRange;
+  }
+
+  /**
+   * Creates a descriptor, null arguments denoting absent bounds.
+   */
+  static QueryPushdown of(Instant from, Instant until, Double minValue, Double maxValue) {
+    return new QueryPushdownImpl(
+        Optional.ofNullable(from),
+        Optional.ofNullable(until),
+        minValue != null ? OptionalDouble.of(minValue) : OptionalDouble.empty(),
+        maxValue != null ? OptionalDouble.of(maxValue) : OptionalDouble.empty()
+    );
+  }
+}
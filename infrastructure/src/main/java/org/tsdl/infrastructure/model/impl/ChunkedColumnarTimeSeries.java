@@ -0,0 +1,200 @@
+package org.tsdl.infrastructure.model.impl;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Objects;
+import org.tsdl.infrastructure.common.Condition;
+import org.tsdl.infrastructure.common.Conditions;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
+import org.tsdl.infrastructure.model.DataPoint;
+
+/**
+ * Default implementation of {@link ColumnarTimeSeries}. Timestamps and values are stored in fixed-size chunks of primitive arrays, such that
+ * growing a series never copies more than one chunk.
+ */
+public final class ChunkedColumnarTimeSeries implements ColumnarTimeSeries {
+  /**
+   * Binary logarithm of the number of items per chunk of series created by a {@link Builder}.
+   */
+  public static final int CHUNK_SHIFT = 16;
+
+  // a shift of 31 maps every non-negative index to the first chunk, i.e., the columns consist of exactly one (arbitrarily sized) chunk
+  private static final int SINGLE_CHUNK_SHIFT = 31;
+
+  private final long[][] epochMillisChunks;
+  private final double[][] valueChunks;
+  private final int size;
+  private final int chunkShift;
+  private final int chunkMask;
+
+  private ChunkedColumnarTimeSeries(long[][] epochMillisChunks, double[][] valueChunks, int size, int chunkShift) {
+    this.epochMillisChunks = epochMillisChunks;
+    this.valueChunks = valueChunks;
+    this.size = size;
+    this.chunkShift = chunkShift;
+    this.chunkMask = (int) ((1L << chunkShift) - 1);
+  }
+
+  /**
+   * Wraps the given columns (of equal length) without copying them.
+   */
+  public static ChunkedColumnarTimeSeries of(long[] epochMillis, double[] values) {
+    Conditions.checkNotNull(Condition.ARGUMENT, epochMillis, "Timestamp column must not be null.");
+    Conditions.checkNotNull(Condition.ARGUMENT, values, "Value column must not be null.");
+    Conditions.checkEquals(Condition.ARGUMENT, epochMillis.length, values.length, "Timestamp and value columns must be of equal length.");
+    return new ChunkedColumnarTimeSeries(new long[][] {epochMillis}, new double[][] {values}, values.length, SINGLE_CHUNK_SHIFT);
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public long epochMillis(int index) {
+    Objects.checkIndex(index, size);
+    return epochMillisChunks[index >>> chunkShift][index & chunkMask];
+  }
+
+  @Override
+  public double value(int index) {
+    Objects.checkIndex(index, size);
+    return valueChunks[index >>> chunkShift][index & chunkMask];
+  }
+
+  @Override
+  public void copyEpochMillis(int fromIndex, int toIndex, long[] target, int targetOffset) {
+    Objects.checkFromToIndex(fromIndex, toIndex, size);
+    var index = fromIndex;
+    while (index < toIndex) {
+      var offset = index & chunkMask;
+      var length = (int) Math.min(toIndex - index, (long) chunkMask + 1 - offset);
+      System.arraycopy(epochMillisChunks[index >>> chunkShift], offset, target, targetOffset + index - fromIndex, length);
+      index += length;
+    }
+  }
+
+  @Override
+  public void copyValues(int fromIndex, int toIndex, double[] target, int targetOffset) {
+    Objects.checkFromToIndex(fromIndex, toIndex, size);
+    var index = fromIndex;
+    while (index < toIndex) {
+      var offset = index & chunkMask;
+      var length = (int) Math.min(toIndex - index, (long) chunkMask + 1 - offset);
+      System.arraycopy(valueChunks[index >>> chunkShift], offset, target, targetOffset + index - fromIndex, length);
+      index += length;
+    }
+  }
+
+  /**
+   * Incrementally assembles a {@link ChunkedColumnarTimeSeries}. Items must be added in ascending order of their timestamps.
+   */
+  public static final class Builder {
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private long[][] epochMillisChunks = new long[1][];
+    private double[][] valueChunks = new double[1][];
+    private int size;
+    private boolean built;
+
+    private Builder() {
+    }
+
+    /**
+     * Appends an item.
+     */
+    public Builder add(long epochMillis, double value) {
+      Conditions.checkIsFalse(Condition.STATE, built, "Builder has already been used to build a series.");
+      if (size > 0) {
+        var previous = epochMillisChunks[(size - 1) >>> CHUNK_SHIFT][(size - 1) & (CHUNK_SIZE - 1)];
+        Conditions.checkIsTrue(Condition.ARGUMENT, epochMillis >= previous,
+            "Items must be added in ascending order of their timestamps, but %s follows %s.", epochMillis, previous);
+      }
+
+      var chunk = size >>> CHUNK_SHIFT;
+      var offset = size & (CHUNK_SIZE - 1);
+      if (offset == 0) {
+        allocateChunk(chunk);
+      } else if (offset == epochMillisChunks[chunk].length) {
+        growChunk(chunk);
+      }
+
+      epochMillisChunks[chunk][offset] = epochMillis;
+      valueChunks[chunk][offset] = value;
+      size++;
+      return this;
+    }
+
+    /**
+     * Appends an item.
+     */
+    public Builder add(Instant timestamp, double value) {
+      Conditions.checkNotNull(Condition.ARGUMENT, timestamp, "Timestamp must not be null.");
+      return add(timestamp.toEpochMilli(), value);
+    }
+
+    /**
+     * Appends an item.
+     */
+    public Builder add(DataPoint dataPoint) {
+      Conditions.checkNotNull(Condition.ARGUMENT, dataPoint, "Data point must not be null.");
+      return add(dataPoint.timestamp(), dataPoint.value());
+    }
+
+    public int size() {
+      return size;
+    }
+
+    /**
+     * The items added so far, as a series which is not affected by items added afterwards. Chunks are shared with the builder rather than copied,
+     * i.e., taking a snapshot only takes time proportional to the number of chunks.
+     */
+    public ChunkedColumnarTimeSeries snapshot() {
+      Conditions.checkIsFalse(Condition.STATE, built, "Builder has already been used to build a series.");
+      // items are only ever written beyond the current size, and grown chunks are copies, hence, the snapshot's items never change
+      return toSeries();
+    }
+
+    /**
+     * Finishes the series. Afterwards, the builder must not be used anymore.
+     */
+    public ChunkedColumnarTimeSeries build() {
+      Conditions.checkIsFalse(Condition.STATE, built, "Builder has already been used to build a series.");
+      built = true;
+      return toSeries();
+    }
+
+    private ChunkedColumnarTimeSeries toSeries() {
+      var chunks = (size + CHUNK_SIZE - 1) >>> CHUNK_SHIFT;
+      return new ChunkedColumnarTimeSeries(
+          Arrays.copyOf(epochMillisChunks, chunks),
+          Arrays.copyOf(valueChunks, chunks),
+          size,
+          CHUNK_SHIFT
+      );
+    }
+
+    private void allocateChunk(int chunk) {
+      if (chunk == epochMillisChunks.length) {
+        epochMillisChunks = Arrays.copyOf(epochMillisChunks, chunk * 2);
+        valueChunks = Arrays.copyOf(valueChunks, chunk * 2);
+      }
+
+      // small series should not occupy a whole chunk, hence only the first one grows gradually
+      var capacity = chunk == 0 ? INITIAL_CAPACITY : CHUNK_SIZE;
+      epochMillisChunks[chunk] = new long[capacity];
+      valueChunks[chunk] = new double[capacity];
+    }
+
+    private void growChunk(int chunk) {
+      var capacity = Math.min(epochMillisChunks[chunk].length * 2, CHUNK_SIZE);
+      epochMillisChunks[chunk] = Arrays.copyOf(epochMillisChunks[chunk], capacity);
+      valueChunks[chunk] = Arrays.copyOf(valueChunks[chunk], capacity);
+    }
+  }
+}
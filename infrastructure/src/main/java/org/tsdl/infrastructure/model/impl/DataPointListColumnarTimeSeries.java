@@ -0,0 +1,86 @@
+package org.tsdl.infrastructure.model.impl;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import org.tsdl.infrastructure.common.Condition;
+import org.tsdl.infrastructure.common.Conditions;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
+import org.tsdl.infrastructure.model.DataPoint;
+
+/**
+ * Adapts a list of {@link DataPoint} instances to {@link ColumnarTimeSeries}. The primitive columns are extracted once upon construction, whereas
+ * timestamps and data points are served from the original instances, i.e., they retain their full precision and identity.
+ */
+public final class DataPointListColumnarTimeSeries implements ColumnarTimeSeries {
+  private final List<DataPoint> dataPoints;
+  private final long[] epochMillis;
+  private final double[] values;
+
+  /**
+   * Initializes a {@link DataPointListColumnarTimeSeries} instance.
+   */
+  public DataPointListColumnarTimeSeries(List<DataPoint> dataPoints) {
+    Conditions.checkNotNull(Condition.ARGUMENT, dataPoints, "Data points must not be null.");
+    this.dataPoints = dataPoints instanceof RandomAccess ? Collections.unmodifiableList(dataPoints) : List.copyOf(dataPoints);
+    this.epochMillis = new long[dataPoints.size()];
+    this.values = new double[dataPoints.size()];
+
+    var index = 0;
+    for (var dataPoint : this.dataPoints) {
+      epochMillis[index] = dataPoint.timestamp().toEpochMilli();
+      values[index] = dataPoint.value();
+      index++;
+    }
+  }
+
+  @Override
+  public int size() {
+    return values.length;
+  }
+
+  @Override
+  public long epochMillis(int index) {
+    return epochMillis[index];
+  }
+
+  @Override
+  public double value(int index) {
+    return values[index];
+  }
+
+  @Override
+  public void copyEpochMillis(int fromIndex, int toIndex, long[] target, int targetOffset) {
+    Objects.checkFromToIndex(fromIndex, toIndex, values.length);
+    System.arraycopy(epochMillis, fromIndex, target, targetOffset, toIndex - fromIndex);
+  }
+
+  @Override
+  public void copyValues(int fromIndex, int toIndex, double[] target, int targetOffset) {
+    Objects.checkFromToIndex(fromIndex, toIndex, values.length);
+    System.arraycopy(values, fromIndex, target, targetOffset, toIndex - fromIndex);
+  }
+
+  @Override
+  public Instant timestamp(int index) {
+    return dataPoints.get(index).timestamp();
+  }
+
+  @Override
+  public long millisBetween(int fromIndex, int toIndex) {
+    return ChronoUnit.MILLIS.between(timestamp(fromIndex), timestamp(toIndex));
+  }
+
+  @Override
+  public DataPoint dataPoint(int index) {
+    return dataPoints.get(index);
+  }
+
+  @Override
+  public List<DataPoint> asDataPoints() {
+    return dataPoints;
+  }
+}
@@ -0,0 +1,27 @@
+package org.tsdl.infrastructure.model.impl;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
+import org.tsdl.infrastructure.model.DataPoint;
+
+/**
+ * Read-only {@link java.util.List} view of a {@link ColumnarTimeSeries}.
+ */
+public final class DataPointListView extends AbstractList<DataPoint> implements RandomAccess {
+  private final ColumnarTimeSeries series;
+
+  public DataPointListView(ColumnarTimeSeries series) {
+    this.series = series;
+  }
+
+  @Override
+  public DataPoint get(int index) {
+    return series.dataPoint(index);
+  }
+
+  @Override
+  public int size() {
+    return series.size();
+  }
+}
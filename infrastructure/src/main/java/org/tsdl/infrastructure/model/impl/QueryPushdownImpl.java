@@ -0,0 +1,26 @@
+package org.tsdl.infrastructure.model.impl;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import org.tsdl.infrastructure.common.Condition;
+import org.tsdl.infrastructure.common.Conditions;
+import org.tsdl.infrastructure.model.QueryPushdown;
+
+/**
+ * Default implementation of the {@link QueryPushdown} interface.
+ */
+public record QueryPushdownImpl(Optional<Instant> from, Optional<Instant> until, OptionalDouble minValue, OptionalDouble maxValue)
+    implements QueryPushdown {
+  /**
+   * Creates a {@link QueryPushdownImpl} instance. Value bounds must not be NaN.
+   */
+  public QueryPushdownImpl {
+    Conditions.checkNotNull(Condition.ARGUMENT, from, "Lower time bound must not be null.");
+    Conditions.checkNotNull(Condition.ARGUMENT, until, "Upper time bound must not be null.");
+    Conditions.checkNotNull(Condition.ARGUMENT, minValue, "Lower value bound must not be null.");
+    Conditions.checkNotNull(Condition.ARGUMENT, maxValue, "Upper value bound must not be null.");
+    Conditions.checkIsFalse(Condition.ARGUMENT, minValue.isPresent() && Double.isNaN(minValue.getAsDouble()), "Lower value bound must not be NaN.");
+    Conditions.checkIsFalse(Condition.ARGUMENT, maxValue.isPresent() && Double.isNaN(maxValue.getAsDouble()), "Upper value bound must not be NaN.");
+  }
+}
@@ -0,0 +1,60 @@
+package org.tsdl.infrastructure.model.impl;
+
+import java.time.Instant;
+import java.util.Objects;
+import org.tsdl.infrastructure.common.Condition;
+import org.tsdl.infrastructure.common.Conditions;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
+import org.tsdl.infrastructure.model.DataPoint;
+
+/**
+ * View of the items of a {@link ColumnarTimeSeries} at a subset of its indices, e.g., the items satisfying a filter.
+ *
+ * @param series  the underlying series
+ * @param indices ascending indices into the underlying series, only the first {@code count} are considered
+ * @param count   the number of selected items
+ */
+public record SelectedColumnarTimeSeries(ColumnarTimeSeries series, int[] indices, int count) implements ColumnarTimeSeries {
+  /**
+   * Initializes a {@link SelectedColumnarTimeSeries} instance.
+   */
+  public SelectedColumnarTimeSeries {
+    Conditions.checkNotNull(Condition.ARGUMENT, series, "Series must not be null.");
+    Conditions.checkNotNull(Condition.ARGUMENT, indices, "Indices must not be null.");
+    Objects.checkFromToIndex(0, count, indices.length);
+  }
+
+  @Override
+  public int size() {
+    return count;
+  }
+
+  @Override
+  public long epochMillis(int index) {
+    return series.epochMillis(baseIndex(index));
+  }
+
+  @Override
+  public double value(int index) {
+    return series.value(baseIndex(index));
+  }
+
+  @Override
+  public Instant timestamp(int index) {
+    return series.timestamp(baseIndex(index));
+  }
+
+  @Override
+  public long millisBetween(int fromIndex, int toIndex) {
+    return series.millisBetween(baseIndex(fromIndex), baseIndex(toIndex));
+  }
+
+  @Override
+  public DataPoint dataPoint(int index) {
+    return series.dataPoint(baseIndex(index));
+  }
+
+  private int baseIndex(int index) {
+    return indices[Objects.checkIndex(index, count)];
+  }
+}
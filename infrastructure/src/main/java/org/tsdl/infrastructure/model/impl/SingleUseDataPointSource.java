@@ -0,0 +1,33 @@
+package org.tsdl.infrastructure.model.impl;
+
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.tsdl.infrastructure.common.Condition;
+import org.tsdl.infrastructure.common.Conditions;
+import org.tsdl.infrastructure.model.DataPoint;
+import org.tsdl.infrastructure.model.DataPointSource;
+
+/**
+ * A {@link DataPointSource} over a {@link Spliterator}, which can only be consumed once.
+ */
+public final class SingleUseDataPointSource implements DataPointSource {
+  private final Spliterator<DataPoint> dataPoints;
+  private final AtomicBoolean consumed = new AtomicBoolean(false);
+
+  public SingleUseDataPointSource(Spliterator<DataPoint> dataPoints) {
+    this.dataPoints = Conditions.checkNotNull(Condition.ARGUMENT, dataPoints, "Data points must not be null.");
+  }
+
+  @Override
+  public Stream<DataPoint> open() {
+    Conditions.checkIsFalse(Condition.STATE, consumed.getAndSet(true), "Data point source can only be consumed once.");
+    return StreamSupport.stream(dataPoints, false);
+  }
+
+  @Override
+  public boolean isReplayable() {
+    return false;
+  }
+}
@@ -0,0 +1,83 @@
+package org.tsdl.infrastructure.model.impl;
+
+import java.time.Instant;
+import java.util.Objects;
+import org.tsdl.infrastructure.common.Condition;
+import org.tsdl.infrastructure.common.Conditions;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
+import org.tsdl.infrastructure.model.DataPoint;
+
+/**
+ * View of a contiguous index range of a {@link ColumnarTimeSeries}.
+ */
+public record SlicedColumnarTimeSeries(ColumnarTimeSeries series, int fromIndex, int toIndex) implements ColumnarTimeSeries {
+  /**
+   * Initializes a {@link SlicedColumnarTimeSeries} instance.
+   */
+  public SlicedColumnarTimeSeries {
+    Conditions.checkNotNull(Condition.ARGUMENT, series, "Series must not be null.");
+    Objects.checkFromToIndex(fromIndex, toIndex, series.size());
+  }
+
+  /**
+   * Creates a view of the index range [fromIndex, toIndex) of the given series. Slices of slices refer to the original series.
+   */
+  public static ColumnarTimeSeries of(ColumnarTimeSeries series, int fromIndex, int toIndex) {
+    Objects.checkFromToIndex(fromIndex, toIndex, series.size());
+    if (fromIndex == 0 && toIndex == series.size()) {
+      return series;
+    }
+
+    if (series instanceof SlicedColumnarTimeSeries slice) {
+      return new SlicedColumnarTimeSeries(slice.series(), slice.fromIndex() + fromIndex, slice.fromIndex() + toIndex);
+    }
+
+    return new SlicedColumnarTimeSeries(series, fromIndex, toIndex);
+  }
+
+  @Override
+  public int size() {
+    return toIndex - fromIndex;
+  }
+
+  @Override
+  public long epochMillis(int index) {
+    return series.epochMillis(baseIndex(index));
+  }
+
+  @Override
+  public double value(int index) {
+    return series.value(baseIndex(index));
+  }
+
+  @Override
+  public void copyEpochMillis(int fromIndex, int toIndex, long[] target, int targetOffset) {
+    Objects.checkFromToIndex(fromIndex, toIndex, size());
+    series.copyEpochMillis(this.fromIndex + fromIndex, this.fromIndex + toIndex, target, targetOffset);
+  }
+
+  @Override
+  public void copyValues(int fromIndex, int toIndex, double[] target, int targetOffset) {
+    Objects.checkFromToIndex(fromIndex, toIndex, size());
+    series.copyValues(this.fromIndex + fromIndex, this.fromIndex + toIndex, target, targetOffset);
+  }
+
+  @Override
+  public Instant timestamp(int index) {
+    return series.timestamp(baseIndex(index));
+  }
+
+  @Override
+  public long millisBetween(int fromIndex, int toIndex) {
+    return series.millisBetween(baseIndex(fromIndex), baseIndex(toIndex));
+  }
+
+  @Override
+  public DataPoint dataPoint(int index) {
+    return series.dataPoint(baseIndex(index));
+  }
+
+  private int baseIndex(int index) {
+    return fromIndex + Objects.checkIndex(index, size());
+  }
+}
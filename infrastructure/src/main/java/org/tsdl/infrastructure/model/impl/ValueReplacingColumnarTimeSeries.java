@@ -0,0 +1,49 @@
+package org.tsdl.infrastructure.model.impl;
+
+import java.time.Instant;
+import java.util.Objects;
+import org.tsdl.infrastructure.common.Condition;
+import org.tsdl.infrastructure.common.Conditions;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
+
+/**
+ * View of a {@link ColumnarTimeSeries} with the timestamps of the underlying series, but different values, e.g., its derivative.
+ *
+ * @param series the series providing the timestamps, must have at least as many items as there are values
+ * @param values the values of the view
+ */
+public record ValueReplacingColumnarTimeSeries(ColumnarTimeSeries series, double[] values) implements ColumnarTimeSeries {
+  /**
+   * Initializes a {@link ValueReplacingColumnarTimeSeries} instance.
+   */
+  public ValueReplacingColumnarTimeSeries {
+    Conditions.checkNotNull(Condition.ARGUMENT, series, "Series must not be null.");
+    Conditions.checkNotNull(Condition.ARGUMENT, values, "Values must not be null.");
+    Objects.checkFromToIndex(0, values.length, series.size());
+  }
+
+  @Override
+  public int size() {
+    return values.length;
+  }
+
+  @Override
+  public long epochMillis(int index) {
+    return series.epochMillis(Objects.checkIndex(index, values.length));
+  }
+
+  @Override
+  public double value(int index) {
+    return values[index];
+  }
+
+  @Override
+  public Instant timestamp(int index) {
+    return series.timestamp(Objects.checkIndex(index, values.length));
+  }
+
+  @Override
+  public long millisBetween(int fromIndex, int toIndex) {
+    return series.millisBetween(Objects.checkIndex(fromIndex, values.length), Objects.checkIndex(toIndex, values.length));
+  }
+}
@@ -0,0 +1,150 @@
+package org.tsdl.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
+import org.tsdl.infrastructure.model.DataPoint;
+import org.tsdl.infrastructure.model.impl.ChunkedColumnarTimeSeries;
+
+class ColumnarTimeSeriesTest {
+  @Test
+  void builder_moreItemsThanChunkSize_retainsAllItemsInOrder() {
+    var size = 3 * (1 << ChunkedColumnarTimeSeries.CHUNK_SHIFT) + 17;
+    var builder = ColumnarTimeSeries.builder();
+    for (var i = 0; i < size; i++) {
+      builder.add(1000L * i, i * 0.5);
+    }
+
+    var series = builder.build();
+
+    assertThat(series.size()).isEqualTo(size);
+    for (var i = 0; i < size; i++) {
+      assertThat(series.epochMillis(i)).isEqualTo(1000L * i);
+      assertThat(series.value(i)).isEqualTo(i * 0.5);
+    }
+  }
+
+  @Test
+  void copyColumns_rangeAcrossChunksAndSlices_copiesItemsInOrder() {
+    var chunkSize = 1 << ChunkedColumnarTimeSeries.CHUNK_SHIFT;
+    var builder = ColumnarTimeSeries.builder();
+    for (var i = 0; i < 2 * chunkSize + 10; i++) {
+      builder.add(i, -i);
+    }
+    var series = builder.build();
+    var from = chunkSize - 3;
+    var to = 2 * chunkSize + 5;
+
+    var epochMillis = new long[to - from + 1];
+    var values = new double[to - from + 1];
+    series.copyEpochMillis(from, to, epochMillis, 1);
+    series.slice(from - 1, to).copyValues(1, to - from + 1, values, 1);
+
+    for (var i = from; i < to; i++) {
+      assertThat(epochMillis[i - from + 1]).isEqualTo(i);
+      assertThat(values[i - from + 1]).isEqualTo(-i);
+    }
+    assertThatThrownBy(() -> series.copyValues(to, to + chunkSize, values, 0)).isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @Test
+  void firstIndex_duplicateAndSubMillisecondTimestamps_findsBoundaries() {
+    var series = ColumnarTimeSeries.of(List.of(
+        DataPoint.of(Instant.parse("2022-12-15T00:00:01Z"), 1.0),
+        DataPoint.of(Instant.parse("2022-12-15T00:00:02Z"), 2.0),
+        DataPoint.of(Instant.parse("2022-12-15T00:00:02Z"), 3.0),
+        DataPoint.of(Instant.parse("2022-12-15T00:00:02.000001Z"), 4.0),
+        DataPoint.of(Instant.parse("2022-12-15T00:00:03Z"), 5.0)
+    ));
+    var instant = Instant.parse("2022-12-15T00:00:02Z");
+
+    assertThat(series.firstIndexNotBefore(0, instant)).isEqualTo(1);
+    assertThat(series.firstIndexAfter(0, instant)).isEqualTo(3);
+    assertThat(series.firstIndexAfter(4, instant)).isEqualTo(4);
+    assertThat(series.firstIndexNotBefore(0, Instant.parse("2022-12-15T00:00:00Z"))).isZero();
+    assertThat(series.firstIndexAfter(0, Instant.parse("2022-12-15T00:00:04Z"))).isEqualTo(5);
+    assertThatThrownBy(() -> series.firstIndexAfter(6, instant)).isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @Test
+  void snapshot_itemsAddedAfterwards_doNotAffectSnapshot() {
+    var builder = ColumnarTimeSeries.builder();
+    for (var i = 0; i < 10; i++) {
+      builder.add(1000L * i, i);
+    }
+    var snapshot = builder.snapshot();
+
+    // grows the first chunk and fills further ones
+    for (var i = 10; i < (1 << ChunkedColumnarTimeSeries.CHUNK_SHIFT) + 10; i++) {
+      builder.add(1000L * i, i);
+    }
+    var series = builder.build();
+
+    assertThat(snapshot.size()).isEqualTo(10);
+    assertThat(snapshot.value(9)).isEqualTo(9.0);
+    assertThat(series.size()).isEqualTo((1 << ChunkedColumnarTimeSeries.CHUNK_SHIFT) + 10);
+    assertThat(series.epochMillis(series.size() - 1)).isEqualTo(1000L * (series.size() - 1));
+  }
+
+  @Test
+  void builder_descendingTimestamps_throws() {
+    var builder = ColumnarTimeSeries.builder().add(2000L, 1.0);
+    assertThatThrownBy(() -> builder.add(1000L, 2.0)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void builder_reusedAfterBuild_throws() {
+    var builder = ColumnarTimeSeries.builder().add(1000L, 1.0);
+    builder.build();
+    assertThatThrownBy(() -> builder.add(2000L, 2.0)).isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void of_columnsOfDifferentLength_throws() {
+    assertThatThrownBy(() -> ColumnarTimeSeries.of(new long[2], new double[3])).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void of_dataPoints_retainsInstancesAndPrecision() {
+    var dataPoints = List.of(
+        DataPoint.of(Instant.parse("2022-12-15T01:21:48.000123Z"), 1.0),
+        DataPoint.of(Instant.parse("2022-12-15T01:21:48.999999Z"), 2.0)
+    );
+
+    var series = ColumnarTimeSeries.of(dataPoints);
+
+    assertThat(series.epochMillis(0)).isEqualTo(Instant.parse("2022-12-15T01:21:48Z").toEpochMilli());
+    assertThat(series.timestamp(0)).isEqualTo(dataPoints.get(0).timestamp());
+    assertThat(series.dataPoint(1)).isSameAs(dataPoints.get(1));
+    assertThat(series.millisBetween(0, 1)).isEqualTo(999);
+    assertThat(series.compareTimestamp(0, Instant.parse("2022-12-15T01:21:48.0001Z"))).isPositive();
+    assertThat(series.asDataPoints()).isEqualTo(dataPoints);
+  }
+
+  @Test
+  void views_sliceSelectAndReplaceValues_referToUnderlyingSeries() {
+    var series = ColumnarTimeSeries.of(new long[] {1, 2, 3, 4, 5}, new double[] {10, 20, 30, 40, 50});
+
+    var slice = series.slice(1, 4).slice(1, 3);
+    var selection = series.select(new int[] {0, 2, 4, 0}, 3);
+    var replaced = series.slice(0, 2).withValues(new double[] {-1, -2});
+
+    assertThat(slice.size()).isEqualTo(2);
+    assertThat(slice.epochMillis(0)).isEqualTo(3);
+    assertThat(slice.value(1)).isEqualTo(40);
+    assertThat(selection.asDataPoints()).containsExactly(
+        DataPoint.of(Instant.ofEpochMilli(1), 10),
+        DataPoint.of(Instant.ofEpochMilli(3), 30),
+        DataPoint.of(Instant.ofEpochMilli(5), 50)
+    );
+    assertThat(replaced.asDataPoints()).containsExactly(
+        DataPoint.of(Instant.ofEpochMilli(1), -1),
+        DataPoint.of(Instant.ofEpochMilli(2), -2)
+    );
+    assertThatThrownBy(() -> slice.value(2)).isInstanceOf(IndexOutOfBoundsException.class);
+  }
+}
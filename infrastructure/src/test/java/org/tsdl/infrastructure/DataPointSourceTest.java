@@ -0,0 +1,39 @@
+package org.tsdl.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.tsdl.infrastructure.model.DataPoint;
+import org.tsdl.infrastructure.model.DataPointSource;
+
+class DataPointSourceTest {
+  private static final List<DataPoint> DATA_POINTS = List.of(
+      DataPoint.of(Instant.parse("2022-12-15T01:21:48Z"), 1.0),
+      DataPoint.of(Instant.parse("2022-12-15T01:22:48Z"), 2.0)
+  );
+
+  @Test
+  void of_iterable_isReplayable() {
+    var source = DataPointSource.of(DATA_POINTS);
+
+    assertThat(source.isReplayable()).isTrue();
+    try (var first = source.open(); var second = source.open()) {
+      assertThat(first.toList()).isEqualTo(DATA_POINTS);
+      assertThat(second.toList()).isEqualTo(DATA_POINTS);
+    }
+  }
+
+  @Test
+  void of_iterator_canOnlyBeOpenedOnce() {
+    var source = DataPointSource.of(DATA_POINTS.iterator());
+
+    assertThat(source.isReplayable()).isFalse();
+    try (var stream = source.open()) {
+      assertThat(stream.toList()).isEqualTo(DATA_POINTS);
+    }
+    assertThatThrownBy(source::open).isInstanceOf(IllegalStateException.class);
+  }
+}
@@ -6,10 +6,17 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.tsdl.implementation.evaluation.TsdlQueryService;
 import org.tsdl.infrastructure.api.QueryService;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
 import org.tsdl.service.model.TsdlStorage;
+import org.tsdl.storage.binary.BinaryStorageConfiguration;
+import org.tsdl.storage.binary.BinaryStorageProperty;
+import org.tsdl.storage.binary.BinaryStorageService;
 import org.tsdl.storage.csv.CsvStorageConfiguration;
 import org.tsdl.storage.csv.CsvStorageProperty;
 import org.tsdl.storage.csv.CsvStorageService;
+import org.tsdl.storage.gorilla.GorillaStorageConfiguration;
+import org.tsdl.storage.gorilla.GorillaStorageProperty;
+import org.tsdl.storage.gorilla.GorillaStorageService;
 import org.tsdl.storage.influxdb.InfluxDbStorageConfiguration;
 import org.tsdl.storage.influxdb.InfluxDbStorageProperty;
 import org.tsdl.storage.influxdb.InfluxDbStorageService;
@@ -18,12 +25,24 @@ import org.tsdl.storage.influxdb.InfluxDbStorageService;
 public class BeanConfiguration {
   public static final String INFLUXDB_STORAGE_BEAN = "storage.influxdb";
   public static final String CSV_STORAGE_BEAN = "storage.csv";
+  public static final String BINARY_STORAGE_BEAN = "storage.binary";
+  public static final String GORILLA_STORAGE_BEAN = "storage.gorilla";
 
   @Bean(CSV_STORAGE_BEAN)
   TsdlStorage<CsvRow, CsvStorageConfiguration> csvStorageService() {
     return new TsdlStorage<>(new CsvStorageService(), CsvStorageConfiguration::new, CsvStorageProperty.class);
   }
 
+  @Bean(BINARY_STORAGE_BEAN)
+  TsdlStorage<ColumnarTimeSeries, BinaryStorageConfiguration> binaryStorageService() {
+    return new TsdlStorage<>(new BinaryStorageService(), BinaryStorageConfiguration::new, BinaryStorageProperty.class);
+  }
+
+  @Bean(GORILLA_STORAGE_BEAN)
+  TsdlStorage<ColumnarTimeSeries, GorillaStorageConfiguration> gorillaStorageService() {
+    return new TsdlStorage<>(new GorillaStorageService(), GorillaStorageConfiguration::new, GorillaStorageProperty.class);
+  }
+
   @Bean(INFLUXDB_STORAGE_BEAN)
   TsdlStorage<FluxTable, InfluxDbStorageConfiguration> influxDbStorageService() {
     return new TsdlStorage<>(new InfluxDbStorageService(), InfluxDbStorageConfiguration::new, InfluxDbStorageProperty.class);
@@ -12,6 +12,7 @@ import org.tsdl.infrastructure.common.Conditions;
 import org.tsdl.service.exception.ServiceResolutionException;
 import org.tsdl.service.mapper.converters.CharacterArrayValueConverter;
 import org.tsdl.service.mapper.converters.CharacterValueConverter;
+import org.tsdl.service.mapper.converters.DoubleValueConverter;
 import org.tsdl.service.mapper.converters.InstantValueConverter;
 import org.tsdl.service.mapper.converters.PropertyValueConverter;
 import org.tsdl.service.mapper.converters.StringArrayValueConverter;
@@ -19,7 +20,8 @@ import org.tsdl.service.mapper.converters.StringArrayValueConverter;
 @Mapper
 public abstract class StorageServiceConfigurationMapper {
   private static final List<PropertyValueConverter<?>> AVAILABLE_CONVERTERS = List.of(
-      new CharacterValueConverter(), new CharacterArrayValueConverter(), new InstantValueConverter(), new StringArrayValueConverter()
+      new CharacterValueConverter(), new CharacterArrayValueConverter(), new DoubleValueConverter(), new InstantValueConverter(),
+      new StringArrayValueConverter()
   );
 
   public StorageServiceConfiguration mapToConfiguration(Map<String, Object> properties,
@@ -0,0 +1,35 @@
+package org.tsdl.service.mapper.converters;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+public class DoubleValueConverter extends AbstractValueConverter<Double> {
+  private static final Set<Class<?>> SUPPORTED_INPUT_TYPES = Set.of(Double.class, Integer.class, Long.class, BigInteger.class, BigDecimal.class,
+      String.class);
+  private static final Map<Class<?>, Function<Object, Double>> CONVERTERS = Map.of(
+      Double.class, Double.class::cast,
+      Integer.class, v -> ((Integer) v).doubleValue(),
+      Long.class, v -> ((Long) v).doubleValue(),
+      BigInteger.class, v -> ((BigInteger) v).doubleValue(),
+      BigDecimal.class, v -> ((BigDecimal) v).doubleValue(),
+      String.class, v -> Double.parseDouble((String) v)
+  );
+
+  @Override
+  protected Map<Class<?>, Function<Object, Double>> converters() {
+    return CONVERTERS;
+  }
+
+  @Override
+  public Set<Class<?>> supportedInputTypes() {
+    return SUPPORTED_INPUT_TYPES;
+  }
+
+  @Override
+  public Class<Double> targetType() {
+    return Double.class;
+  }
+}
@@ -5,6 +5,8 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.validation.annotation.Validated;
@@ -12,9 +14,17 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.tsdl.infrastructure.api.ColumnarStorageService;
+import org.tsdl.infrastructure.api.MultiSeriesStorageService;
+import org.tsdl.infrastructure.api.PushdownStorageService;
 import org.tsdl.infrastructure.api.QueryService;
+import org.tsdl.infrastructure.api.StorageServiceConfiguration;
+import org.tsdl.infrastructure.api.StreamingStorageService;
+import org.tsdl.infrastructure.dto.FleetQueryDto;
 import org.tsdl.infrastructure.dto.QueryDto;
 import org.tsdl.infrastructure.dto.QueryResultDto;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
+import org.tsdl.infrastructure.model.QueryResult;
 import org.tsdl.service.exception.ServiceResolutionException;
 import org.tsdl.service.mapper.QueryResultMapper;
 import org.tsdl.service.mapper.StorageServiceConfigurationMapper;
@@ -59,11 +69,104 @@ public class QueryController extends BaseController {
     var lookupConfig = mapConfig(storageSpec.getLookupConfiguration(), tsdlStorage);
     var transformationConfig = mapConfig(storageSpec.getTransformationConfiguration(), tsdlStorage);
 
-    tsdlStorage.storageService().initialize(serviceConfig);
-    var fetchedData = tsdlStorage.storageService().load(lookupConfig);
-    var dataPoints = tsdlStorage.storageService().transform(fetchedData, transformationConfig);
+    var storageService = tsdlStorage.storageService();
+    storageService.initialize(serviceConfig);
+    if (storageService instanceof PushdownStorageService<?> pushdownStorageService) {
+      // the storage only provides the data points the result of the query depends on
+      var pushdown = queryService.pushdown(querySpecification.getTsdlQuery());
+      log.debug("Pushing {} down into storage '{}'.", pushdown, storageSpec.getName());
+      asConfigurable(pushdownStorageService).pushDown(pushdown, lookupConfig, transformationConfig);
+    }
+
+    QueryResult queryResult;
+    if (storageService instanceof StreamingStorageService<?> streamingStorageService) {
+      // data points are read while the query is evaluated, instead of being loaded into memory upfront
+      log.debug("Storage '{}' supports streaming, evaluating query over data point source.", storageSpec.getName());
+      var dataPoints = asConfigurable(streamingStorageService).stream(lookupConfig, transformationConfig);
+      queryResult = queryService.query(dataPoints, querySpecification.getTsdlQuery());
+    } else if (storageService instanceof ColumnarStorageService<?> columnarStorageService) {
+      var series = asConfigurable(columnarStorageService).loadColumnar(lookupConfig, transformationConfig);
+      queryResult = queryService.query(series, querySpecification.getTsdlQuery());
+    } else {
+      var fetchedData = storageService.load(lookupConfig);
+      var dataPoints = storageService.transform(fetchedData, transformationConfig);
+      queryResult = queryService.query(dataPoints, querySpecification.getTsdlQuery());
+    }
 
-    var queryResult = queryService.query(dataPoints, querySpecification.getTsdlQuery());
     return queryResultMapper.entityToDto(queryResult);
   }
+
+  @PostMapping("/fleet")
+  @Operation(summary = "Execute query over each of several series, e.g., the series of a fleet of sensors, provided by configurable storages.")
+  @ApiResponse(responseCode = "200", description = "Query was executed successfully over all series.")
+  @ApiResponse(responseCode = "400", description = "Any specified storage is not supported.")
+  public Map<String, QueryResultDto> queryFleet(@Valid @RequestBody
+                                                @Parameter(description = "Specification of query to execute, i.e., TSDL query and storage "
+                                                    + "configurations by identifier. Storages providing several series (e.g., InfluxDB tables) "
+                                                    + "contribute one series per table, identified by '<storage identifier>/<series identifier>'.")
+                                                FleetQueryDto querySpecification) throws ServiceResolutionException {
+    log.info("Received fleet query request for {} storages", querySpecification.getStorages().size());
+
+    // all series are evaluated by the same query, i.e., depend on the same data points
+    var pushdown = queryService.pushdown(querySpecification.getTsdlQuery());
+    var series = new LinkedHashMap<String, ColumnarTimeSeries>();
+    for (var storageEntry : querySpecification.getStorages().entrySet()) {
+      var storageSpec = storageEntry.getValue();
+      var tsdlStorage = storageServiceResolver.resolve(storageSpec.getName());
+
+      var serviceConfig = mapConfig(storageSpec.getServiceConfiguration(), tsdlStorage);
+      var lookupConfig = mapConfig(storageSpec.getLookupConfiguration(), tsdlStorage);
+      var transformationConfig = mapConfig(storageSpec.getTransformationConfiguration(), tsdlStorage);
+
+      var storageService = tsdlStorage.storageService();
+      storageService.initialize(serviceConfig);
+      if (storageService instanceof PushdownStorageService<?> pushdownStorageService) {
+        asConfigurable(pushdownStorageService).pushDown(pushdown, lookupConfig, transformationConfig);
+      }
+
+      if (storageService instanceof MultiSeriesStorageService<?, ?> multiSeriesStorageService) {
+        var fetchedData = storageService.load(lookupConfig);
+        var seriesOfStorage = asConfigurable(multiSeriesStorageService).transformSeries(fetchedData, transformationConfig);
+        log.debug("Storage '{}' provides {} series.", storageEntry.getKey(), seriesOfStorage.size());
+        seriesOfStorage.forEach((seriesId, dataPoints) ->
+            series.put("%s/%s".formatted(storageEntry.getKey(), seriesId), ColumnarTimeSeries.of(dataPoints)));
+      } else if (storageService instanceof ColumnarStorageService<?> columnarStorageService) {
+        // data points are loaded straight into primitive columns, without intermediate objects
+        series.put(storageEntry.getKey(), asConfigurable(columnarStorageService).loadColumnar(lookupConfig, transformationConfig));
+      } else {
+        var fetchedData = storageService.load(lookupConfig);
+        var dataPoints = storageService.transform(fetchedData, transformationConfig);
+        series.put(storageEntry.getKey(), ColumnarTimeSeries.of(dataPoints));
+      }
+    }
+
+    var results = new LinkedHashMap<String, QueryResultDto>();
+    queryService.query(series, querySpecification.getTsdlQuery())
+        .forEach((seriesId, queryResult) -> results.put(seriesId, queryResultMapper.entityToDto(queryResult)));
+    return results;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static StreamingStorageService<StorageServiceConfiguration> asConfigurable(StreamingStorageService<?> storageService) {
+    // configurations are mapped to the configuration type of the resolved storage, see BaseController#mapConfig
+    return (StreamingStorageService<StorageServiceConfiguration>) storageService;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static ColumnarStorageService<StorageServiceConfiguration> asConfigurable(ColumnarStorageService<?> storageService) {
+    // see asConfigurable(StreamingStorageService)
+    return (ColumnarStorageService<StorageServiceConfiguration>) storageService;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static MultiSeriesStorageService<Object, StorageServiceConfiguration> asConfigurable(MultiSeriesStorageService<?, ?> storageService) {
+    // see asConfigurable(StreamingStorageService), loaded data is of the data type of the resolved storage, see StorageResolverService#resolve
+    return (MultiSeriesStorageService<Object, StorageServiceConfiguration>) storageService;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static PushdownStorageService<StorageServiceConfiguration> asConfigurable(PushdownStorageService<?> storageService) {
+    // see asConfigurable(StreamingStorageService)
+    return (PushdownStorageService<StorageServiceConfiguration>) storageService;
+  }
 }
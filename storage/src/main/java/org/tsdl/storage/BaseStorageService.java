@@ -1,8 +1,12 @@
 package org.tsdl.storage;
 
+import java.time.Instant;
+import org.tsdl.infrastructure.api.StorageProperty;
 import org.tsdl.infrastructure.api.StorageService;
+import org.tsdl.infrastructure.api.StorageServiceConfiguration;
 import org.tsdl.infrastructure.common.ThrowingRunnable;
 import org.tsdl.infrastructure.common.ThrowingSupplier;
+import org.tsdl.infrastructure.model.QueryPushdown;
 
 /**
  * An abstract base class providing utility methods for {@link StorageService} implementations.
@@ -23,4 +27,47 @@ public abstract class BaseStorageService {
       throw new TsdlStorageException("An error occurred during a storage access.", e);
     }
   }
+
+  /**
+   * Narrows the time range [from, until) specified by two {@link Instant} properties of a configuration (absent properties denoting unbounded
+   * ranges) to its intersection with the time range of {@code pushdown}.
+   */
+  protected static void narrowTimeRange(QueryPushdown pushdown, StorageServiceConfiguration configuration, StorageProperty fromProperty,
+                                        StorageProperty untilProperty) {
+    var from = configuration.getProperty(fromProperty, Instant.class);
+    if (pushdown.from().isPresent() && (from == null || from.isBefore(pushdown.from().get()))) {
+      configuration.setProperty(fromProperty, pushdown.from().get());
+    }
+
+    var until = configuration.getProperty(untilProperty, Instant.class);
+    if (pushdown.until().isPresent() && (until == null || until.isAfter(pushdown.until().get()))) {
+      configuration.setProperty(untilProperty, pushdown.until().get());
+    }
+  }
+
+  /**
+   * Narrows the value range [min, max] specified by two {@link Double} properties of a configuration (absent properties denoting unbounded
+   * ranges) to its intersection with the value range of {@code pushdown}.
+   */
+  protected static void narrowValueRange(QueryPushdown pushdown, StorageServiceConfiguration configuration, StorageProperty minProperty,
+                                         StorageProperty maxProperty) {
+    var min = configuration.getProperty(minProperty, Double.class);
+    if (pushdown.minValue().isPresent() && (min == null || min < pushdown.minValue().getAsDouble())) {
+      configuration.setProperty(minProperty, pushdown.minValue().getAsDouble());
+    }
+
+    var max = configuration.getProperty(maxProperty, Double.class);
+    if (pushdown.maxValue().isPresent() && (max == null || max > pushdown.maxValue().getAsDouble())) {
+      configuration.setProperty(maxProperty, pushdown.maxValue().getAsDouble());
+    }
+  }
+
+  /**
+   * Epoch milliseconds of the first millisecond at or after {@code instant}, i.e., timestamps of millisecond precision are at or after
+   * {@code instant} if and only if they are at or after the returned millisecond.
+   */
+  protected static long ceilMillis(Instant instant) {
+    var millis = instant.toEpochMilli();
+    return instant.getNano() % 1_000_000 == 0 ? millis : millis + 1;
+  }
 }
@@ -0,0 +1,166 @@
+package org.tsdl.storage.binary;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import org.tsdl.infrastructure.common.Condition;
+import org.tsdl.infrastructure.common.Conditions;
+
+/**
+ * Layout of the files of {@link BinaryStorageService}. All numbers are little-endian.
+ * <ul>
+ *   <li>File header (16 bytes): magic number "TSDLCOL1", format version (int), block capacity (int)</li>
+ *   <li>Blocks, each of which occupies the same number of bytes: header (24 bytes) consisting of the number of data points (int), a reserved
+ *   int and the minimum and maximum timestamp (longs), followed by the timestamp column (epoch milliseconds, as many longs as the block capacity)
+ *   and the value column (as many doubles as the block capacity). All blocks but the last one are full, unused slots are zero.</li>
+ *   <li>Footer: an index entry (24 bytes) per block, consisting of its minimum and maximum timestamp (longs), its number of data points (int)
+ *   and a reserved int, followed by a trailer (16 bytes): number of blocks (int), format version (int) and magic number.</li>
+ * </ul>
+ *
+ * <p>Since blocks are of fixed size, the position of every data point follows from its index, and the index of blocks in the footer allows for
+ * determining the blocks overlapping a time range without reading any of them.
+ */
+final class BinaryFileFormat {
+  static final int FILE_HEADER_SIZE = 16;
+  static final int BLOCK_HEADER_SIZE = 24;
+  static final int INDEX_ENTRY_SIZE = 24;
+  static final int TRAILER_SIZE = 16;
+  static final int MAX_BLOCK_CAPACITY = 1 << 24;
+
+  // "TSDLCOL1" in little-endian byte order
+  private static final long MAGIC = 0x314C4F434C445354L;
+  private static final int VERSION = 1;
+
+  private BinaryFileFormat() {
+  }
+
+  /**
+   * Number of bytes of a block of the given capacity.
+   */
+  static long blockSize(int blockCapacity) {
+    return BLOCK_HEADER_SIZE + 2L * Long.BYTES * blockCapacity;
+  }
+
+  /**
+   * Position of the given block, which is also the position of the footer if {@code block} equals the number of blocks.
+   */
+  static long blockPosition(int blockCapacity, int block) {
+    return FILE_HEADER_SIZE + block * blockSize(blockCapacity);
+  }
+
+  static void checkBlockCapacity(int blockCapacity) {
+    Conditions.checkIsTrue(Condition.ARGUMENT,
+        blockCapacity > 0 && blockCapacity <= MAX_BLOCK_CAPACITY && Integer.bitCount(blockCapacity) == 1,
+        "Block capacity must be a power of two between 1 and %s, but is %s.", MAX_BLOCK_CAPACITY, blockCapacity);
+  }
+
+  static ByteBuffer fileHeader(int blockCapacity) {
+    return ByteBuffer.allocate(FILE_HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN)
+        .putLong(MAGIC)
+        .putInt(VERSION)
+        .putInt(blockCapacity)
+        .flip();
+  }
+
+  /**
+   * The index of blocks and the trailer.
+   */
+  static ByteBuffer footer(Footer footer) {
+    var buffer = ByteBuffer.allocate(footer.blockCount() * INDEX_ENTRY_SIZE + TRAILER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    for (var i = 0; i < footer.blockCount(); i++) {
+      buffer.putLong(footer.minEpochMillis()[i]).putLong(footer.maxEpochMillis()[i]).putInt(footer.counts()[i]).putInt(0);
+    }
+    return buffer
+        .putInt(footer.blockCount())
+        .putInt(VERSION)
+        .putLong(MAGIC)
+        .flip();
+  }
+
+  /**
+   * Reads the block capacity from the file header and the index of blocks from the footer of a file, verifying its structure.
+   */
+  static Footer readFooter(FileChannel channel) throws IOException {
+    var size = channel.size();
+    Conditions.checkIsGreaterThanOrEqual(Condition.STATE, size, (long) FILE_HEADER_SIZE + TRAILER_SIZE,
+        "File of %s bytes is too small to be a binary time series file.", size);
+
+    var header = map(channel, 0, FILE_HEADER_SIZE);
+    checkFormat(header.getLong(0), header.getInt(Long.BYTES));
+    var blockCapacity = header.getInt(Long.BYTES + Integer.BYTES);
+    Conditions.checkIsTrue(Condition.STATE, blockCapacity > 0 && blockCapacity <= MAX_BLOCK_CAPACITY && Integer.bitCount(blockCapacity) == 1,
+        "Block capacity %s of file is invalid.", blockCapacity);
+
+    var trailer = map(channel, size - TRAILER_SIZE, TRAILER_SIZE);
+    checkFormat(trailer.getLong(2 * Integer.BYTES), trailer.getInt(Integer.BYTES));
+    var blockCount = trailer.getInt(0);
+    var footerPosition = blockPosition(blockCapacity, blockCount);
+    Conditions.checkIsTrue(Condition.STATE, blockCount >= 0 && footerPosition + (long) blockCount * INDEX_ENTRY_SIZE + TRAILER_SIZE == size,
+        "File of %s bytes cannot contain %s blocks of capacity %s.", size, blockCount, blockCapacity);
+
+    var index = map(channel, footerPosition, blockCount * INDEX_ENTRY_SIZE);
+    var minEpochMillis = new long[blockCount];
+    var maxEpochMillis = new long[blockCount];
+    var counts = new int[blockCount];
+    for (var i = 0; i < blockCount; i++) {
+      minEpochMillis[i] = index.getLong(i * INDEX_ENTRY_SIZE);
+      maxEpochMillis[i] = index.getLong(i * INDEX_ENTRY_SIZE + Long.BYTES);
+      counts[i] = index.getInt(i * INDEX_ENTRY_SIZE + 2 * Long.BYTES);
+      var expectedCount = i < blockCount - 1 ? blockCapacity : counts[i];
+      Conditions.checkIsTrue(Condition.STATE, counts[i] == expectedCount && counts[i] > 0 && counts[i] <= blockCapacity,
+          "Block %s of file contains %s data points, although its capacity is %s.", i, counts[i], blockCapacity);
+    }
+    return new Footer(blockCapacity, blockCount, minEpochMillis, maxEpochMillis, counts);
+  }
+
+  private static ByteBuffer map(FileChannel channel, long position, int size) throws IOException {
+    return channel.map(FileChannel.MapMode.READ_ONLY, position, size).order(ByteOrder.LITTLE_ENDIAN);
+  }
+
+  private static void checkFormat(long magic, int version) {
+    Conditions.checkIsTrue(Condition.STATE, magic == MAGIC, "File is not a binary time series file.");
+    Conditions.checkIsTrue(Condition.STATE, version == VERSION, "Version %s of binary time series file is not supported.", version);
+  }
+
+  /**
+   * Block capacity and index of blocks of a file.
+   */
+  record Footer(int blockCapacity, int blockCount, long[] minEpochMillis, long[] maxEpochMillis, int[] counts) {
+    static Footer empty(int blockCapacity) {
+      return new Footer(blockCapacity, 0, new long[0], new long[0], new int[0]);
+    }
+
+    long size() {
+      return blockCount == 0 ? 0 : (long) (blockCount - 1) * blockCapacity + counts[blockCount - 1];
+    }
+
+    /**
+     * Index of the first block containing a timestamp at or after {@code epochMillis}, or the number of blocks if there is none.
+     */
+    int firstBlockEndingAtOrAfter(long epochMillis) {
+      return firstIndexAtOrAfter(maxEpochMillis, blockCount, epochMillis);
+    }
+
+    /**
+     * Index of the first block containing only timestamps at or after {@code epochMillis}, or the number of blocks if there is none.
+     */
+    int firstBlockStartingAtOrAfter(long epochMillis) {
+      return firstIndexAtOrAfter(minEpochMillis, blockCount, epochMillis);
+    }
+
+    private static int firstIndexAtOrAfter(long[] sorted, int length, long key) {
+      var low = 0;
+      var high = length;
+      while (low < high) {
+        var middle = (low + high) >>> 1;
+        if (sorted[middle] >= key) {
+          high = middle;
+        } else {
+          low = middle + 1;
+        }
+      }
+      return low;
+    }
+  }
+}
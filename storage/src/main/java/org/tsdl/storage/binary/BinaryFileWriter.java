@@ -0,0 +1,124 @@
+package org.tsdl.storage.binary;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import org.tsdl.infrastructure.common.Condition;
+import org.tsdl.infrastructure.common.Conditions;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
+
+/**
+ * Writes series to files of the format described by {@link BinaryFileFormat}.
+ */
+final class BinaryFileWriter {
+  private BinaryFileWriter() {
+  }
+
+  /**
+   * Writes a series to a file, which is created if it does not exist yet.
+   *
+   * @param blockCapacity capacity of the blocks of a new file, files which are appended to retain their block capacity
+   * @param append        whether the series is appended to the data points of an existing file (rather than replacing them), in which case its
+   *                      first timestamp must not precede the last timestamp of the file. The last (partially filled) block of the file is filled
+   *                      up first, the footer is rewritten afterwards.
+   */
+  static void write(Path filePath, ColumnarTimeSeries series, int blockCapacity, boolean append) throws IOException {
+    BinaryFileFormat.checkBlockCapacity(blockCapacity);
+    try (var channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      var footer = append && channel.size() > 0 ? BinaryFileFormat.readFooter(channel) : null;
+      // the order is verified before anything is written, such that the file remains intact if it is violated
+      requireAscending(series, footer != null && footer.size() > 0 ? footer.maxEpochMillis()[footer.blockCount() - 1] : Long.MIN_VALUE);
+      if (footer == null) {
+        channel.truncate(0);
+        footer = BinaryFileFormat.Footer.empty(blockCapacity);
+        writeFully(channel, BinaryFileFormat.fileHeader(blockCapacity), 0);
+      }
+
+      var updatedFooter = writeBlocks(channel, footer, series);
+      var footerPosition = BinaryFileFormat.blockPosition(updatedFooter.blockCapacity(), updatedFooter.blockCount());
+      var footerBuffer = BinaryFileFormat.footer(updatedFooter);
+      var fileSize = footerPosition + footerBuffer.remaining();
+      writeFully(channel, footerBuffer, footerPosition);
+      channel.truncate(fileSize);
+    }
+  }
+
+  private static BinaryFileFormat.Footer writeBlocks(FileChannel channel, BinaryFileFormat.Footer footer, ColumnarTimeSeries series)
+      throws IOException {
+    var capacity = footer.blockCapacity();
+    var existingSize = footer.size();
+    var totalSize = existingSize + series.size();
+    var blockCount = (int) ((totalSize + capacity - 1) / capacity);
+    var minEpochMillis = Arrays.copyOf(footer.minEpochMillis(), blockCount);
+    var maxEpochMillis = Arrays.copyOf(footer.maxEpochMillis(), blockCount);
+    var counts = Arrays.copyOf(footer.counts(), blockCount);
+
+    var block = ByteBuffer.allocate((int) BinaryFileFormat.blockSize(capacity)).order(ByteOrder.LITTLE_ENDIAN);
+    var epochMillis = new long[capacity];
+    var values = new double[capacity];
+    var index = 0;
+    for (var b = (int) (existingSize / capacity); b < blockCount; b++) {
+      var blockPosition = BinaryFileFormat.blockPosition(capacity, b);
+      var count = 0;
+      if (b < footer.blockCount()) {
+        // the last block of the file is partially filled, its data points are retained
+        count = footer.counts()[b];
+        readFully(channel, block.clear(), blockPosition);
+        block.flip();
+        block.position(BinaryFileFormat.BLOCK_HEADER_SIZE).asLongBuffer().get(epochMillis, 0, count);
+        block.position(BinaryFileFormat.BLOCK_HEADER_SIZE + capacity * Long.BYTES).asDoubleBuffer().get(values, 0, count);
+      }
+
+      var appended = (int) Math.min(capacity - count, series.size() - (long) index);
+      series.copyEpochMillis(index, index + appended, epochMillis, count);
+      series.copyValues(index, index + appended, values, count);
+      index += appended;
+      count += appended;
+      Arrays.fill(epochMillis, count, capacity, 0);
+      Arrays.fill(values, count, capacity, 0);
+
+      minEpochMillis[b] = epochMillis[0];
+      maxEpochMillis[b] = epochMillis[count - 1];
+      counts[b] = count;
+      block.clear()
+          .putInt(count)
+          .putInt(0)
+          .putLong(minEpochMillis[b])
+          .putLong(maxEpochMillis[b]);
+      block.asLongBuffer().put(epochMillis);
+      block.position(BinaryFileFormat.BLOCK_HEADER_SIZE + capacity * Long.BYTES).asDoubleBuffer().put(values);
+      writeFully(channel, block.clear(), blockPosition);
+    }
+    return new BinaryFileFormat.Footer(capacity, blockCount, minEpochMillis, maxEpochMillis, counts);
+  }
+
+  private static void requireAscending(ColumnarTimeSeries series, long lastEpochMillis) {
+    var previous = lastEpochMillis;
+    for (var i = 0; i < series.size(); i++) {
+      var epochMillis = series.epochMillis(i);
+      Conditions.checkIsTrue(Condition.ARGUMENT, epochMillis >= previous,
+          "Items must be added in ascending order of their timestamps, but %s follows %s.", epochMillis, previous);
+      previous = epochMillis;
+    }
+  }
+
+  private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+    var offset = position;
+    while (buffer.hasRemaining()) {
+      var read = channel.read(buffer, offset);
+      Conditions.checkIsTrue(Condition.STATE, read >= 0, "Unexpected end of file at position %s.", offset);
+      offset += read;
+    }
+  }
+
+  private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+    var offset = position;
+    while (buffer.hasRemaining()) {
+      offset += channel.write(buffer, offset);
+    }
+  }
+}
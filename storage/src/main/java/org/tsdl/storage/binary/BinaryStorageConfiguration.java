@@ -0,0 +1,24 @@
+package org.tsdl.storage.binary;
+
+import java.util.List;
+import java.util.Map;
+import org.tsdl.infrastructure.api.EnumStorageConfiguration;
+import org.tsdl.infrastructure.api.StorageProperty;
+
+/**
+ * An {@link EnumStorageConfiguration} for configuring {@link BinaryStorageConfiguration} instances.
+ */
+public final class BinaryStorageConfiguration extends EnumStorageConfiguration {
+  public BinaryStorageConfiguration(Map<StorageProperty, Object> properties) {
+    super(properties);
+  }
+
+  public BinaryStorageConfiguration() {
+    super();
+  }
+
+  @Override
+  public List<StorageProperty> getSupportedProperties() {
+    return List.of(BinaryStorageProperty.values());
+  }
+}
@@ -0,0 +1,69 @@
+package org.tsdl.storage.binary;
+
+import java.time.Instant;
+import org.tsdl.infrastructure.api.StorageProperty;
+
+/**
+ * Container for properties belonging to {@link BinaryStorageConfiguration}.
+ */
+public enum BinaryStorageProperty implements StorageProperty {
+  /**
+   * Used by load, store.
+   */
+  FILE_PATH("filePath", String.class),
+
+  /**
+   * Used by store.
+   */
+  APPEND("append", Boolean.class),
+
+  /**
+   * <p>
+   * Used by store.
+   * </p>
+   * <p>
+   * Number of data points per block (a power of two) of files created by store, defaults to {@link BinaryStorageService#DEFAULT_BLOCK_CAPACITY}.
+   * Appending to a file retains its block capacity.
+   * </p>
+   */
+  BLOCK_CAPACITY("blockCapacity", Integer.class),
+
+  /**
+   * <p>
+   * Used by load.
+   * </p>
+   * <p>
+   * If present, only data points at or after this instant are loaded.
+   * </p>
+   */
+  LOAD_FROM("loadFrom", Instant.class),
+
+  /**
+   * <p>
+   * Used by load.
+   * </p>
+   * <p>
+   * If present, only data points before this instant are loaded.
+   * </p>
+   */
+  LOAD_UNTIL("loadUntil", Instant.class);
+
+  private final String identifier;
+
+  private final Class<?> type;
+
+  BinaryStorageProperty(String identifier, Class<?> type) {
+    this.identifier = identifier;
+    this.type = type;
+  }
+
+  @Override
+  public String identifier() {
+    return identifier;
+  }
+
+  @Override
+  public Class<?> type() {
+    return type;
+  }
+}
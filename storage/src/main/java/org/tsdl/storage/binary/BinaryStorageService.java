@@ -0,0 +1,189 @@
+package org.tsdl.storage.binary;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.tsdl.infrastructure.api.ColumnarStorageService;
+import org.tsdl.infrastructure.api.PushdownStorageService;
+import org.tsdl.infrastructure.api.StorageService;
+import org.tsdl.infrastructure.common.Condition;
+import org.tsdl.infrastructure.common.Conditions;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
+import org.tsdl.infrastructure.model.DataPoint;
+import org.tsdl.infrastructure.model.QueryPushdown;
+import org.tsdl.storage.BaseStorageService;
+
+/**
+ * An implementation of {@link StorageService} for a storage mechanism targeting files of a binary columnar format, see
+ * {@link BinaryFileFormat}. Data points are stored in blocks of fixed-width timestamp (epoch milliseconds) and value columns, which are read
+ * through memory mappings of the file, i.e., without parsing or copying them. An index of the time ranges of the blocks allows for mapping only
+ * the blocks overlapping the time range to load.
+ *
+ * <p>{@link #load(BinaryStorageConfiguration)} returns the (loaded parts of the) blocks as separate series.
+ */
+public final class BinaryStorageService extends BaseStorageService implements StorageService<ColumnarTimeSeries, BinaryStorageConfiguration>,
+    ColumnarStorageService<BinaryStorageConfiguration>, PushdownStorageService<BinaryStorageConfiguration> {
+  public static final String STORE_PROPERTY_REQUIRED = "'%s' property ('%s') is required to store data with the binary storage service.";
+  public static final String LOAD_PROPERTY_REQUIRED = "'%s' property ('%s') is required to load data with the binary storage service.";
+
+  /**
+   * Number of data points per block of files created by {@link #store(List, BinaryStorageConfiguration)}, unless configured otherwise.
+   */
+  public static final int DEFAULT_BLOCK_CAPACITY = 1 << 12;
+
+  @Override
+  public void initialize(BinaryStorageConfiguration serviceConfiguration) {
+    // no initialization needed
+  }
+
+  @Override
+  public boolean isInitialized() {
+    return true;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Timestamps are stored with millisecond precision.
+   */
+  @Override
+  public void store(List<DataPoint> data, BinaryStorageConfiguration persistConfiguration) {
+    safeStorageAccess(() -> {
+      Conditions.checkNotNull(Condition.ARGUMENT, data, "Data to store must not be null.");
+      storeSeries(ColumnarTimeSeries.of(data), persistConfiguration);
+    });
+  }
+
+  /**
+   * Stores a series like {@link #store(List, BinaryStorageConfiguration)}, without creating data points.
+   */
+  public void storeColumnar(ColumnarTimeSeries data, BinaryStorageConfiguration persistConfiguration) {
+    safeStorageAccess(() -> {
+      Conditions.checkNotNull(Condition.ARGUMENT, data, "Data to store must not be null.");
+      storeSeries(data, persistConfiguration);
+    });
+  }
+
+  @Override
+  public List<ColumnarTimeSeries> load(BinaryStorageConfiguration lookupConfiguration) {
+    return safeStorageAccess(() -> {
+      var series = mapSeries(lookupConfiguration);
+      var blocks = new ArrayList<ColumnarTimeSeries>();
+      var blockCapacity = series.blockCapacity();
+      for (var blockStart = series.fromIndex() - series.fromIndex() % blockCapacity; blockStart < series.toIndex(); blockStart += blockCapacity) {
+        var from = Math.max(blockStart, series.fromIndex());
+        var to = (int) Math.min((long) blockStart + blockCapacity, series.toIndex());
+        blocks.add(series.mapped().slice(from, to));
+      }
+      return blocks;
+    });
+  }
+
+  @Override
+  public List<DataPoint> transform(List<ColumnarTimeSeries> loadedData, BinaryStorageConfiguration transformationConfiguration) {
+    return safeStorageAccess(() -> {
+      Conditions.checkNotNull(Condition.ARGUMENT, transformationConfiguration, "The transformation configuration must not be null.");
+      Conditions.checkNotNull(Condition.ARGUMENT, loadedData, "Data to transform must not be null.");
+      return loadedData.stream()
+          .flatMap(block -> block.asDataPoints().stream())
+          .toList();
+    });
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The returned series reads data points directly from memory mappings of the file.
+   */
+  @Override
+  public ColumnarTimeSeries loadColumnar(BinaryStorageConfiguration lookupConfiguration, BinaryStorageConfiguration transformationConfiguration) {
+    return safeStorageAccess(() -> {
+      Conditions.checkNotNull(Condition.ARGUMENT, transformationConfiguration, "The transformation configuration must not be null.");
+      var series = mapSeries(lookupConfiguration);
+      return series.mapped().slice(series.fromIndex(), series.toIndex());
+    });
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Narrows the {@link BinaryStorageProperty#LOAD_FROM} and {@link BinaryStorageProperty#LOAD_UNTIL} properties of {@code lookupConfiguration}.
+   * Value bounds are not pushed down, since the loaded columns are views of the mapped file rather than copies which could omit data points.
+   */
+  @Override
+  public void pushDown(QueryPushdown pushdown, BinaryStorageConfiguration lookupConfiguration,
+                       BinaryStorageConfiguration transformationConfiguration) {
+    safeStorageAccess(() -> {
+      Conditions.checkNotNull(Condition.ARGUMENT, pushdown, "Pushdown must not be null.");
+      Conditions.checkNotNull(Condition.ARGUMENT, lookupConfiguration, "The lookup configuration must not be null.");
+      narrowTimeRange(pushdown, lookupConfiguration, BinaryStorageProperty.LOAD_FROM, BinaryStorageProperty.LOAD_UNTIL);
+    });
+  }
+
+  @Override
+  public void close() {
+    // nothing to do, all closable resources are closed upon usage
+  }
+
+  private void storeSeries(ColumnarTimeSeries data, BinaryStorageConfiguration persistConfiguration) throws IOException {
+    Conditions.checkNotNull(Condition.ARGUMENT, persistConfiguration, "The persist configuration must not be null.");
+    requireProperty(persistConfiguration, BinaryStorageProperty.FILE_PATH, STORE_PROPERTY_REQUIRED);
+    requireProperty(persistConfiguration, BinaryStorageProperty.APPEND, STORE_PROPERTY_REQUIRED);
+
+    var blockCapacity = persistConfiguration.isPropertySet(BinaryStorageProperty.BLOCK_CAPACITY)
+        ? persistConfiguration.getProperty(BinaryStorageProperty.BLOCK_CAPACITY, Integer.class)
+        : DEFAULT_BLOCK_CAPACITY;
+    BinaryFileWriter.write(
+        Path.of(persistConfiguration.getProperty(BinaryStorageProperty.FILE_PATH, String.class)),
+        data,
+        blockCapacity,
+        Boolean.TRUE.equals(persistConfiguration.getProperty(BinaryStorageProperty.APPEND, Boolean.class))
+    );
+  }
+
+  /**
+   * Maps the blocks of the file overlapping the time range specified by {@code lookupConfiguration}.
+   */
+  private LoadedRange mapSeries(BinaryStorageConfiguration lookupConfiguration) throws IOException {
+    Conditions.checkNotNull(Condition.ARGUMENT, lookupConfiguration, "The lookup configuration must not be null.");
+    requireProperty(lookupConfiguration, BinaryStorageProperty.FILE_PATH, LOAD_PROPERTY_REQUIRED);
+
+    // timestamps are stored in milliseconds, i.e., the bounds are rounded up to the first millisecond at or after them
+    var fromMillis = lookupConfiguration.isPropertySet(BinaryStorageProperty.LOAD_FROM)
+        ? ceilMillis(lookupConfiguration.getProperty(BinaryStorageProperty.LOAD_FROM, Instant.class))
+        : Long.MIN_VALUE;
+    var untilMillis = lookupConfiguration.isPropertySet(BinaryStorageProperty.LOAD_UNTIL)
+        ? ceilMillis(lookupConfiguration.getProperty(BinaryStorageProperty.LOAD_UNTIL, Instant.class))
+        : Long.MAX_VALUE;
+
+    var filePath = Path.of(lookupConfiguration.getProperty(BinaryStorageProperty.FILE_PATH, String.class));
+    try (var channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+      var footer = BinaryFileFormat.readFooter(channel);
+      var fromBlock = footer.firstBlockEndingAtOrAfter(fromMillis);
+      var toBlock = Math.max(fromBlock, untilMillis == Long.MAX_VALUE ? footer.blockCount() : footer.firstBlockStartingAtOrAfter(untilMillis));
+
+      // mappings remain valid after the channel is closed
+      var mapped = MappedColumnarTimeSeries.map(channel, footer, fromBlock, toBlock);
+      var fromIndex = mapped.firstIndexAtOrAfter(fromMillis);
+      var toIndex = untilMillis == Long.MAX_VALUE ? mapped.size() : Math.max(fromIndex, mapped.firstIndexAtOrAfter(untilMillis));
+      return new LoadedRange(mapped, footer.blockCapacity(), fromIndex, toIndex);
+    }
+  }
+
+  private void requireProperty(BinaryStorageConfiguration config, BinaryStorageProperty property, String messageTemplate) {
+    Conditions.checkIsTrue(Condition.ARGUMENT,
+        config.isPropertySet(property),
+        messageTemplate,
+        property.name(), property.identifier());
+  }
+
+  /**
+   * Mapped blocks and the index range [fromIndex, toIndex) of the data points to load.
+   */
+  private record LoadedRange(MappedColumnarTimeSeries mapped, int blockCapacity, int fromIndex, int toIndex) {
+  }
+}
@@ -0,0 +1,45 @@
+package org.tsdl.storage.binary;
+
+import org.tsdl.infrastructure.common.Condition;
+import org.tsdl.infrastructure.common.Conditions;
+import org.tsdl.storage.csv.CsvStorageConfiguration;
+import org.tsdl.storage.csv.CsvStorageService;
+
+/**
+ * Converts CSV files into files of {@link BinaryStorageService}, such that they are no longer parsed whenever they are loaded.
+ */
+public final class CsvToBinaryConverter {
+  private final CsvStorageService csvStorageService;
+  private final BinaryStorageService binaryStorageService;
+
+  public CsvToBinaryConverter() {
+    this(new CsvStorageService(), new BinaryStorageService());
+  }
+
+  /**
+   * Initializes a {@link CsvToBinaryConverter} instance.
+   */
+  public CsvToBinaryConverter(CsvStorageService csvStorageService, BinaryStorageService binaryStorageService) {
+    Conditions.checkNotNull(Condition.ARGUMENT, csvStorageService, "CSV storage service must not be null.");
+    Conditions.checkNotNull(Condition.ARGUMENT, binaryStorageService, "Binary storage service must not be null.");
+    this.csvStorageService = csvStorageService;
+    this.binaryStorageService = binaryStorageService;
+  }
+
+  /**
+   * Loads the data points of a CSV file and stores them in a binary file.
+   *
+   * @param lookupConfiguration         lookup configuration of the CSV file, see {@link CsvStorageService#load(CsvStorageConfiguration)}
+   * @param transformationConfiguration transformation configuration of the CSV file, see
+   *                                    {@link CsvStorageService#transform(java.util.List, CsvStorageConfiguration)}
+   * @param persistConfiguration        persist configuration of the binary file, see
+   *                                    {@link BinaryStorageService#store(java.util.List, BinaryStorageConfiguration)}
+   * @return number of converted data points
+   */
+  public int convert(CsvStorageConfiguration lookupConfiguration, CsvStorageConfiguration transformationConfiguration,
+                     BinaryStorageConfiguration persistConfiguration) {
+    var series = csvStorageService.loadColumnar(lookupConfiguration, transformationConfiguration);
+    binaryStorageService.storeColumnar(series, persistConfiguration);
+    return series.size();
+  }
+}
@@ -0,0 +1,141 @@
+package org.tsdl.storage.binary;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Objects;
+import org.tsdl.infrastructure.common.Condition;
+import org.tsdl.infrastructure.common.Conditions;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
+
+/**
+ * A {@link ColumnarTimeSeries} reading the data points of consecutive blocks of a file (see {@link BinaryFileFormat}) directly from memory
+ * mappings of the file, i.e., without copying them. Since blocks are of fixed size and all but the last one are full, the position of a data
+ * point follows from its index.
+ *
+ * <p>Files larger than about a gigabyte are mapped in segments of whole blocks, since a single mapping must not exceed 2 GB.
+ */
+final class MappedColumnarTimeSeries implements ColumnarTimeSeries {
+  private static final long MAX_SEGMENT_SIZE = 1L << 30;
+  private static final int BLOCK_HEADER_LONGS = BinaryFileFormat.BLOCK_HEADER_SIZE / Long.BYTES;
+
+  // views of the mapped segments, in units of eight bytes
+  private final LongBuffer[] epochMillisSegments;
+  private final DoubleBuffer[] valueSegments;
+  private final int size;
+  private final int capacityShift;
+  private final int segmentShift;
+  private final int blockLongs;
+
+  private MappedColumnarTimeSeries(LongBuffer[] epochMillisSegments, DoubleBuffer[] valueSegments, int size, int blockCapacity, int segmentShift) {
+    this.epochMillisSegments = epochMillisSegments;
+    this.valueSegments = valueSegments;
+    this.size = size;
+    this.capacityShift = Integer.numberOfTrailingZeros(blockCapacity);
+    this.segmentShift = segmentShift;
+    this.blockLongs = (int) (BinaryFileFormat.blockSize(blockCapacity) / Long.BYTES);
+  }
+
+  /**
+   * Maps the blocks [fromBlock, toBlock) of a file.
+   */
+  static MappedColumnarTimeSeries map(FileChannel channel, BinaryFileFormat.Footer footer, int fromBlock, int toBlock) throws IOException {
+    Objects.checkFromToIndex(fromBlock, toBlock, footer.blockCount());
+    var blockCapacity = footer.blockCapacity();
+    var blockSize = BinaryFileFormat.blockSize(blockCapacity);
+    var segmentShift = 31 - Integer.numberOfLeadingZeros((int) Math.max(1, MAX_SEGMENT_SIZE / blockSize));
+    var blocksPerSegment = 1 << segmentShift;
+
+    var segments = (toBlock - fromBlock + blocksPerSegment - 1) >>> segmentShift;
+    var epochMillisSegments = new LongBuffer[segments];
+    var valueSegments = new DoubleBuffer[segments];
+    var size = 0L;
+    for (var i = 0; i < segments; i++) {
+      var firstBlock = fromBlock + (i << segmentShift);
+      var blocks = Math.min(blocksPerSegment, toBlock - firstBlock);
+      var segment = channel.map(FileChannel.MapMode.READ_ONLY, BinaryFileFormat.blockPosition(blockCapacity, firstBlock), blocks * blockSize)
+          .order(ByteOrder.LITTLE_ENDIAN);
+      epochMillisSegments[i] = segment.asLongBuffer();
+      valueSegments[i] = segment.asDoubleBuffer();
+      for (var block = firstBlock; block < firstBlock + blocks; block++) {
+        size += footer.counts()[block];
+      }
+    }
+
+    Conditions.checkIsTrue(Condition.STATE, size <= Integer.MAX_VALUE, "Blocks of %s data points exceed the maximum size of a series.", size);
+    return new MappedColumnarTimeSeries(epochMillisSegments, valueSegments, (int) size, blockCapacity, segmentShift);
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public long epochMillis(int index) {
+    Objects.checkIndex(index, size);
+    var block = index >>> capacityShift;
+    return epochMillisSegments[block >>> segmentShift].get(epochMillisPosition(block, index));
+  }
+
+  @Override
+  public double value(int index) {
+    Objects.checkIndex(index, size);
+    var block = index >>> capacityShift;
+    return valueSegments[block >>> segmentShift].get(epochMillisPosition(block, index) + (1 << capacityShift));
+  }
+
+  @Override
+  public void copyEpochMillis(int fromIndex, int toIndex, long[] target, int targetOffset) {
+    Objects.checkFromToIndex(fromIndex, toIndex, size);
+    Objects.checkFromIndexSize(targetOffset, toIndex - fromIndex, target.length);
+    var index = fromIndex;
+    while (index < toIndex) {
+      var block = index >>> capacityShift;
+      var length = (int) Math.min(toIndex - index, ((long) (block + 1) << capacityShift) - index);
+      epochMillisSegments[block >>> segmentShift].get(epochMillisPosition(block, index), target, targetOffset + index - fromIndex, length);
+      index += length;
+    }
+  }
+
+  @Override
+  public void copyValues(int fromIndex, int toIndex, double[] target, int targetOffset) {
+    Objects.checkFromToIndex(fromIndex, toIndex, size);
+    Objects.checkFromIndexSize(targetOffset, toIndex - fromIndex, target.length);
+    var index = fromIndex;
+    while (index < toIndex) {
+      var block = index >>> capacityShift;
+      var length = (int) Math.min(toIndex - index, ((long) (block + 1) << capacityShift) - index);
+      valueSegments[block >>> segmentShift].get(epochMillisPosition(block, index) + (1 << capacityShift), target, targetOffset + index - fromIndex,
+          length);
+      index += length;
+    }
+  }
+
+  /**
+   * Index of the first data point whose timestamp is at or after {@code epochMillis}, or {@link #size()} if there is none.
+   */
+  int firstIndexAtOrAfter(long epochMillis) {
+    var low = 0;
+    var high = size;
+    while (low < high) {
+      var middle = (low + high) >>> 1;
+      if (epochMillis(middle) >= epochMillis) {
+        high = middle;
+      } else {
+        low = middle + 1;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Position (in units of eight bytes) of the timestamp of the data point at {@code index} within the segment of its block.
+   */
+  private int epochMillisPosition(int block, int index) {
+    var blockWithinSegment = block & ((1 << segmentShift) - 1);
+    return blockWithinSegment * blockLongs + BLOCK_HEADER_LONGS + (index & ((1 << capacityShift) - 1));
+  }
+}
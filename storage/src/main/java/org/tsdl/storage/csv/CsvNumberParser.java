@@ -0,0 +1,99 @@
+package org.tsdl.storage.csv;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Parses decimal numbers from raw bytes. Numbers of at most 15 significant digits and a decimal exponent of at most 22 (in absolute terms), i.e.,
+ * the vast majority of measurements, are computed exactly by a single multiplication or division of doubles. Any other text is parsed by
+ * {@link Double#parseDouble(String)}, i.e., results and errors are the ones of {@code Double.parseDouble(text)}.
+ */
+final class CsvNumberParser {
+  private static final int MAX_DIGITS = 15;
+  private static final int MAX_EXPONENT = 22;
+  private static final double[] POWERS_OF_TEN = new double[MAX_EXPONENT + 1];
+
+  static {
+    POWERS_OF_TEN[0] = 1;
+    for (var i = 1; i <= MAX_EXPONENT; i++) {
+      POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+    }
+  }
+
+  private CsvNumberParser() {
+  }
+
+  /**
+   * Parses the number in the bytes [from, to) of {@code bytes} (encoded in UTF-8).
+   */
+  static double parseDouble(byte[] bytes, int from, int to) {
+    // like Double.parseDouble, leading and trailing whitespace is ignored
+    var start = from;
+    var end = to;
+    while (start < end && (bytes[start] & 0xFF) <= ' ') {
+      start++;
+    }
+    while (end > start && (bytes[end - 1] & 0xFF) <= ' ') {
+      end--;
+    }
+
+    var pos = start;
+    var negative = pos < end && bytes[pos] == '-';
+    if (negative || pos < end && bytes[pos] == '+') {
+      pos++;
+    }
+
+    var mantissa = 0L;
+    var digits = 0;
+    var anyDigit = false;
+    var exponent = 0;
+    var fraction = false;
+    for (; pos < end; pos++) {
+      var b = bytes[pos];
+      if (b >= '0' && b <= '9') {
+        anyDigit = true;
+        if (mantissa != 0 || b != '0') {
+          // significant digit, leading zeros are irrelevant
+          mantissa = mantissa * 10 + (b - '0');
+          digits++;
+        }
+        if (fraction) {
+          exponent--;
+        }
+      } else if (b == '.' && !fraction) {
+        fraction = true;
+      } else {
+        break;
+      }
+    }
+
+    if (pos < end && (bytes[pos] == 'e' || bytes[pos] == 'E') && anyDigit) {
+      pos++;
+      var negativeExponent = pos < end && bytes[pos] == '-';
+      if (negativeExponent || pos < end && bytes[pos] == '+') {
+        pos++;
+      }
+      var exponentDigits = 0;
+      var explicitExponent = 0;
+      while (pos < end && bytes[pos] >= '0' && bytes[pos] <= '9' && exponentDigits < 4) {
+        explicitExponent = explicitExponent * 10 + (bytes[pos] - '0');
+        exponentDigits++;
+        pos++;
+      }
+      if (exponentDigits == 0) {
+        return parseGeneral(bytes, from, to);
+      }
+      exponent += negativeExponent ? -explicitExponent : explicitExponent;
+    }
+
+    if (pos != end || !anyDigit || digits > MAX_DIGITS || exponent < -MAX_EXPONENT || exponent > MAX_EXPONENT) {
+      return parseGeneral(bytes, from, to);
+    }
+
+    var value = exponent >= 0 ? mantissa * POWERS_OF_TEN[exponent] : mantissa / POWERS_OF_TEN[-exponent];
+    return negative ? -value : value;
+  }
+
+  private static double parseGeneral(byte[] bytes, int from, int to) {
+    return Double.parseDouble(new String(bytes, from, to - from, StandardCharsets.UTF_8));
+  }
+}
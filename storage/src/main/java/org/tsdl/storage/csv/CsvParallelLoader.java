@@ -0,0 +1,327 @@
+package org.tsdl.storage.csv;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.tsdl.infrastructure.common.Condition;
+import org.tsdl.infrastructure.common.Conditions;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
+import org.tsdl.infrastructure.model.impl.ChunkedColumnarTimeSeries;
+
+/**
+ * Loads (large) CSV files in parallel. The file is split into chunks of about equal size, which are memory-mapped and parsed concurrently on the
+ * common {@link ForkJoinPool} (or the pool of the calling task, if any), each by its own {@link CsvRecordReader}. The parsed chunks are
+ * concatenated in order.
+ *
+ * <p>Chunks start right after a line break outside of quoted fields. Whether a line break is quoted follows from the parity of the number of
+ * double quotes before it, which are counted in parallel beforehand. This is exact for files quoting fields as specified by RFC 4180. Double
+ * quotes within unquoted fields (which are read literally) may render the parity wrong, which is detected by the preceding chunk ending within a
+ * quoted field. In this case, the remainder of the file is read sequentially.
+ *
+ * <p>The result equals the one of reading the file sequentially: headers are skipped at the beginning of the file, records after the first
+ * end-of-file marker (or after the first record a parser rejects as end of the data) are ignored (as are errors while parsing them) and timestamps
+ * must be ascending across chunk boundaries as well.
+ */
+final class CsvParallelLoader {
+  static final long DEFAULT_CHUNK_SIZE = 32L << 20;
+
+  private static final byte QUOTE = '"';
+  private static final byte CR = '\r';
+  private static final byte LF = '\n';
+  private static final long QUOTE_MASK = (QUOTE & 0xFFL) * 0x0101010101010101L;
+  private static final long LOW_BITS_MASK = 0x7F7F7F7F7F7F7F7FL;
+  private static final int SCAN_BUFFER_SIZE = 1 << 13;
+
+  private final long chunkSize;
+  private final int bufferSize;
+
+  /**
+   * Initializes a {@link CsvParallelLoader} instance.
+   *
+   * @param chunkSize  approximate number of bytes per chunk
+   * @param bufferSize maximum initial buffer size of the {@link CsvRecordReader} of a chunk
+   */
+  CsvParallelLoader(long chunkSize, int bufferSize) {
+    Conditions.checkIsGreaterThan(Condition.ARGUMENT, chunkSize, 0L, "Chunk size must be positive.");
+    Conditions.checkIsGreaterThan(Condition.ARGUMENT, bufferSize, 0, "Buffer size must be positive.");
+    this.chunkSize = chunkSize;
+    this.bufferSize = bufferSize;
+  }
+
+  /**
+   * Parses the records of a CSV file into a series.
+   *
+   * @param separator        field separator, see {@link CsvRecordReader#isSupportedSeparator(char)}
+   * @param skipHeaders      number of (non-empty) records to skip at the beginning of the file
+   * @param endOfFileMarkers records (their fields joined by {@code separator}) which are treated as end of the file
+   * @param parsers          creates a parser per chunk, i.e., parsers need not be thread-safe
+   */
+  ColumnarTimeSeries load(Path filePath, char separator, int skipHeaders, List<String> endOfFileMarkers, Supplier<RecordParser> parsers)
+      throws IOException {
+    try (var channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+      var chunkStarts = chunkStarts(channel, skipHeaders(channel, separator, skipHeaders));
+      var chunks = chunkStarts.length - 1;
+
+      // once a chunk ends the data (by an end-of-file marker, a parser or an error), succeeding chunks are irrelevant and abandoned
+      var firstFinalChunk = new AtomicInteger(Integer.MAX_VALUE);
+      var tasks = new ArrayList<Callable<ChunkResult>>(chunks);
+      for (var i = 0; i < chunks; i++) {
+        var chunk = i;
+        tasks.add(() -> parseChunk(channel, chunk, chunkStarts[chunk], chunkStarts[chunk + 1], separator, endOfFileMarkers, parsers.get(),
+            firstFinalChunk));
+      }
+      var results = invokeAll(tasks);
+
+      var parts = new ArrayList<ColumnarTimeSeries>(chunks);
+      for (var i = 0; i < chunks; i++) {
+        var result = results.get(i);
+        if (result.unterminatedQuote() && i < chunks - 1) {
+          // the succeeding chunk does not start at the beginning of a record, whereas this one does
+          parts.add(parseSequentially(channel, chunkStarts[i], separator, endOfFileMarkers, parsers.get()));
+          break;
+        }
+        if (result.failure() != null) {
+          throw rethrow(result.failure());
+        }
+        parts.add(result.series());
+        if (result.endOfDataReached()) {
+          break;
+        }
+      }
+      return concatenate(parts);
+    }
+  }
+
+  /**
+   * Parses the current record of a {@link CsvRecordReader}.
+   */
+  @FunctionalInterface
+  interface RecordParser {
+    /**
+     * Adds the item of the current record to {@code builder}, if any.
+     *
+     * @return false if the record ends the data, i.e., neither it nor any succeeding record is relevant
+     */
+    boolean parse(CsvRecordReader reader, ChunkedColumnarTimeSeries.Builder builder);
+  }
+
+  /**
+   * Offset of the first byte after the headers, or the size of the file if it does not contain more records than headers.
+   */
+  private long skipHeaders(FileChannel channel, char separator, int skipHeaders) throws IOException {
+    if (skipHeaders == 0) {
+      return 0;
+    }
+
+    // the reader is not closed, since that would close the channel
+    var reader = new CsvRecordReader(channel, separator, 0, List.of(), SCAN_BUFFER_SIZE);
+    for (var i = 0; i < skipHeaders; i++) {
+      if (!reader.next()) {
+        return channel.size();
+      }
+    }
+    return reader.offset();
+  }
+
+  /**
+   * Offsets of the first byte of every chunk, followed by the size of the file.
+   */
+  private long[] chunkStarts(FileChannel channel, long dataStart) throws IOException {
+    var size = channel.size();
+    var chunks = (int) Math.max(1, (size - dataStart + chunkSize - 1) / chunkSize);
+    var starts = new long[chunks + 1];
+    starts[0] = dataStart;
+    starts[chunks] = size;
+    if (chunks == 1) {
+      return starts;
+    }
+
+    var tasks = new ArrayList<Callable<Long>>(chunks - 1);
+    for (var i = 0; i < chunks - 1; i++) {
+      var from = dataStart + i * chunkSize;
+      tasks.add(() -> countQuotes(channel, from, from + chunkSize));
+    }
+    var quoteCounts = invokeAll(tasks);
+
+    var quotes = 0L;
+    for (var i = 1; i < chunks; i++) {
+      quotes += quoteCounts.get(i - 1);
+      starts[i] = Math.max(starts[i - 1], nextRecordStart(channel, dataStart + i * chunkSize, quotes % 2 == 1));
+    }
+    return starts;
+  }
+
+  private static long countQuotes(FileChannel channel, long from, long to) throws IOException {
+    var bytes = channel.map(FileChannel.MapMode.READ_ONLY, from, to - from).order(ByteOrder.LITTLE_ENDIAN);
+    var count = 0L;
+    var pos = 0;
+    for (; pos + Long.BYTES <= bytes.limit(); pos += Long.BYTES) {
+      // sets the highest bit of exactly the zero bytes, i.e., the double quotes
+      var word = bytes.getLong(pos) ^ QUOTE_MASK;
+      count += Long.bitCount(~(((word & LOW_BITS_MASK) + LOW_BITS_MASK) | word | LOW_BITS_MASK));
+    }
+    for (; pos < bytes.limit(); pos++) {
+      if (bytes.get(pos) == QUOTE) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Offset of the first byte after the first line break (outside of quoted fields) at or after {@code from}, or the size of the file if there is
+   * none.
+   */
+  private static long nextRecordStart(FileChannel channel, long from, boolean inQuotes) throws IOException {
+    var buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+    var quoted = inQuotes;
+    var offset = from;
+    while (channel.read(buffer.clear(), offset) > 0) {
+      for (var i = 0; i < buffer.position(); i++) {
+        var b = buffer.get(i);
+        if (b == QUOTE) {
+          quoted = !quoted;
+        } else if (!quoted && (b == LF || b == CR)) {
+          // the LF of a CRLF sequence may start the chunk, which makes for an empty record, i.e., is skipped
+          return offset + i + 1;
+        }
+      }
+      offset += buffer.position();
+    }
+    return channel.size();
+  }
+
+  private ChunkResult parseChunk(FileChannel channel, int chunk, long from, long to, char separator, List<String> endOfFileMarkers,
+                                 RecordParser parser, AtomicInteger firstFinalChunk) {
+    CsvRecordReader reader = null;
+    try {
+      var bytes = channel.map(FileChannel.MapMode.READ_ONLY, from, to - from);
+      reader = new CsvRecordReader(new ByteBufferChannel(bytes), separator, 0, endOfFileMarkers, (int) Math.max(1, Math.min(bufferSize, to - from)));
+      var builder = ColumnarTimeSeries.builder();
+      var endOfDataReached = false;
+      while (!endOfDataReached && firstFinalChunk.get() > chunk && reader.next()) {
+        endOfDataReached = !parser.parse(reader, builder);
+      }
+      endOfDataReached |= reader.isEndOfFileMarkerReached();
+      if (endOfDataReached) {
+        firstFinalChunk.accumulateAndGet(chunk, Math::min);
+      }
+      return new ChunkResult(builder.build(), endOfDataReached, reader.hasUnterminatedQuote(), null);
+    } catch (Exception e) {
+      // an error in the last record may be due to the succeeding chunk not starting at the beginning of a record
+      var unterminatedQuote = reader != null && reader.hasUnterminatedQuote();
+      if (!unterminatedQuote) {
+        firstFinalChunk.accumulateAndGet(chunk, Math::min);
+      }
+      return new ChunkResult(null, false, unterminatedQuote, e);
+    }
+  }
+
+  private ColumnarTimeSeries parseSequentially(FileChannel channel, long from, char separator, List<String> endOfFileMarkers, RecordParser parser)
+      throws IOException {
+    // the reader is not closed, since that would close the channel
+    var reader = new CsvRecordReader(channel.position(from), separator, 0, endOfFileMarkers, bufferSize);
+    var builder = ColumnarTimeSeries.builder();
+    var endOfDataReached = false;
+    while (!endOfDataReached && reader.next()) {
+      endOfDataReached = !parser.parse(reader, builder);
+    }
+    return builder.build();
+  }
+
+  private static ColumnarTimeSeries concatenate(List<ColumnarTimeSeries> parts) {
+    var size = 0L;
+    ColumnarTimeSeries previous = null;
+    for (var part : parts) {
+      if (part.isEmpty()) {
+        continue;
+      }
+      if (previous != null) {
+        var first = part.epochMillis(0);
+        var last = previous.epochMillis(previous.size() - 1);
+        Conditions.checkIsTrue(Condition.ARGUMENT, first >= last,
+            "Items must be added in ascending order of their timestamps, but %s follows %s.", first, last);
+      }
+      size += part.size();
+      previous = part;
+    }
+    Conditions.checkIsTrue(Condition.STATE, size <= Integer.MAX_VALUE - 8, "Series of %s items exceeds the maximum size.", size);
+
+    var epochMillis = new long[(int) size];
+    var values = new double[(int) size];
+    var offset = 0;
+    for (var part : parts) {
+      part.copyEpochMillis(0, part.size(), epochMillis, offset);
+      part.copyValues(0, part.size(), values, offset);
+      offset += part.size();
+    }
+    return ColumnarTimeSeries.of(epochMillis, values);
+  }
+
+  private static <T> List<T> invokeAll(List<Callable<T>> tasks) {
+    var forkJoinTasks = tasks.stream().map(ForkJoinTask::adapt).toList();
+    // within another pool (e.g., one bounding the parallelism of evaluations), tasks are forked into that pool instead of the common one
+    if (ForkJoinTask.inForkJoinPool()) {
+      ForkJoinTask.invokeAll(forkJoinTasks);
+    } else {
+      ForkJoinPool.commonPool().invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(forkJoinTasks)));
+    }
+    return forkJoinTasks.stream().map(ForkJoinTask::join).toList();
+  }
+
+  private static RuntimeException rethrow(Exception failure) throws IOException {
+    if (failure instanceof IOException ioException) {
+      throw ioException;
+    }
+    if (failure instanceof RuntimeException runtimeException) {
+      throw runtimeException;
+    }
+    throw new IllegalStateException(failure);
+  }
+
+  private record ChunkResult(ColumnarTimeSeries series, boolean endOfDataReached, boolean unterminatedQuote, Exception failure) {
+  }
+
+  /**
+   * Reads the bytes of a (memory-mapped) buffer.
+   */
+  private static final class ByteBufferChannel implements ReadableByteChannel {
+    private final ByteBuffer source;
+
+    private ByteBufferChannel(ByteBuffer source) {
+      this.source = source;
+    }
+
+    @Override
+    public int read(ByteBuffer target) {
+      if (!source.hasRemaining()) {
+        return -1;
+      }
+      var length = Math.min(source.remaining(), target.remaining());
+      target.put(source.slice(source.position(), length));
+      source.position(source.position() + length);
+      return length;
+    }
+
+    @Override
+    public boolean isOpen() {
+      return true;
+    }
+
+    @Override
+    public void close() {
+      // nothing to release, the mapping is released once the buffer is garbage collected
+    }
+  }
+}
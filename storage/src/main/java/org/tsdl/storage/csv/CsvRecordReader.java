@@ -0,0 +1,425 @@
+package org.tsdl.storage.csv;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import org.tsdl.infrastructure.common.Condition;
+import org.tsdl.infrastructure.common.Conditions;
+
+/**
+ * Reads the records of a CSV file (encoded in UTF-8) directly from its bytes, record by record. Fields are separated by an ASCII field
+ * separator, records by CR, LF or CRLF. Fields may be enclosed in double quotes, in which case they may contain field separators, line breaks
+ * and (doubled) double quotes. Like {@link de.siegmar.fastcsv.reader.CsvReader} configured by {@link CsvStorageService}, empty lines are skipped.
+ *
+ * <p>The fields of the current record are accessible as byte ranges of {@link #buffer()}, which are only valid until the next call of
+ * {@link #next()}. Quoted fields are unescaped in place, hence, no objects are allocated per record.
+ */
+final class CsvRecordReader implements Closeable {
+  static final int DEFAULT_BUFFER_SIZE = 1 << 20;
+
+  private static final byte QUOTE = '"';
+  private static final byte CR = '\r';
+  private static final byte LF = '\n';
+  private static final long QUOTE_MASK = broadcast(QUOTE);
+  private static final long CR_MASK = broadcast(CR);
+  private static final long LF_MASK = broadcast(LF);
+  private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+  private final ReadableByteChannel channel;
+  private final byte separator;
+  private final long separatorMask;
+  private final byte[][] endOfFileMarkers;
+
+  private byte[] buffer;
+  private int limit;
+  private long bufferOffset;
+  private boolean endOfInput;
+  private boolean endOfFileMarkerReached;
+  private boolean unterminatedQuote;
+  private int skipRecords;
+
+  // start of the next record to read and whether it is the LF of a CRLF sequence whose CR terminated the previous record
+  private int position;
+  private boolean skipLineFeed;
+
+  // fields of the current record, fieldBounds[2 * i] and fieldBounds[2 * i + 1] being the (exclusive) bounds of field i
+  private int recordStart;
+  private int recordEnd;
+  private boolean recordQuoted;
+  private int[] fieldBounds = new int[16];
+  private int fieldCount;
+
+  /**
+   * Initializes a {@link CsvRecordReader} instance.
+   *
+   * @param channel          channel to read the bytes of the CSV file from, it is closed by {@link #close()}
+   * @param separator        field separator, must be an ASCII character other than CR, LF and double quote
+   * @param skipRecords      number of (non-empty) records to skip at the beginning, e.g., headers
+   * @param endOfFileMarkers records (their fields joined by {@code separator}) which are treated as end of the file
+   * @param bufferSize       initial size of the buffer, which grows as records exceed it
+   */
+  CsvRecordReader(ReadableByteChannel channel, char separator, int skipRecords, List<String> endOfFileMarkers, int bufferSize) {
+    Conditions.checkNotNull(Condition.ARGUMENT, channel, "Channel must not be null.");
+    Conditions.checkIsTrue(Condition.ARGUMENT, isSupportedSeparator(separator), "Field separator '%s' is not supported.", separator);
+    Conditions.checkIsGreaterThanOrEqual(Condition.ARGUMENT, skipRecords, 0, "Number of records to skip must not be negative.");
+    Conditions.checkNotNull(Condition.ARGUMENT, endOfFileMarkers, "End-of-file markers must not be null.");
+    Conditions.checkIsGreaterThan(Condition.ARGUMENT, bufferSize, 0, "Buffer size must be positive.");
+    this.channel = channel;
+    this.separator = (byte) separator;
+    this.separatorMask = broadcast(this.separator);
+    this.skipRecords = skipRecords;
+    this.endOfFileMarkers = endOfFileMarkers.stream().map(marker -> marker.getBytes(StandardCharsets.UTF_8)).toArray(byte[][]::new);
+    this.buffer = new byte[bufferSize];
+  }
+
+  /**
+   * Whether records separated by {@code separator} can be read by a {@link CsvRecordReader}.
+   */
+  static boolean isSupportedSeparator(char separator) {
+    return separator < 0x80 && separator != CR && separator != LF && separator != QUOTE;
+  }
+
+  /**
+   * Advances to the next record, skipping records as specified upon initialization.
+   *
+   * @return false if there is no further record, i.e., the end of the input or an end-of-file marker is reached
+   */
+  boolean next() throws IOException {
+    while (!endOfFileMarkerReached && readRecord()) {
+      if (recordEnd == recordStart) {
+        continue;
+      }
+      if (skipRecords > 0) {
+        skipRecords--;
+        continue;
+      }
+
+      if (recordQuoted) {
+        splitFields();
+      }
+      if (isEndOfFileMarker()) {
+        endOfFileMarkerReached = true;
+        return false;
+      }
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Whether the last call of {@link #next()} returned false because an end-of-file marker has been reached.
+   */
+  boolean isEndOfFileMarkerReached() {
+    return endOfFileMarkerReached;
+  }
+
+  /**
+   * Whether the input ends within a quoted field, i.e., the closing quote of the last record is missing.
+   */
+  boolean hasUnterminatedQuote() {
+    return unterminatedQuote;
+  }
+
+  /**
+   * Number of bytes of the input preceding the next record, i.e., consumed by the current record (including its line terminator) and the ones
+   * before. The LF of a CRLF sequence terminating the current record may not be included.
+   */
+  long offset() {
+    return bufferOffset + position;
+  }
+
+  byte[] buffer() {
+    return buffer;
+  }
+
+  int fieldCount() {
+    return fieldCount;
+  }
+
+  int fieldStart(int field) {
+    return fieldBounds[2 * field];
+  }
+
+  int fieldEnd(int field) {
+    return fieldBounds[2 * field + 1];
+  }
+
+  /**
+   * The current record, its fields joined by the field separator, e.g., for error messages.
+   */
+  String recordText() {
+    var text = new StringBuilder();
+    for (var i = 0; i < fieldCount; i++) {
+      if (i > 0) {
+        text.append((char) separator);
+      }
+      text.append(new String(buffer, fieldStart(i), fieldEnd(i) - fieldStart(i), StandardCharsets.UTF_8));
+    }
+    return text.toString();
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+
+  /**
+   * Determines the bounds of the next record, reading further bytes into the buffer as needed.
+   *
+   * @return false if the input is exhausted
+   */
+  private boolean readRecord() throws IOException {
+    if (skipLineFeed) {
+      if (position == limit) {
+        fill();
+      }
+      if (position < limit && buffer[position] == LF) {
+        position++;
+      }
+      skipLineFeed = false;
+    }
+    if (position == limit) {
+      fill();
+      if (position == limit) {
+        return false;
+      }
+    }
+
+    // bounds of fields are recorded while scanning, quoted fields are only split (and unescaped) once the record is complete
+    var scan = position;
+    var fieldStart = position;
+    var inQuotes = false;
+    var closedQuote = false;
+    var quoted = false;
+    fieldCount = 0;
+    while (true) {
+      if (scan == limit) {
+        var shift = position;
+        fill();
+        shift -= position;
+        scan -= shift;
+        fieldStart -= shift;
+        for (var i = 0; i < 2 * fieldCount; i++) {
+          fieldBounds[i] -= shift;
+        }
+        if (scan == limit) {
+          // last record without line terminator (or with an unterminated quote, whose content extends to the end of the input)
+          completeRecord(fieldStart, scan, quoted);
+          position = scan;
+          unterminatedQuote = inQuotes;
+          return true;
+        }
+      }
+
+      // bytes without special meaning are skipped in bulk, the byte after a closing quote is examined on its own
+      if (inQuotes) {
+        scan = indexOfQuote(scan, limit);
+      } else if (!closedQuote) {
+        scan = indexOfSpecialByte(scan, limit);
+      }
+      if (scan == limit) {
+        continue;
+      }
+
+      var b = buffer[scan];
+      if (inQuotes) {
+        inQuotes = false;
+        closedQuote = true;
+      } else if (b == separator) {
+        addField(fieldStart, scan);
+        fieldStart = scan + 1;
+        closedQuote = false;
+      } else if (b == LF || b == CR) {
+        completeRecord(fieldStart, scan, quoted);
+        position = scan + 1;
+        skipLineFeed = b == CR;
+        return true;
+      } else if (b == QUOTE && (scan == fieldStart || closedQuote)) {
+        // opening quote, or the second quote of a doubled quote within a quoted field
+        inQuotes = true;
+        quoted = true;
+        closedQuote = false;
+      } else {
+        closedQuote = false;
+      }
+      scan++;
+    }
+  }
+
+  private void completeRecord(int lastFieldStart, int end, boolean quoted) {
+    addField(lastFieldStart, end);
+    recordStart = position;
+    recordEnd = end;
+    recordQuoted = quoted;
+  }
+
+  private void addField(int start, int end) {
+    if (2 * fieldCount + 2 > fieldBounds.length) {
+      fieldBounds = Arrays.copyOf(fieldBounds, 2 * fieldBounds.length);
+    }
+    fieldBounds[2 * fieldCount] = start;
+    fieldBounds[2 * fieldCount + 1] = end;
+    fieldCount++;
+  }
+
+  /**
+   * Index of the first field separator, CR, LF or double quote within [from, to), or {@code to} if there is none. Eight bytes are examined at a
+   * time, see {@link #zeroBytes(long)}.
+   */
+  private int indexOfSpecialByte(int from, int to) {
+    var pos = from;
+    for (; pos + Long.BYTES <= to; pos += Long.BYTES) {
+      var word = (long) LONGS.get(buffer, pos);
+      var matches = zeroBytes(word ^ separatorMask) | zeroBytes(word ^ CR_MASK) | zeroBytes(word ^ LF_MASK) | zeroBytes(word ^ QUOTE_MASK);
+      if (matches != 0) {
+        return pos + (Long.numberOfTrailingZeros(matches) >>> 3);
+      }
+    }
+    for (; pos < to; pos++) {
+      var b = buffer[pos];
+      if (b == separator || b == CR || b == LF || b == QUOTE) {
+        return pos;
+      }
+    }
+    return to;
+  }
+
+  /**
+   * Index of the first double quote within [from, to), or {@code to} if there is none.
+   */
+  private int indexOfQuote(int from, int to) {
+    var pos = from;
+    for (; pos + Long.BYTES <= to; pos += Long.BYTES) {
+      var matches = zeroBytes((long) LONGS.get(buffer, pos) ^ QUOTE_MASK);
+      if (matches != 0) {
+        return pos + (Long.numberOfTrailingZeros(matches) >>> 3);
+      }
+    }
+    for (; pos < to; pos++) {
+      if (buffer[pos] == QUOTE) {
+        return pos;
+      }
+    }
+    return to;
+  }
+
+  /**
+   * Sets the highest bit of the zero bytes of {@code word}, and of no byte below (i.e., at a lower address than) the first zero byte. Bytes
+   * above the first zero byte may be set spuriously, which is irrelevant for finding the first zero byte.
+   */
+  private static long zeroBytes(long word) {
+    return (word - 0x0101010101010101L) & ~word & 0x8080808080808080L;
+  }
+
+  private static long broadcast(byte b) {
+    return (b & 0xFFL) * 0x0101010101010101L;
+  }
+
+  /**
+   * Moves the unread bytes to the beginning of the buffer (growing it if they fill it entirely) and reads further bytes after them.
+   */
+  private void fill() throws IOException {
+    if (endOfInput) {
+      return;
+    }
+    if (position > 0) {
+      System.arraycopy(buffer, position, buffer, 0, limit - position);
+      limit -= position;
+      bufferOffset += position;
+      position = 0;
+    }
+    if (limit == buffer.length) {
+      buffer = Arrays.copyOf(buffer, 2 * buffer.length);
+    }
+
+    var read = channel.read(ByteBuffer.wrap(buffer, limit, buffer.length - limit));
+    if (read < 0) {
+      endOfInput = true;
+    } else {
+      limit += read;
+    }
+  }
+
+  /**
+   * Determines the bounds of the fields of the current record (which contains quotes), unescaping quoted fields in place.
+   */
+  private void splitFields() {
+    fieldCount = 0;
+    var pos = recordStart;
+    while (true) {
+      var start = pos;
+      int end;
+      if (recordQuoted && pos < recordEnd && buffer[pos] == QUOTE) {
+        // content of the quoted field (where doubled quotes denote a quote), followed by any characters up to the next separator
+        var write = pos;
+        pos++;
+        while (pos < recordEnd) {
+          var b = buffer[pos];
+          if (b == QUOTE) {
+            if (pos + 1 < recordEnd && buffer[pos + 1] == QUOTE) {
+              buffer[write++] = QUOTE;
+              pos += 2;
+              continue;
+            }
+            pos++;
+            break;
+          }
+          buffer[write++] = b;
+          pos++;
+        }
+        while (pos < recordEnd && buffer[pos] != separator) {
+          buffer[write++] = buffer[pos++];
+        }
+        end = write;
+      } else {
+        while (pos < recordEnd && buffer[pos] != separator) {
+          pos++;
+        }
+        end = pos;
+      }
+
+      addField(start, end);
+      if (pos >= recordEnd) {
+        return;
+      }
+      pos++;
+    }
+  }
+
+  private boolean isEndOfFileMarker() {
+    for (var marker : endOfFileMarkers) {
+      if (matchesJoinedFields(marker)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Whether the fields of the current record, joined by the field separator, equal {@code marker}.
+   */
+  private boolean matchesJoinedFields(byte[] marker) {
+    var markerPos = 0;
+    for (var i = 0; i < fieldCount; i++) {
+      if (i > 0) {
+        if (markerPos == marker.length || marker[markerPos++] != separator) {
+          return false;
+        }
+      }
+      var length = fieldEnd(i) - fieldStart(i);
+      if (markerPos + length > marker.length
+          || !Arrays.equals(buffer, fieldStart(i), fieldEnd(i), marker, markerPos, markerPos + length)) {
+        return false;
+      }
+      markerPos += length;
+    }
+    return markerPos == marker.length;
+  }
+}
@@ -1,5 +1,6 @@
 package org.tsdl.storage.csv;
 
+import java.time.Instant;
 import org.tsdl.infrastructure.api.StorageProperty;
 
 /**
@@ -66,7 +67,32 @@ public enum CsvStorageProperty implements StorageProperty {
    * If present, instructs CSV parser to abort when a line whose content is equivalent to one of the custom EOFs. This is useful for when
    * you know a CSV file contains additional information up from a certain point which is not relevant in this context.
    */
-  CUSTOM_EOF_MARKERS("customEndOfFileMarkers", String[].class);
+  CUSTOM_EOF_MARKERS("customEndOfFileMarkers", String[].class),
+
+  /**
+   * Used by transform.
+   * If present, data points before this point in time are omitted.
+   */
+  LOAD_FROM("loadFrom", Instant.class),
+
+  /**
+   * Used by transform.
+   * If present, data points at or after this point in time are omitted. Since timestamps are expected in ascending order, rows after the first
+   * data point at or after this point in time are not read at all.
+   */
+  LOAD_UNTIL("loadUntil", Instant.class),
+
+  /**
+   * Used by transform.
+   * If present, data points whose value is less than this value (or NaN) are omitted.
+   */
+  MIN_VALUE("minValue", Double.class),
+
+  /**
+   * Used by transform.
+   * If present, data points whose value is greater than this value (or NaN) are omitted.
+   */
+  MAX_VALUE("maxValue", Double.class);
 
   private final String identifier;
 
@@ -6,7 +6,9 @@ import de.siegmar.fastcsv.writer.CsvWriter;
 import de.siegmar.fastcsv.writer.LineDelimiter;
 import de.siegmar.fastcsv.writer.QuoteStrategy;
 import java.io.IOException;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.OpenOption;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
@@ -15,21 +17,43 @@ import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 import org.jetbrains.annotations.NotNull;
+import org.tsdl.infrastructure.api.ColumnarStorageService;
+import org.tsdl.infrastructure.api.PushdownStorageService;
 import org.tsdl.infrastructure.api.StorageService;
+import org.tsdl.infrastructure.api.StreamingStorageService;
 import org.tsdl.infrastructure.common.Condition;
 import org.tsdl.infrastructure.common.Conditions;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
 import org.tsdl.infrastructure.model.DataPoint;
+import org.tsdl.infrastructure.model.DataPointSource;
+import org.tsdl.infrastructure.model.QueryPushdown;
 import org.tsdl.storage.BaseStorageService;
 
 /**
  * An implementation of {@link StorageService} for a storage mechanism targeting CSV files.
+ *
+ * <p>The data points provided may be restricted to a time range and a value range by properties of the transformation configuration (see
+ * {@link CsvStorageProperty#LOAD_FROM}, {@link CsvStorageProperty#LOAD_UNTIL}, {@link CsvStorageProperty#MIN_VALUE} and
+ * {@link CsvStorageProperty#MAX_VALUE}), which {@link #pushDown(QueryPushdown, CsvStorageConfiguration, CsvStorageConfiguration)} sets.
  */
-public final class CsvStorageService extends BaseStorageService implements StorageService<CsvRow, CsvStorageConfiguration> {
+public final class CsvStorageService extends BaseStorageService implements StorageService<CsvRow, CsvStorageConfiguration>,
+    StreamingStorageService<CsvStorageConfiguration>, ColumnarStorageService<CsvStorageConfiguration>,
+    PushdownStorageService<CsvStorageConfiguration> {
   public static final String STORE_PROPERTY_REQUIRED = "'%s' property ('%s') is required to store data with the CSV storage service.";
   public static final String LOAD_PROPERTY_REQUIRED = "'%s' property ('%s') is required to load data with the CSV storage service.";
   public static final String TRANSFORMATION_PROPERTY_REQUIRED =
       "'%s' property ('%s') is required to transform data loaded by the CSV storage service into data points.";
+  /**
+   * Minimum size (in bytes) of files which are loaded in parallel by {@link #loadColumnar(CsvStorageConfiguration, CsvStorageConfiguration)}.
+   */
+  public static final long PARALLEL_LOAD_THRESHOLD = 2 * CsvParallelLoader.DEFAULT_CHUNK_SIZE;
+  private static final String TIME_COLUMN_INVALID = "Time column index '%s' is not valid for row '%s'.";
+  private static final String VALUE_COLUMN_INVALID = "Value column index '%s' is not valid for row '%s'.";
 
   @Override
   public void initialize(CsvStorageConfiguration serviceConfiguration) {
@@ -87,32 +111,9 @@ public final class CsvStorageService extends BaseStorageService implements Stora
   @Override
   public List<CsvRow> load(CsvStorageConfiguration lookupConfiguration) {
     return safeStorageAccess(() -> {
-      Conditions.checkIsTrue(Condition.STATE, isInitialized(), "CSV service has not been initialized yet. Call initialize() beforehand.");
-      Conditions.checkNotNull(Condition.ARGUMENT, lookupConfiguration, "The lookup configuration must not be null.");
-      requireProperty(lookupConfiguration, CsvStorageProperty.FILE_PATH, LOAD_PROPERTY_REQUIRED);
-      requireProperty(lookupConfiguration, CsvStorageProperty.FIELD_SEPARATOR, LOAD_PROPERTY_REQUIRED);
-      requireProperty(lookupConfiguration, CsvStorageProperty.SKIP_HEADERS, TRANSFORMATION_PROPERTY_REQUIRED);
-
-      var skipHeaders = lookupConfiguration.getProperty(CsvStorageProperty.SKIP_HEADERS, Integer.class);
-      Conditions.checkIsGreaterThanOrEqual(Condition.ARGUMENT,
-          skipHeaders,
-          0,
-          "'%' property ('%s') must be greater than or equal to 0.",
-          CsvStorageProperty.SKIP_HEADERS.name(), CsvStorageProperty.SKIP_HEADERS.identifier());
-
-      var filePath = lookupConfiguration.getProperty(CsvStorageProperty.FILE_PATH, String.class);
-      var fieldSeparator = lookupConfiguration.getProperty(CsvStorageProperty.FIELD_SEPARATOR, Character.class);
-      try (var csvReader = createReader(filePath, fieldSeparator)) {
-        try (var csvStream = csvReader.stream()) {
-          var customEofsPresent = lookupConfiguration.isPropertySet(CsvStorageProperty.CUSTOM_EOF_MARKERS);
-          var customEofs = customEofsPresent
-              ? Set.of(lookupConfiguration.getProperty(CsvStorageProperty.CUSTOM_EOF_MARKERS, String[].class))
-              : Set.of();
-          return csvStream
-              .skip(skipHeaders)
-              .takeWhile(p -> !customEofsPresent || !customEofs.contains(String.join(Character.toString(fieldSeparator), p.getFields())))
-              .toList();
-        }
+      requireLookupConfiguration(lookupConfiguration);
+      try (var rows = openRows(lookupConfiguration)) {
+        return rows.toList();
       }
     });
   }
@@ -120,30 +121,95 @@ public final class CsvStorageService extends BaseStorageService implements Stora
   @Override
   public List<DataPoint> transform(List<CsvRow> loadedData, CsvStorageConfiguration transformationConfiguration) {
     return safeStorageAccess(() -> {
-      Conditions.checkNotNull(Condition.ARGUMENT, transformationConfiguration, "The transformation configuration must not be null.");
+      var rowMapper = createRowMapper(transformationConfiguration);
+      var restriction = restriction(transformationConfiguration);
       Conditions.checkNotNull(Condition.ARGUMENT, loadedData, "Data to transform must not be null.");
-      requireProperty(transformationConfiguration, CsvStorageProperty.VALUE_COLUMN, TRANSFORMATION_PROPERTY_REQUIRED);
-      requireProperty(transformationConfiguration, CsvStorageProperty.TIME_COLUMN, TRANSFORMATION_PROPERTY_REQUIRED);
-      requireProperty(transformationConfiguration, CsvStorageProperty.TIME_FORMAT, TRANSFORMATION_PROPERTY_REQUIRED);
+      return loadedData.stream().map(rowMapper).filter(restriction::matches).toList();
+    });
+  }
 
-      var valueIndex = transformationConfiguration.getProperty(CsvStorageProperty.VALUE_COLUMN, Integer.class);
-      var timeIndex = transformationConfiguration.getProperty(CsvStorageProperty.TIME_COLUMN, Integer.class);
-      var formatter = DateTimeFormatter
-          .ofPattern(transformationConfiguration.getProperty(CsvStorageProperty.TIME_FORMAT, String.class))
-          .withZone(ZoneOffset.UTC);
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Every pass over the returned source reads the file anew, row by row. Configurations are validated eagerly, whereas errors while reading
+   * or transforming a row surface as {@link org.tsdl.storage.TsdlStorageException} during the pass.
+   */
+  @Override
+  public DataPointSource stream(CsvStorageConfiguration lookupConfiguration, CsvStorageConfiguration transformationConfiguration) {
+    return safeStorageAccess(() -> {
+      requireLookupConfiguration(lookupConfiguration);
+      requireTransformationConfiguration(transformationConfiguration);
+      var restriction = restriction(transformationConfiguration);
+      return (DataPointSource) () -> {
+        // row mappers are not thread-safe, hence, every pass has its own one
+        var rowMapper = createRowMapper(transformationConfiguration);
+        return safeStorageAccess(() -> openRows(lookupConfiguration))
+            .map(row -> safeStorageAccess(() -> rowMapper.apply(row)))
+            .takeWhile(dataPoint -> restriction.until().map(dataPoint.timestamp()::isBefore).orElse(true))
+            .filter(restriction::matches);
+      };
+    });
+  }
 
-      return loadedData.stream()
-          .map(row -> {
-            Conditions.checkValidIndex(Condition.STATE, row.getFields(), timeIndex, "Time column index '%s' is not valid for row '%s'.", timeIndex,
-                row.toString());
-            Conditions.checkValidIndex(Condition.STATE, row.getFields(), valueIndex, "Value column index '%s' is not valid for row '%s'.", valueIndex,
-                row.toString());
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Rows are parsed straight from the bytes of the file in a single pass, see {@link CsvRecordReader}, with timestamps of common patterns being
+   * parsed without a {@link DateTimeFormatter}, see {@link CsvTimestampParser}. Files whose field separator is not an ASCII character are read
+   * by {@link #load(CsvStorageConfiguration)} and {@link #transform(List, CsvStorageConfiguration)} instead.
+   *
+   * <p>Files of at least {@link #PARALLEL_LOAD_THRESHOLD} bytes are split into chunks, which are parsed in parallel, see {@link CsvParallelLoader}.
+   */
+  @Override
+  public ColumnarTimeSeries loadColumnar(CsvStorageConfiguration lookupConfiguration, CsvStorageConfiguration transformationConfiguration) {
+    var fieldSeparator = lookupConfiguration != null ? lookupConfiguration.getProperty(CsvStorageProperty.FIELD_SEPARATOR, Character.class) : null;
+    if (fieldSeparator != null && !CsvRecordReader.isSupportedSeparator(fieldSeparator)) {
+      return ColumnarTimeSeries.of(transform(load(lookupConfiguration), transformationConfiguration));
+    }
 
-            var dateTime = row.getField(timeIndex);
-            var value = row.getField(valueIndex);
+    return safeStorageAccess(() -> {
+      requireLookupConfiguration(lookupConfiguration);
+      requireTransformationConfiguration(transformationConfiguration);
+      Supplier<CsvParallelLoader.RecordParser> parsers = () -> createRecordParser(transformationConfiguration);
 
-            return DataPoint.of(Instant.from(formatter.parse(dateTime)), Double.parseDouble(value));
-          }).toList();
+      var filePath = Path.of(lookupConfiguration.getProperty(CsvStorageProperty.FILE_PATH, String.class));
+      if (Files.size(filePath) >= PARALLEL_LOAD_THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1) {
+        return new CsvParallelLoader(CsvParallelLoader.DEFAULT_CHUNK_SIZE, CsvRecordReader.DEFAULT_BUFFER_SIZE).load(
+            filePath,
+            lookupConfiguration.getProperty(CsvStorageProperty.FIELD_SEPARATOR, Character.class),
+            lookupConfiguration.getProperty(CsvStorageProperty.SKIP_HEADERS, Integer.class),
+            customEndOfFileMarkers(lookupConfiguration),
+            parsers
+        );
+      }
+
+      var parser = parsers.get();
+      var builder = ColumnarTimeSeries.builder();
+      try (var reader = openRecords(lookupConfiguration)) {
+        var endOfDataReached = false;
+        while (!endOfDataReached && reader.next()) {
+          endOfDataReached = !parser.parse(reader, builder);
+        }
+      }
+      return builder.build();
+    });
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Narrows the time range and the value range of the data points to provide, i.e., the {@link CsvStorageProperty#LOAD_FROM},
+   * {@link CsvStorageProperty#LOAD_UNTIL}, {@link CsvStorageProperty#MIN_VALUE} and {@link CsvStorageProperty#MAX_VALUE} properties of
+   * {@code transformationConfiguration}. Rows are still read up to the first one at or after the end of the time range, but rows outside the
+   * ranges are not turned into data points.
+   */
+  @Override
+  public void pushDown(QueryPushdown pushdown, CsvStorageConfiguration lookupConfiguration, CsvStorageConfiguration transformationConfiguration) {
+    safeStorageAccess(() -> {
+      Conditions.checkNotNull(Condition.ARGUMENT, pushdown, "Pushdown must not be null.");
+      Conditions.checkNotNull(Condition.ARGUMENT, transformationConfiguration, "The transformation configuration must not be null.");
+      narrowTimeRange(pushdown, transformationConfiguration, CsvStorageProperty.LOAD_FROM, CsvStorageProperty.LOAD_UNTIL);
+      narrowValueRange(pushdown, transformationConfiguration, CsvStorageProperty.MIN_VALUE, CsvStorageProperty.MAX_VALUE);
     });
   }
 
@@ -173,6 +239,155 @@ public final class CsvStorageService extends BaseStorageService implements Stora
         .build(Path.of(filePath), StandardCharsets.UTF_8, options);
   }
 
+  private void requireLookupConfiguration(CsvStorageConfiguration lookupConfiguration) {
+    Conditions.checkIsTrue(Condition.STATE, isInitialized(), "CSV service has not been initialized yet. Call initialize() beforehand.");
+    Conditions.checkNotNull(Condition.ARGUMENT, lookupConfiguration, "The lookup configuration must not be null.");
+    requireProperty(lookupConfiguration, CsvStorageProperty.FILE_PATH, LOAD_PROPERTY_REQUIRED);
+    requireProperty(lookupConfiguration, CsvStorageProperty.FIELD_SEPARATOR, LOAD_PROPERTY_REQUIRED);
+    requireProperty(lookupConfiguration, CsvStorageProperty.SKIP_HEADERS, TRANSFORMATION_PROPERTY_REQUIRED);
+
+    var skipHeaders = lookupConfiguration.getProperty(CsvStorageProperty.SKIP_HEADERS, Integer.class);
+    Conditions.checkIsGreaterThanOrEqual(Condition.ARGUMENT,
+        skipHeaders,
+        0,
+        "'%' property ('%s') must be greater than or equal to 0.",
+        CsvStorageProperty.SKIP_HEADERS.name(), CsvStorageProperty.SKIP_HEADERS.identifier());
+  }
+
+  @NotNull
+  CsvRecordReader createRecordReader(String filePath, Character fieldSeparator, int skipHeaders, List<String> customEofs) throws IOException {
+    return new CsvRecordReader(FileChannel.open(Path.of(filePath), StandardOpenOption.READ), fieldSeparator, skipHeaders, customEofs,
+        CsvRecordReader.DEFAULT_BUFFER_SIZE);
+  }
+
+  /**
+   * Opens the records specified by {@code lookupConfiguration}, which are read straight from the bytes of the file.
+   */
+  private CsvRecordReader openRecords(CsvStorageConfiguration lookupConfiguration) throws IOException {
+    return createRecordReader(
+        lookupConfiguration.getProperty(CsvStorageProperty.FILE_PATH, String.class),
+        lookupConfiguration.getProperty(CsvStorageProperty.FIELD_SEPARATOR, Character.class),
+        lookupConfiguration.getProperty(CsvStorageProperty.SKIP_HEADERS, Integer.class),
+        customEndOfFileMarkers(lookupConfiguration)
+    );
+  }
+
+  private static List<String> customEndOfFileMarkers(CsvStorageConfiguration lookupConfiguration) {
+    return lookupConfiguration.isPropertySet(CsvStorageProperty.CUSTOM_EOF_MARKERS)
+        ? List.of(lookupConfiguration.getProperty(CsvStorageProperty.CUSTOM_EOF_MARKERS, String[].class))
+        : List.of();
+  }
+
+  /**
+   * Creates a parser of records read by a {@link CsvRecordReader} into items, which is not thread-safe. Records outside the time range or the
+   * value range of {@code transformationConfiguration} are skipped, the first one at or after the end of the time range ends the data.
+   */
+  private static CsvParallelLoader.RecordParser createRecordParser(CsvStorageConfiguration transformationConfiguration) {
+    var timeIndex = transformationConfiguration.getProperty(CsvStorageProperty.TIME_COLUMN, Integer.class);
+    var valueIndex = transformationConfiguration.getProperty(CsvStorageProperty.VALUE_COLUMN, Integer.class);
+    var timestampParser = new CsvTimestampParser(transformationConfiguration.getProperty(CsvStorageProperty.TIME_FORMAT, String.class));
+
+    // timestamps are parsed at millisecond precision, i.e., the bounds are rounded up to the first millisecond at or after them
+    var restriction = restriction(transformationConfiguration);
+    var fromMillis = restriction.from().map(BaseStorageService::ceilMillis).orElse(Long.MIN_VALUE);
+    var untilMillis = restriction.until().map(BaseStorageService::ceilMillis).orElse(Long.MAX_VALUE);
+    var valueRestricted = restriction.minValue().isPresent() || restriction.maxValue().isPresent();
+    var minValue = restriction.minValue().orElse(Double.NEGATIVE_INFINITY);
+    var maxValue = restriction.maxValue().orElse(Double.POSITIVE_INFINITY);
+
+    return (reader, builder) -> {
+      var bytes = reader.buffer();
+      requireColumn(reader, timeIndex, TIME_COLUMN_INVALID);
+      requireColumn(reader, valueIndex, VALUE_COLUMN_INVALID);
+      var epochMillis = timestampParser.parseEpochMillis(bytes, reader.fieldStart(timeIndex), reader.fieldEnd(timeIndex));
+      if (epochMillis >= untilMillis) {
+        return false;
+      }
+      if (epochMillis < fromMillis) {
+        return true;
+      }
+
+      // comparisons with NaN are false, i.e., NaN values are outside any value range
+      var value = CsvNumberParser.parseDouble(bytes, reader.fieldStart(valueIndex), reader.fieldEnd(valueIndex));
+      if (!valueRestricted || value >= minValue && value <= maxValue) {
+        builder.add(epochMillis, value);
+      }
+      return true;
+    };
+  }
+
+  /**
+   * The data points to provide according to {@code transformationConfiguration}, see {@link CsvStorageProperty#LOAD_FROM},
+   * {@link CsvStorageProperty#LOAD_UNTIL}, {@link CsvStorageProperty#MIN_VALUE} and {@link CsvStorageProperty#MAX_VALUE}.
+   */
+  private static QueryPushdown restriction(CsvStorageConfiguration transformationConfiguration) {
+    return QueryPushdown.of(
+        transformationConfiguration.getProperty(CsvStorageProperty.LOAD_FROM, Instant.class),
+        transformationConfiguration.getProperty(CsvStorageProperty.LOAD_UNTIL, Instant.class),
+        transformationConfiguration.getProperty(CsvStorageProperty.MIN_VALUE, Double.class),
+        transformationConfiguration.getProperty(CsvStorageProperty.MAX_VALUE, Double.class)
+    );
+  }
+
+  private static void requireColumn(CsvRecordReader reader, int index, String messageTemplate) {
+    if (index < 0 || index >= reader.fieldCount()) {
+      throw Conditions.exception(Condition.STATE, messageTemplate, index, reader.recordText());
+    }
+  }
+
+  /**
+   * Opens the rows specified by {@code lookupConfiguration} lazily. Closing the returned stream closes the underlying reader.
+   */
+  private Stream<CsvRow> openRows(CsvStorageConfiguration lookupConfiguration) throws IOException {
+    var skipHeaders = lookupConfiguration.getProperty(CsvStorageProperty.SKIP_HEADERS, Integer.class);
+    var filePath = lookupConfiguration.getProperty(CsvStorageProperty.FILE_PATH, String.class);
+    var fieldSeparator = lookupConfiguration.getProperty(CsvStorageProperty.FIELD_SEPARATOR, Character.class);
+    var customEofsPresent = lookupConfiguration.isPropertySet(CsvStorageProperty.CUSTOM_EOF_MARKERS);
+    var customEofs = customEofsPresent
+        ? Set.of(lookupConfiguration.getProperty(CsvStorageProperty.CUSTOM_EOF_MARKERS, String[].class))
+        : Set.of();
+
+    var csvReader = createReader(filePath, fieldSeparator);
+    return csvReader.stream()
+        .onClose(() -> safeStorageAccess(csvReader::close))
+        .skip(skipHeaders)
+        .takeWhile(p -> !customEofsPresent || !customEofs.contains(String.join(Character.toString(fieldSeparator), p.getFields())));
+  }
+
+  private void requireTransformationConfiguration(CsvStorageConfiguration transformationConfiguration) {
+    Conditions.checkNotNull(Condition.ARGUMENT, transformationConfiguration, "The transformation configuration must not be null.");
+    requireProperty(transformationConfiguration, CsvStorageProperty.VALUE_COLUMN, TRANSFORMATION_PROPERTY_REQUIRED);
+    requireProperty(transformationConfiguration, CsvStorageProperty.TIME_COLUMN, TRANSFORMATION_PROPERTY_REQUIRED);
+    requireProperty(transformationConfiguration, CsvStorageProperty.TIME_FORMAT, TRANSFORMATION_PROPERTY_REQUIRED);
+  }
+
+  /**
+   * Creates a function mapping rows to data points, which is not thread-safe.
+   */
+  private Function<CsvRow, DataPoint> createRowMapper(CsvStorageConfiguration transformationConfiguration) {
+    requireTransformationConfiguration(transformationConfiguration);
+
+    var valueIndex = transformationConfiguration.getProperty(CsvStorageProperty.VALUE_COLUMN, Integer.class);
+    var timeIndex = transformationConfiguration.getProperty(CsvStorageProperty.TIME_COLUMN, Integer.class);
+    var timestampParser = new CsvTimestampParser(transformationConfiguration.getProperty(CsvStorageProperty.TIME_FORMAT, String.class));
+
+    return row -> {
+      // the row is only formatted if it is invalid
+      var fieldCount = row.getFields().size();
+      if (timeIndex < 0 || timeIndex >= fieldCount) {
+        throw Conditions.exception(Condition.STATE, TIME_COLUMN_INVALID, timeIndex, row.toString());
+      }
+      if (valueIndex < 0 || valueIndex >= fieldCount) {
+        throw Conditions.exception(Condition.STATE, VALUE_COLUMN_INVALID, valueIndex, row.toString());
+      }
+
+      var dateTime = row.getField(timeIndex);
+      var value = row.getField(valueIndex);
+
+      return DataPoint.of(timestampParser.parseInstant(dateTime), Double.parseDouble(value));
+    };
+  }
+
   private void requireProperty(CsvStorageConfiguration config, CsvStorageProperty property, String messageTemplate) {
     Conditions.checkIsTrue(Condition.ARGUMENT,
         config.isPropertySet(property),
@@ -0,0 +1,324 @@
+package org.tsdl.storage.csv;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import org.tsdl.infrastructure.common.Condition;
+import org.tsdl.infrastructure.common.Conditions;
+
+/**
+ * Parses timestamps of a {@link DateTimeFormatter} pattern (interpreted in UTC, unless the pattern contains an offset). Patterns made up of
+ * fixed-width numeric fields ({@code yyyy}/{@code uuuu}, {@code MM}, {@code dd}, {@code HH}, {@code mm}, {@code ss}, one to nine {@code S}),
+ * literals and a trailing offset ({@code X}, {@code XX}, {@code XXX}), e.g., ISO-8601 timestamps, are parsed from raw bytes without any
+ * allocation. Any other pattern, as well as every timestamp the specialized parser does not accept (e.g., invalid or unusually formatted dates),
+ * is parsed by the formatter, i.e., results and errors are the ones of {@code Instant.from(formatter.parse(text))}.
+ *
+ * <p>Instances keep the fields of the last parsed timestamp, hence, they must not be shared among threads.
+ */
+final class CsvTimestampParser {
+  private static final int SECONDS_PER_DAY = 86_400;
+  private static final byte DIGIT = 0;
+  private static final int[] NANO_SCALE = {0, 100_000_000, 10_000_000, 1_000_000, 100_000, 10_000, 1_000, 100, 10, 1};
+
+  private enum FieldType {
+    LITERAL, YEAR_OF_ERA, YEAR, MONTH, DAY, HOUR, MINUTE, SECOND, FRACTION, OFFSET
+  }
+
+  private record Field(FieldType type, int width, byte literal) {
+  }
+
+  /**
+   * Fixed-width part of timestamps (i.e., all but the offset), where {@code template} holds the literals and {@link #DIGIT} at the positions of
+   * digits. Positions of absent fields are -1.
+   */
+  private record Layout(byte[] template, boolean yearOfEra, int year, int month, int day, int hour, int minute, int second, int fraction,
+                        int fractionWidth, int offsetWidth) {
+  }
+
+  private final DateTimeFormatter formatter;
+  private final Layout layout;
+
+  // fields of the last timestamp (and offset) parsed by parseSpecialized (and parseOffset)
+  private long epochSecond;
+  private int nano;
+  private int offsetSeconds;
+
+  CsvTimestampParser(String pattern) {
+    Conditions.checkNotNull(Condition.ARGUMENT, pattern, "Timestamp pattern must not be null.");
+    this.formatter = DateTimeFormatter.ofPattern(pattern).withZone(ZoneOffset.UTC);
+    this.layout = compile(pattern);
+  }
+
+  /**
+   * Indicates whether timestamps of the pattern are parsed by the specialized parser (unless they are not accepted by it).
+   */
+  boolean isSpecialized() {
+    return layout != null;
+  }
+
+  /**
+   * Parses the timestamp in the bytes [from, to) of {@code bytes} (encoded in UTF-8) to milliseconds since the epoch.
+   */
+  long parseEpochMillis(byte[] bytes, int from, int to) {
+    if (parseSpecialized(bytes, from, to)) {
+      return epochSecond * 1000 + nano / 1_000_000;
+    }
+    return parseGeneral(new String(bytes, from, to - from, StandardCharsets.UTF_8)).toEpochMilli();
+  }
+
+  /**
+   * Parses {@code text} to an instant.
+   */
+  Instant parseInstant(String text) {
+    var length = text.length();
+    var bytes = new byte[length];
+    for (var i = 0; i < length; i++) {
+      var c = text.charAt(i);
+      // characters beyond ASCII are never accepted by the specialized parser
+      bytes[i] = c < 0x80 ? (byte) c : 0;
+    }
+    return parseSpecialized(bytes, 0, length) ? Instant.ofEpochSecond(epochSecond, nano) : parseGeneral(text);
+  }
+
+  private Instant parseGeneral(String text) {
+    return Instant.from(formatter.parse(text));
+  }
+
+  private boolean parseSpecialized(byte[] bytes, int from, int to) {
+    if (layout == null) {
+      return false;
+    }
+
+    var template = layout.template;
+    var length = template.length;
+    if (to - from < length || (layout.offsetWidth == 0 && to - from != length)) {
+      return false;
+    }
+    for (var i = 0; i < length; i++) {
+      var b = bytes[from + i];
+      var expected = template[i];
+      if (expected == DIGIT ? (b < '0' || b > '9') : b != expected) {
+        return false;
+      }
+    }
+
+    var offset = 0;
+    if (layout.offsetWidth > 0) {
+      if (parseOffset(bytes, from + length, to, layout.offsetWidth) != to) {
+        return false;
+      }
+      offset = offsetSeconds;
+    }
+
+    var year = digits(bytes, from + layout.year, 4);
+    var month = digits(bytes, from + layout.month, 2);
+    var day = digits(bytes, from + layout.day, 2);
+    var hour = digits(bytes, from + layout.hour, 2);
+    var minute = digits(bytes, from + layout.minute, 2);
+    var second = layout.second >= 0 ? digits(bytes, from + layout.second, 2) : 0;
+
+    // values the formatter resolves (e.g., 24:00) or rejects are left to it
+    var validDate = (!layout.yearOfEra || year > 0) && month >= 1 && month <= 12 && day >= 1 && day <= lengthOfMonth(year, month);
+    if (!validDate || hour > 23 || minute > 59 || second > 59) {
+      return false;
+    }
+
+    this.epochSecond = epochDay(year, month, day) * (long) SECONDS_PER_DAY + hour * 3600L + minute * 60L + second - offset;
+    this.nano = layout.fraction >= 0 ? digits(bytes, from + layout.fraction, layout.fractionWidth) * NANO_SCALE[layout.fractionWidth] : 0;
+    return true;
+  }
+
+  /**
+   * Parses an offset of the form 'Z' or '+HH' (width 1 only), '+HHmm' (width 1 or 2) or '+HH:mm' (width 3) starting at {@code from}. Stores the
+   * offset in seconds in {@link #offsetSeconds} and returns the position after it, or -1 if there is none.
+   */
+  private int parseOffset(byte[] bytes, int from, int to, int width) {
+    if (from < to && bytes[from] == 'Z') {
+      this.offsetSeconds = 0;
+      return from + 1;
+    }
+    if (from >= to || (bytes[from] != '+' && bytes[from] != '-')) {
+      return -1;
+    }
+
+    var sign = bytes[from] == '-' ? -1 : 1;
+    var hours = checkedDigits(bytes, from + 1, to, 2);
+    var pos = from + 3;
+    var minutes = 0;
+    if (width == 3) {
+      if (pos >= to || bytes[pos] != ':') {
+        return -1;
+      }
+      minutes = checkedDigits(bytes, pos + 1, to, 2);
+      pos += 3;
+    } else if (width == 2 || pos < to) {
+      minutes = checkedDigits(bytes, pos, to, 2);
+      pos += 2;
+    }
+
+    if (hours < 0 || hours > 18 || minutes < 0 || minutes > 59) {
+      return -1;
+    }
+    this.offsetSeconds = sign * (hours * 3600 + minutes * 60);
+    return pos;
+  }
+
+  /**
+   * Value of the {@code width} digits starting at {@code from}, or -1 if they exceed {@code to} or are not all digits.
+   */
+  private static int checkedDigits(byte[] bytes, int from, int to, int width) {
+    if (from + width > to) {
+      return -1;
+    }
+    for (var i = from; i < from + width; i++) {
+      if (bytes[i] < '0' || bytes[i] > '9') {
+        return -1;
+      }
+    }
+    return digits(bytes, from, width);
+  }
+
+  /**
+   * Value of the {@code width} digits starting at {@code from}, which are known to be digits.
+   */
+  private static int digits(byte[] bytes, int from, int width) {
+    var value = 0;
+    for (var i = from; i < from + width; i++) {
+      value = value * 10 + (bytes[i] - '0');
+    }
+    return value;
+  }
+
+  private static int lengthOfMonth(int year, int month) {
+    return switch (month) {
+      case 2 -> (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+      case 4, 6, 9, 11 -> 30;
+      default -> 31;
+    };
+  }
+
+  /**
+   * Days since 1970-01-01 of the given date of the proleptic Gregorian calendar.
+   */
+  private static int epochDay(int year, int month, int day) {
+    // years have at most four digits, hence, int arithmetic suffices
+    var y = month <= 2 ? year - 1 : year;
+    var era = Math.floorDiv(y, 400);
+    var yearOfEra = y - era * 400;
+    var dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+    var dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+    return era * 146_097 + dayOfEra - 719_468;
+  }
+
+  /**
+   * Translates {@code pattern} into the layout of the timestamps the specialized parser is able to process, or returns null if it is not.
+   */
+  private static Layout compile(String pattern) {
+    var compiled = new ArrayList<Field>();
+    var pos = 0;
+    while (pos < pattern.length()) {
+      var c = pattern.charAt(pos);
+      if (c == '\'') {
+        // text in quotes is a literal, two consecutive quotes denote a quote (inside as well as outside of quoted text)
+        var i = pos + 1;
+        if (i < pattern.length() && pattern.charAt(i) == '\'') {
+          compiled.add(literal('\''));
+          pos = i + 1;
+          continue;
+        }
+        while (i < pattern.length() && (pattern.charAt(i) != '\'' || (i + 1 < pattern.length() && pattern.charAt(i + 1) == '\''))) {
+          compiled.add(literal(pattern.charAt(i)));
+          i += pattern.charAt(i) == '\'' ? 2 : 1;
+        }
+        pos = i + 1;
+        continue;
+      }
+
+      var run = pos + 1;
+      while (run < pattern.length() && pattern.charAt(run) == c) {
+        run++;
+      }
+      var width = run - pos;
+      var field = field(c, width);
+      for (var i = 0; i < (field != null && field.type == FieldType.LITERAL ? width : 1); i++) {
+        compiled.add(field);
+      }
+      pos = run;
+    }
+
+    return !compiled.contains(null) && isComplete(compiled) ? layout(compiled) : null;
+  }
+
+  private static Layout layout(List<Field> fields) {
+    var template = new ArrayList<Byte>();
+    var positions = new EnumMap<FieldType, Integer>(FieldType.class);
+    var fractionWidth = 0;
+    var offsetWidth = 0;
+    for (var field : fields) {
+      switch (field.type) {
+        case LITERAL -> template.add(field.literal);
+        case OFFSET -> offsetWidth = field.width;
+        default -> {
+          positions.put(field.type, template.size());
+          for (var i = 0; i < field.width; i++) {
+            template.add(DIGIT);
+          }
+          if (field.type == FieldType.FRACTION) {
+            fractionWidth = field.width;
+          }
+        }
+      }
+    }
+
+    var templateBytes = new byte[template.size()];
+    for (var i = 0; i < templateBytes.length; i++) {
+      templateBytes[i] = template.get(i);
+    }
+    var yearOfEra = positions.containsKey(FieldType.YEAR_OF_ERA);
+    return new Layout(templateBytes, yearOfEra, positions.get(yearOfEra ? FieldType.YEAR_OF_ERA : FieldType.YEAR), positions.get(FieldType.MONTH),
+        positions.get(FieldType.DAY), positions.get(FieldType.HOUR), positions.get(FieldType.MINUTE), positions.getOrDefault(FieldType.SECOND, -1),
+        positions.getOrDefault(FieldType.FRACTION, -1), fractionWidth, offsetWidth);
+  }
+
+  private static Field field(char c, int width) {
+    return switch (c) {
+      case 'y' -> width == 4 ? new Field(FieldType.YEAR_OF_ERA, 4, (byte) 0) : null;
+      case 'u' -> width == 4 ? new Field(FieldType.YEAR, 4, (byte) 0) : null;
+      case 'M' -> width == 2 ? new Field(FieldType.MONTH, 2, (byte) 0) : null;
+      case 'd' -> width == 2 ? new Field(FieldType.DAY, 2, (byte) 0) : null;
+      case 'H' -> width == 2 ? new Field(FieldType.HOUR, 2, (byte) 0) : null;
+      case 'm' -> width == 2 ? new Field(FieldType.MINUTE, 2, (byte) 0) : null;
+      case 's' -> width == 2 ? new Field(FieldType.SECOND, 2, (byte) 0) : null;
+      case 'S' -> width <= 9 ? new Field(FieldType.FRACTION, width, (byte) 0) : null;
+      case 'X' -> width <= 3 ? new Field(FieldType.OFFSET, width, (byte) 0) : null;
+      // letters and characters reserved for future use by DateTimeFormatter are not supported
+      default -> Character.isLetter(c) || "[]{}#".indexOf(c) >= 0 ? null : literal(c);
+    };
+  }
+
+  private static Field literal(char c) {
+    // NUL is reserved for digits in the template, see Layout
+    return c > 0 && c < 0x80 ? new Field(FieldType.LITERAL, 1, (byte) c) : null;
+  }
+
+  /**
+   * Whether {@code compiled} determines an instant, each field occurring at most once and the offset (if any) being the last field.
+   */
+  private static boolean isComplete(List<Field> compiled) {
+    var types = compiled.stream().map(Field::type).filter(type -> type != FieldType.LITERAL).toList();
+    if (types.size() != types.stream().distinct().count()) {
+      return false;
+    }
+    var offsetIndex = types.indexOf(FieldType.OFFSET);
+    if (offsetIndex >= 0 && offsetIndex != types.size() - 1) {
+      return false;
+    }
+    var hasYear = types.contains(FieldType.YEAR_OF_ERA) ^ types.contains(FieldType.YEAR);
+    return hasYear && types.contains(FieldType.MONTH) && types.contains(FieldType.DAY) && types.contains(FieldType.HOUR)
+        && types.contains(FieldType.MINUTE) && (!types.contains(FieldType.FRACTION) || types.contains(FieldType.SECOND));
+  }
+}
@@ -0,0 +1,46 @@
+package org.tsdl.storage.gorilla;
+
+import org.tsdl.infrastructure.common.Condition;
+import org.tsdl.infrastructure.common.Conditions;
+import org.tsdl.storage.csv.CsvStorageConfiguration;
+import org.tsdl.storage.csv.CsvStorageService;
+
+/**
+ * Converts CSV files into files of {@link GorillaStorageService}, which take a fraction of their size and are no longer parsed whenever they are
+ * loaded.
+ */
+public final class CsvToGorillaConverter {
+  private final CsvStorageService csvStorageService;
+  private final GorillaStorageService gorillaStorageService;
+
+  public CsvToGorillaConverter() {
+    this(new CsvStorageService(), new GorillaStorageService());
+  }
+
+  /**
+   * Initializes a {@link CsvToGorillaConverter} instance.
+   */
+  public CsvToGorillaConverter(CsvStorageService csvStorageService, GorillaStorageService gorillaStorageService) {
+    Conditions.checkNotNull(Condition.ARGUMENT, csvStorageService, "CSV storage service must not be null.");
+    Conditions.checkNotNull(Condition.ARGUMENT, gorillaStorageService, "Gorilla storage service must not be null.");
+    this.csvStorageService = csvStorageService;
+    this.gorillaStorageService = gorillaStorageService;
+  }
+
+  /**
+   * Loads the data points of a CSV file and stores them in a compressed file.
+   *
+   * @param lookupConfiguration         lookup configuration of the CSV file, see {@link CsvStorageService#load(CsvStorageConfiguration)}
+   * @param transformationConfiguration transformation configuration of the CSV file, see
+   *                                    {@link CsvStorageService#transform(java.util.List, CsvStorageConfiguration)}
+   * @param persistConfiguration        persist configuration of the compressed file, see
+   *                                    {@link GorillaStorageService#store(java.util.List, GorillaStorageConfiguration)}
+   * @return number of converted data points
+   */
+  public int convert(CsvStorageConfiguration lookupConfiguration, CsvStorageConfiguration transformationConfiguration,
+                     GorillaStorageConfiguration persistConfiguration) {
+    var series = csvStorageService.loadColumnar(lookupConfiguration, transformationConfiguration);
+    gorillaStorageService.storeColumnar(series, persistConfiguration);
+    return series.size();
+  }
+}
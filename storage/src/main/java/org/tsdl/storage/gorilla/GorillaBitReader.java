@@ -0,0 +1,74 @@
+package org.tsdl.storage.gorilla;
+
+import java.nio.ByteBuffer;
+import org.tsdl.infrastructure.common.Condition;
+import org.tsdl.infrastructure.common.Conditions;
+
+/**
+ * Reads the bits written by a {@link GorillaBitWriter} from a buffer, e.g., a memory mapping of a file, eight bytes at a time if possible.
+ */
+final class GorillaBitReader {
+  private final ByteBuffer bytes;
+  private final int limit;
+  private int position;
+
+  // the 'available' least significant bits of 'bits' are the next ones to read
+  private long bits;
+  private int available;
+
+  /**
+   * Initializes a {@link GorillaBitReader} instance reading the bytes [from, to) of {@code bytes}, which must be big-endian.
+   */
+  GorillaBitReader(ByteBuffer bytes, int from, int to) {
+    this.bytes = bytes;
+    this.position = from;
+    this.limit = to;
+  }
+
+  /**
+   * Reads {@code length} bits, the most significant one first.
+   *
+   * @param length between 1 and 64
+   */
+  long read(int length) {
+    if (length <= available) {
+      available -= length;
+      return (bits >>> available) & mask(length);
+    }
+
+    // the remaining bits of the buffer are taken before readRefilled() replaces them
+    var lowLength = length - available;
+    return ((bits & mask(available)) << lowLength) | readRefilled(lowLength);
+  }
+
+  boolean readBit() {
+    return read(1) != 0;
+  }
+
+  private long readRefilled(int length) {
+    refill();
+    Conditions.checkIsTrue(Condition.STATE, length <= available, "Compressed block ends unexpectedly.");
+    available -= length;
+    return (bits >>> available) & mask(length);
+  }
+
+  private void refill() {
+    if (limit - position >= Long.BYTES) {
+      bits = bytes.getLong(position);
+      position += Long.BYTES;
+      available = Long.SIZE;
+      return;
+    }
+
+    bits = 0;
+    available = 0;
+    while (position < limit) {
+      bits = (bits << 8) | (bytes.get(position++) & 0xFF);
+      available += 8;
+    }
+  }
+
+  private static long mask(int length) {
+    return length == Long.SIZE ? -1L : (1L << length) - 1;
+  }
+}
@@ -0,0 +1,57 @@
+package org.tsdl.storage.gorilla;
+
+import java.util.Arrays;
+
+/**
+ * Appends bits to a growing buffer, the most significant bit of every byte first.
+ */
+final class GorillaBitWriter {
+  private long[] words = new long[16];
+  private int bitCount;
+
+  /**
+   * Appends the {@code length} least significant bits of {@code bits}, the most significant one first.
+   *
+   * @param length between 0 and 64
+   */
+  void write(long bits, int length) {
+    if (length == 0) {
+      return;
+    }
+
+    var word = bitCount >>> 6;
+    var offset = bitCount & 63;
+    if (word + 1 >= words.length) {
+      words = Arrays.copyOf(words, 2 * words.length);
+    }
+
+    var value = length == Long.SIZE ? bits : bits & ((1L << length) - 1);
+    var free = Long.SIZE - offset;
+    if (length <= free) {
+      words[word] |= value << (free - length);
+    } else {
+      words[word] |= value >>> (length - free);
+      words[word + 1] |= value << (Long.SIZE - (length - free));
+    }
+    bitCount += length;
+  }
+
+  void writeBit(boolean bit) {
+    write(bit ? 1 : 0, 1);
+  }
+
+  int bitCount() {
+    return bitCount;
+  }
+
+  /**
+   * The bits written so far, padded with zeros to whole bytes.
+   */
+  byte[] toByteArray() {
+    var bytes = new byte[(bitCount + 7) >>> 3];
+    for (var i = 0; i < bytes.length; i++) {
+      bytes[i] = (byte) (words[i >>> 3] >>> (Long.SIZE - 8 - 8 * (i & 7)));
+    }
+    return bytes;
+  }
+}
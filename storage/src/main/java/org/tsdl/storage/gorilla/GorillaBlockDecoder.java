@@ -0,0 +1,83 @@
+package org.tsdl.storage.gorilla;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Decodes the data points of a block compressed by {@link GorillaBlockEncoder}, one at a time.
+ */
+final class GorillaBlockDecoder {
+  private final GorillaBitReader reader;
+  private final int count;
+  private int index;
+  private long epochMillis;
+  private long delta;
+  private long valueBits;
+  private int leadingZeros;
+  private int trailingZeros;
+
+  /**
+   * Initializes a {@link GorillaBlockDecoder} instance decoding {@code count} data points from the bytes [from, to) of {@code bytes}.
+   */
+  GorillaBlockDecoder(ByteBuffer bytes, int from, int to, int count) {
+    this.reader = new GorillaBitReader(bytes, from, to);
+    this.count = count;
+  }
+
+  /**
+   * Decodes the next data point.
+   *
+   * @return false if all data points of the block have been decoded
+   */
+  boolean next() {
+    if (index == count) {
+      return false;
+    }
+
+    if (index == 0) {
+      epochMillis = reader.read(Long.SIZE);
+      valueBits = reader.read(Long.SIZE);
+    } else {
+      readEpochMillis();
+      readValue();
+    }
+    index++;
+    return true;
+  }
+
+  long epochMillis() {
+    return epochMillis;
+  }
+
+  double value() {
+    return Double.longBitsToDouble(valueBits);
+  }
+
+  private void readEpochMillis() {
+    var buckets = GorillaBlockEncoder.DELTA_OF_DELTA_BITS;
+    var bucket = 0;
+    while (bucket < buckets.length && reader.readBit()) {
+      bucket++;
+    }
+
+    if (bucket > 0) {
+      var bits = buckets[bucket - 1];
+      var raw = reader.read(bits);
+      // sign extension of the two's complement representation
+      delta += (raw << (Long.SIZE - bits)) >> (Long.SIZE - bits);
+    }
+    epochMillis += delta;
+  }
+
+  private void readValue() {
+    if (!reader.readBit()) {
+      return;
+    }
+
+    if (reader.readBit()) {
+      leadingZeros = (int) reader.read(GorillaBlockEncoder.LEADING_ZEROS_BITS);
+      var significantBits = (int) reader.read(GorillaBlockEncoder.SIGNIFICANT_BITS_BITS) + 1;
+      trailingZeros = Long.SIZE - leadingZeros - significantBits;
+    }
+    valueBits ^= reader.read(Long.SIZE - leadingZeros - trailingZeros) << trailingZeros;
+  }
+}
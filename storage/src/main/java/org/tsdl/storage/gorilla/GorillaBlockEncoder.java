@@ -0,0 +1,98 @@
+package org.tsdl.storage.gorilla;
+
+/**
+ * Compresses the data points of a block as proposed by Pelkonen et al. (Gorilla: A Fast, Scalable, In-Memory Time Series Database, 2015). The
+ * first timestamp and value are stored as they are, afterwards:
+ * <ul>
+ *   <li>timestamps are stored as the difference of their delta to the previous delta (delta-of-delta), which is zero for a fixed sampling cadence
+ *   and takes a single bit then. Other differences take 9, 12 or 16 bits if small, 68 bits otherwise.</li>
+ *   <li>values are XOR-ed with the previous value. Equal values take a single bit. Otherwise, only the bits between the leading and trailing zeros
+ *   of the XOR-ed value are stored, reusing the window of the previous value if it covers them.</li>
+ * </ul>
+ * Encoding is lossless, blocks can be decoded independently of each other by {@link GorillaBlockDecoder}.
+ */
+final class GorillaBlockEncoder {
+  static final int LEADING_ZEROS_BITS = 5;
+  static final int SIGNIFICANT_BITS_BITS = 6;
+  static final int MAX_LEADING_ZEROS = (1 << LEADING_ZEROS_BITS) - 1;
+
+  // bit lengths of delta-of-deltas of increasing magnitude, each being preceded by one more control bit than the previous one
+  static final int[] DELTA_OF_DELTA_BITS = {7, 9, 12, Long.SIZE};
+
+  private final GorillaBitWriter writer = new GorillaBitWriter();
+  private int count;
+  private long previousEpochMillis;
+  private long previousDelta;
+  private long previousValueBits;
+  private int previousLeadingZeros = -1;
+  private int previousTrailingZeros;
+
+  void add(long epochMillis, double value) {
+    var valueBits = Double.doubleToRawLongBits(value);
+    if (count == 0) {
+      writer.write(epochMillis, Long.SIZE);
+      writer.write(valueBits, Long.SIZE);
+    } else {
+      writeEpochMillis(epochMillis);
+      writeValue(valueBits);
+    }
+    previousEpochMillis = epochMillis;
+    previousValueBits = valueBits;
+    count++;
+  }
+
+  int count() {
+    return count;
+  }
+
+  byte[] toByteArray() {
+    return writer.toByteArray();
+  }
+
+  private void writeEpochMillis(long epochMillis) {
+    // arithmetic overflows are irrelevant, since decoding overflows the same way
+    var delta = epochMillis - previousEpochMillis;
+    var deltaOfDelta = delta - previousDelta;
+    previousDelta = delta;
+    if (deltaOfDelta == 0) {
+      writer.writeBit(false);
+      return;
+    }
+
+    for (var i = 0; i < DELTA_OF_DELTA_BITS.length; i++) {
+      var bits = DELTA_OF_DELTA_BITS[i];
+      var last = i == DELTA_OF_DELTA_BITS.length - 1;
+      if (last || deltaOfDelta >= -(1L << (bits - 1)) && deltaOfDelta < 1L << (bits - 1)) {
+        // i + 1 ones, followed by a zero unless it is the last bucket
+        writer.write(last ? (1L << (i + 1)) - 1 : ((1L << (i + 1)) - 1) << 1, last ? i + 1 : i + 2);
+        writer.write(deltaOfDelta, bits);
+        return;
+      }
+    }
+  }
+
+  private void writeValue(long valueBits) {
+    var xor = valueBits ^ previousValueBits;
+    if (xor == 0) {
+      writer.writeBit(false);
+      return;
+    }
+    writer.writeBit(true);
+
+    var leadingZeros = Math.min(Long.numberOfLeadingZeros(xor), MAX_LEADING_ZEROS);
+    var trailingZeros = Long.numberOfTrailingZeros(xor);
+    if (previousLeadingZeros >= 0 && leadingZeros >= previousLeadingZeros && trailingZeros >= previousTrailingZeros) {
+      writer.writeBit(false);
+      writer.write(xor >>> previousTrailingZeros, Long.SIZE - previousLeadingZeros - previousTrailingZeros);
+      return;
+    }
+
+    var significantBits = Long.SIZE - leadingZeros - trailingZeros;
+    writer.writeBit(true);
+    writer.write(leadingZeros, LEADING_ZEROS_BITS);
+    writer.write(significantBits - 1, SIGNIFICANT_BITS_BITS);
+    writer.write(xor >>> trailingZeros, significantBits);
+    previousLeadingZeros = leadingZeros;
+    previousTrailingZeros = trailingZeros;
+  }
+}
@@ -0,0 +1,159 @@
+package org.tsdl.storage.gorilla;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import org.tsdl.infrastructure.common.Condition;
+import org.tsdl.infrastructure.common.Conditions;
+
+/**
+ * Layout of the files of {@link GorillaStorageService}. All numbers are big-endian.
+ * <ul>
+ *   <li>File header (16 bytes): magic number "TSDLGOR1", format version (int) and a reserved int</li>
+ *   <li>Blocks, each of which consists of a header (24 bytes), i.e., the number of data points and of compressed bytes (ints) and the minimum and
+ *   maximum timestamp (longs), followed by the data points compressed by {@link GorillaBlockEncoder}</li>
+ *   <li>Footer: an index entry (32 bytes) per block, consisting of its position, its minimum and maximum timestamp (longs), its number of data points
+ *   and of compressed bytes (ints), followed by a trailer (16 bytes): number of blocks (int), format version (int) and magic number.</li>
+ * </ul>
+ *
+ * <p>The index of blocks in the footer allows for determining the blocks overlapping a time range without reading any of them.
+ */
+final class GorillaFileFormat {
+  static final int FILE_HEADER_SIZE = 16;
+  static final int BLOCK_HEADER_SIZE = 24;
+  static final int INDEX_ENTRY_SIZE = 32;
+  static final int TRAILER_SIZE = 16;
+
+  // "TSDLGOR1" in big-endian byte order
+  private static final long MAGIC = 0x5453444C474F5231L;
+  private static final int VERSION = 1;
+
+  private GorillaFileFormat() {
+  }
+
+  static ByteBuffer fileHeader() {
+    return ByteBuffer.allocate(FILE_HEADER_SIZE)
+        .putLong(MAGIC)
+        .putInt(VERSION)
+        .putInt(0)
+        .flip();
+  }
+
+  static ByteBuffer blockHeader(int count, int length, long minEpochMillis, long maxEpochMillis) {
+    return ByteBuffer.allocate(BLOCK_HEADER_SIZE)
+        .putInt(count)
+        .putInt(length)
+        .putLong(minEpochMillis)
+        .putLong(maxEpochMillis)
+        .flip();
+  }
+
+  /**
+   * The index of blocks and the trailer.
+   */
+  static ByteBuffer footer(Footer footer) {
+    var buffer = ByteBuffer.allocate(footer.blockCount() * INDEX_ENTRY_SIZE + TRAILER_SIZE);
+    for (var i = 0; i < footer.blockCount(); i++) {
+      buffer.putLong(footer.positions()[i])
+          .putLong(footer.minEpochMillis()[i])
+          .putLong(footer.maxEpochMillis()[i])
+          .putInt(footer.counts()[i])
+          .putInt(footer.lengths()[i]);
+    }
+    return buffer
+        .putInt(footer.blockCount())
+        .putInt(VERSION)
+        .putLong(MAGIC)
+        .flip();
+  }
+
+  /**
+   * Reads the index of blocks from the footer of a file, verifying its structure.
+   */
+  static Footer readFooter(FileChannel channel) throws IOException {
+    var size = channel.size();
+    Conditions.checkIsGreaterThanOrEqual(Condition.STATE, size, (long) FILE_HEADER_SIZE + TRAILER_SIZE,
+        "File of %s bytes is too small to be a compressed time series file.", size);
+
+    var header = map(channel, 0, FILE_HEADER_SIZE);
+    checkFormat(header.getLong(0), header.getInt(Long.BYTES));
+
+    var trailer = map(channel, size - TRAILER_SIZE, TRAILER_SIZE);
+    checkFormat(trailer.getLong(2 * Integer.BYTES), trailer.getInt(Integer.BYTES));
+    var blockCount = trailer.getInt(0);
+    var footerPosition = size - TRAILER_SIZE - (long) blockCount * INDEX_ENTRY_SIZE;
+    Conditions.checkIsTrue(Condition.STATE, blockCount >= 0 && footerPosition >= FILE_HEADER_SIZE,
+        "File of %s bytes cannot contain %s blocks.", size, blockCount);
+
+    var index = map(channel, footerPosition, blockCount * INDEX_ENTRY_SIZE);
+    var footer = new Footer(blockCount, new long[blockCount], new long[blockCount], new long[blockCount], new int[blockCount], new int[blockCount]);
+    var expectedPosition = (long) FILE_HEADER_SIZE;
+    for (var i = 0; i < blockCount; i++) {
+      var entry = i * INDEX_ENTRY_SIZE;
+      footer.positions()[i] = index.getLong(entry);
+      footer.minEpochMillis()[i] = index.getLong(entry + Long.BYTES);
+      footer.maxEpochMillis()[i] = index.getLong(entry + 2 * Long.BYTES);
+      footer.counts()[i] = index.getInt(entry + 3 * Long.BYTES);
+      footer.lengths()[i] = index.getInt(entry + 3 * Long.BYTES + Integer.BYTES);
+      Conditions.checkIsTrue(Condition.STATE,
+          footer.positions()[i] == expectedPosition && footer.counts()[i] > 0 && footer.lengths()[i] > 0,
+          "Index entry of block %s of file is invalid.", i);
+      expectedPosition += BLOCK_HEADER_SIZE + footer.lengths()[i];
+    }
+    Conditions.checkIsTrue(Condition.STATE, expectedPosition == footerPosition, "Blocks of file do not end at its footer.");
+    return footer;
+  }
+
+  private static ByteBuffer map(FileChannel channel, long position, int size) throws IOException {
+    return channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+  }
+
+  private static void checkFormat(long magic, int version) {
+    Conditions.checkIsTrue(Condition.STATE, magic == MAGIC, "File is not a compressed time series file.");
+    Conditions.checkIsTrue(Condition.STATE, version == VERSION, "Version %s of compressed time series file is not supported.", version);
+  }
+
+  /**
+   * Index of the blocks of a file.
+   */
+  record Footer(int blockCount, long[] positions, long[] minEpochMillis, long[] maxEpochMillis, int[] counts, int[] lengths) {
+    static Footer empty() {
+      return new Footer(0, new long[0], new long[0], new long[0], new int[0], new int[0]);
+    }
+
+    /**
+     * Position of the first byte after the last block, i.e., of the footer.
+     */
+    long blocksEnd() {
+      return blockCount == 0 ? FILE_HEADER_SIZE : positions[blockCount - 1] + BLOCK_HEADER_SIZE + lengths[blockCount - 1];
+    }
+
+    /**
+     * Index of the first block containing a timestamp at or after {@code epochMillis}, or the number of blocks if there is none.
+     */
+    int firstBlockEndingAtOrAfter(long epochMillis) {
+      return firstIndexAtOrAfter(maxEpochMillis, blockCount, epochMillis);
+    }
+
+    /**
+     * Index of the first block containing only timestamps at or after {@code epochMillis}, or the number of blocks if there is none.
+     */
+    int firstBlockStartingAtOrAfter(long epochMillis) {
+      return firstIndexAtOrAfter(minEpochMillis, blockCount, epochMillis);
+    }
+
+    private static int firstIndexAtOrAfter(long[] sorted, int length, long key) {
+      var low = 0;
+      var high = length;
+      while (low < high) {
+        var middle = (low + high) >>> 1;
+        if (sorted[middle] >= key) {
+          high = middle;
+        } else {
+          low = middle + 1;
+        }
+      }
+      return low;
+    }
+  }
+}
@@ -0,0 +1,133 @@
+package org.tsdl.storage.gorilla;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Decodes the data points within a time range from a file of the format described by {@link GorillaFileFormat}, one at a time. Only the blocks
+ * overlapping the time range are read, i.e., mapped into memory and decompressed. Consecutive blocks are mapped together in segments of at most
+ * about 256 MB, which are released once they have been read.
+ */
+final class GorillaFileReader implements Closeable {
+  private static final long MAX_SEGMENT_SIZE = 1L << 28;
+
+  private final FileChannel channel;
+  private final GorillaFileFormat.Footer footer;
+  private final long fromEpochMillis;
+  private final long untilEpochMillis;
+  private final int toBlock;
+  private int nextBlock;
+  private int block = -1;
+
+  private ByteBuffer segment;
+  private long segmentPosition;
+  private long segmentEnd;
+  private GorillaBlockDecoder decoder;
+
+  private GorillaFileReader(FileChannel channel, GorillaFileFormat.Footer footer, long fromEpochMillis, long untilEpochMillis) {
+    this.channel = channel;
+    this.footer = footer;
+    this.fromEpochMillis = fromEpochMillis;
+    this.untilEpochMillis = untilEpochMillis;
+    this.nextBlock = footer.firstBlockEndingAtOrAfter(fromEpochMillis);
+    this.toBlock = untilEpochMillis == Long.MAX_VALUE
+        ? footer.blockCount()
+        : Math.max(nextBlock, footer.firstBlockStartingAtOrAfter(untilEpochMillis));
+  }
+
+  /**
+   * Opens a file for reading the data points whose timestamps are within [fromEpochMillis, untilEpochMillis).
+   */
+  static GorillaFileReader open(Path filePath, long fromEpochMillis, long untilEpochMillis) throws IOException {
+    var channel = FileChannel.open(filePath, StandardOpenOption.READ);
+    try {
+      return new GorillaFileReader(channel, GorillaFileFormat.readFooter(channel), fromEpochMillis, untilEpochMillis);
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Decodes the next data point within the time range.
+   *
+   * @return false if there is none
+   */
+  boolean next() throws IOException {
+    while (true) {
+      if (decoder != null && decoder.next()) {
+        if (decoder.epochMillis() < fromEpochMillis) {
+          continue;
+        }
+        if (decoder.epochMillis() < untilEpochMillis) {
+          return true;
+        }
+        nextBlock = toBlock;
+      }
+
+      decoder = null;
+      if (nextBlock == toBlock) {
+        segment = null;
+        return false;
+      }
+      openBlock(nextBlock++);
+    }
+  }
+
+  long epochMillis() {
+    return decoder.epochMillis();
+  }
+
+  double value() {
+    return decoder.value();
+  }
+
+  /**
+   * Index of the block within the file the current data point belongs to.
+   */
+  int block() {
+    return block;
+  }
+
+  @Override
+  public void close() throws IOException {
+    segment = null;
+    decoder = null;
+    channel.close();
+  }
+
+  private void openBlock(int index) throws IOException {
+    var position = footer.positions()[index];
+    var length = footer.lengths()[index];
+    if (segment == null || position + GorillaFileFormat.BLOCK_HEADER_SIZE + length > segmentEnd) {
+      mapSegment(index);
+    }
+
+    var offset = (int) (position - segmentPosition) + GorillaFileFormat.BLOCK_HEADER_SIZE;
+    decoder = new GorillaBlockDecoder(segment, offset, offset + length, footer.counts()[index]);
+    block = index;
+  }
+
+  /**
+   * Maps as many of the blocks to read, starting with {@code firstBlock}, as fit into a segment, but at least one block.
+   */
+  private void mapSegment(int firstBlock) throws IOException {
+    var start = footer.positions()[firstBlock];
+    var last = firstBlock;
+    while (last + 1 < toBlock && blockEnd(last + 1) - start <= MAX_SEGMENT_SIZE) {
+      last++;
+    }
+
+    segmentPosition = start;
+    segmentEnd = blockEnd(last);
+    segment = channel.map(FileChannel.MapMode.READ_ONLY, segmentPosition, segmentEnd - segmentPosition);
+  }
+
+  private long blockEnd(int index) {
+    return footer.positions()[index] + GorillaFileFormat.BLOCK_HEADER_SIZE + footer.lengths()[index];
+  }
+}
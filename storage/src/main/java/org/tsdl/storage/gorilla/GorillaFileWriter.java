@@ -0,0 +1,92 @@
+package org.tsdl.storage.gorilla;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import org.tsdl.infrastructure.common.Condition;
+import org.tsdl.infrastructure.common.Conditions;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
+
+/**
+ * Writes series to files of the format described by {@link GorillaFileFormat}.
+ */
+final class GorillaFileWriter {
+  private GorillaFileWriter() {
+  }
+
+  /**
+   * Writes a series to a file, which is created if it does not exist yet.
+   *
+   * @param blockCapacity maximum number of data points per block
+   * @param append        whether the series is appended to the data points of an existing file (rather than replacing them), in which case its
+   *                      first timestamp must not precede the last timestamp of the file. Appended data points make up new blocks, which
+   *                      replace the footer of the file, a new footer is written afterwards.
+   */
+  static void write(Path filePath, ColumnarTimeSeries series, int blockCapacity, boolean append) throws IOException {
+    Conditions.checkIsGreaterThan(Condition.ARGUMENT, blockCapacity, 0, "Block capacity must be positive.");
+    try (var channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      GorillaFileFormat.Footer footer;
+      if (append && channel.size() > 0) {
+        footer = GorillaFileFormat.readFooter(channel);
+      } else {
+        channel.truncate(0);
+        footer = GorillaFileFormat.Footer.empty();
+        writeFully(channel, GorillaFileFormat.fileHeader(), 0);
+      }
+
+      var blockCount = footer.blockCount() + (int) ((series.size() + (long) blockCapacity - 1) / blockCapacity);
+      var updatedFooter = new GorillaFileFormat.Footer(
+          blockCount,
+          Arrays.copyOf(footer.positions(), blockCount),
+          Arrays.copyOf(footer.minEpochMillis(), blockCount),
+          Arrays.copyOf(footer.maxEpochMillis(), blockCount),
+          Arrays.copyOf(footer.counts(), blockCount),
+          Arrays.copyOf(footer.lengths(), blockCount)
+      );
+      // the order is verified before anything is written, such that the file remains intact if it is violated
+      var previous = footer.blockCount() > 0 ? footer.maxEpochMillis()[footer.blockCount() - 1] : Long.MIN_VALUE;
+      for (var i = 0; i < series.size(); i++) {
+        var epochMillis = series.epochMillis(i);
+        Conditions.checkIsTrue(Condition.ARGUMENT, epochMillis >= previous,
+            "Items must be added in ascending order of their timestamps, but %s follows %s.", epochMillis, previous);
+        previous = epochMillis;
+      }
+
+      var position = footer.blocksEnd();
+      for (var block = footer.blockCount(); block < blockCount; block++) {
+        var from = (block - footer.blockCount()) * blockCapacity;
+        var to = (int) Math.min((long) from + blockCapacity, series.size());
+
+        var encoder = new GorillaBlockEncoder();
+        for (var i = from; i < to; i++) {
+          encoder.add(series.epochMillis(i), series.value(i));
+        }
+
+        updatedFooter.positions()[block] = position;
+        updatedFooter.minEpochMillis()[block] = series.epochMillis(from);
+        updatedFooter.maxEpochMillis()[block] = series.epochMillis(to - 1);
+        updatedFooter.counts()[block] = to - from;
+        var bytes = encoder.toByteArray();
+        updatedFooter.lengths()[block] = bytes.length;
+        writeFully(channel, GorillaFileFormat.blockHeader(to - from, bytes.length, series.epochMillis(from), series.epochMillis(to - 1)), position);
+        writeFully(channel, ByteBuffer.wrap(bytes), position + GorillaFileFormat.BLOCK_HEADER_SIZE);
+        position += GorillaFileFormat.BLOCK_HEADER_SIZE + bytes.length;
+      }
+
+      var footerBuffer = GorillaFileFormat.footer(updatedFooter);
+      var fileSize = position + footerBuffer.remaining();
+      writeFully(channel, footerBuffer, position);
+      channel.truncate(fileSize);
+    }
+  }
+
+  private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+    var offset = position;
+    while (buffer.hasRemaining()) {
+      offset += channel.write(buffer, offset);
+    }
+  }
+}
@@ -0,0 +1,24 @@
+package org.tsdl.storage.gorilla;
+
+import java.util.List;
+import java.util.Map;
+import org.tsdl.infrastructure.api.EnumStorageConfiguration;
+import org.tsdl.infrastructure.api.StorageProperty;
+
+/**
+ * An {@link EnumStorageConfiguration} for configuring {@link GorillaStorageConfiguration} instances.
+ */
+public final class GorillaStorageConfiguration extends EnumStorageConfiguration {
+  public GorillaStorageConfiguration(Map<StorageProperty, Object> properties) {
+    super(properties);
+  }
+
+  public GorillaStorageConfiguration() {
+    super();
+  }
+
+  @Override
+  public List<StorageProperty> getSupportedProperties() {
+    return List.of(GorillaStorageProperty.values());
+  }
+}
@@ -0,0 +1,69 @@
+package org.tsdl.storage.gorilla;
+
+import java.time.Instant;
+import org.tsdl.infrastructure.api.StorageProperty;
+
+/**
+ * Container for properties belonging to {@link GorillaStorageConfiguration}.
+ */
+public enum GorillaStorageProperty implements StorageProperty {
+  /**
+   * Used by load, store.
+   */
+  FILE_PATH("filePath", String.class),
+
+  /**
+   * Used by store.
+   */
+  APPEND("append", Boolean.class),
+
+  /**
+   * <p>
+   * Used by store.
+   * </p>
+   * <p>
+   * Maximum number of data points per compressed block, defaults to {@link GorillaStorageService#DEFAULT_BLOCK_CAPACITY}. Smaller blocks allow
+   * for skipping more data when loading a time range, larger ones compress slightly better.
+   * </p>
+   */
+  BLOCK_CAPACITY("blockCapacity", Integer.class),
+
+  /**
+   * <p>
+   * Used by load.
+   * </p>
+   * <p>
+   * If present, only data points at or after this instant are loaded.
+   * </p>
+   */
+  LOAD_FROM("loadFrom", Instant.class),
+
+  /**
+   * <p>
+   * Used by load.
+   * </p>
+   * <p>
+   * If present, only data points before this instant are loaded.
+   * </p>
+   */
+  LOAD_UNTIL("loadUntil", Instant.class);
+
+  private final String identifier;
+
+  private final Class<?> type;
+
+  GorillaStorageProperty(String identifier, Class<?> type) {
+    this.identifier = identifier;
+    this.type = type;
+  }
+
+  @Override
+  public String identifier() {
+    return identifier;
+  }
+
+  @Override
+  public Class<?> type() {
+    return type;
+  }
+}
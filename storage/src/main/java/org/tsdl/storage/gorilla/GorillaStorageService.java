@@ -0,0 +1,232 @@
+package org.tsdl.storage.gorilla;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.StreamSupport;
+import org.tsdl.infrastructure.api.ColumnarStorageService;
+import org.tsdl.infrastructure.api.PushdownStorageService;
+import org.tsdl.infrastructure.api.StorageService;
+import org.tsdl.infrastructure.api.StreamingStorageService;
+import org.tsdl.infrastructure.common.Condition;
+import org.tsdl.infrastructure.common.Conditions;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
+import org.tsdl.infrastructure.model.DataPoint;
+import org.tsdl.infrastructure.model.DataPointSource;
+import org.tsdl.infrastructure.model.QueryPushdown;
+import org.tsdl.infrastructure.model.impl.ChunkedColumnarTimeSeries;
+import org.tsdl.storage.BaseStorageService;
+
+/**
+ * An implementation of {@link StorageService} for a storage mechanism targeting compressed files, see {@link GorillaFileFormat}. Data points are
+ * stored in independently decodable blocks, in which timestamps (epoch milliseconds) are encoded as deltas of deltas and values as the XOR with
+ * their predecessor, see {@link GorillaBlockEncoder}. Regular series thus take about one to two bytes per data point, rather than 16 bytes in
+ * binary or about 30 bytes in CSV form. An index of the time ranges of the blocks allows for reading only the blocks overlapping the time range
+ * to load.
+ *
+ * <p>{@link #load(GorillaStorageConfiguration)} returns the (loaded parts of the) blocks as separate series, {@link #stream} decodes data points
+ * while they are consumed.
+ */
+public final class GorillaStorageService extends BaseStorageService implements StorageService<ColumnarTimeSeries, GorillaStorageConfiguration>,
+    ColumnarStorageService<GorillaStorageConfiguration>, StreamingStorageService<GorillaStorageConfiguration>,
+    PushdownStorageService<GorillaStorageConfiguration> {
+  public static final String STORE_PROPERTY_REQUIRED = "'%s' property ('%s') is required to store data with the gorilla storage service.";
+  public static final String LOAD_PROPERTY_REQUIRED = "'%s' property ('%s') is required to load data with the gorilla storage service.";
+
+  /**
+   * Maximum number of data points per block of files written by {@link #store(List, GorillaStorageConfiguration)}, unless configured otherwise.
+   */
+  public static final int DEFAULT_BLOCK_CAPACITY = 1 << 10;
+
+  @Override
+  public void initialize(GorillaStorageConfiguration serviceConfiguration) {
+    // no initialization needed
+  }
+
+  @Override
+  public boolean isInitialized() {
+    return true;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Timestamps are stored with millisecond precision. Appended data points make up new blocks, i.e., the last block of the file is not
+   * recompressed.
+   */
+  @Override
+  public void store(List<DataPoint> data, GorillaStorageConfiguration persistConfiguration) {
+    safeStorageAccess(() -> {
+      Conditions.checkNotNull(Condition.ARGUMENT, data, "Data to store must not be null.");
+      storeSeries(ColumnarTimeSeries.of(data), persistConfiguration);
+    });
+  }
+
+  /**
+   * Stores a series like {@link #store(List, GorillaStorageConfiguration)}, without creating data points.
+   */
+  public void storeColumnar(ColumnarTimeSeries data, GorillaStorageConfiguration persistConfiguration) {
+    safeStorageAccess(() -> {
+      Conditions.checkNotNull(Condition.ARGUMENT, data, "Data to store must not be null.");
+      storeSeries(data, persistConfiguration);
+    });
+  }
+
+  @Override
+  public List<ColumnarTimeSeries> load(GorillaStorageConfiguration lookupConfiguration) {
+    return safeStorageAccess(() -> {
+      var blocks = new ArrayList<ColumnarTimeSeries>();
+      try (var reader = openReader(lookupConfiguration)) {
+        var block = -1;
+        ChunkedColumnarTimeSeries.Builder builder = null;
+        while (reader.next()) {
+          if (reader.block() != block) {
+            if (builder != null) {
+              blocks.add(builder.build());
+            }
+            block = reader.block();
+            builder = ColumnarTimeSeries.builder();
+          }
+          builder.add(reader.epochMillis(), reader.value());
+        }
+        if (builder != null) {
+          blocks.add(builder.build());
+        }
+      }
+      return blocks;
+    });
+  }
+
+  @Override
+  public List<DataPoint> transform(List<ColumnarTimeSeries> loadedData, GorillaStorageConfiguration transformationConfiguration) {
+    return safeStorageAccess(() -> {
+      Conditions.checkNotNull(Condition.ARGUMENT, transformationConfiguration, "The transformation configuration must not be null.");
+      Conditions.checkNotNull(Condition.ARGUMENT, loadedData, "Data to transform must not be null.");
+      return loadedData.stream()
+          .flatMap(block -> block.asDataPoints().stream())
+          .toList();
+    });
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Data points are decoded straight into the columns of the returned series.
+   */
+  @Override
+  public ColumnarTimeSeries loadColumnar(GorillaStorageConfiguration lookupConfiguration, GorillaStorageConfiguration transformationConfiguration) {
+    return safeStorageAccess(() -> {
+      Conditions.checkNotNull(Condition.ARGUMENT, transformationConfiguration, "The transformation configuration must not be null.");
+      var builder = ColumnarTimeSeries.builder();
+      try (var reader = openReader(lookupConfiguration)) {
+        while (reader.next()) {
+          builder.add(reader.epochMillis(), reader.value());
+        }
+      }
+      return builder.build();
+    });
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Every pass over the returned source reads the file anew, decoding one block at a time. Configurations are validated eagerly, whereas
+   * errors while reading the file surface as {@link org.tsdl.storage.TsdlStorageException} during the pass.
+   */
+  @Override
+  public DataPointSource stream(GorillaStorageConfiguration lookupConfiguration, GorillaStorageConfiguration transformationConfiguration) {
+    return safeStorageAccess(() -> {
+      Conditions.checkNotNull(Condition.ARGUMENT, transformationConfiguration, "The transformation configuration must not be null.");
+      loadRange(lookupConfiguration);
+      return (DataPointSource) () -> {
+        var reader = safeStorageAccess(() -> openReader(lookupConfiguration));
+        var dataPoints = new Spliterators.AbstractSpliterator<DataPoint>(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+          @Override
+          public boolean tryAdvance(Consumer<? super DataPoint> action) {
+            if (!safeStorageAccess(reader::next)) {
+              return false;
+            }
+            action.accept(DataPoint.of(Instant.ofEpochMilli(reader.epochMillis()), reader.value()));
+            return true;
+          }
+        };
+        return StreamSupport.stream(dataPoints, false).onClose(() -> safeStorageAccess(reader::close));
+      };
+    });
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Narrows the {@link GorillaStorageProperty#LOAD_FROM} and {@link GorillaStorageProperty#LOAD_UNTIL} properties of {@code lookupConfiguration}.
+   * Value bounds are not pushed down, since blocks are decoded as a whole anyway.
+   */
+  @Override
+  public void pushDown(QueryPushdown pushdown, GorillaStorageConfiguration lookupConfiguration,
+                       GorillaStorageConfiguration transformationConfiguration) {
+    safeStorageAccess(() -> {
+      Conditions.checkNotNull(Condition.ARGUMENT, pushdown, "Pushdown must not be null.");
+      Conditions.checkNotNull(Condition.ARGUMENT, lookupConfiguration, "The lookup configuration must not be null.");
+      narrowTimeRange(pushdown, lookupConfiguration, GorillaStorageProperty.LOAD_FROM, GorillaStorageProperty.LOAD_UNTIL);
+    });
+  }
+
+  @Override
+  public void close() {
+    // nothing to do, all closable resources are closed upon usage
+  }
+
+  private void storeSeries(ColumnarTimeSeries data, GorillaStorageConfiguration persistConfiguration) throws IOException {
+    Conditions.checkNotNull(Condition.ARGUMENT, persistConfiguration, "The persist configuration must not be null.");
+    requireProperty(persistConfiguration, GorillaStorageProperty.FILE_PATH, STORE_PROPERTY_REQUIRED);
+    requireProperty(persistConfiguration, GorillaStorageProperty.APPEND, STORE_PROPERTY_REQUIRED);
+
+    var blockCapacity = persistConfiguration.isPropertySet(GorillaStorageProperty.BLOCK_CAPACITY)
+        ? persistConfiguration.getProperty(GorillaStorageProperty.BLOCK_CAPACITY, Integer.class)
+        : DEFAULT_BLOCK_CAPACITY;
+    GorillaFileWriter.write(
+        Path.of(persistConfiguration.getProperty(GorillaStorageProperty.FILE_PATH, String.class)),
+        data,
+        blockCapacity,
+        Boolean.TRUE.equals(persistConfiguration.getProperty(GorillaStorageProperty.APPEND, Boolean.class))
+    );
+  }
+
+  private GorillaFileReader openReader(GorillaStorageConfiguration lookupConfiguration) throws IOException {
+    var range = loadRange(lookupConfiguration);
+    var filePath = Path.of(lookupConfiguration.getProperty(GorillaStorageProperty.FILE_PATH, String.class));
+    return GorillaFileReader.open(filePath, range.fromEpochMillis(), range.untilEpochMillis());
+  }
+
+  /**
+   * Validates {@code lookupConfiguration} and determines the time range [from, until) of the data points to load.
+   */
+  private LoadRange loadRange(GorillaStorageConfiguration lookupConfiguration) {
+    Conditions.checkNotNull(Condition.ARGUMENT, lookupConfiguration, "The lookup configuration must not be null.");
+    requireProperty(lookupConfiguration, GorillaStorageProperty.FILE_PATH, LOAD_PROPERTY_REQUIRED);
+
+    // timestamps are stored in milliseconds, i.e., the bounds are rounded up to the first millisecond at or after them
+    var fromMillis = lookupConfiguration.isPropertySet(GorillaStorageProperty.LOAD_FROM)
+        ? ceilMillis(lookupConfiguration.getProperty(GorillaStorageProperty.LOAD_FROM, Instant.class))
+        : Long.MIN_VALUE;
+    var untilMillis = lookupConfiguration.isPropertySet(GorillaStorageProperty.LOAD_UNTIL)
+        ? ceilMillis(lookupConfiguration.getProperty(GorillaStorageProperty.LOAD_UNTIL, Instant.class))
+        : Long.MAX_VALUE;
+    return new LoadRange(fromMillis, untilMillis);
+  }
+
+  private void requireProperty(GorillaStorageConfiguration config, GorillaStorageProperty property, String messageTemplate) {
+    Conditions.checkIsTrue(Condition.ARGUMENT,
+        config.isPropertySet(property),
+        messageTemplate,
+        property.name(), property.identifier());
+  }
+
+  private record LoadRange(long fromEpochMillis, long untilEpochMillis) {
+  }
+}
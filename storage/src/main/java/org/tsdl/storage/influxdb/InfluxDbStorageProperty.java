@@ -42,6 +42,18 @@ public enum InfluxDbStorageProperty implements StorageProperty {
    */
   LOAD_UNTIL("loadUntil", Instant.class),
 
+  /**
+   * Used by load.
+   * If present (and {@link #BUCKET} rather than {@link #QUERY} is set), only records whose value is at least this value are queried.
+   */
+  MIN_VALUE("minValue", Double.class),
+
+  /**
+   * Used by load.
+   * If present (and {@link #BUCKET} rather than {@link #QUERY} is set), only records whose value is at most this value are queried.
+   */
+  MAX_VALUE("maxValue", Double.class),
+
   /**
    * <p>
    * Used by transform.
@@ -51,7 +63,18 @@ public enum InfluxDbStorageProperty implements StorageProperty {
    * >= 0: index of table to take values from
    * </p>
    */
-  TABLE_INDEX("tableIndex", Integer.class);
+  TABLE_INDEX("tableIndex", Integer.class),
+
+  /**
+   * <p>
+   * Used by transformSeries.
+   * </p>
+   * <p>
+   * Columns whose values identify the series of a table, e.g., tags. Defaults to the group key of the table, except for the '_start' and '_stop'
+   * columns.
+   * </p>
+   */
+  SERIES_KEY("seriesKey", String[].class);
 
   private final String identifier;
 
@@ -3,22 +3,35 @@ package org.tsdl.storage.influxdb;
 import com.influxdb.client.InfluxDBClient;
 import com.influxdb.client.InfluxDBClientFactory;
 import com.influxdb.client.QueryApi;
+import com.influxdb.query.FluxColumn;
 import com.influxdb.query.FluxTable;
 import java.time.Instant;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.tsdl.infrastructure.api.MultiSeriesStorageService;
+import org.tsdl.infrastructure.api.PushdownStorageService;
 import org.tsdl.infrastructure.api.StorageService;
 import org.tsdl.infrastructure.common.Condition;
 import org.tsdl.infrastructure.common.Conditions;
 import org.tsdl.infrastructure.model.DataPoint;
+import org.tsdl.infrastructure.model.QueryPushdown;
 import org.tsdl.storage.BaseStorageService;
 
 /**
  * An implementation of {@link StorageService} for a storage mechanism targeting data deposited in an InfluxDB instance.
  */
-public final class InfluxDbStorageService extends BaseStorageService implements StorageService<FluxTable, InfluxDbStorageConfiguration> {
+public final class InfluxDbStorageService extends BaseStorageService
+    implements StorageService<FluxTable, InfluxDbStorageConfiguration>, MultiSeriesStorageService<FluxTable, InfluxDbStorageConfiguration>,
+    PushdownStorageService<InfluxDbStorageConfiguration> {
 
   // influx uses rfc3339 timestamps (https://docs.influxdata.com/flux/v0.x/data-types/basic/time/#time-syntax)
   private static final DateTimeFormatter INFLUX_TIME_FORMATTER = DateTimeFormatter.ISO_INSTANT;
@@ -29,11 +42,18 @@ public final class InfluxDbStorageService extends BaseStorageService implements
   public static final String TRANSFORMATION_PROPERTY_REQUIRED =
       "'%s' property ('%s') is required to transform data loaded by the InfluxDB storage service into data points.";
 
+  // columns of the group key which do not identify a series, but the range of the query
+  private static final Set<String> RANGE_COLUMNS = Set.of("_start", "_stop");
+
   private static final String LOAD_RANGE_QUERY_TEMPLATE = """
       from(bucket: "%s")
         |> range(start: time(v: "%s"), stop: time(v: "%s"))
       """;
 
+  private static final String VALUE_FILTER_TEMPLATE = """
+        |> filter(fn: (r) => %s)
+      """;
+
   InfluxDBClient dbClient;
 
   QueryApi queryApi;
@@ -88,10 +108,16 @@ public final class InfluxDbStorageService extends BaseStorageService implements
       if (lookupConfiguration.isPropertySet(InfluxDbStorageProperty.QUERY)) {
         query = lookupConfiguration.getProperty(InfluxDbStorageProperty.QUERY, String.class);
       } else {
+        var from = lookupConfiguration.getProperty(InfluxDbStorageProperty.LOAD_FROM, Instant.class);
+        var until = lookupConfiguration.getProperty(InfluxDbStorageProperty.LOAD_UNTIL, Instant.class);
+        if (!from.isBefore(until)) {
+          // InfluxDB rejects empty ranges, e.g., ranges narrowed to nothing by a pushdown
+          return List.of();
+        }
+
         var bucket = lookupConfiguration.getProperty(InfluxDbStorageProperty.BUCKET, String.class);
-        var from = INFLUX_TIME_FORMATTER.format(lookupConfiguration.getProperty(InfluxDbStorageProperty.LOAD_FROM, Instant.class));
-        var to = INFLUX_TIME_FORMATTER.format(lookupConfiguration.getProperty(InfluxDbStorageProperty.LOAD_UNTIL, Instant.class));
-        query = LOAD_RANGE_QUERY_TEMPLATE.formatted(bucket, from, to);
+        query = LOAD_RANGE_QUERY_TEMPLATE.formatted(bucket, INFLUX_TIME_FORMATTER.format(from), INFLUX_TIME_FORMATTER.format(until))
+            + valueFilter(lookupConfiguration);
       }
 
       return queryApi.query(query);
@@ -122,6 +148,83 @@ public final class InfluxDbStorageService extends BaseStorageService implements
     });
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Each table holds the data points of one series, identified by the values of the {@link InfluxDbStorageProperty#SERIES_KEY} columns of its
+   * records, e.g., 'host=a,sensor=temperature'. If the key has no columns, the index of the table identifies the series. Tables with the same
+   * identifier (e.g., because the key is a subset of their group key) are merged into one series. {@link InfluxDbStorageProperty#TABLE_INDEX} is
+   * optional, by default, all tables are transformed.
+   */
+  @Override
+  public Map<String, List<DataPoint>> transformSeries(List<FluxTable> loadedData, InfluxDbStorageConfiguration transformationConfiguration) {
+    return safeStorageAccess(() -> {
+      Conditions.checkNotNull(Condition.ARGUMENT, transformationConfiguration, "The transformation configuration must not be null.");
+      Conditions.checkNotNull(Condition.ARGUMENT, loadedData, "Data to transform must not be null.");
+
+      var tableIndex = transformationConfiguration.isPropertySet(InfluxDbStorageProperty.TABLE_INDEX)
+          ? transformationConfiguration.getProperty(InfluxDbStorageProperty.TABLE_INDEX, Integer.class)
+          : -1;
+      if (tableIndex != -1) {
+        Conditions.checkValidIndex(Condition.ARGUMENT,
+            loadedData,
+            tableIndex,
+            "Index of table to transform into data points must be within range (0..%s).",
+            loadedData.size() - 1);
+      }
+      var seriesKey = transformationConfiguration.isPropertySet(InfluxDbStorageProperty.SERIES_KEY)
+          ? List.of(transformationConfiguration.getProperty(InfluxDbStorageProperty.SERIES_KEY, String[].class))
+          : null;
+
+      var series = new LinkedHashMap<String, List<DataPoint>>();
+      var mergedSeries = new HashSet<String>();
+      for (var i = 0; i < loadedData.size(); i++) {
+        var table = loadedData.get(i);
+        if (tableIndex != -1 && i != tableIndex || table.getRecords().isEmpty()) {
+          continue;
+        }
+
+        var seriesId = seriesIdentifier(table, i, seriesKey);
+        var dataPoints = transformInfluxDbRecords(table).toList();
+        var previousDataPoints = series.putIfAbsent(seriesId, dataPoints);
+        if (previousDataPoints != null) {
+          var merged = new ArrayList<>(previousDataPoints);
+          merged.addAll(dataPoints);
+          series.put(seriesId, merged);
+          mergedSeries.add(seriesId);
+        }
+      }
+
+      for (var seriesId : mergedSeries) {
+        series.get(seriesId).sort(Comparator.comparing(DataPoint::timestamp));
+      }
+      return series;
+    });
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>If data is loaded by {@link InfluxDbStorageProperty#BUCKET}, the queried time range ({@link InfluxDbStorageProperty#LOAD_FROM} and
+   * {@link InfluxDbStorageProperty#LOAD_UNTIL}) and value range ({@link InfluxDbStorageProperty#MIN_VALUE} and
+   * {@link InfluxDbStorageProperty#MAX_VALUE}) of {@code lookupConfiguration} are narrowed, i.e., InfluxDB omits the remaining records.
+   * Configurations specifying a {@link InfluxDbStorageProperty#QUERY} are left unchanged, since arbitrary Flux queries are not rewritten.
+   */
+  @Override
+  public void pushDown(QueryPushdown pushdown, InfluxDbStorageConfiguration lookupConfiguration,
+                       InfluxDbStorageConfiguration transformationConfiguration) {
+    safeStorageAccess(() -> {
+      Conditions.checkNotNull(Condition.ARGUMENT, pushdown, "Pushdown must not be null.");
+      Conditions.checkNotNull(Condition.ARGUMENT, lookupConfiguration, "The lookup configuration must not be null.");
+      if (lookupConfiguration.isPropertySet(InfluxDbStorageProperty.QUERY)) {
+        return;
+      }
+
+      narrowTimeRange(pushdown, lookupConfiguration, InfluxDbStorageProperty.LOAD_FROM, InfluxDbStorageProperty.LOAD_UNTIL);
+      narrowValueRange(pushdown, lookupConfiguration, InfluxDbStorageProperty.MIN_VALUE, InfluxDbStorageProperty.MAX_VALUE);
+    });
+  }
+
   @Override
   public void close() {
     if (dbClient != null) {
@@ -140,6 +243,37 @@ public final class InfluxDbStorageService extends BaseStorageService implements
     queryApi = dbClient.getQueryApi();
   }
 
+  /**
+   * Flux filter of the records within the value range of {@code lookupConfiguration}, or an empty string if there is none. Values are compared as
+   * floats, such that integer fields are compared numerically as well.
+   */
+  private static String valueFilter(InfluxDbStorageConfiguration lookupConfiguration) {
+    var minValue = lookupConfiguration.getProperty(InfluxDbStorageProperty.MIN_VALUE, Double.class);
+    var maxValue = lookupConfiguration.getProperty(InfluxDbStorageProperty.MAX_VALUE, Double.class);
+    var predicates = Stream.of(
+            minValue != null ? "float(v: r._value) >= float(v: \"%s\")".formatted(minValue) : null,
+            maxValue != null ? "float(v: r._value) <= float(v: \"%s\")".formatted(maxValue) : null
+        )
+        .filter(Objects::nonNull)
+        .toList();
+    return predicates.isEmpty() ? "" : VALUE_FILTER_TEMPLATE.formatted(String.join(" and ", predicates));
+  }
+
+  private static String seriesIdentifier(FluxTable table, int tableIndex, List<String> seriesKey) {
+    var columns = seriesKey != null
+        ? seriesKey
+        : table.getGroupKey().stream().map(FluxColumn::getLabel).filter(label -> !RANGE_COLUMNS.contains(label)).toList();
+    if (columns.isEmpty()) {
+      return String.valueOf(tableIndex);
+    }
+
+    // all records of a table share the values of its group key
+    var firstRecord = table.getRecords().get(0);
+    return columns.stream()
+        .map(column -> "%s=%s".formatted(column, firstRecord.getValueByKey(column)))
+        .collect(Collectors.joining(","));
+  }
+
   private Stream<DataPoint> transformInfluxDbRecords(FluxTable recordStream) {
     return recordStream.getRecords().stream()
         .map(dataRecord -> DataPoint.of(
@@ -0,0 +1,268 @@
+package org.tsdl.storage.binary;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
+import org.tsdl.infrastructure.model.DataPoint;
+import org.tsdl.infrastructure.model.QueryPushdown;
+import org.tsdl.storage.TsdlStorageException;
+import org.tsdl.storage.csv.CsvStorageConfiguration;
+import org.tsdl.storage.csv.CsvStorageProperty;
+
+class BinaryStorageServiceTest {
+  private final BinaryStorageService service = new BinaryStorageService();
+
+  @TempDir
+  private Path directory;
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 15, 16, 17, 100})
+  void store_anyNumberOfDataPoints_loadReturnsThemInBlocks(int count) {
+    var data = dataPoints(0, count);
+
+    service.store(data, persistConfiguration(false, 16));
+    var blocks = service.load(lookupConfiguration(null, null));
+
+    assertThat(blocks).hasSize((count + 15) / 16);
+    assertThat(blocks).allSatisfy(block -> assertThat(block.size()).isBetween(1, 16));
+    assertThat(service.transform(blocks, new BinaryStorageConfiguration())).isEqualTo(data);
+  }
+
+  @ParameterizedTest
+  @CsvSource({"0,1", "5,11", "16,16", "10,40", "1,0"})
+  void store_appendTwice_fileContainsEntireContent(int firstCount, int secondCount) {
+    var first = dataPoints(0, firstCount);
+    var second = dataPoints(firstCount, secondCount);
+
+    service.store(first, persistConfiguration(false, 16));
+    service.store(second, persistConfiguration(true, 64));
+
+    var loaded = service.loadColumnar(lookupConfiguration(null, null), new BinaryStorageConfiguration());
+    assertThat(loaded.asDataPoints()).isEqualTo(dataPoints(0, firstCount + secondCount));
+    assertThat(service.load(lookupConfiguration(null, null))).hasSize((firstCount + secondCount + 15) / 16);
+  }
+
+  @Test
+  void store_withoutAppend_replacesContent() {
+    service.store(dataPoints(0, 40), persistConfiguration(false, 16));
+    service.store(dataPoints(100, 3), persistConfiguration(false, 4));
+
+    var loaded = service.loadColumnar(lookupConfiguration(null, null), new BinaryStorageConfiguration());
+
+    assertThat(loaded.asDataPoints()).isEqualTo(dataPoints(100, 3));
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      "0,100,0,100",
+      "10,20,10,20",
+      "15,17,15,17",
+      "16,32,16,32",
+      "-50,5,0,5",
+      "95,1000,95,100",
+      "30,30,30,30",
+      "40,10,40,40",
+      "200,300,100,100"
+  })
+  void loadColumnar_timeRange_returnsDataPointsWithinRange(int fromSecond, int untilSecond, int expectedFrom, int expectedUntil) {
+    service.store(dataPoints(0, 100), persistConfiguration(false, 16));
+
+    var loaded = service.loadColumnar(lookupConfiguration(Instant.ofEpochSecond(fromSecond), Instant.ofEpochSecond(untilSecond)),
+        new BinaryStorageConfiguration());
+
+    assertThat(loaded.asDataPoints()).isEqualTo(dataPoints(expectedFrom, expectedUntil - expectedFrom));
+  }
+
+  @Test
+  void load_timeRange_returnsOverlappingBlocksOnly() {
+    service.store(dataPoints(0, 100), persistConfiguration(false, 16));
+
+    var blocks = service.load(lookupConfiguration(Instant.ofEpochSecond(20), Instant.ofEpochSecond(50)));
+
+    assertThat(blocks).extracting(ColumnarTimeSeries::size).containsExactly(12, 16, 2);
+    assertThat(service.transform(blocks, new BinaryStorageConfiguration())).isEqualTo(dataPoints(20, 30));
+  }
+
+  @Test
+  void loadColumnar_subMillisecondBounds_roundsUpToMilliseconds() {
+    service.store(List.of(DataPoint.of(Instant.ofEpochMilli(1), 1.0), DataPoint.of(Instant.ofEpochMilli(2), 2.0)), persistConfiguration(false, 16));
+
+    var loaded = service.loadColumnar(lookupConfiguration(Instant.ofEpochSecond(0, 1_000_001), Instant.ofEpochSecond(0, 2_000_001)),
+        new BinaryStorageConfiguration());
+
+    assertThat(loaded.asDataPoints()).containsExactly(DataPoint.of(Instant.ofEpochMilli(2), 2.0));
+  }
+
+  @Test
+  void loadColumnar_copyColumns_equalsElementWiseAccess() {
+    service.store(dataPoints(0, 50), persistConfiguration(false, 8));
+    var loaded = service.loadColumnar(lookupConfiguration(Instant.ofEpochSecond(3), null), new BinaryStorageConfiguration());
+
+    var epochMillis = new long[loaded.size() + 2];
+    var values = new double[loaded.size() + 2];
+    loaded.copyEpochMillis(1, loaded.size(), epochMillis, 2);
+    loaded.copyValues(1, loaded.size(), values, 2);
+
+    for (var i = 1; i < loaded.size(); i++) {
+      assertThat(epochMillis[i + 1]).isEqualTo(loaded.epochMillis(i));
+      assertThat(values[i + 1]).isEqualTo(loaded.value(i));
+    }
+  }
+
+  @Test
+  void pushDown_timeRange_loadsIntersectionWithConfiguredRange() {
+    service.store(dataPoints(0, 100), persistConfiguration(false, 16));
+    var lookup = lookupConfiguration(Instant.ofEpochSecond(10), Instant.ofEpochSecond(60));
+
+    service.pushDown(QueryPushdown.of(Instant.ofEpochSecond(20), Instant.ofEpochSecond(80), 1.0, null), lookup, new BinaryStorageConfiguration());
+
+    assertThat(service.loadColumnar(lookup, new BinaryStorageConfiguration()).asDataPoints()).isEqualTo(dataPoints(20, 40));
+  }
+
+  @Test
+  void pushDown_emptyTimeRange_loadsNothing() {
+    service.store(dataPoints(0, 100), persistConfiguration(false, 16));
+    var lookup = lookupConfiguration(null, null);
+
+    service.pushDown(QueryPushdown.of(Instant.EPOCH, Instant.EPOCH, null, null), lookup, new BinaryStorageConfiguration());
+
+    assertThat(service.load(lookup)).isEmpty();
+    assertThat(service.loadColumnar(lookup, new BinaryStorageConfiguration()).isEmpty()).isTrue();
+  }
+
+  @Test
+  void store_descendingTimestamps_throws() {
+    var data = List.of(DataPoint.of(Instant.ofEpochSecond(2), 1.0), DataPoint.of(Instant.ofEpochSecond(1), 1.0));
+
+    assertThatThrownBy(() -> service.store(data, persistConfiguration(false, 16)))
+        .isInstanceOf(TsdlStorageException.class)
+        .hasCauseInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void store_appendPrecedingTimestamps_throwsAndRetainsFile() throws IOException {
+    service.store(dataPoints(10, 20), persistConfiguration(false, 16));
+    var content = Files.readAllBytes(filePath());
+
+    assertThatThrownBy(() -> service.store(dataPoints(0, 5), persistConfiguration(true, 16)))
+        .isInstanceOf(TsdlStorageException.class)
+        .hasCauseInstanceOf(IllegalArgumentException.class);
+    assertThat(Files.readAllBytes(filePath())).isEqualTo(content);
+  }
+
+  @Test
+  void store_appendPrecedingTimestampsInLaterBlock_throwsAndRetainsFile() throws IOException {
+    service.store(dataPoints(0, 16), persistConfiguration(false, 16));
+    var content = Files.readAllBytes(filePath());
+    var appended = new ArrayList<>(dataPoints(16, 40));
+    // the 21st appended data point precedes its predecessor, i.e., the first appended block is valid, the second one is not
+    appended.set(20, DataPoint.of(Instant.ofEpochSecond(30), 0.0));
+
+    assertThatThrownBy(() -> service.store(appended, persistConfiguration(true, 16)))
+        .isInstanceOf(TsdlStorageException.class)
+        .hasCauseInstanceOf(IllegalArgumentException.class);
+    assertThat(Files.readAllBytes(filePath())).isEqualTo(content);
+    assertThat(service.load(lookupConfiguration(null, null))).singleElement().extracting(ColumnarTimeSeries::size).isEqualTo(16);
+  }
+
+  @Test
+  void store_unorderedReplacement_throwsAndRetainsFile() throws IOException {
+    service.store(dataPoints(0, 16), persistConfiguration(false, 16));
+    var content = Files.readAllBytes(filePath());
+
+    assertThatThrownBy(() -> service.store(List.of(dataPoints(5, 1).get(0), dataPoints(0, 1).get(0)), persistConfiguration(false, 16)))
+        .isInstanceOf(TsdlStorageException.class)
+        .hasCauseInstanceOf(IllegalArgumentException.class);
+    assertThat(Files.readAllBytes(filePath())).isEqualTo(content);
+  }
+
+  @Test
+  void store_invalidBlockCapacity_throws() {
+    assertThatThrownBy(() -> service.store(dataPoints(0, 5), persistConfiguration(false, 12)))
+        .isInstanceOf(TsdlStorageException.class)
+        .hasCauseInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void load_noBinaryFile_throws() throws IOException {
+    Files.writeString(filePath(), "time;value\n2023-01-01 00:00:00;1.0\n");
+
+    assertThatThrownBy(() -> service.load(lookupConfiguration(null, null)))
+        .isInstanceOf(TsdlStorageException.class)
+        .hasCauseInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void load_missingFilePath_throws() {
+    assertThatThrownBy(() -> service.load(new BinaryStorageConfiguration()))
+        .isInstanceOf(TsdlStorageException.class)
+        .hasCauseInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void convert_csvFile_equalsCsvData() throws IOException {
+    var csvFile = directory.resolve("data.csv");
+    Files.writeString(csvFile, "time;value\n" + IntStream.range(0, 50)
+        .mapToObj(i -> "1970-01-01 00:%02d:%02d;%s\n".formatted(i / 60, i % 60, i * 1.5))
+        .reduce("", String::concat));
+    var lookup = new CsvStorageConfiguration(Map.of(
+        CsvStorageProperty.FILE_PATH, csvFile.toString(),
+        CsvStorageProperty.FIELD_SEPARATOR, ';',
+        CsvStorageProperty.SKIP_HEADERS, 1
+    ));
+    var transformation = new CsvStorageConfiguration(Map.of(
+        CsvStorageProperty.TIME_COLUMN, 0,
+        CsvStorageProperty.VALUE_COLUMN, 1,
+        CsvStorageProperty.TIME_FORMAT, "yyyy-MM-dd HH:mm:ss"
+    ));
+
+    var converted = new CsvToBinaryConverter().convert(lookup, transformation, persistConfiguration(false, 16));
+
+    assertThat(converted).isEqualTo(50);
+    var loaded = service.loadColumnar(lookupConfiguration(null, null), new BinaryStorageConfiguration());
+    assertThat(loaded.asDataPoints()).isEqualTo(IntStream.range(0, 50).mapToObj(i -> DataPoint.of(Instant.ofEpochSecond(i), i * 1.5)).toList());
+  }
+
+  private static List<DataPoint> dataPoints(int firstSecond, int count) {
+    return IntStream.range(firstSecond, firstSecond + count)
+        .mapToObj(second -> DataPoint.of(Instant.ofEpochSecond(second), second / 4.0))
+        .toList();
+  }
+
+  private Path filePath() {
+    return directory.resolve("data.bin");
+  }
+
+  private BinaryStorageConfiguration persistConfiguration(boolean append, int blockCapacity) {
+    return new BinaryStorageConfiguration(Map.of(
+        BinaryStorageProperty.FILE_PATH, filePath().toString(),
+        BinaryStorageProperty.APPEND, append,
+        BinaryStorageProperty.BLOCK_CAPACITY, blockCapacity
+    ));
+  }
+
+  private BinaryStorageConfiguration lookupConfiguration(Instant from, Instant until) {
+    var configuration = new BinaryStorageConfiguration(Map.of(BinaryStorageProperty.FILE_PATH, filePath().toString()));
+    if (from != null) {
+      configuration.setProperty(BinaryStorageProperty.LOAD_FROM, from);
+    }
+    if (until != null) {
+      configuration.setProperty(BinaryStorageProperty.LOAD_UNTIL, until);
+    }
+    return configuration;
+  }
+}
@@ -0,0 +1,55 @@
+package org.tsdl.storage.csv;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class CsvNumberParserTest {
+  @Test
+  void parseDouble_randomNumbers_equalsDoubleParseDouble() {
+    var random = new Random(17);
+    for (var i = 0; i < 100_000; i++) {
+      var value = switch (i % 4) {
+        case 0 -> random.nextGaussian() * Math.pow(10, random.nextInt(-8, 12));
+        case 1 -> Math.round(random.nextDouble() * 1_000_000) / 1000.0;
+        case 2 -> Double.longBitsToDouble(random.nextLong());
+        default -> random.nextInt(-1000, 1000);
+      };
+      for (var text : new String[] {Double.toString(value), String.format(Locale.ROOT, "%.6f", value), String.format(Locale.ROOT, "%.3e", value)}) {
+        assertParsedLikeDoubleParseDouble(text);
+      }
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "0", "-0", "-0.0", "+1.5", " 42.125 ", "007", ".5", "5.", "1e22", "1e23", "1.5E-22", "1.5e-23", "123456789012345", "1234567890123456",
+      "0.000000000000000000000000001", "9007199254740993", "2.2250738585072014E-308", "4.9e-324", "1.7976931348623157e308", "NaN", "-Infinity",
+      "1d", "0x1p3"
+  })
+  void parseDouble_specialNumbers_equalsDoubleParseDouble(String text) {
+    assertParsedLikeDoubleParseDouble(text);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"", " ", "-", ".", "1e", "1e+", "1.2.3", "1,5", "abc", "1-"})
+  void parseDouble_invalidNumbers_throwsLikeDoubleParseDouble(String text) {
+    var bytes = text.getBytes(StandardCharsets.UTF_8);
+
+    assertThatThrownBy(() -> CsvNumberParser.parseDouble(bytes, 0, bytes.length)).isInstanceOf(NumberFormatException.class);
+  }
+
+  private static void assertParsedLikeDoubleParseDouble(String text) {
+    var bytes = ("x" + text + "x").getBytes(StandardCharsets.UTF_8);
+
+    var parsed = CsvNumberParser.parseDouble(bytes, 1, bytes.length - 1);
+
+    assertThat(Double.doubleToRawLongBits(parsed)).as(text).isEqualTo(Double.doubleToRawLongBits(Double.parseDouble(text)));
+  }
+}
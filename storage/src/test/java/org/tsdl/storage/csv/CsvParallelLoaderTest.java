@@ -0,0 +1,172 @@
+package org.tsdl.storage.csv;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
+
+class CsvParallelLoaderTest {
+  private static final String TIME_FORMAT = "yyyy-MM-dd HH:mm:ss.SSS";
+  private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern(TIME_FORMAT).withZone(ZoneOffset.UTC);
+
+  @TempDir
+  private Path directory;
+
+  @ParameterizedTest
+  @ValueSource(longs = {5, 100, 4096, 1 << 20})
+  void load_quotedMultiLineFields_equalsSequentialRead(long chunkSize) throws IOException {
+    var file = write(randomContent(new Random(chunkSize), 1000, false) + "CustomEOF\nnot;a;record\n");
+
+    var loaded = new CsvParallelLoader(chunkSize, 64).load(file, ';', 2, List.of("CustomEOF"), CsvParallelLoaderTest::parser);
+
+    assertThat(loaded.size()).isEqualTo(1000);
+    assertSeriesEqual(loaded, readSequentially(file, 2, List.of("CustomEOF")));
+  }
+
+  @ParameterizedTest
+  @ValueSource(longs = {1, 13, 500})
+  void load_literalQuotesWithinUnquotedFields_equalsSequentialRead(long chunkSize) throws IOException {
+    var file = write(randomContent(new Random(chunkSize), 500, true));
+
+    var loaded = new CsvParallelLoader(chunkSize, 64).load(file, ';', 2, List.of(), CsvParallelLoaderTest::parser);
+
+    assertThat(loaded.size()).isEqualTo(500);
+    assertSeriesEqual(loaded, readSequentially(file, 2, List.of()));
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 5})
+  void load_noRecordsAfterHeaders_isEmpty(int skipHeaders) throws IOException {
+    var file = write(skipHeaders == 0 ? "" : "time;value\r\n");
+
+    var loaded = new CsvParallelLoader(1, 64).load(file, ';', skipHeaders, List.of(), CsvParallelLoaderTest::parser);
+
+    assertThat(loaded.isEmpty()).isTrue();
+  }
+
+  @Test
+  void load_invalidRecordAfterEndOfFileMarker_isIgnored() throws IOException {
+    var file = write(String.join("\n", records(0, 200)) + "\nEOF\ninvalid;record\n" + String.join("\n", records(0, 200)));
+
+    var loaded = new CsvParallelLoader(64, 64).load(file, ';', 0, List.of("EOF"), CsvParallelLoaderTest::parser);
+
+    assertSeriesEqual(loaded, readSequentially(file, 0, List.of("EOF")));
+  }
+
+  @ParameterizedTest
+  @ValueSource(longs = {1, 64, 1 << 20})
+  void load_parserEndsData_ignoresSucceedingRecords(long chunkSize) throws IOException {
+    var file = write(String.join("\n", records(0, 400)) + "\n;invalid\n" + String.join("\n", records(0, 10)));
+
+    var loaded = new CsvParallelLoader(chunkSize, 64).load(file, ';', 0, List.of(), () -> parser(300_000));
+
+    assertThat(loaded.size()).isEqualTo(300);
+    assertThat(loaded.epochMillis(loaded.size() - 1)).isEqualTo(299_000);
+  }
+
+  @Test
+  void load_invalidRecord_throwsFirstErrorOfFile() throws IOException {
+    var file = write(String.join("\n", records(0, 200)) + "\ninvalid;1.0\n" + String.join("\n", records(200, 200)) + "\n;invalid\n");
+
+    assertThatThrownBy(() -> new CsvParallelLoader(64, 64).load(file, ';', 0, List.of(), CsvParallelLoaderTest::parser))
+        .isInstanceOf(DateTimeParseException.class)
+        .hasMessageContaining("invalid");
+  }
+
+  @Test
+  void load_descendingTimestampsAcrossChunks_throws() throws IOException {
+    var file = write(String.join("\n", records(1000, 100)) + "\n" + String.join("\n", records(0, 100)));
+
+    assertThatThrownBy(() -> new CsvParallelLoader(64, 64).load(file, ';', 0, List.of(), CsvParallelLoaderTest::parser))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("ascending order");
+  }
+
+  private static CsvParallelLoader.RecordParser parser() {
+    return parser(Long.MAX_VALUE);
+  }
+
+  /**
+   * Parser ending the data at the first record at or after {@code untilMillis}.
+   */
+  private static CsvParallelLoader.RecordParser parser(long untilMillis) {
+    var timestampParser = new CsvTimestampParser(TIME_FORMAT);
+    return (reader, builder) -> {
+      var epochMillis = timestampParser.parseEpochMillis(reader.buffer(), reader.fieldStart(0), reader.fieldEnd(0));
+      if (epochMillis >= untilMillis) {
+        return false;
+      }
+      builder.add(epochMillis, CsvNumberParser.parseDouble(reader.buffer(), reader.fieldStart(1), reader.fieldEnd(1)));
+      return true;
+    };
+  }
+
+  private static List<String> records(int firstSecond, int count) {
+    return IntStream.range(firstSecond, firstSecond + count)
+        .mapToObj(second -> FORMATTER.format(Instant.ofEpochSecond(second)) + ";" + second / 2.0)
+        .toList();
+  }
+
+  /**
+   * Two header records (the first spanning multiple lines), followed by records whose comments contain quotes, separators and line breaks.
+   */
+  private static String randomContent(Random random, int records, boolean literalQuotes) {
+    var content = new StringBuilder("\"time\nof day\";\"value\"\r\ntime;value;comment\n");
+    for (var i = 0; i < records; i++) {
+      content.append(FORMATTER.format(Instant.ofEpochMilli(1_600_000_000_000L + 1000L * i))).append(';').append(random.nextInt(1000) / 8.0);
+      switch (random.nextInt(5)) {
+        case 0 -> content.append(";\"multi\nline \"\"comment\"\"; with\r\nseparator\"");
+        case 1 -> content.append(literalQuotes ? ";5\" pipe" : ";plain");
+        case 2 -> content.append(";\"\"");
+        default -> {
+          // no comment
+        }
+      }
+      content.append(random.nextBoolean() ? "\n" : "\r\n");
+      if (random.nextInt(10) == 0) {
+        content.append('\n');
+      }
+    }
+    return content.toString();
+  }
+
+  private Path write(String content) throws IOException {
+    return Files.writeString(directory.resolve("data.csv"), content, StandardCharsets.UTF_8);
+  }
+
+  private static ColumnarTimeSeries readSequentially(Path file, int skipHeaders, List<String> endOfFileMarkers) throws IOException {
+    var parser = parser();
+    var builder = ColumnarTimeSeries.builder();
+    try (var reader = new CsvRecordReader(FileChannel.open(file, StandardOpenOption.READ), ';', skipHeaders, endOfFileMarkers, 64)) {
+      while (reader.next()) {
+        parser.parse(reader, builder);
+      }
+    }
+    return builder.build();
+  }
+
+  private static void assertSeriesEqual(ColumnarTimeSeries actual, ColumnarTimeSeries expected) {
+    assertThat(actual.size()).isEqualTo(expected.size());
+    for (var i = 0; i < expected.size(); i++) {
+      assertThat(actual.epochMillis(i)).as("timestamp %s", i).isEqualTo(expected.epochMillis(i));
+      assertThat(actual.value(i)).as("value %s", i).isEqualTo(expected.value(i));
+    }
+  }
+}
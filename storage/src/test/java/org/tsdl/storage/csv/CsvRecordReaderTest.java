@@ -0,0 +1,108 @@
+package org.tsdl.storage.csv;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.siegmar.fastcsv.reader.CsvReader;
+import de.siegmar.fastcsv.reader.CsvRow;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class CsvRecordReaderTest {
+  private static final String CONTENT = """
+      "time";"value";"comment"\r
+      2023-01-01 00:00:00;1.5;plain\r
+      \r
+      2023-01-01 00:01:00;"2.5";"with ""quotes"" and ; separator"
+      2023-01-01 00:02:00;3.5;"multi\r
+      line"\r2023-01-01 00:03:00;4.5;trailing "quote" literal
+      "";;
+      CustomEOF
+      2023-01-01 00:04:00;5.5;after eof""";
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 2, 3, 7, 64, CsvRecordReader.DEFAULT_BUFFER_SIZE})
+  void next_anyBufferSize_readsRecordsUpToEndOfFileMarker(int bufferSize) throws IOException {
+    var records = readAll(CONTENT, 1, List.of("CustomEOF"), bufferSize);
+
+    assertThat(records).containsExactly(
+        List.of("2023-01-01 00:00:00", "1.5", "plain"),
+        List.of("2023-01-01 00:01:00", "2.5", "with \"quotes\" and ; separator"),
+        List.of("2023-01-01 00:02:00", "3.5", "multi\r\nline"),
+        List.of("2023-01-01 00:03:00", "4.5", "trailing \"quote\" literal"),
+        List.of("", "", "")
+    );
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 5, 4096})
+  void next_noEndOfFileMarkers_readsRecordsLikeFastCsv(int bufferSize) throws IOException {
+    var records = readAll(CONTENT, 0, List.of(), bufferSize);
+
+    try (var fastCsvReader = CsvReader.builder().fieldSeparator(';').skipEmptyRows(true).build(CONTENT)) {
+      assertThat(records).isEqualTo(fastCsvReader.stream().map(CsvRow::getFields).toList());
+    }
+    assertThat(records).hasSize(8);
+    assertThat(records.get(0)).containsExactly("time", "value", "comment");
+    assertThat(records.get(6)).containsExactly("CustomEOF");
+    assertThat(records.get(7)).containsExactly("2023-01-01 00:04:00", "5.5", "after eof");
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {3, 100})
+  void next_randomRecords_equalsJoinedFields(int bufferSize) throws IOException {
+    var random = new Random(bufferSize);
+    var expected = new ArrayList<List<String>>();
+    var content = new StringBuilder();
+    for (var i = 0; i < 2000; i++) {
+      var fields = new ArrayList<String>();
+      for (var j = 0; j < 1 + random.nextInt(4); j++) {
+        fields.add(Long.toString(random.nextLong(), 36) + (random.nextInt(5) == 0 ? ",\"\n" : ""));
+      }
+      expected.add(fields);
+      content.append(fields.stream().map(field -> field.contains("\"") ? "\"" + field.replace("\"", "\"\"") + "\"" : field)
+              .collect(Collectors.joining(",")))
+          .append(random.nextBoolean() ? "\n" : "\r\n");
+    }
+
+    var records = new ArrayList<List<String>>();
+    try (var reader = reader(content.toString(), ',', 0, List.of(), bufferSize)) {
+      while (reader.next()) {
+        records.add(fields(reader));
+      }
+    }
+
+    assertThat(records).isEqualTo(expected);
+  }
+
+  private static List<List<String>> readAll(String content, int skipRecords, List<String> endOfFileMarkers, int bufferSize) throws IOException {
+    var records = new ArrayList<List<String>>();
+    try (var reader = reader(content, ';', skipRecords, endOfFileMarkers, bufferSize)) {
+      while (reader.next()) {
+        records.add(fields(reader));
+      }
+      assertThat(reader.next()).isFalse();
+    }
+    return records;
+  }
+
+  private static CsvRecordReader reader(String content, char separator, int skipRecords, List<String> endOfFileMarkers, int bufferSize) {
+    var channel = Channels.newChannel(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+    return new CsvRecordReader(channel, separator, skipRecords, endOfFileMarkers, bufferSize);
+  }
+
+  private static List<String> fields(CsvRecordReader reader) {
+    var fields = new ArrayList<String>();
+    for (var i = 0; i < reader.fieldCount(); i++) {
+      fields.add(new String(reader.buffer(), reader.fieldStart(i), reader.fieldEnd(i) - reader.fieldStart(i), StandardCharsets.UTF_8));
+    }
+    return fields;
+  }
+}
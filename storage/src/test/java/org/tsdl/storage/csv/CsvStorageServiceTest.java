@@ -23,9 +23,13 @@ import java.util.Map;
 import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
 import org.tsdl.infrastructure.model.DataPoint;
+import org.tsdl.infrastructure.model.QueryPushdown;
 import org.tsdl.storage.TsdlStorageException;
 
 @Slf4j
@@ -275,6 +279,227 @@ class CsvStorageServiceTest {
         DateTimeParseException.class);
   }
 
+  @ParameterizedTest
+  @MethodSource("org.tsdl.storage.csv.stub.CsvStorageTestDataFactory#fiveCsvRows")
+  void stream_skipFirstRowAndcustomEndOfFileMarker_equalsLoadAndTransformOnEveryPass(List<List<Object>> persistedData) throws IOException {
+    var lookupConfig = new CsvStorageConfiguration(
+        Map.of(
+            CsvStorageProperty.FILE_PATH, "/some/path",
+            CsvStorageProperty.FIELD_SEPARATOR, ';',
+            CsvStorageProperty.SKIP_HEADERS, 1,
+            CsvStorageProperty.CUSTOM_EOF_MARKERS, new String[] {"#TSDL Query Evaluation Logs", "CustomEOF"}
+        )
+    );
+    var transformationConfig = new CsvStorageConfiguration(
+        Map.of(
+            CsvStorageProperty.VALUE_COLUMN, 1,
+            CsvStorageProperty.TIME_COLUMN, 2,
+            CsvStorageProperty.TIME_FORMAT, "MM/dd/yyyy HH:mm:ss"
+        )
+    );
+    var expected = executeLoadTransformTest(persistedData, new CsvStorageConfiguration(), lookupConfig, transformationConfig, false);
+    var service = getCsvStorageServiceSpy(persistedData);
+
+    var source = service.stream(lookupConfig, transformationConfig);
+
+    assertThat(source.isReplayable()).isTrue();
+    for (var pass = 0; pass < 2; pass++) {
+      try (var dataPoints = source.open()) {
+        assertThat(dataPoints.toList()).isEqualTo(expected);
+      }
+    }
+  }
+
+  @ParameterizedTest
+  @MethodSource("org.tsdl.storage.csv.stub.CsvStorageTestDataFactory#threeCsvRows")
+  void stream_invalidTimeFormat_throwsWhileConsuming(List<List<Object>> persistedData) throws IOException {
+    var lookupConfig = new CsvStorageConfiguration(Map.of(
+        CsvStorageProperty.FILE_PATH, "/mnt/path/to/file",
+        CsvStorageProperty.SKIP_HEADERS, 0,
+        CsvStorageProperty.FIELD_SEPARATOR, ','
+    ));
+    var transformationConfig = new CsvStorageConfiguration(Map.of(
+        CsvStorageProperty.VALUE_COLUMN, 1,
+        CsvStorageProperty.TIME_COLUMN, 2,
+        CsvStorageProperty.TIME_FORMAT, "MM/dd/yyyy HH:mm"
+    ));
+    var service = getCsvStorageServiceSpy(persistedData);
+
+    var source = service.stream(lookupConfig, transformationConfig);
+
+    assertThatThrownBy(() -> {
+      try (var dataPoints = source.open()) {
+        dataPoints.toList();
+      }
+    }).isInstanceOf(TsdlStorageException.class)
+        .hasCauseInstanceOf(DateTimeParseException.class);
+  }
+
+  @Test
+  void stream_missingTransformationProperty_throwsEagerly() {
+    var service = new CsvStorageService();
+    var lookupConfig = new CsvStorageConfiguration(Map.of(
+        CsvStorageProperty.FILE_PATH, "/some/path",
+        CsvStorageProperty.SKIP_HEADERS, 0,
+        CsvStorageProperty.FIELD_SEPARATOR, ','
+    ));
+    var transformationConfig = new CsvStorageConfiguration(Map.of(
+        CsvStorageProperty.VALUE_COLUMN, 1
+    ));
+
+    assertThatThrownBy(() -> service.stream(lookupConfig, transformationConfig))
+        .isInstanceOf(TsdlStorageException.class)
+        .hasCauseInstanceOf(IllegalArgumentException.class);
+  }
+
+  @ParameterizedTest
+  @ValueSource(chars = {';', '§'})
+  void loadColumnar_skipFirstRowAndCustomEndOfFileMarker_equalsLoadAndTransform(char separator, @TempDir Path directory) throws IOException {
+    var file = directory.resolve("series.csv");
+    Files.writeString(file, """
+        "value";"time"\r
+        1.0;2023-01-01 00:00:00.125\r
+        "-2.5";"2023-01-01 00:00:01.000"\r
+        \r
+        3.5e2;2023-01-01 00:01:00.999
+        #TSDL Query Evaluation Logs
+        4.0;2023-01-01 00:02:00.000
+        """.replace(';', separator));
+    var lookupConfig = new CsvStorageConfiguration(Map.of(
+        CsvStorageProperty.FILE_PATH, file.toString(),
+        CsvStorageProperty.FIELD_SEPARATOR, separator,
+        CsvStorageProperty.SKIP_HEADERS, 1,
+        CsvStorageProperty.CUSTOM_EOF_MARKERS, new String[] {"#TSDL Query Evaluation Logs", "CustomEOF"}
+    ));
+    var transformationConfig = new CsvStorageConfiguration(Map.of(
+        CsvStorageProperty.VALUE_COLUMN, 0,
+        CsvStorageProperty.TIME_COLUMN, 1,
+        CsvStorageProperty.TIME_FORMAT, "yyyy-MM-dd HH:mm:ss.SSS"
+    ));
+    var service = new CsvStorageService();
+    var expected = ColumnarTimeSeries.of(service.transform(service.load(lookupConfig), transformationConfig));
+
+    var series = service.loadColumnar(lookupConfig, transformationConfig);
+
+    assertThat(series.size()).isEqualTo(3).isEqualTo(expected.size());
+    for (var i = 0; i < series.size(); i++) {
+      assertThat(series.epochMillis(i)).isEqualTo(expected.epochMillis(i));
+      assertThat(series.value(i)).isEqualTo(expected.value(i));
+    }
+    assertThat(series.timestamp(0)).isEqualTo(Instant.parse("2023-01-01T00:00:00.125Z"));
+    assertThat(series.value(2)).isEqualTo(350.0);
+  }
+
+  @ParameterizedTest
+  @ValueSource(chars = {';', '§'})
+  void pushDown_timeAndValueRange_everyAccessReturnsMatchingDataPoints(char separator, @TempDir Path directory) throws IOException {
+    var file = directory.resolve("series.csv");
+    Files.writeString(file, """
+        1.0;2023-01-01 00:00:00.000
+        NaN;2023-01-01 00:00:01.000
+        -2.5;2023-01-01 00:00:02.000
+        3.5;2023-01-01 00:00:03.000
+        9.0;2023-01-01 00:00:04.000
+        4.0;2023-01-01 00:00:05.000
+        5.0;2023-01-01 00:00:06.000
+        """.replace(';', separator));
+    var lookupConfig = new CsvStorageConfiguration(Map.of(
+        CsvStorageProperty.FILE_PATH, file.toString(),
+        CsvStorageProperty.FIELD_SEPARATOR, separator,
+        CsvStorageProperty.SKIP_HEADERS, 0
+    ));
+    var transformationConfig = new CsvStorageConfiguration(Map.of(
+        CsvStorageProperty.VALUE_COLUMN, 0,
+        CsvStorageProperty.TIME_COLUMN, 1,
+        CsvStorageProperty.TIME_FORMAT, "yyyy-MM-dd HH:mm:ss.SSS",
+        CsvStorageProperty.MAX_VALUE, 8.0
+    ));
+    var service = new CsvStorageService();
+
+    service.pushDown(QueryPushdown.of(Instant.parse("2023-01-01T00:00:00.500Z"), Instant.parse("2023-01-01T00:00:06Z"), 0.0, 10.0),
+        lookupConfig, transformationConfig);
+
+    var expected = List.of(
+        DataPoint.of(Instant.parse("2023-01-01T00:00:03Z"), 3.5),
+        DataPoint.of(Instant.parse("2023-01-01T00:00:05Z"), 4.0)
+    );
+    assertThat(transformationConfig.getProperty(CsvStorageProperty.MAX_VALUE, Double.class)).isEqualTo(8.0);
+    assertThat(service.transform(service.load(lookupConfig), transformationConfig)).isEqualTo(expected);
+    assertThat(service.loadColumnar(lookupConfig, transformationConfig).asDataPoints()).isEqualTo(expected);
+    try (var dataPoints = service.stream(lookupConfig, transformationConfig).open()) {
+      assertThat(dataPoints.toList()).isEqualTo(expected);
+    }
+  }
+
+  @Test
+  void loadColumnar_loadUntil_stopsReadingAtFirstLaterRow(@TempDir Path directory) throws IOException {
+    var file = directory.resolve("series.csv");
+    Files.writeString(file, "2023-01-01 00:00:00;1.0\n2023-01-01 00:00:01;2.0\n2023-01-01 00:00:02;3.0\ninvalid;row\n");
+    var lookupConfig = new CsvStorageConfiguration(Map.of(
+        CsvStorageProperty.FILE_PATH, file.toString(),
+        CsvStorageProperty.FIELD_SEPARATOR, ';',
+        CsvStorageProperty.SKIP_HEADERS, 0
+    ));
+    var transformationConfig = new CsvStorageConfiguration(Map.of(
+        CsvStorageProperty.VALUE_COLUMN, 1,
+        CsvStorageProperty.TIME_COLUMN, 0,
+        CsvStorageProperty.TIME_FORMAT, "yyyy-MM-dd HH:mm:ss",
+        CsvStorageProperty.LOAD_UNTIL, Instant.parse("2023-01-01T00:00:02Z")
+    ));
+    var service = new CsvStorageService();
+
+    var series = service.loadColumnar(lookupConfig, transformationConfig);
+
+    assertThat(series.asDataPoints()).containsExactly(
+        DataPoint.of(Instant.parse("2023-01-01T00:00:00Z"), 1.0),
+        DataPoint.of(Instant.parse("2023-01-01T00:00:01Z"), 2.0)
+    );
+    try (var dataPoints = service.stream(lookupConfig, transformationConfig).open()) {
+      assertThat(dataPoints.toList()).isEqualTo(series.asDataPoints());
+    }
+  }
+
+  @Test
+  void loadColumnar_missingValueColumn_throws(@TempDir Path directory) throws IOException {
+    var file = directory.resolve("series.csv");
+    Files.writeString(file, "2023-01-01 00:00:00;1.0\n2023-01-01 00:00:01\n");
+    var lookupConfig = new CsvStorageConfiguration(Map.of(
+        CsvStorageProperty.FILE_PATH, file.toString(),
+        CsvStorageProperty.FIELD_SEPARATOR, ';',
+        CsvStorageProperty.SKIP_HEADERS, 0
+    ));
+    var transformationConfig = new CsvStorageConfiguration(Map.of(
+        CsvStorageProperty.VALUE_COLUMN, 1,
+        CsvStorageProperty.TIME_COLUMN, 0,
+        CsvStorageProperty.TIME_FORMAT, "yyyy-MM-dd HH:mm:ss"
+    ));
+
+    assertThatThrownBy(() -> new CsvStorageService().loadColumnar(lookupConfig, transformationConfig))
+        .isInstanceOf(TsdlStorageException.class)
+        .hasCauseInstanceOf(IllegalStateException.class)
+        .cause().hasMessageContaining("2023-01-01 00:00:01");
+  }
+
+  @Test
+  void loadColumnar_invalidTimeFormat_throws(@TempDir Path directory) throws IOException {
+    var file = directory.resolve("series.csv");
+    Files.writeString(file, "2023-01-01 00:00:00;1.0\n");
+    var lookupConfig = new CsvStorageConfiguration(Map.of(
+        CsvStorageProperty.FILE_PATH, file.toString(),
+        CsvStorageProperty.FIELD_SEPARATOR, ';',
+        CsvStorageProperty.SKIP_HEADERS, 0
+    ));
+    var transformationConfig = new CsvStorageConfiguration(Map.of(
+        CsvStorageProperty.VALUE_COLUMN, 1,
+        CsvStorageProperty.TIME_COLUMN, 0,
+        CsvStorageProperty.TIME_FORMAT, "yyyy-MM-dd HH:mm"
+    ));
+
+    assertThatThrownBy(() -> new CsvStorageService().loadColumnar(lookupConfig, transformationConfig))
+        .isInstanceOf(TsdlStorageException.class)
+        .hasCauseInstanceOf(DateTimeParseException.class);
+  }
+
   private void testStoreFailure(List<DataPoint> data, CsvStorageConfiguration serviceConfig, CsvStorageConfiguration persistConfig,
                                 Class<? extends Throwable> expectedException, Class<? extends Throwable> cause) {
     var service = new CsvStorageService();
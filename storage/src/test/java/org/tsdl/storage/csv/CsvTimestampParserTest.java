@@ -0,0 +1,108 @@
+package org.tsdl.storage.csv;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class CsvTimestampParserTest {
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "yyyy-MM-dd HH:mm:ss.SSS",
+      "yyyy-MM-dd'T'HH:mm:ss.SSSSSSX",
+      "yyyy-MM-dd'T'HH:mm:ssXXX",
+      "uuuuMMdd'T'HHmmssXX",
+      "MM/dd/yyyy HH:mm:ss",
+      "dd.MM.yyyy HH:mm",
+      "yyyy-MM-dd''HH:mm:ss.S",
+      "dd MMM yyyy HH:mm:ss",
+      "yyyy-MM-dd HH:mm:ss VV"
+  })
+  void parse_randomInstants_equalsFormatter(String pattern) {
+    var formatter = DateTimeFormatter.ofPattern(pattern).withZone(ZoneOffset.UTC);
+    var offsetFormatter = formatter.withZone(ZoneOffset.ofHoursMinutes(-3, -30));
+    var parser = new CsvTimestampParser(pattern);
+    var random = new Random(pattern.hashCode());
+
+    for (var i = 0; i < 2000; i++) {
+      var instant = Instant.ofEpochSecond(random.nextLong(-5_000_000_000L, 10_000_000_000L), random.nextInt(1_000_000_000));
+      var text = (i % 2 == 0 ? formatter : offsetFormatter).format(instant);
+      var expected = Instant.from(formatter.parse(text));
+
+      assertThat(parser.parseInstant(text)).as(text).isEqualTo(expected);
+      assertThat(parser.parseEpochMillis(bytes(text), 0, text.length())).as(text).isEqualTo(expected.toEpochMilli());
+    }
+  }
+
+  @ParameterizedTest
+  @CsvSource(delimiter = '|', value = {
+      "yyyy-MM-dd HH:mm:ss|2023-02-29 10:00:00",
+      "yyyy-MM-dd HH:mm:ss|2024-02-29 10:00:00",
+      "yyyy-MM-dd HH:mm:ss|2023-04-31 10:00:00",
+      "yyyy-MM-dd HH:mm:ss|2023-12-31 24:00:00",
+      "yyyy-MM-dd'T'HH:mm:ssX|2023-01-01T10:00:00+0130",
+      "yyyy-MM-dd'T'HH:mm:ssX|2023-01-01T10:00:00-01",
+      "yyyy-MM-dd'T'HH:mm:ssXXX|2023-01-01T10:00:00Z"
+  })
+  void parse_unusualTimestamps_equalsFormatter(String pattern, String text) {
+    var parser = new CsvTimestampParser(pattern);
+
+    var expected = Instant.from(DateTimeFormatter.ofPattern(pattern).withZone(ZoneOffset.UTC).parse(text));
+
+    assertThat(parser.parseInstant(text)).isEqualTo(expected);
+    assertThat(parser.parseEpochMillis(bytes(text), 0, text.length())).isEqualTo(expected.toEpochMilli());
+  }
+
+  @ParameterizedTest
+  @CsvSource(delimiter = '|', quoteCharacter = '"', value = {
+      "yyyy-MM-dd HH:mm:ss|2023-13-01 10:00:00",
+      "yyyy-MM-dd HH:mm:ss|2023-01-01 10:00",
+      "yyyy-MM-dd HH:mm:ss|\"2023-01-01 10:00:00 \"",
+      "yyyy-MM-dd HH:mm:ss|12023-12-31 10:00:00",
+      "yyyy-MM-dd HH:mm:ss|0000-01-01 10:00:00",
+      "yyyy-MM-dd'T'HH:mm:ssXXX|2023-01-01T10:00:00+0130",
+      "MM/dd/yyyy HH:mm|01/01/2023 10:00:00"
+  })
+  void parse_invalidTimestamps_throwsLikeFormatter(String pattern, String text) {
+    var parser = new CsvTimestampParser(pattern);
+
+    assertThatThrownBy(() -> parser.parseInstant(text)).isInstanceOf(DateTimeParseException.class);
+    assertThatThrownBy(() -> parser.parseEpochMillis(bytes(text), 0, text.length())).isInstanceOf(DateTimeParseException.class);
+  }
+
+  @Test
+  void parseEpochMillis_timestampWithinLargerBuffer_parsesRangeOnly() {
+    var parser = new CsvTimestampParser("yyyy-MM-dd HH:mm:ss");
+    var text = "1.5;2023-01-01 10:00:00;x";
+
+    assertThat(parser.parseEpochMillis(bytes(text), 4, 23)).isEqualTo(Instant.parse("2023-01-01T10:00:00Z").toEpochMilli());
+  }
+
+  @ParameterizedTest
+  @CsvSource(delimiter = '|', value = {
+      "yyyy-MM-dd HH:mm:ss.SSS|true",
+      "yyyy-MM-dd'T'HH:mm:ssXXX|true",
+      "MM/dd/yyyy HH:mm|true",
+      "yyyy-MM-dd HH:mm:ss.SSSSSSSSS|true",
+      "dd MMM yyyy HH:mm:ss|false",
+      "yyyy-M-d H:m:s|false",
+      "yyyy-MM-dd|false",
+      "yyyy-MM-dd HH:mm:ssXXX VV|false"
+  })
+  void isSpecialized_patterns_specializedIfFixedWidth(String pattern, boolean expected) {
+    assertThat(new CsvTimestampParser(pattern).isSpecialized()).isEqualTo(expected);
+  }
+
+  private static byte[] bytes(String text) {
+    return text.getBytes(StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,76 @@
+package org.tsdl.storage.gorilla;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class GorillaBlockEncoderTest {
+  @ParameterizedTest
+  @MethodSource("series")
+  void encode_anySeries_decodesToSameSeries(long[] epochMillis, double[] values) {
+    var encoder = new GorillaBlockEncoder();
+    for (var i = 0; i < epochMillis.length; i++) {
+      encoder.add(epochMillis[i], values[i]);
+    }
+    var bytes = encoder.toByteArray();
+
+    // the block is decoded from within a larger buffer
+    var buffer = ByteBuffer.allocate(bytes.length + 16).put(8, bytes);
+    var decoder = new GorillaBlockDecoder(buffer, 8, 8 + bytes.length, encoder.count());
+    for (var i = 0; i < epochMillis.length; i++) {
+      assertThat(decoder.next()).isTrue();
+      assertThat(decoder.epochMillis()).isEqualTo(epochMillis[i]);
+      assertThat(Double.doubleToRawLongBits(decoder.value())).isEqualTo(Double.doubleToRawLongBits(values[i]));
+    }
+    assertThat(decoder.next()).isFalse();
+  }
+
+  private static Stream<Arguments> series() {
+    var random = new Random(42);
+    var randomEpochMillis = new long[1000];
+    var randomValues = new double[1000];
+    for (var i = 1; i < randomEpochMillis.length; i++) {
+      // differences spanning all delta-of-delta buckets
+      randomEpochMillis[i] = randomEpochMillis[i - 1] + (long) Math.pow(2, random.nextInt(40)) + random.nextInt(3);
+      randomValues[i] = random.nextInt(4) == 0 ? randomValues[i - 1] : random.nextGaussian() * Math.pow(10, random.nextInt(20) - 10);
+    }
+
+    return Stream.of(
+        Arguments.of(new long[] {0}, new double[] {0}),
+        Arguments.of(new long[] {Long.MIN_VALUE, -1, 0, Long.MAX_VALUE}, new double[] {1, 1, 1, 1}),
+        Arguments.of(new long[] {1, 2, 3, 4, 5, 6, 7}, new double[] {
+            Double.NaN, 0.0, -0.0, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.MIN_VALUE, Double.MAX_VALUE}),
+        Arguments.of(new long[] {10, 10, 10, 74, 74, 330, 2378, 2378}, new double[] {1.5, 1.5, 2.5, -2.5, 3e300, 3e-300, 1.5, 1.5}),
+        Arguments.of(randomEpochMillis, randomValues)
+    );
+  }
+
+  @Test
+  void encode_regularSeries_takesAboutOneBytePerDataPoint() {
+    var encoder = new GorillaBlockEncoder();
+    for (var i = 0; i < 1000; i++) {
+      encoder.add(1_672_531_200_000L + i * 60_000L, 20.0 + (i / 10) * 0.5);
+    }
+
+    assertThat(encoder.toByteArray()).hasSizeLessThan(1000 * 2);
+  }
+
+  @Test
+  void decode_truncatedBlock_throws() {
+    var encoder = new GorillaBlockEncoder();
+    encoder.add(1, 1.0);
+    encoder.add(5, 2.0);
+    var bytes = encoder.toByteArray();
+
+    var decoder = new GorillaBlockDecoder(ByteBuffer.wrap(bytes), 0, 2 * Long.BYTES, 2);
+    assertThat(decoder.next()).isTrue();
+    assertThatThrownBy(decoder::next).isInstanceOf(IllegalStateException.class);
+  }
+}
@@ -0,0 +1,264 @@
+package org.tsdl.storage.gorilla;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
+import org.tsdl.infrastructure.model.DataPoint;
+import org.tsdl.infrastructure.model.QueryPushdown;
+import org.tsdl.storage.TsdlStorageException;
+import org.tsdl.storage.csv.CsvStorageConfiguration;
+import org.tsdl.storage.csv.CsvStorageProperty;
+import org.tsdl.storage.csv.CsvStorageService;
+
+class GorillaStorageServiceTest {
+  private final GorillaStorageService service = new GorillaStorageService();
+
+  @TempDir
+  private Path directory;
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 15, 16, 17, 100})
+  void store_anyNumberOfDataPoints_loadReturnsThemInBlocks(int count) {
+    var data = dataPoints(0, count);
+
+    service.store(data, persistConfiguration(false, 16));
+    var blocks = service.load(lookupConfiguration(null, null));
+
+    assertThat(blocks).hasSize((count + 15) / 16);
+    assertThat(blocks).allSatisfy(block -> assertThat(block.size()).isBetween(1, 16));
+    assertThat(service.transform(blocks, new GorillaStorageConfiguration())).isEqualTo(data);
+  }
+
+  @ParameterizedTest
+  @CsvSource({"0,1", "5,11", "16,16", "10,40", "1,0"})
+  void store_appendTwice_fileContainsEntireContent(int firstCount, int secondCount) {
+    var first = dataPoints(0, firstCount);
+    var second = dataPoints(firstCount, secondCount);
+
+    service.store(first, persistConfiguration(false, 16));
+    service.store(second, persistConfiguration(true, 64));
+
+    var loaded = service.loadColumnar(lookupConfiguration(null, null), new GorillaStorageConfiguration());
+    assertThat(loaded.asDataPoints()).isEqualTo(dataPoints(0, firstCount + secondCount));
+    assertThat(service.load(lookupConfiguration(null, null))).hasSize((firstCount + 15) / 16 + (secondCount + 63) / 64);
+  }
+
+  @Test
+  void store_withoutAppend_replacesContent() {
+    service.store(dataPoints(0, 40), persistConfiguration(false, 16));
+    service.store(dataPoints(100, 3), persistConfiguration(false, 4));
+
+    var loaded = service.loadColumnar(lookupConfiguration(null, null), new GorillaStorageConfiguration());
+
+    assertThat(loaded.asDataPoints()).isEqualTo(dataPoints(100, 3));
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      "0,100,0,100",
+      "10,20,10,20",
+      "15,17,15,17",
+      "16,32,16,32",
+      "-50,5,0,5",
+      "95,1000,95,100",
+      "30,30,30,30",
+      "40,10,40,40",
+      "200,300,100,100"
+  })
+  void loadColumnar_timeRange_returnsDataPointsWithinRange(int fromSecond, int untilSecond, int expectedFrom, int expectedUntil) {
+    service.store(dataPoints(0, 100), persistConfiguration(false, 16));
+
+    var loaded = service.loadColumnar(lookupConfiguration(Instant.ofEpochSecond(fromSecond), Instant.ofEpochSecond(untilSecond)),
+        new GorillaStorageConfiguration());
+
+    assertThat(loaded.asDataPoints()).isEqualTo(dataPoints(expectedFrom, expectedUntil - expectedFrom));
+  }
+
+  @Test
+  void load_timeRange_returnsOverlappingBlocksOnly() {
+    service.store(dataPoints(0, 100), persistConfiguration(false, 16));
+
+    var blocks = service.load(lookupConfiguration(Instant.ofEpochSecond(20), Instant.ofEpochSecond(50)));
+
+    assertThat(blocks).extracting(ColumnarTimeSeries::size).containsExactly(12, 16, 2);
+    assertThat(service.transform(blocks, new GorillaStorageConfiguration())).isEqualTo(dataPoints(20, 30));
+  }
+
+  @Test
+  void load_timeRange_skipsCorruptBlocksOutsideRange() throws IOException {
+    service.store(dataPoints(0, 48), persistConfiguration(false, 16));
+    var content = Files.readAllBytes(filePath());
+    // overwrites the compressed bytes of the first block, leaving its header intact
+    var firstBlockData = GorillaFileFormat.FILE_HEADER_SIZE + GorillaFileFormat.BLOCK_HEADER_SIZE;
+    for (var i = firstBlockData; i < firstBlockData + 16; i++) {
+      content[i] = (byte) 0xFF;
+    }
+    Files.write(filePath(), content);
+
+    var loaded = service.loadColumnar(lookupConfiguration(Instant.ofEpochSecond(16), null), new GorillaStorageConfiguration());
+
+    assertThat(loaded.asDataPoints()).isEqualTo(dataPoints(16, 32));
+  }
+
+  @Test
+  void loadColumnar_subMillisecondBounds_roundsUpToMilliseconds() {
+    service.store(List.of(DataPoint.of(Instant.ofEpochMilli(1), 1.0), DataPoint.of(Instant.ofEpochMilli(2), 2.0)), persistConfiguration(false, 16));
+
+    var loaded = service.loadColumnar(lookupConfiguration(Instant.ofEpochSecond(0, 1_000_001), Instant.ofEpochSecond(0, 2_000_001)),
+        new GorillaStorageConfiguration());
+
+    assertThat(loaded.asDataPoints()).containsExactly(DataPoint.of(Instant.ofEpochMilli(2), 2.0));
+  }
+
+  @Test
+  void stream_timeRange_yieldsDataPointsWithinRangeOnEveryPass() {
+    service.store(dataPoints(0, 100), persistConfiguration(false, 16));
+
+    var source = service.stream(lookupConfiguration(Instant.ofEpochSecond(10), Instant.ofEpochSecond(60)), new GorillaStorageConfiguration());
+
+    try (var first = source.open(); var second = source.open()) {
+      assertThat(first.toList()).isEqualTo(dataPoints(10, 50));
+      assertThat(second.limit(3).toList()).isEqualTo(dataPoints(10, 3));
+    }
+  }
+
+  @Test
+  void stream_missingFilePath_throwsEagerly() {
+    assertThatThrownBy(() -> service.stream(new GorillaStorageConfiguration(), new GorillaStorageConfiguration()))
+        .isInstanceOf(TsdlStorageException.class)
+        .hasCauseInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void pushDown_timeRange_loadsIntersectionWithConfiguredRange() {
+    service.store(dataPoints(0, 100), persistConfiguration(false, 16));
+    var lookup = lookupConfiguration(Instant.ofEpochSecond(10), Instant.ofEpochSecond(60));
+
+    service.pushDown(QueryPushdown.of(Instant.ofEpochSecond(20), Instant.ofEpochSecond(80), 1.0, null), lookup, new GorillaStorageConfiguration());
+
+    assertThat(service.loadColumnar(lookup, new GorillaStorageConfiguration()).asDataPoints()).isEqualTo(dataPoints(20, 40));
+  }
+
+  @Test
+  void pushDown_emptyTimeRange_loadsNothing() {
+    service.store(dataPoints(0, 100), persistConfiguration(false, 16));
+    var lookup = lookupConfiguration(null, null);
+
+    service.pushDown(QueryPushdown.of(Instant.EPOCH, Instant.EPOCH, null, null), lookup, new GorillaStorageConfiguration());
+
+    assertThat(service.load(lookup)).isEmpty();
+    assertThat(service.loadColumnar(lookup, new GorillaStorageConfiguration()).isEmpty()).isTrue();
+  }
+
+  @Test
+  void store_descendingTimestamps_throws() {
+    var data = List.of(DataPoint.of(Instant.ofEpochSecond(2), 1.0), DataPoint.of(Instant.ofEpochSecond(1), 1.0));
+
+    assertThatThrownBy(() -> service.store(data, persistConfiguration(false, 16)))
+        .isInstanceOf(TsdlStorageException.class)
+        .hasCauseInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void store_appendPrecedingTimestamps_throwsAndRetainsFile() throws IOException {
+    service.store(dataPoints(10, 20), persistConfiguration(false, 16));
+    var content = Files.readAllBytes(filePath());
+
+    assertThatThrownBy(() -> service.store(dataPoints(0, 5), persistConfiguration(true, 16)))
+        .isInstanceOf(TsdlStorageException.class)
+        .hasCauseInstanceOf(IllegalArgumentException.class);
+    assertThat(Files.readAllBytes(filePath())).isEqualTo(content);
+  }
+
+  @Test
+  void store_invalidBlockCapacity_throws() {
+    assertThatThrownBy(() -> service.store(dataPoints(0, 5), persistConfiguration(false, 0)))
+        .isInstanceOf(TsdlStorageException.class)
+        .hasCauseInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void load_noCompressedFile_throws() throws IOException {
+    Files.writeString(filePath(), "time;value\n2023-01-01 00:00:00;1.0\n");
+
+    assertThatThrownBy(() -> service.load(lookupConfiguration(null, null)))
+        .isInstanceOf(TsdlStorageException.class)
+        .hasCauseInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void load_missingFilePath_throws() {
+    assertThatThrownBy(() -> service.load(new GorillaStorageConfiguration()))
+        .isInstanceOf(TsdlStorageException.class)
+        .hasCauseInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void convert_regularCsvFile_equalsCsvDataAtFractionOfSize() throws IOException {
+    var csvFile = directory.resolve("data.csv");
+    // a day of minutely samples of a slowly changing value
+    Files.writeString(csvFile, "time;value\n" + IntStream.range(0, 1440)
+        .mapToObj(i -> "2023-01-01 %02d:%02d:00;%s\n".formatted(i / 60, i % 60, 20.0 + (i / 30) * 0.25))
+        .reduce("", String::concat));
+    var lookup = new CsvStorageConfiguration(Map.of(
+        CsvStorageProperty.FILE_PATH, csvFile.toString(),
+        CsvStorageProperty.FIELD_SEPARATOR, ';',
+        CsvStorageProperty.SKIP_HEADERS, 1
+    ));
+    var transformation = new CsvStorageConfiguration(Map.of(
+        CsvStorageProperty.TIME_COLUMN, 0,
+        CsvStorageProperty.VALUE_COLUMN, 1,
+        CsvStorageProperty.TIME_FORMAT, "yyyy-MM-dd HH:mm:ss"
+    ));
+
+    var converted = new CsvToGorillaConverter().convert(lookup, transformation,
+        persistConfiguration(false, GorillaStorageService.DEFAULT_BLOCK_CAPACITY));
+
+    assertThat(converted).isEqualTo(1440);
+    var loaded = service.loadColumnar(lookupConfiguration(null, null), new GorillaStorageConfiguration());
+    assertThat(loaded.asDataPoints()).isEqualTo(new CsvStorageService().loadColumnar(lookup, transformation).asDataPoints());
+    assertThat(Files.size(filePath()) * 10).isLessThan(Files.size(csvFile));
+  }
+
+  private static List<DataPoint> dataPoints(int firstSecond, int count) {
+    return IntStream.range(firstSecond, firstSecond + count)
+        .mapToObj(second -> DataPoint.of(Instant.ofEpochSecond(second), second / 4.0))
+        .toList();
+  }
+
+  private Path filePath() {
+    return directory.resolve("data.gor");
+  }
+
+  private GorillaStorageConfiguration persistConfiguration(boolean append, int blockCapacity) {
+    return new GorillaStorageConfiguration(Map.of(
+        GorillaStorageProperty.FILE_PATH, filePath().toString(),
+        GorillaStorageProperty.APPEND, append,
+        GorillaStorageProperty.BLOCK_CAPACITY, blockCapacity
+    ));
+  }
+
+  private GorillaStorageConfiguration lookupConfiguration(Instant from, Instant until) {
+    var configuration = new GorillaStorageConfiguration(Map.of(GorillaStorageProperty.FILE_PATH, filePath().toString()));
+    if (from != null) {
+      configuration.setProperty(GorillaStorageProperty.LOAD_FROM, from);
+    }
+    if (until != null) {
+      configuration.setProperty(GorillaStorageProperty.LOAD_UNTIL, until);
+    }
+    return configuration;
+  }
+}
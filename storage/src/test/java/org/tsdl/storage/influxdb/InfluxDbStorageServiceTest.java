@@ -6,21 +6,27 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.influxdb.client.InfluxDBClient;
 import com.influxdb.client.QueryApi;
+import com.influxdb.query.FluxColumn;
 import com.influxdb.query.FluxRecord;
 import com.influxdb.query.FluxTable;
 import java.time.Instant;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.tsdl.infrastructure.model.DataPoint;
+import org.tsdl.infrastructure.model.QueryPushdown;
 import org.tsdl.storage.TsdlStorageException;
 
 class InfluxDbStorageServiceTest {
@@ -190,6 +196,126 @@ class InfluxDbStorageServiceTest {
         IllegalArgumentException.class);
   }
 
+  @Test
+  void transformSeries_tablesOfTags_returnsSeriesByTagValues() {
+    var service = new InfluxDbStorageService();
+    var tables = List.of(
+        fluxTableMock(Map.of("_start", "s", "_stop", "e", "_measurement", "temperature", "host", "a"), 3, 23.0, 1, 24.0),
+        fluxTableMock(Map.of("_start", "s", "_stop", "e", "_measurement", "temperature", "host", "b"), 1, 25.0),
+        fluxTableMock(Map.of("_start", "s", "_stop", "e", "_measurement", "humidity", "host", "a"), 2, 26.0)
+    );
+
+    var series = service.transformSeries(tables, new InfluxDbStorageConfiguration(Map.of()));
+
+    assertThat(series).containsOnlyKeys("_measurement=temperature,host=a", "_measurement=temperature,host=b", "_measurement=humidity,host=a");
+    assertThat(series.get("_measurement=temperature,host=a")).extracting(DataPoint::value).containsExactly(23.0, 24.0);
+
+    var seriesByHost = service.transformSeries(tables, new InfluxDbStorageConfiguration(Map.of(
+        InfluxDbStorageProperty.SERIES_KEY, new String[] {"host"}
+    )));
+
+    // tables of the same host are merged into one series, sorted by time
+    assertThat(seriesByHost).containsOnlyKeys("host=a", "host=b");
+    assertThat(seriesByHost.get("host=a"))
+        .extracting(DataPoint::timestamp)
+        .containsExactly(Instant.ofEpochSecond(1), Instant.ofEpochSecond(2), Instant.ofEpochSecond(3));
+    assertThat(seriesByHost.get("host=a")).extracting(DataPoint::value).containsExactly(24.0, 26.0, 23.0);
+  }
+
+  @Test
+  void transformSeries_tableIndexOutOfRange_throws() {
+    var service = new InfluxDbStorageService();
+    var tables = List.of(fluxTableMock(Map.of("host", "a"), 1, 23.0));
+    var transformationConfig = new InfluxDbStorageConfiguration(Map.of(
+        InfluxDbStorageProperty.TABLE_INDEX, 1
+    ));
+
+    assertThatThrownBy(() -> service.transformSeries(tables, transformationConfig))
+        .isInstanceOf(TsdlStorageException.class)
+        .hasCauseInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void pushDown_bucketLookup_queriesNarrowedTimeAndValueRange() {
+    var service = getInfluxDbStorageServiceSpy(List.of());
+    service.initialize(serviceConfiguration());
+    var lookupConfig = new InfluxDbStorageConfiguration(Map.of(
+        InfluxDbStorageProperty.BUCKET, "bucket",
+        InfluxDbStorageProperty.LOAD_FROM, Instant.parse("2023-01-01T00:00:00Z"),
+        InfluxDbStorageProperty.LOAD_UNTIL, Instant.parse("2023-01-02T00:00:00Z")
+    ));
+
+    service.pushDown(QueryPushdown.of(Instant.parse("2022-12-31T00:00:00Z"), Instant.parse("2023-01-01T12:00:00.001Z"), 2.5, null),
+        lookupConfig, new InfluxDbStorageConfiguration());
+    service.load(lookupConfig);
+
+    verify(service.queryApi).query("""
+        from(bucket: "bucket")
+          |> range(start: time(v: "2023-01-01T00:00:00Z"), stop: time(v: "2023-01-01T12:00:00.001Z"))
+          |> filter(fn: (r) => float(v: r._value) >= float(v: "2.5"))
+        """);
+  }
+
+  @Test
+  void pushDown_emptyTimeRange_loadsNothing() {
+    var service = getInfluxDbStorageServiceSpy(List.of(List.of(List.of("2023-01-01T00:00:00Z", 1.0))));
+    service.initialize(serviceConfiguration());
+    var lookupConfig = new InfluxDbStorageConfiguration(Map.of(
+        InfluxDbStorageProperty.BUCKET, "bucket",
+        InfluxDbStorageProperty.LOAD_FROM, Instant.parse("2023-01-01T00:00:00Z"),
+        InfluxDbStorageProperty.LOAD_UNTIL, Instant.parse("2023-01-02T00:00:00Z")
+    ));
+
+    service.pushDown(QueryPushdown.of(Instant.EPOCH, Instant.EPOCH, null, null), lookupConfig, new InfluxDbStorageConfiguration());
+
+    assertThat(service.load(lookupConfig)).isEmpty();
+    verify(service.queryApi, never()).query(anyString());
+  }
+
+  @Test
+  void pushDown_queryLookup_leavesConfigurationUnchanged() {
+    var service = new InfluxDbStorageService();
+    var lookupConfig = new InfluxDbStorageConfiguration(Map.of(
+        InfluxDbStorageProperty.QUERY, "from(bucket: \"bucket\") |> range(start: -1h)"
+    ));
+
+    service.pushDown(QueryPushdown.of(Instant.EPOCH, null, 1.0, 2.0), lookupConfig, new InfluxDbStorageConfiguration());
+
+    assertThat(lookupConfig.getSetProperties()).containsOnlyKeys(InfluxDbStorageProperty.QUERY);
+  }
+
+  private static InfluxDbStorageConfiguration serviceConfiguration() {
+    return new InfluxDbStorageConfiguration(Map.of(
+        InfluxDbStorageProperty.URL, "<url>",
+        InfluxDbStorageProperty.ORGANIZATION, "<org>",
+        InfluxDbStorageProperty.TOKEN, "<token>".toCharArray()
+    ));
+  }
+
+  // records alternate between epoch seconds and values
+  private static FluxTable fluxTableMock(Map<String, String> groupKey, Object... records) {
+    var table = mock(FluxTable.class);
+    var columns = new ArrayList<FluxColumn>();
+    groupKey.keySet().stream().sorted(Comparator.comparing(label -> !label.startsWith("_"))).forEach(label -> {
+      var column = mock(FluxColumn.class);
+      when(column.getLabel()).thenReturn(label);
+      columns.add(column);
+    });
+
+    var recordMocks = new ArrayList<FluxRecord>();
+    for (var i = 0; i < records.length; i += 2) {
+      var recordMock = mock(FluxRecord.class);
+      when(recordMock.getTime()).thenReturn(Instant.ofEpochSecond((Integer) records[i]));
+      when(recordMock.getValue()).thenReturn(records[i + 1]);
+      groupKey.forEach((label, value) -> when(recordMock.getValueByKey(label)).thenReturn(value));
+      recordMocks.add(recordMock);
+    }
+
+    when(table.getGroupKey()).thenReturn(columns);
+    when(table.getRecords()).thenReturn(recordMocks);
+    return table;
+  }
+
   private void testLoadAndTransformSuccess(List<List<List<Object>>> persistedData, InfluxDbStorageConfiguration serviceConfig,
                                            InfluxDbStorageConfiguration lookupConfig, InfluxDbStorageConfiguration transformationConfig,
                                            List<DataPoint> expectedDataPoints, boolean ignoreTimestamp) {
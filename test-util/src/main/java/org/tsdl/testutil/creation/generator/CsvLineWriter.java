@@ -0,0 +1,69 @@
+package org.tsdl.testutil.creation.generator;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDate;
+
+/**
+ * Writes data points as lines of the form 'yyyy-MM-dd HH:mm:ss.SSS;value' (in UTC). Only the date is formatted by {@link LocalDate} (once per
+ * day), the time of day is formatted arithmetically, which matters for series of billions of data points.
+ */
+final class CsvLineWriter {
+  private static final long MILLIS_PER_DAY = 86_400_000L;
+
+  private final Writer writer;
+  private final StringBuilder line = new StringBuilder(48);
+  private long day = Long.MIN_VALUE;
+  private String datePrefix;
+
+  CsvLineWriter(Writer writer) {
+    this.writer = writer;
+  }
+
+  void write(long epochMillis, double value) {
+    var currentDay = Math.floorDiv(epochMillis, MILLIS_PER_DAY);
+    if (currentDay != day) {
+      day = currentDay;
+      datePrefix = LocalDate.ofEpochDay(currentDay) + " ";
+    }
+
+    var millisOfDay = Math.floorMod(epochMillis, MILLIS_PER_DAY);
+    line.setLength(0);
+    line.append(datePrefix);
+    appendPadded(millisOfDay / 3_600_000, 2).append(':');
+    appendPadded(millisOfDay / 60_000 % 60, 2).append(':');
+    appendPadded(millisOfDay / 1_000 % 60, 2).append('.');
+    appendPadded(millisOfDay % 1_000, 3).append(';');
+    line.append(value).append('\n');
+
+    try {
+      writer.append(line);
+    } catch (IOException e) {
+      throw new UncheckedWriteException(e);
+    }
+  }
+
+  private StringBuilder appendPadded(long number, int digits) {
+    var bound = 10L;
+    for (var i = 1; i < digits; i++, bound *= 10) {
+      if (number < bound) {
+        line.append('0');
+      }
+    }
+    return line.append(number);
+  }
+
+  /**
+   * Tunnels an {@link IOException} through {@link SeriesGenerator.SampleConsumer}.
+   */
+  static final class UncheckedWriteException extends RuntimeException {
+    UncheckedWriteException(IOException cause) {
+      super(cause);
+    }
+
+    @Override
+    public synchronized IOException getCause() {
+      return (IOException) super.getCause();
+    }
+  }
+}
@@ -0,0 +1,272 @@
+package org.tsdl.testutil.creation.generator;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import lombok.Builder;
+import lombok.Singular;
+import org.tsdl.infrastructure.common.Condition;
+import org.tsdl.infrastructure.common.Conditions;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
+import org.tsdl.infrastructure.model.DataPoint;
+import org.tsdl.infrastructure.model.DataPointSource;
+
+/**
+ * Generates reproducible synthetic time series of arbitrary length. The value of a data point is the sum of a baseline, a linear trend and any
+ * number of sine-shaped seasonalities, with gaussian noise and occasional spikes on top. Plateaus (i.e., the signal is held at its value) and ramps
+ * (i.e., the signal changes linearly) of random length temporarily replace the signal. Data points are sampled at a fixed interval, which may be
+ * disturbed by jitter (i.e., irregular sampling) and gaps (i.e., runs of missing data points).
+ *
+ * <p>All randomness is drawn from a generator seeded with {@link #seed()}, i.e., every pass yields the same data points. Data points are generated
+ * one at a time, hence, series do not have to fit into memory unless they are collected, see {@link #toColumnar()}.
+ *
+ * @param length             number of generated data points (excluding missing ones)
+ * @param intervalMillis     time between two consecutive sampling slots
+ * @param trendPerHour       change of the signal per hour
+ * @param noise              standard deviation of the gaussian noise
+ * @param plateauProbability probability that a plateau starts at a data point (unless a plateau or ramp is ongoing)
+ * @param rampProbability    probability that a ramp starts at a data point (unless a plateau or ramp is ongoing)
+ * @param maxRampChange      maximum absolute change of the signal over a ramp
+ * @param spikeProbability   probability that a data point is a spike, i.e., deviates by half to full {@code spikeMagnitude} in either direction
+ * @param gapProbability     probability that a gap (i.e., one to {@code maxGapLength} missing data points) starts at a sampling slot
+ * @param jitter             width of the range timestamps deviate from their sampling slot within, as fraction of the interval in [0, 1), i.e.,
+ *                           they deviate by at most half of it in either direction (hence, they remain in ascending order)
+ */
+@Builder
+public record SeriesGenerator(
+    long seed,
+    long length,
+    Instant start,
+    long intervalMillis,
+    double baseline,
+    double trendPerHour,
+    @Singular List<Seasonality> seasonalities,
+    double noise,
+    double plateauProbability,
+    double rampProbability,
+    int minSegmentLength,
+    int maxSegmentLength,
+    double maxRampChange,
+    double spikeProbability,
+    double spikeMagnitude,
+    double gapProbability,
+    int maxGapLength,
+    double jitter
+) implements DataPointSource {
+  public static final Instant DEFAULT_START = Instant.parse("2023-01-01T00:00:00Z");
+
+  /**
+   * The lower bound of the seasonal signal of {@link #workload(long, long, long)}.
+   */
+  public static final double WORKLOAD_LOW = 20.0;
+
+  /**
+   * The upper bound of the seasonal signal of {@link #workload(long, long, long)}.
+   */
+  public static final double WORKLOAD_HIGH = 80.0;
+
+  /**
+   * Initializes a {@link SeriesGenerator} instance.
+   */
+  public SeriesGenerator {
+    Conditions.checkIsGreaterThanOrEqual(Condition.ARGUMENT, length, 0L, "Length must not be negative.");
+    Conditions.checkNotNull(Condition.ARGUMENT, start, "Start must not be null.");
+    Conditions.checkIsGreaterThan(Condition.ARGUMENT, intervalMillis, 0L, "Interval must be positive.");
+    Conditions.checkNotNull(Condition.ARGUMENT, seasonalities, "Seasonalities must not be null.");
+    Conditions.checkIsTrue(Condition.ARGUMENT, noise >= 0, "Noise must not be negative.");
+    Conditions.checkIsTrue(Condition.ARGUMENT, isProbability(plateauProbability) && isProbability(rampProbability)
+        && plateauProbability + rampProbability <= 1, "Probabilities of plateaus and ramps must be in [0, 1] and sum up to at most 1.");
+    Conditions.checkIsTrue(Condition.ARGUMENT, minSegmentLength > 0 && minSegmentLength <= maxSegmentLength,
+        "Segment lengths must be positive and the minimum must not exceed the maximum.");
+    Conditions.checkIsTrue(Condition.ARGUMENT, isProbability(spikeProbability), "Spike probability must be in [0, 1].");
+    Conditions.checkIsTrue(Condition.ARGUMENT, isProbability(gapProbability) && gapProbability < 1, "Gap probability must be in [0, 1).");
+    Conditions.checkIsGreaterThan(Condition.ARGUMENT, maxGapLength, 0, "Maximum gap length must be positive.");
+    Conditions.checkIsTrue(Condition.ARGUMENT, jitter >= 0 && jitter < 1, "Jitter must be in [0, 1).");
+  }
+
+  /**
+   * The series that performance measurements (i.e., JMH benchmarks and complexity regression tests) are run against, such that they measure the
+   * same workload. Its seasonal signal oscillates between {@link #WORKLOAD_LOW} and {@link #WORKLOAD_HIGH} {@code periods} times (i.e., the number
+   * of periods of events grows with {@code periods}), with noise, plateaus and ramps on top. Data points are one minute apart.
+   */
+  public static SeriesGenerator workload(long seed, long length, long periods) {
+    Conditions.checkIsGreaterThan(Condition.ARGUMENT, periods, 0L, "Number of periods must be positive.");
+    Conditions.checkIsGreaterThanOrEqual(Condition.ARGUMENT, length, 4 * periods, "Every period requires at least four data points.");
+    return builder()
+        .seed(seed)
+        .length(length)
+        .baseline((WORKLOAD_LOW + WORKLOAD_HIGH) / 2)
+        .seasonality(new Seasonality((WORKLOAD_HIGH - WORKLOAD_LOW) / 2, length * 60_000L / periods))
+        .noise(1)
+        .plateauProbability(0.02)
+        .rampProbability(0.02)
+        .maxRampChange(40)
+        .build();
+  }
+
+  /**
+   * Pre-populates optional properties.
+   */
+  public static class SeriesGeneratorBuilder {
+    private Instant start = DEFAULT_START;
+    private long intervalMillis = 60_000L;
+    private int minSegmentLength = 10;
+    private int maxSegmentLength = 100;
+    private int maxGapLength = 10;
+  }
+
+  /**
+   * A sine-shaped seasonality with the given amplitude, whose period is {@code periodMillis}.
+   */
+  public record Seasonality(double amplitude, long periodMillis) {
+    /**
+     * Initializes a {@link Seasonality} instance.
+     */
+    public Seasonality {
+      Conditions.checkIsGreaterThan(Condition.ARGUMENT, periodMillis, 0L, "Period of seasonality must be positive.");
+    }
+  }
+
+  /**
+   * Receives generated data points without allocating {@link DataPoint} instances.
+   */
+  @FunctionalInterface
+  public interface SampleConsumer {
+    void accept(long epochMillis, double value);
+  }
+
+  /**
+   * Passes every data point to {@code consumer}, in ascending order of their timestamps.
+   */
+  public void generate(SampleConsumer consumer) {
+    Conditions.checkNotNull(Condition.ARGUMENT, consumer, "Consumer must not be null.");
+    var generation = new Generation();
+    for (var i = 0L; i < length; i++) {
+      generation.next(consumer);
+    }
+  }
+
+  @Override
+  public Stream<DataPoint> open() {
+    var generation = new Generation();
+    var spliterator = new Spliterators.AbstractSpliterator<DataPoint>(length, Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.SIZED) {
+      private long generated;
+
+      @Override
+      public boolean tryAdvance(Consumer<? super DataPoint> action) {
+        if (generated == length) {
+          return false;
+        }
+        generated++;
+        generation.next((epochMillis, value) -> action.accept(DataPoint.of(Instant.ofEpochMilli(epochMillis), value)));
+        return true;
+      }
+    };
+    return StreamSupport.stream(spliterator, false);
+  }
+
+  /**
+   * Collects the data points into primitive columns, i.e., the series has to fit into memory.
+   */
+  public ColumnarTimeSeries toColumnar() {
+    Conditions.checkIsTrue(Condition.STATE, length <= Integer.MAX_VALUE, "Series of %s data points exceeds the capacity of a columnar series.",
+        length);
+    var builder = ColumnarTimeSeries.builder();
+    generate(builder::add);
+    return builder.build();
+  }
+
+  /**
+   * Writes the data points as lines of the form 'yyyy-MM-dd HH:mm:ss.SSS;value' (in UTC), i.e., the form of test resource files.
+   */
+  public void writeCsv(Writer writer) throws IOException {
+    Conditions.checkNotNull(Condition.ARGUMENT, writer, "Writer must not be null.");
+    var csvWriter = new CsvLineWriter(writer);
+    try {
+      generate(csvWriter::write);
+    } catch (CsvLineWriter.UncheckedWriteException e) {
+      throw e.getCause();
+    }
+    writer.flush();
+  }
+
+  /**
+   * Writes the data points to the file at {@code path}, see {@link #writeCsv(Writer)}.
+   */
+  public void writeCsv(Path path) throws IOException {
+    Conditions.checkNotNull(Condition.ARGUMENT, path, "Path must not be null.");
+    try (var writer = new BufferedWriter(Files.newBufferedWriter(path, StandardCharsets.UTF_8), 1 << 16)) {
+      writeCsv(writer);
+    }
+  }
+
+  private static boolean isProbability(double probability) {
+    return probability >= 0 && probability <= 1;
+  }
+
+  /**
+   * The state of a single pass over the data points.
+   */
+  private final class Generation {
+    private final SplittableRandom random = new SplittableRandom(seed);
+    private final long startMillis = start.toEpochMilli();
+    private long slot;
+    // the ongoing plateau or ramp, i.e., the remaining data points, the signal at its start and the change per data point
+    private int segmentRemaining;
+    private double segmentValue;
+    private double segmentSlope;
+
+    private void next(SampleConsumer consumer) {
+      if (gapProbability > 0 && random.nextDouble() < gapProbability) {
+        slot += 1 + random.nextInt(maxGapLength);
+      }
+
+      var offsetMillis = slot * intervalMillis;
+      var signal = signal(offsetMillis);
+      if (segmentRemaining > 0) {
+        segmentValue += segmentSlope;
+        signal = segmentValue;
+        segmentRemaining--;
+      } else {
+        var segment = random.nextDouble();
+        if (segment < plateauProbability + rampProbability) {
+          segmentRemaining = minSegmentLength + random.nextInt(maxSegmentLength - minSegmentLength + 1) - 1;
+          segmentValue = signal;
+          segmentSlope = segment < plateauProbability ? 0 : maxRampChange * (2 * random.nextDouble() - 1) / (segmentRemaining + 1);
+        }
+      }
+
+      var value = signal;
+      if (noise > 0) {
+        value += noise * random.nextGaussian();
+      }
+      if (spikeProbability > 0 && random.nextDouble() < spikeProbability) {
+        var magnitude = spikeMagnitude * (0.5 + 0.5 * random.nextDouble());
+        value += random.nextBoolean() ? magnitude : -magnitude;
+      }
+
+      var jitterMillis = jitter > 0 ? Math.round(jitter * intervalMillis * (random.nextDouble() - 0.5)) : 0L;
+      consumer.accept(startMillis + offsetMillis + jitterMillis, value);
+      slot++;
+    }
+
+    private double signal(long offsetMillis) {
+      var signal = baseline + trendPerHour * offsetMillis / 3_600_000.0;
+      for (var seasonality : seasonalities) {
+        signal += seasonality.amplitude() * Math.sin(2 * Math.PI * (offsetMillis % seasonality.periodMillis()) / seasonality.periodMillis());
+      }
+      return signal;
+    }
+  }
+}
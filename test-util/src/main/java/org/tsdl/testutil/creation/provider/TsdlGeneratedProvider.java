@@ -0,0 +1,92 @@
+package org.tsdl.testutil.creation.provider;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.ArgumentsProvider;
+import org.junit.jupiter.params.support.AnnotationConsumer;
+import org.tsdl.infrastructure.common.Condition;
+import org.tsdl.infrastructure.common.Conditions;
+import org.tsdl.infrastructure.model.ColumnarTimeSeries;
+import org.tsdl.infrastructure.model.DataPointSource;
+import org.tsdl.testutil.creation.generator.SeriesGenerator;
+
+/**
+ * Provides synthetic time series to unit tests based on {@link TsdlGeneratedSources} annotations on a unit test. The type of each argument
+ * depends on the type of the corresponding parameter: {@link DataPointSource} (or {@link SeriesGenerator}) parameters receive the generator
+ * itself, i.e., data points are generated upon every pass, {@link ColumnarTimeSeries} parameters receive the collected series and {@link List}
+ * parameters receive its data points.
+ */
+@Slf4j
+public class TsdlGeneratedProvider implements ArgumentsProvider, AnnotationConsumer<TsdlGeneratedSources> {
+  private List<SeriesGenerator> generators;
+
+  @Override
+  public void accept(TsdlGeneratedSources tsdlGeneratedSources) {
+    Conditions.checkNotNull(Condition.ARGUMENT, tsdlGeneratedSources, "%s argument must not be null.", TsdlGeneratedSources.class.getSimpleName());
+    Conditions.checkNotNull(Condition.ARGUMENT, tsdlGeneratedSources.value(), "%s's value must not be null.",
+        TsdlGeneratedSources.class.getSimpleName());
+
+    generators = new ArrayList<>();
+    for (var source : tsdlGeneratedSources.value()) {
+      generators.add(toGenerator(source));
+    }
+  }
+
+  @Override
+  public Stream<? extends Arguments> provideArguments(ExtensionContext context) {
+    Conditions.checkNotNull(Condition.STATE, generators, "List of generated test sources has not been initialized.");
+    var parameterTypes = context.getRequiredTestMethod().getParameterTypes();
+    Conditions.checkIsGreaterThanOrEqual(Condition.STATE, parameterTypes.length, generators.size(),
+        "Test method must declare a parameter per generated test source.");
+
+    var arguments = new Object[generators.size()];
+    for (var i = 0; i < generators.size(); i++) {
+      var generator = generators.get(i);
+      var parameterType = parameterTypes[i];
+      log.debug("Generating test data of {} data points with seed {}.", generator.length(), generator.seed());
+      if (parameterType.isAssignableFrom(SeriesGenerator.class)) {
+        arguments[i] = generator;
+      } else if (parameterType.isAssignableFrom(ColumnarTimeSeries.class)) {
+        arguments[i] = generator.toColumnar();
+      } else if (parameterType.isAssignableFrom(List.class)) {
+        arguments[i] = generator.toColumnar().asDataPoints();
+      } else {
+        throw Conditions.exception(Condition.STATE, "Generated test sources cannot be provided as '%s'.", parameterType.getName());
+      }
+    }
+
+    return Stream.of(
+        Arguments.of(arguments)
+    );
+  }
+
+  private static SeriesGenerator toGenerator(TsdlGeneratedSource source) {
+    var builder = SeriesGenerator.builder()
+        .seed(source.seed())
+        .length(source.length())
+        .start(Instant.parse(source.start()))
+        .intervalMillis(source.intervalMillis())
+        .baseline(source.baseline())
+        .trendPerHour(source.trendPerHour())
+        .noise(source.noise())
+        .plateauProbability(source.plateauProbability())
+        .rampProbability(source.rampProbability())
+        .minSegmentLength(source.minSegmentLength())
+        .maxSegmentLength(source.maxSegmentLength())
+        .maxRampChange(source.maxRampChange())
+        .spikeProbability(source.spikeProbability())
+        .spikeMagnitude(source.spikeMagnitude())
+        .gapProbability(source.gapProbability())
+        .maxGapLength(source.maxGapLength())
+        .jitter(source.jitter());
+    if (source.seasonalAmplitude() != 0.0) {
+      builder.seasonality(new SeriesGenerator.Seasonality(source.seasonalAmplitude(), source.seasonalPeriodMillis()));
+    }
+    return builder.build();
+  }
+}
@@ -0,0 +1,111 @@
+package org.tsdl.testutil.creation.provider;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.tsdl.testutil.creation.generator.SeriesGenerator;
+
+/**
+ * Represents a synthetic time series to be used as input argument for a unit test, see {@link SeriesGenerator} for the meaning of the
+ * properties. The series has a single seasonality, unless its amplitude is zero.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface TsdlGeneratedSource {
+  /**
+   * The seed of the random generator, i.e., equal seeds yield equal series.
+   */
+  long seed();
+
+  /**
+   * The number of generated data points (excluding missing ones).
+   */
+  long length();
+
+  /**
+   * The timestamp of the first sampling slot, in ISO-8601 format.
+   */
+  String start() default "2023-01-01T00:00:00Z";
+
+  /**
+   * The time between two consecutive sampling slots, in milliseconds.
+   */
+  long intervalMillis() default 60_000L;
+
+  /**
+   * The value the signal is centered around.
+   */
+  double baseline() default 0.0;
+
+  /**
+   * The change of the signal per hour.
+   */
+  double trendPerHour() default 0.0;
+
+  /**
+   * The amplitude of the sine-shaped seasonality, zero meaning no seasonality.
+   */
+  double seasonalAmplitude() default 0.0;
+
+  /**
+   * The period of the seasonality, in milliseconds.
+   */
+  long seasonalPeriodMillis() default 86_400_000L;
+
+  /**
+   * The standard deviation of the gaussian noise.
+   */
+  double noise() default 0.0;
+
+  /**
+   * The probability that a plateau starts at a data point.
+   */
+  double plateauProbability() default 0.0;
+
+  /**
+   * The probability that a ramp starts at a data point.
+   */
+  double rampProbability() default 0.0;
+
+  /**
+   * The minimum number of data points of a plateau or ramp.
+   */
+  int minSegmentLength() default 10;
+
+  /**
+   * The maximum number of data points of a plateau or ramp.
+   */
+  int maxSegmentLength() default 100;
+
+  /**
+   * The maximum absolute change of the signal over a ramp.
+   */
+  double maxRampChange() default 0.0;
+
+  /**
+   * The probability that a data point is a spike.
+   */
+  double spikeProbability() default 0.0;
+
+  /**
+   * The maximum absolute deviation of a spike from the signal.
+   */
+  double spikeMagnitude() default 0.0;
+
+  /**
+   * The probability that a gap of missing data points starts at a sampling slot.
+   */
+  double gapProbability() default 0.0;
+
+  /**
+   * The maximum number of missing data points of a gap.
+   */
+  int maxGapLength() default 10;
+
+  /**
+   * The width of the range timestamps deviate from their sampling slot within, as fraction of the interval, i.e., they deviate by at most half of
+   * it in either direction.
+   */
+  double jitter() default 0.0;
+}
@@ -0,0 +1,21 @@
+package org.tsdl.testutil.creation.provider;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+/**
+ * A container for multiple {@link TsdlGeneratedSource} annotations specifying synthetic time series to be used as unit test input data. Like
+ * {@link TsdlTestSources}, every series is one argument of the same invocation.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ArgumentsSource(TsdlGeneratedProvider.class)
+public @interface TsdlGeneratedSources {
+  /**
+   * Instances of {@link TsdlGeneratedSource} specifying synthetic series, each defining a test source argument to be provided to the unit test.
+   */
+  TsdlGeneratedSource[] value();
+}